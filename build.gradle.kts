@@ -26,6 +26,7 @@ plugins {
     id("org.gradle.crypto.checksum") version "1.4.0"
     id("io.github.gradle-nexus.publish-plugin") version "1.1.0"
     id("org.hidetake.swagger.generator") version "2.19.2"
+    id("me.champeau.jmh") version "0.6.8" apply (false)
 }
 
 repositories {
@@ -17,10 +17,13 @@ plugins {
     `maven-publish`
 }
 
+val micrometerVersion: String by project
 val nimbusVersion: String by project
 
 dependencies {
     api(project(":spi:common:jwt-spi"))
+    implementation(project(":core:common:util"))
+    api("io.micrometer:micrometer-core:${micrometerVersion}")
 
     implementation("com.nimbusds:nimbus-jose-jwt:${nimbusVersion}")
 }
@@ -25,6 +25,7 @@ import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
 import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationRulesRegistry;
 import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationService;
 import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.ParseException;
 import java.util.Collection;
@@ -34,16 +35,51 @@ public class TokenValidationServiceImpl implements TokenValidationService {
 
     private final PublicKeyResolver publicKeyResolver;
     private final TokenValidationRulesRegistry rulesRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public TokenValidationServiceImpl(PublicKeyResolver publicKeyResolver, TokenValidationRulesRegistry rulesRegistry) {
+        this(publicKeyResolver, rulesRegistry, null);
+    }
+
+    /**
+     * Creates a validation service that verifies the signature of a token only the first time the token is presented.
+     *
+     * @param verifiedTokenCache cache of the verified tokens, null to verify the signature on every validation
+     */
+    public TokenValidationServiceImpl(PublicKeyResolver publicKeyResolver, TokenValidationRulesRegistry rulesRegistry, @Nullable VerifiedTokenCache verifiedTokenCache) {
         this.publicKeyResolver = publicKeyResolver;
         this.rulesRegistry = rulesRegistry;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
     public Result<ClaimToken> validate(TokenRepresentation tokenRepresentation) {
         var token = tokenRepresentation.getToken();
         var additional = tokenRepresentation.getAdditional();
+        var verificationResult = verifiedTokenCache != null ? verifiedTokenCache.get(token, this::verify) : verify(token);
+        if (verificationResult.failed()) {
+            return verificationResult;
+        }
+
+        var claimToken = verificationResult.getContent();
+        var errors = rulesRegistry.getRules().stream()
+                .map(r -> r.checkRule(claimToken, additional))
+                .filter(Result::failed)
+                .map(Result::getFailureMessages)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+
+        if (!errors.isEmpty()) {
+            return Result.failure(errors);
+        }
+
+        return Result.success(claimToken);
+    }
+
+    /**
+     * Parses the token and verifies its signature, returning its claims.
+     */
+    private Result<ClaimToken> verify(String token) {
         try {
             var signedJwt = SignedJWT.parse(token);
             var publicKeyId = signedJwt.getHeader().getKeyID();
@@ -62,20 +98,7 @@ public class TokenValidationServiceImpl implements TokenValidationService {
                     .filter(entry -> entry.getValue() != null)
                     .forEach(entry -> tokenBuilder.claim(entry.getKey(), entry.getValue()));
 
-            var claimToken = tokenBuilder.build();
-
-            var errors = rulesRegistry.getRules().stream()
-                    .map(r -> r.checkRule(claimToken, additional))
-                    .filter(Result::failed)
-                    .map(Result::getFailureMessages)
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toList());
-
-            if (!errors.isEmpty()) {
-                return Result.failure(errors);
-            }
-
-            return Result.success(claimToken);
+            return Result.success(tokenBuilder.build());
 
         } catch (JOSEException e) {
             return Result.failure(e.getMessage());
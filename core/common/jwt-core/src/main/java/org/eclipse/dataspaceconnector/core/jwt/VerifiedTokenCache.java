@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.function.Function;
+
+import static org.eclipse.dataspaceconnector.spi.jwt.JwtRegisteredClaimNames.EXPIRATION_TIME;
+
+/**
+ * Caches the claims of tokens whose signature got verified, keyed by the SHA-256 hash of the token, so that a token
+ * presented several times is parsed and verified only once. The raw tokens are not kept in memory.
+ * <p>
+ * A token is cached until the earlier of its expiration time and the maximum time-to-live. The time-to-live bounds how
+ * long a token stays accepted after its signing key got revoked. Only successful verifications are cached, and the
+ * validation rules are not part of what is cached: they are evaluated on every validation. Once the cache is full, the
+ * least recently used token is evicted.
+ */
+public class VerifiedTokenCache {
+    private final Clock clock;
+    private final long maxTtlMillis;
+    private final ExpiringLruCache<String, ClaimToken> verifiedTokens;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(Clock clock, Duration maxTtl, int maxEntries, MeterRegistry meterRegistry) {
+        this(clock, maxTtl, maxEntries, meterRegistry, "edc.jwt.verification.cache");
+    }
+
+    /**
+     * Creates a cache whose hits and misses are counted by meters of the given name prefix, so that several caches can be told apart.
+     */
+    public VerifiedTokenCache(Clock clock, Duration maxTtl, int maxEntries, MeterRegistry meterRegistry, String meterPrefix) {
+        this.clock = clock;
+        this.maxTtlMillis = maxTtl.toMillis();
+        verifiedTokens = new ExpiringLruCache<>(maxEntries);
+        hits = Counter.builder(meterPrefix + ".hits")
+                .description("Number of token verifications served from the cache")
+                .register(meterRegistry);
+        misses = Counter.builder(meterPrefix + ".misses")
+                .description("Number of tokens that had to be verified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the claims of the token if it got verified already, otherwise invokes the verification.
+     *
+     * @param token        the serialized token
+     * @param verification parses and verifies the token, returning its claims
+     */
+    public Result<ClaimToken> get(String token, Function<String, Result<ClaimToken>> verification) {
+        var key = hash(token);
+        var now = clock.millis();
+        var cached = verifiedTokens.get(key, now);
+        if (cached != null) {
+            hits.increment();
+            return Result.success(copy(cached));
+        }
+
+        misses.increment();
+        var result = verification.apply(token);
+        if (result.failed()) {
+            return result;
+        }
+
+        var expiresAt = Math.min(expirationTime(result.getContent(), now), now + maxTtlMillis);
+        if (expiresAt > now) {
+            verifiedTokens.put(key, copy(result.getContent()), expiresAt);
+        }
+        return result;
+    }
+
+    private long expirationTime(ClaimToken claims, long now) {
+        var exp = claims.getClaim(EXPIRATION_TIME);
+        if (exp instanceof Date) {
+            return ((Date) exp).getTime();
+        }
+        if (exp instanceof Number) {
+            return ((Number) exp).longValue() * 1000;
+        }
+        return now + maxTtlMillis;
+    }
+
+    private static ClaimToken copy(ClaimToken claims) {
+        return ClaimToken.Builder.newInstance().claims(claims.getClaims()).build();
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+}
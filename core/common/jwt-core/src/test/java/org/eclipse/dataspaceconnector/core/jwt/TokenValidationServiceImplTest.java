@@ -23,6 +23,7 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.dataspaceconnector.spi.iam.PublicKeyResolver;
 import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationRule;
 import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationService;
@@ -33,14 +34,19 @@ import org.junit.jupiter.api.Test;
 
 import java.security.PrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.spi.jwt.JwtRegisteredClaimNames.EXPIRATION_TIME;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TokenValidationServiceImplTest {
@@ -104,6 +110,31 @@ class TokenValidationServiceImplTest {
         assertThat(result.getFailureMessages()).containsExactly("Rule validation failed!");
     }
 
+    @Test
+    void validationWithCache_shouldVerifySignatureOnceAndRunRulesEveryTime() throws JOSEException {
+        var publicKey = (RSAPublicKey) key.toPublicKey();
+        var resolvedKeys = new AtomicInteger();
+        PublicKeyResolver resolver = id -> {
+            resolvedKeys.incrementAndGet();
+            return publicKey;
+        };
+        var rulesRegistry = new TokenValidationRulesRegistryImpl();
+        rulesRegistry.addRule(ruleMock);
+        var cache = new VerifiedTokenCache(Clock.systemUTC(), Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+        var service = new TokenValidationServiceImpl(resolver, rulesRegistry, cache);
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(60)), key.toPrivateKey());
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success(), Result.failure("Rule validation failed!"));
+
+        var first = service.validate(token);
+        var second = service.validate(token);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.failed()).isTrue();
+        assertThat(second.getFailureMessages()).containsExactly("Rule validation failed!");
+        assertThat(resolvedKeys).hasValue(1);
+        verify(ruleMock, times(2)).checkRule(any(), any());
+    }
+
     private JWTClaimsSet createClaims(Instant exp) {
         return new JWTClaimsSet.Builder()
                 .claim("foo", "bar")
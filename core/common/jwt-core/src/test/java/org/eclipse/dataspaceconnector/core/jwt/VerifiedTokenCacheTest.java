@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.spi.jwt.JwtRegisteredClaimNames.EXPIRATION_TIME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(clock, Duration.ofSeconds(60), 100, meterRegistry);
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void get_shouldCacheUntilTokenExpires() {
+        var verification = verification(new Date(30_000));
+
+        when(clock.millis()).thenReturn(0L);
+        cache.get("token", verification);
+        when(clock.millis()).thenReturn(29_000L);
+        var result = cache.get("token", verification);
+        when(clock.millis()).thenReturn(30_000L);
+        cache.get("token", verification);
+
+        assertThat(result.getContent().getClaim("foo")).isEqualTo("bar");
+        assertThat(verifications).hasValue(2);
+        assertThat(meterRegistry.counter("edc.jwt.verification.cache.hits").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("edc.jwt.verification.cache.misses").count()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldCacheAtMostForMaxTtl() {
+        var verification = verification(new Date(600_000));
+
+        when(clock.millis()).thenReturn(0L);
+        cache.get("token", verification);
+        when(clock.millis()).thenReturn(61_000L);
+        cache.get("token", verification);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        when(clock.millis()).thenReturn(0L);
+        Function<String, Result<ClaimToken>> verification = token -> {
+            verifications.incrementAndGet();
+            return Result.failure("Token verification failed");
+        };
+
+        cache.get("token", verification);
+        var result = cache.get("token", verification);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void get_shouldKeyOnToken() {
+        var verification = verification(new Date(30_000));
+        when(clock.millis()).thenReturn(0L);
+
+        cache.get("token", verification);
+        cache.get("other-token", verification);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotShareClaimsBetweenCallers() {
+        var verification = verification(new Date(30_000));
+        when(clock.millis()).thenReturn(0L);
+
+        cache.get("token", verification).getContent().getClaims().put("foo", "changed");
+
+        assertThat(cache.get("token", verification).getContent().getClaim("foo")).isEqualTo("bar");
+    }
+
+    private Function<String, Result<ClaimToken>> verification(Date expiration) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Result.success(ClaimToken.Builder.newInstance().claim("foo", "bar").claim(EXPIRATION_TIME, expiration).build());
+        };
+    }
+}
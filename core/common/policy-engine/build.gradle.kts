@@ -15,6 +15,7 @@
 
 plugins {
     `java-library`
+    id("me.champeau.jmh")
 }
 
 dependencies {
@@ -23,6 +24,10 @@ dependencies {
     implementation(project(":core:common:policy-evaluator"))
 }
 
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
+}
+
 publishing {
     publications {
         create<MavenPublication>("policy-engine") {
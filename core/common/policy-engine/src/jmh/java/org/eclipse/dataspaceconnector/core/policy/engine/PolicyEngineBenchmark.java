@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.policy.engine;
+
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraint;
+import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspaceconnector.policy.model.Operator.EQ;
+import static org.eclipse.dataspaceconnector.spi.policy.engine.PolicyEngine.ALL_SCOPES;
+
+/**
+ * Measures the evaluation of an access policy the way it happens when a catalog is requested: the same policy is
+ * evaluated over and over for different agents.
+ * <p>
+ * Run with {@code ./gradlew :core:common:policy-engine:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyEngineBenchmark {
+    private static final String SCOPE = "contract.cataloging";
+    private static final String USE = "USE";
+
+    private PolicyEngineImpl policyEngine;
+    private Policy policy;
+    private ParticipantAgent agent;
+
+    @Setup
+    public void setUp() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        bindingRegistry.bind(USE, ALL_SCOPES);
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry));
+
+        var policyBuilder = Policy.Builder.newInstance();
+        for (var i = 0; i < 5; i++) {
+            var key = "key" + i;
+            bindingRegistry.bind(key, ALL_SCOPES);
+            policyEngine.registerFunction(ALL_SCOPES, Permission.class, key, (operator, value, permission, context) -> value.equals(context.getParticipantAgent().getClaims().get(key)));
+
+            var constraint = AtomicConstraint.Builder.newInstance()
+                    .leftExpression(new LiteralExpression(key))
+                    .operator(EQ)
+                    .rightExpression(new LiteralExpression("value" + i))
+                    .build();
+            policyBuilder.permission(Permission.Builder.newInstance()
+                    .action(Action.Builder.newInstance().type(USE).build())
+                    .constraint(constraint)
+                    .build());
+        }
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, (permission, context) -> context.getParticipantAgent() != null);
+        policy = policyBuilder.build();
+
+        agent = new ParticipantAgent(Map.of("key0", "value0", "key1", "value1", "key2", "value2", "key3", "value3", "key4", "value4"), Map.of());
+    }
+
+    @Benchmark
+    public Result<Policy> evaluate() {
+        return policyEngine.evaluate(SCOPE, policy, agent);
+    }
+
+    @Benchmark
+    public Result<Policy> evaluateCopiedPolicy() {
+        // policies loaded from a persistent store are new instances on every evaluation
+        var copy = Policy.Builder.newInstance()
+                .permissions(policy.getPermissions())
+                .build();
+        return policyEngine.evaluate(SCOPE, copy, agent);
+    }
+}
@@ -32,22 +32,34 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
 
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * The functions registered for a scope are resolved once into a {@link ScopeFunctions} table, and the result of applying a
+ * scope to a policy is cached, so that evaluating the same policies repeatedly, e.g. when building catalogs, only binds the
+ * resolved functions to the policy context. Both caches are cleared when a function is registered, and scoped policies are
+ * keyed by the generation of the rule bindings, so that binding a rule type after policies have been evaluated takes effect.
+ * Policies are compared by value, rules and constraints included.
  */
 public class PolicyEngineImpl implements PolicyEngine {
     private static final String ALL_SCOPES_DELIMITED = ALL_SCOPES + ".";
+    private static final int MAX_SCOPED_POLICIES = 1000;
 
     private final ScopeFilter scopeFilter;
 
     private final Map<String, List<ConstraintFunctionEntry<Rule>>> constraintFunctions = new TreeMap<>();
     private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
 
+    private final Map<String, ScopeFunctions> scopeFunctions = new ConcurrentHashMap<>();
+    private final Map<ScopedPolicy, Policy> scopedPolicies = new ConcurrentHashMap<>();
+
     private final List<BiFunction<Policy, PolicyContext, Boolean>> preValidators = new ArrayList<>();
     private final List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new ArrayList<>();
 
@@ -75,33 +87,9 @@ public class PolicyEngineImpl implements PolicyEngine {
             }
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
-        final var delimitedScope = scope + ".";
-
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
+        var evaluator = scopeFunctions.computeIfAbsent(scope, this::resolveFunctions).createEvaluator(context);
 
-        var evaluator = evalBuilder.build();
-
-        var filteredPolicy = scopeFilter.applyScope(policy, scope);
+        var filteredPolicy = applyScope(policy, scope);
 
         var result = evaluator.evaluate(filteredPolicy);
 
@@ -134,12 +122,14 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        clearCaches();
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        clearCaches();
     }
 
     @Override
@@ -156,6 +146,135 @@ public class PolicyEngineImpl implements PolicyEngine {
         return ALL_SCOPES_DELIMITED.equals(entry) || scope.startsWith(entry);
     }
 
+    private ScopeFunctions resolveFunctions(String scope) {
+        var delimitedScope = scope + ".";
+        var functions = new ScopeFunctions();
+        ruleFunctions.entrySet().stream()
+                .filter(entry -> scopeFilter(entry.getKey(), delimitedScope))
+                .flatMap(entry -> entry.getValue().stream())
+                .forEach(functions::add);
+        constraintFunctions.entrySet().stream()
+                .filter(entry -> scopeFilter(entry.getKey(), delimitedScope))
+                .flatMap(entry -> entry.getValue().stream())
+                .forEach(functions::add);
+        return functions;
+    }
+
+    private Policy applyScope(Policy policy, String scope) {
+        var generation = scopeFilter.getBindingsGeneration();
+        if (generation < 0) {
+            return scopeFilter.applyScope(policy, scope);
+        }
+        var key = new ScopedPolicy(scope, generation, policy);
+        var scoped = scopedPolicies.get(key);
+        if (scoped == null) {
+            scoped = scopeFilter.applyScope(policy, scope);
+            if (scopedPolicies.size() >= MAX_SCOPED_POLICIES) {
+                scopedPolicies.clear();
+            }
+            scopedPolicies.put(key, scoped);
+        }
+        return scoped;
+    }
+
+    private void clearCaches() {
+        scopeFunctions.clear();
+        scopedPolicies.clear();
+    }
+
+    /**
+     * The rule and constraint functions applicable to a scope, split by rule type.
+     */
+    private static class ScopeFunctions {
+        private final List<RuleFunctionEntry<Rule>> permissionRuleFunctions = new ArrayList<>();
+        private final List<RuleFunctionEntry<Rule>> dutyRuleFunctions = new ArrayList<>();
+        private final List<RuleFunctionEntry<Rule>> prohibitionRuleFunctions = new ArrayList<>();
+        private final List<ConstraintFunctionEntry<Rule>> permissionFunctions = new ArrayList<>();
+        private final List<ConstraintFunctionEntry<Rule>> dutyFunctions = new ArrayList<>();
+        private final List<ConstraintFunctionEntry<Rule>> prohibitionFunctions = new ArrayList<>();
+
+        void add(RuleFunctionEntry<Rule> entry) {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                dutyRuleFunctions.add(entry);
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                permissionRuleFunctions.add(entry);
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                prohibitionRuleFunctions.add(entry);
+            }
+        }
+
+        void add(ConstraintFunctionEntry<Rule> entry) {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                dutyFunctions.add(entry);
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                permissionFunctions.add(entry);
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                prohibitionFunctions.add(entry);
+            }
+        }
+
+        /**
+         * Creates an evaluator with the functions bound to the context. Evaluators are stateful, so one is needed for each evaluation.
+         */
+        PolicyEvaluator createEvaluator(PolicyContext context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+            for (var entry : dutyRuleFunctions) {
+                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
+            }
+            for (var entry : permissionRuleFunctions) {
+                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+            }
+            for (var entry : prohibitionRuleFunctions) {
+                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+            }
+            for (var entry : dutyFunctions) {
+                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
+            }
+            for (var entry : permissionFunctions) {
+                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
+            }
+            for (var entry : prohibitionFunctions) {
+                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
+            }
+            return evalBuilder.build();
+        }
+    }
+
+    /**
+     * Key of a policy filtered by a scope with a generation of the rule bindings. Policies are compared by value, since the same policy is usually
+     * loaded anew from the store for each evaluation.
+     */
+    private static class ScopedPolicy {
+        private final String scope;
+        private final long generation;
+        private final Policy policy;
+        private final int hash;
+
+        ScopedPolicy(String scope, long generation, Policy policy) {
+            this.scope = scope;
+            this.generation = generation;
+            this.policy = policy;
+            hash = Objects.hash(scope, generation, policy);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (ScopedPolicy) o;
+            return hash == that.hash && generation == that.generation && scope.equals(that.scope) && policy.equals(that.policy);
+        }
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
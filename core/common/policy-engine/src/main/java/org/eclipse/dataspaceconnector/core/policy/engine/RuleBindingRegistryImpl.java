@@ -20,16 +20,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class RuleBindingRegistryImpl implements RuleBindingRegistry {
     private static final String DELIMITER = ".";
     private static final String DELIMITED_ALL = "*" + DELIMITER;
 
     private final Map<String, Set<String>> ruleBindings = new HashMap<>();
+    private final AtomicLong generation = new AtomicLong();
 
     @Override
     public void bind(String ruleType, String scope) {
         ruleBindings.computeIfAbsent(ruleType, k -> new HashSet<>()).add(scope + DELIMITER);
+        generation.incrementAndGet();
     }
 
     @Override
@@ -50,4 +53,9 @@ public class RuleBindingRegistryImpl implements RuleBindingRegistry {
         return false;
     }
 
+    @Override
+    public long getGeneration() {
+        return generation.get();
+    }
+
 }
@@ -55,6 +55,13 @@ public class ScopeFilter {
         this.registry = registry;
     }
 
+    /**
+     * Returns the generation of the rule bindings the filtering depends on, see {@link RuleBindingRegistry#getGeneration()}.
+     */
+    public long getBindingsGeneration() {
+        return registry.getGeneration();
+    }
+
     public Policy applyScope(Policy policy, String scope) {
         var filteredObligations = policy.getObligations().stream().map(d -> applyScope(d, scope)).filter(Objects::nonNull).collect(toList());
         var filteredPermissions = policy.getPermissions().stream().map(p -> applyScope(p, scope)).filter(Objects::nonNull).collect(toList());
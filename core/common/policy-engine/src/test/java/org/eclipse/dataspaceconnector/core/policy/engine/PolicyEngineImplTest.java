@@ -27,10 +27,17 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.policy.model.Operator.EQ;
 import static org.eclipse.dataspaceconnector.spi.policy.engine.PolicyEngine.ALL_SCOPES;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class PolicyEngineImplTest {
     private static final String TEST_SCOPE = "test";
@@ -210,12 +217,87 @@ class PolicyEngineImplTest {
         assertThat(result.succeeded()).isFalse();
     }
 
+    @Test
+    void validateFunctionRegisteredAfterEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+
+        var left = new LiteralExpression("foo");
+        var right = new LiteralExpression("bar");
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(left).operator(EQ).rightExpression(right).build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, r, context) -> false);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, agent).succeeded()).isFalse();
+
+        // the function resolved for the scope must not be reused once another function is registered
+        policyEngine.registerFunction(TEST_SCOPE, Permission.class, "foo", (op, rv, r, context) -> true);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, agent).succeeded()).isTrue();
+    }
+
+    @Test
+    void validateSamePolicyWithDifferentContexts() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, r, context) -> "bar".equals(context.getParticipantAgent().getClaims().get("foo")));
+
+        var left = new LiteralExpression("foo");
+        var right = new LiteralExpression("bar");
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(left).operator(EQ).rightExpression(right).build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, new ParticipantAgent(Map.of("foo", "bar"), emptyMap())).succeeded()).isTrue();
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, new ParticipantAgent(Map.of("foo", "baz"), emptyMap())).succeeded()).isFalse();
+    }
+
+    @Test
+    void validateRuleBoundAfterEvaluation() {
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, r, context) -> false);
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+        var policy = createPermissionPolicy("bar");
+
+        // the constraint is not bound yet, thus filtered out
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, agent).succeeded()).isTrue();
+
+        // the policy filtered by the scope must not be reused once the constraint is bound
+        bindingRegistry.bind("foo", TEST_SCOPE);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, agent).succeeded()).isFalse();
+    }
+
+    @Test
+    void validateEqualPolicies_filteredOnce() {
+        var scopeFilter = spy(new ScopeFilter(bindingRegistry));
+        policyEngine = new PolicyEngineImpl(scopeFilter);
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, r, context) -> "bar".equals(rv));
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, createPermissionPolicy("bar"), agent).succeeded()).isTrue();
+        assertThat(policyEngine.evaluate(TEST_SCOPE, createPermissionPolicy("bar"), agent).succeeded()).isTrue();
+        verify(scopeFilter, times(1)).applyScope(isA(Policy.class), eq(TEST_SCOPE));
+
+        // a policy differing only by a constraint value must not reuse the cached one
+        assertThat(policyEngine.evaluate(TEST_SCOPE, createPermissionPolicy("baz"), agent).succeeded()).isFalse();
+        verify(scopeFilter, times(2)).applyScope(isA(Policy.class), eq(TEST_SCOPE));
+    }
+
     @BeforeEach
     void setUp() {
         bindingRegistry = new RuleBindingRegistryImpl();
         policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry));
     }
 
+    private Policy createPermissionPolicy(String value) {
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("foo"))
+                .operator(EQ)
+                .rightExpression(new LiteralExpression(value))
+                .build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        return Policy.Builder.newInstance().permission(permission).build();
+    }
+
     private Policy createTestPolicy() {
         var left = new LiteralExpression("foo");
         var right = new LiteralExpression("bar");
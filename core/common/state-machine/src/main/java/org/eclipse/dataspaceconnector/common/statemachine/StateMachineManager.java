@@ -17,7 +17,6 @@ package org.eclipse.dataspaceconnector.common.statemachine;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
-import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,7 +24,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,37 +36,53 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * Processors registered as lanes (see {@link Builder#lane(String, StateProcessor, WaitStrategy)}) run on their own loop,
+ * with their own wait strategy, so that a slow processor does not hold back the others.
+ * <p>
+ * A loop that is waiting can be woken up by {@link #wakeUp()}, e.g. when new entities have been stored, so that they
+ * do not have to wait for the wait strategy delay to elapse. Polling remains the fallback for changes that are not
+ * signalled, e.g. the ones made by other replicas.
  */
 public class StateMachineManager {
 
-    private final List<StateProcessor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final Lane defaultLane;
+    private final List<Lane> lanes = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
-    private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
+    private ScheduledExecutorService executor;
     private int shutdownTimeout = 10;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
-        this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
+        this.instrumentation = instrumentation;
+        defaultLane = new Lane(name, waitStrategy);
     }
 
     /**
      * Start the loop that will run processors until it's stopped
      *
-     * @return a future that will complete when the loop starts
+     * @return a future that will complete when the first iteration of every lane has run
      */
     public Future<?> start() {
         active.set(true);
-        return submit(0L);
+        var started = lanes.stream()
+                .map(Lane::start)
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(started);
+    }
+
+    /**
+     * Runs the next iteration of every lane as soon as possible, instead of waiting for the delay given by the wait strategy.
+     * If a lane is running an iteration, another one is run right after it.
+     */
+    public void wakeUp() {
+        if (active.get()) {
+            lanes.forEach(Lane::wakeUp);
+        }
     }
 
     /**
@@ -95,41 +112,98 @@ public class StateMachineManager {
         return active.get();
     }
 
-    @NotNull
-    private Future<?> submit(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+    private ScheduledExecutorService createExecutor() {
+        var threadCount = new AtomicInteger();
+        return instrumentation.instrument(
+                Executors.newScheduledThreadPool(lanes.size(), r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName(lanes.size() == 1 ? "StateMachineManager-" + name : "StateMachineManager-" + name + "-" + threadCount.incrementAndGet());
+                    return thread;
+                }), name);
     }
 
-    private Runnable loop() {
-        return () -> {
-            if (active.get()) {
-                long delay = performLogic();
+    /**
+     * A set of processors that run sequentially on their own loop, applying their own wait strategy.
+     */
+    private class Lane {
+        private final String name;
+        private final WaitStrategy waitStrategy;
+        private final List<StateProcessor> processors = new ArrayList<>();
+        private final CompletableFuture<Void> started = new CompletableFuture<>();
+        private ScheduledFuture<?> next;
+        private long generation;
+        private boolean running;
+        private boolean signalled;
+
+        Lane(String name, WaitStrategy waitStrategy) {
+            this.name = name;
+            this.waitStrategy = waitStrategy;
+        }
 
-                // Submit next execution after delay
-                submit(delay);
+        private synchronized CompletableFuture<Void> start() {
+            submit(0L);
+            return started;
+        }
+
+        private synchronized void wakeUp() {
+            if (running) {
+                signalled = true;
+            } else {
+                if (next != null) {
+                    next.cancel(false);
+                }
+                submit(0L);
+            }
+        }
+
+        // must be called holding the lane lock: an iteration scheduled before the last submission is discarded
+        private void submit(long delayMillis) {
+            var iteration = ++generation;
+            next = executor.schedule(() -> loop(iteration), delayMillis, MILLISECONDS);
+        }
+
+        private void loop(long iteration) {
+            synchronized (this) {
+                if (iteration != generation || !active.get()) {
+                    started.complete(null);
+                    return;
+                }
+                running = true;
+                signalled = false;
             }
-        };
-    }
 
-    private long performLogic() {
-        try {
-            var processed = processors.stream()
-                    .mapToLong(StateProcessor::process)
-                    .sum();
+            long delay = performLogic();
 
-            waitStrategy.success();
+            synchronized (this) {
+                running = false;
+                started.complete(null);
+                if (active.get()) {
+                    // Submit next execution after delay, or immediately if woken up in the meantime
+                    submit(signalled ? 0L : delay);
+                }
+            }
+        }
 
-            if (processed == 0) {
-                return waitStrategy.waitForMillis();
+        private long performLogic() {
+            try {
+                var processed = processors.stream()
+                        .mapToLong(StateProcessor::process)
+                        .sum();
+
+                waitStrategy.success();
+
+                if (processed == 0) {
+                    return waitStrategy.waitForMillis();
+                }
+            } catch (Error e) {
+                active.set(false);
+                monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
+            } catch (Throwable e) {
+                monitor.severe(format("StateMachineManager [%s] error caught", name), e);
+                return waitStrategy.retryInMillis();
             }
-        } catch (Error e) {
-            active.set(false);
-            monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
-        } catch (Throwable e) {
-            monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            return waitStrategy.retryInMillis();
+            return 0;
         }
-        return 0;
     }
 
     public static class Builder {
@@ -144,8 +218,22 @@ public class StateMachineManager {
             return new Builder(name, monitor, instrumentation, waitStrategy);
         }
 
+        /**
+         * Adds a processor to the default loop, that runs all its processors sequentially with the wait strategy of the manager.
+         */
         public Builder processor(StateProcessor processor) {
-            loop.processors.add(processor);
+            loop.defaultLane.processors.add(processor);
+            return this;
+        }
+
+        /**
+         * Adds a processor that runs on its own loop, concurrently to the others.
+         * The wait strategy is applied to this lane only, so it should not be shared with other lanes.
+         */
+        public Builder lane(String laneName, StateProcessor processor, WaitStrategy waitStrategy) {
+            var lane = loop.new Lane(loop.name + "-" + laneName, waitStrategy);
+            lane.processors.add(processor);
+            loop.lanes.add(lane);
             return this;
         }
 
@@ -155,6 +243,10 @@ public class StateMachineManager {
         }
 
         public StateMachineManager build() {
+            if (!loop.defaultLane.processors.isEmpty() || loop.lanes.isEmpty()) {
+                loop.lanes.add(0, loop.defaultLane);
+            }
+            loop.executor = loop.createExecutor();
             return loop;
         }
     }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.statemachine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors on which a {@link StateProcessorImpl} processes the entities of a batch concurrently.
+ */
+public final class StateProcessorExecutors {
+
+    private StateProcessorExecutors() {
+    }
+
+    /**
+     * Creates an executor that uses virtual threads when the runtime supports them, or a fixed pool of
+     * {@code maxThreads} platform threads otherwise.
+     * Since a {@link StateProcessorImpl} waits for its whole batch before fetching the next one, with virtual threads
+     * the concurrency is bounded by the sum of the batch sizes of the processors that share the executor.
+     *
+     * @param name       the name used for the threads.
+     * @param maxThreads the number of platform threads.
+     * @return the executor.
+     */
+    public static ExecutorService newEntityExecutor(String name, int maxThreads) {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            var threadCount = new AtomicInteger();
+            return Executors.newFixedThreadPool(maxThreads, r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName(name + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
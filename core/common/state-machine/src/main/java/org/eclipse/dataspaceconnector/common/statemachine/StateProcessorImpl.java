@@ -15,10 +15,15 @@
 package org.eclipse.dataspaceconnector.common.statemachine;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static java.util.stream.Collectors.toList;
+
 /**
  * Permits processing states on the entities that are supplied by a specific supplier,
  * that could be a query on an entity store.
@@ -27,6 +32,8 @@ import java.util.function.Supplier;
  * the scope of the function.
  * The run method returns the processed state count, this is used by the state machine to decide
  * to apply the wait strategy or not.
+ * If an {@link Executor} is passed, the entities of a batch are processed concurrently on it, and the run method returns
+ * once all of them have been processed.
  *
  * @param <T> the entity that is processed
  */
@@ -34,18 +41,49 @@ public class StateProcessorImpl<T> implements StateProcessor {
 
     private final Supplier<Collection<T>> entities;
     private final Function<T, Boolean> process;
+    private final Executor executor;
     private final Predicate<Boolean> isProcessed = it -> it;
 
     public StateProcessorImpl(Supplier<Collection<T>> entitiesSupplier, Function<T, Boolean> process) {
+        this(entitiesSupplier, process, null);
+    }
+
+    public StateProcessorImpl(Supplier<Collection<T>> entitiesSupplier, Function<T, Boolean> process, Executor executor) {
         this.entities = entitiesSupplier;
         this.process = process;
+        this.executor = executor;
     }
 
     @Override
     public Long process() {
-        return entities.get().stream()
-                .map(process)
-                .filter(isProcessed)
-                .count();
+        var batch = entities.get();
+        if (executor == null || batch.size() < 2) {
+            return batch.stream()
+                    .map(process)
+                    .filter(isProcessed)
+                    .count();
+        }
+
+        var futures = batch.stream()
+                .map(entity -> CompletableFuture.supplyAsync(() -> process.apply(entity), executor))
+                .collect(toList());
+        // wait for the whole batch, so that no entity is still being processed when the next one is fetched
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).handle((result, throwable) -> null).join();
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(isProcessed)
+                    .count();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private RuntimeException unwrap(CompletionException exception) {
+        var cause = exception.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : exception;
     }
 }
@@ -21,13 +21,17 @@ import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +139,50 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldRunLanesIndependently() {
+        var blocked = new CountDownLatch(1);
+        var slowProcessor = mock(StateProcessor.class);
+        when(slowProcessor.process()).thenAnswer(i -> {
+            blocked.await();
+            return 1L;
+        });
+        var fastProcessor = mock(StateProcessor.class);
+        when(fastProcessor.process()).thenReturn(0L);
+        var laneWaitStrategy = mock(WaitStrategy.class);
+        when(laneWaitStrategy.waitForMillis()).thenReturn(1L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(slowProcessor)
+                .lane("fast", fastProcessor, laneWaitStrategy)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(fastProcessor, atLeast(2)).process();
+            verify(laneWaitStrategy, atLeast(2)).waitForMillis();
+        });
+        verify(waitStrategy, never()).waitForMillis();
+        blocked.countDown();
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldRunNextIterationImmediately_whenWokenUp() {
+        var processor = mock(StateProcessor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        assertThat(stateMachine.start()).succeedsWithin(1, SECONDS);
+        verify(processor, times(1)).process();
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+        stateMachine.stop();
+    }
 }
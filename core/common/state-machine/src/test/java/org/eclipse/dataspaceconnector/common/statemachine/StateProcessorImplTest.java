@@ -17,8 +17,12 @@ package org.eclipse.dataspaceconnector.common.statemachine;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class StateProcessorImplTest {
 
@@ -39,4 +43,34 @@ class StateProcessorImplTest {
 
         assertThat(count).isEqualTo(0);
     }
+
+    @Test
+    void shouldProcessBatchConcurrently_whenExecutorIsSet() {
+        var executor = Executors.newFixedThreadPool(3);
+        var started = new CountDownLatch(3);
+        var processor = new StateProcessorImpl<>(() -> List.of("a", "b", "c"), string -> {
+            started.countDown();
+            try {
+                return started.await(5, SECONDS) && !string.equals("c");
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }, executor);
+
+        var count = processor.process();
+
+        assertThat(count).isEqualTo(2);
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRethrowProcessException_whenExecutorIsSet() {
+        var executor = Executors.newFixedThreadPool(2);
+        var processor = new StateProcessorImpl<>(() -> List.of("a", "b"), string -> {
+            throw new IllegalStateException(string);
+        }, executor);
+
+        assertThatThrownBy(processor::process).isInstanceOf(IllegalStateException.class);
+        executor.shutdown();
+    }
 }
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.common.async;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -32,4 +33,21 @@ public class AsyncUtils {
 
         return Collectors.collectingAndThen(Collectors.toList(), finisher);
     }
+
+    /**
+     * Cancels the source future once the dependent future is cancelled. The stages derived from a {@link CompletableFuture}
+     * do not propagate their cancellation to the future they depend on, which thus keeps running.
+     *
+     * @param dependent the future derived from the source, e.g. by {@code thenApply}
+     * @param source    the future to cancel along with the dependent one
+     * @return the dependent future
+     */
+    public static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<T> dependent, Future<?> source) {
+        dependent.whenComplete((result, throwable) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
 }
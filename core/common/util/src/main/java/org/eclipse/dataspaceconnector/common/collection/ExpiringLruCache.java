@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.collection;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe {@link LruCache} whose entries expire at a given time. Once the capacity is reached, the least recently
+ * used entry is evicted.
+ * <p>
+ * Values are loaded by the callers outside of the cache, so that a slow load does not block the other callers. A value
+ * loaded while the cache got invalidated could already be stale, so {@link #put(Object, Object, long, long)} only caches
+ * it if the cache was not invalidated since the {@link #version()} taken before loading it.
+ */
+public class ExpiringLruCache<K, V> {
+    /**
+     * The expiration time of the entries that do not expire.
+     */
+    public static final long NEVER = Long.MAX_VALUE;
+
+    private final LruCache<K, Entry<V>> entries;
+    private long version;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the maximum number of entries before the least recently used one is evicted.
+     */
+    public ExpiringLruCache(int capacity) {
+        entries = new LruCache<>(capacity);
+    }
+
+    /**
+     * Returns the value cached for the key, or null if there is none or if it expired at the given time.
+     */
+    public synchronized @Nullable V get(K key, long now) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (now >= entry.expiresAt) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Returns the value cached for the key without expiration, or null if there is none.
+     */
+    public @Nullable V get(K key) {
+        return get(key, Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the current version of the cache, which changes whenever the cache is invalidated.
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * Caches the value until the expiration time, unless the cache got invalidated since the given version was taken.
+     *
+     * @return whether the value was cached.
+     */
+    public synchronized boolean put(K key, V value, long expiresAt, long version) {
+        if (version != this.version) {
+            return false;
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+        return true;
+    }
+
+    /**
+     * Caches the value until the expiration time.
+     */
+    public synchronized void put(K key, V value, long expiresAt) {
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * Caches the value without expiration.
+     */
+    public void put(K key, V value) {
+        put(key, value, NEVER);
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public synchronized void invalidate() {
+        version++;
+        entries.clear();
+    }
+
+    /**
+     * Removes the entries whose key matches the predicate.
+     */
+    public synchronized void invalidate(Predicate<K> keys) {
+        version++;
+        entries.keySet().removeIf(keys);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringLruCacheTest {
+    private final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2);
+
+    @Test
+    void get_shouldReturnValueUntilExpired() {
+        cache.put("foo", "bar", 10);
+
+        assertThat(cache.get("foo", 9)).isEqualTo("bar");
+        assertThat(cache.get("foo", 10)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntry() {
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.get("foo");
+
+        cache.put("baz", "baz");
+
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.get("bar")).isNull();
+        assertThat(cache.get("baz")).isEqualTo("baz");
+    }
+
+    @Test
+    void put_shouldNotCacheValueLoadedWhileInvalidated() {
+        var version = cache.version();
+        cache.invalidate();
+
+        assertThat(cache.put("foo", "bar", ExpiringLruCache.NEVER, version)).isFalse();
+        assertThat(cache.put("foo", "bar", ExpiringLruCache.NEVER, cache.version())).isTrue();
+        assertThat(cache.get("foo")).isEqualTo("bar");
+    }
+
+    @Test
+    void invalidate_shouldRemoveMatchingEntries() {
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+
+        cache.invalidate(key -> key.startsWith("f"));
+
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.get("bar")).isEqualTo("bar");
+    }
+}
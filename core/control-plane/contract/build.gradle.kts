@@ -15,6 +15,7 @@
 
 val openTelemetryVersion: String by project
 val awaitility: String by project
+val micrometerVersion: String by project
 
 plugins {
     `java-library`
@@ -26,7 +27,9 @@ dependencies {
     api(project(":spi:control-plane:contract-spi"))
 
     implementation(project(":core:common:state-machine"))
+    implementation(project(":core:common:util"))
     implementation("io.opentelemetry:opentelemetry-extension-annotations:${openTelemetryVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
 
     testImplementation(project(":core:control-plane:control-plane-core"))
     testImplementation(project(":extensions:common:junit"))
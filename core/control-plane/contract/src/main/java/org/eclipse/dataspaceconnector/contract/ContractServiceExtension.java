@@ -17,11 +17,15 @@
 
 package org.eclipse.dataspaceconnector.contract;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.dataspaceconnector.common.statemachine.retry.EntitySendRetryManager;
 import org.eclipse.dataspaceconnector.contract.listener.ContractNegotiationEventListener;
 import org.eclipse.dataspaceconnector.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.dataspaceconnector.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.dataspaceconnector.contract.observe.ContractNegotiationObservableImpl;
+import org.eclipse.dataspaceconnector.contract.offer.AccessPolicyDecisionCache;
+import org.eclipse.dataspaceconnector.contract.offer.AssetCountCache;
 import org.eclipse.dataspaceconnector.contract.offer.ContractDefinitionServiceImpl;
 import org.eclipse.dataspaceconnector.contract.offer.ContractOfferServiceImpl;
 import org.eclipse.dataspaceconnector.contract.policy.PolicyArchiveImpl;
@@ -62,6 +66,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.comm
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 
 @Provides({
         ContractOfferService.class, ContractValidationService.class, ConsumerContractNegotiationManager.class,
@@ -84,6 +89,16 @@ public class ContractServiceExtension implements ServiceExtension {
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_BASE_DELAY_MS = "edc.negotiation.consumer.send.retry.base-delay.ms";
     @EdcSetting
     private static final String NEGOTIATION_PROVIDER_SEND_RETRY_BASE_DELAY_MS = "edc.negotiation.provider.send.retry.base-delay.ms";
+    @EdcSetting(value = "Time in milliseconds the number of assets selected by a contract definition is cached for when paging through contract offers, 0 disables the cache")
+    private static final String CONTRACT_OFFER_ASSET_COUNT_CACHE_TTL_MS = "edc.contract.offer.asset-count-cache.ttl.ms";
+    private static final long DEFAULT_ASSET_COUNT_CACHE_TTL_MS = 10_000;
+    private static final int ASSET_COUNT_CACHE_MAX_ENTRIES = 1000;
+    @EdcSetting(value = "Time in milliseconds the outcome of the evaluation of an access policy for a participant is cached for when building catalogs, 0 disables the cache")
+    private static final String ACCESS_POLICY_CACHE_TTL_MS = "edc.contract.access-policy-cache.ttl.ms";
+    private static final long DEFAULT_ACCESS_POLICY_CACHE_TTL_MS = 10_000;
+    @EdcSetting(value = "Maximum number of access policy decisions cached")
+    private static final String ACCESS_POLICY_CACHE_MAX_ENTRIES = "edc.contract.access-policy-cache.max-entries";
+    private static final int DEFAULT_ACCESS_POLICY_CACHE_MAX_ENTRIES = 10_000;
 
     private ConsumerContractNegotiationManagerImpl consumerNegotiationManager;
     private ProviderContractNegotiationManagerImpl providerNegotiationManager;
@@ -123,6 +138,9 @@ public class ContractServiceExtension implements ServiceExtension {
     @Inject
     private EventRouter eventRouter;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return "Core Contract Service";
@@ -152,10 +170,19 @@ public class ContractServiceExtension implements ServiceExtension {
     }
 
     private void registerServices(ServiceExtensionContext context) {
-        var definitionService = new ContractDefinitionServiceImpl(monitor, contractDefinitionStore, policyEngine, policyStore);
+        var decisionCacheTtl = Duration.ofMillis(context.getSetting(ACCESS_POLICY_CACHE_TTL_MS, DEFAULT_ACCESS_POLICY_CACHE_TTL_MS));
+        var decisionCacheMaxEntries = context.getSetting(ACCESS_POLICY_CACHE_MAX_ENTRIES, DEFAULT_ACCESS_POLICY_CACHE_MAX_ENTRIES);
+        var decisionCache = new AccessPolicyDecisionCache(clock, decisionCacheTtl, decisionCacheMaxEntries, meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
+        eventRouter.registerSync(decisionCache);
+
+        var definitionService = new ContractDefinitionServiceImpl(monitor, contractDefinitionStore, policyEngine, policyStore, decisionCache);
         context.registerService(ContractDefinitionService.class, definitionService);
 
-        var contractOfferService = new ContractOfferServiceImpl(agentService, definitionService, assetIndex, policyStore);
+        var assetCountCacheTtl = Duration.ofMillis(context.getSetting(CONTRACT_OFFER_ASSET_COUNT_CACHE_TTL_MS, DEFAULT_ASSET_COUNT_CACHE_TTL_MS));
+        var assetCountCache = new AssetCountCache(clock, assetCountCacheTtl, ASSET_COUNT_CACHE_MAX_ENTRIES);
+        eventRouter.registerSync(assetCountCache);
+
+        var contractOfferService = new ContractOfferServiceImpl(agentService, definitionService, assetIndex, policyStore, assetCountCache);
         context.registerService(ContractOfferService.class, contractOfferService);
 
         var policyEquality = new PolicyEquality(context.getTypeManager());
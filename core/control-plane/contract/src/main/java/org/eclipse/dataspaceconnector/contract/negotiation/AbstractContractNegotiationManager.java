@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.contract.negotiation;
 
+import org.eclipse.dataspaceconnector.common.statemachine.StateMachineManager;
 import org.eclipse.dataspaceconnector.common.statemachine.retry.SendRetryManager;
 import org.eclipse.dataspaceconnector.spi.command.CommandProcessor;
 import org.eclipse.dataspaceconnector.spi.command.CommandQueue;
@@ -56,6 +57,7 @@ public abstract class AbstractContractNegotiationManager {
     protected WaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
     protected PolicyDefinitionStore policyStore;
     protected SendRetryManager<StatefulEntity> sendRetryManager;
+    protected StateMachineManager stateMachineManager;
 
     /**
      * Gives the name of the manager
@@ -164,6 +166,16 @@ public abstract class AbstractContractNegotiationManager {
         }
     }
 
+    /**
+     * Signals the state machine that negotiations have been changed outside of its loop, so that they get processed
+     * without waiting for the next iteration.
+     */
+    protected void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
+        }
+    }
+
     protected void breakLease(ContractNegotiation negotiation) {
         negotiationStore.save(negotiation);
     }
@@ -199,6 +211,7 @@ public abstract class AbstractContractNegotiationManager {
 
                 if (throwable == null) {
                     onSuccessHandler.accept(negotiation);
+                    wakeUp();
                     monitor.debug(format("[%s] ContractNegotiation %s is now in state %s.", getName(),
                             negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
                 } else if (sendRetryManager.retriesExhausted(negotiation)) {
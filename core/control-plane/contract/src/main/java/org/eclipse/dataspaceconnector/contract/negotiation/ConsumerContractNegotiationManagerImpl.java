@@ -58,8 +58,6 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiati
  */
 public class ConsumerContractNegotiationManagerImpl extends AbstractContractNegotiationManager implements ConsumerContractNegotiationManager {
 
-    private StateMachineManager stateMachineManager;
-
     private ConsumerContractNegotiationManagerImpl() {
     }
 
@@ -108,6 +106,7 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
 
         monitor.debug(String.format("[Consumer] ContractNegotiation initiated. %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
+        wakeUp();
         return StatusResult.success(negotiation);
     }
 
@@ -155,6 +154,7 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
         monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
 
+        wakeUp();
         return StatusResult.success(negotiation);
     }
 
@@ -195,6 +195,7 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
             negotiationStore.save(negotiation);
             monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                     negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
+            wakeUp();
             return StatusResult.success(negotiation);
         }
 
@@ -210,6 +211,7 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
         monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
 
+        wakeUp();
         return StatusResult.success(negotiation);
     }
 
@@ -235,12 +237,14 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
         observable.invokeForEach(l -> l.declined(negotiation));
         monitor.debug(String.format("[Consumer] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
+        wakeUp();
         return StatusResult.success(negotiation);
     }
 
     @Override
     public void enqueueCommand(ContractNegotiationCommand command) {
         commandQueue.enqueue(command);
+        wakeUp();
     }
 
     @Override
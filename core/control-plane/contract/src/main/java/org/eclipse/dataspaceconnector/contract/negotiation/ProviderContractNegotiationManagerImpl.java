@@ -52,8 +52,6 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiati
  */
 public class ProviderContractNegotiationManagerImpl extends AbstractContractNegotiationManager implements ProviderContractNegotiationManager {
 
-    private StateMachineManager stateMachineManager;
-
     private ProviderContractNegotiationManagerImpl() {
     }
 
@@ -107,12 +105,14 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
         monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
 
+        wakeUp();
         return StatusResult.success(negotiation);
     }
 
     @Override
     public void enqueueCommand(ContractNegotiationCommand command) {
         commandQueue.enqueue(command);
+        wakeUp();
     }
 
     /**
@@ -189,6 +189,7 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
         negotiationStore.save(negotiation);
         monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
+        wakeUp();
         return StatusResult.success(negotiation);
     }
 
@@ -234,6 +235,7 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
 
             monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
                     negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
+            wakeUp();
             return StatusResult.success(negotiation);
         }
 
@@ -244,6 +246,7 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
         monitor.debug(String.format("[Provider] ContractNegotiation %s is now in state %s.",
                 negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
 
+        wakeUp();
         return StatusResult.success(negotiation);
     }
 
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.offer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
+import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.event.Event;
+import org.eclipse.dataspaceconnector.spi.event.EventSubscriber;
+import org.eclipse.dataspaceconnector.spi.event.contractdefinition.ContractDefinitionEventPayload;
+import org.eclipse.dataspaceconnector.spi.event.policydefinition.PolicyDefinitionEventPayload;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caches the outcome of the evaluation of an access policy for a participant, keyed by the claims and attributes of the
+ * agent and by the id of the policy definition. Policy definitions cannot be updated, so their id identifies a version.
+ * <p>
+ * Entries of a policy definition are removed when a policy definition event is received for it, and the whole cache is
+ * cleared on contract definition events. Entries expire after a time-to-live too, which bounds how long a decision
+ * depending on time, e.g. on the date of the request, is reused. Once the cache is full, the least recently used decision
+ * is evicted. A time-to-live of zero disables the cache.
+ */
+public class AccessPolicyDecisionCache implements EventSubscriber {
+    private final Clock clock;
+    private final long ttlMillis;
+    private final ExpiringLruCache<DecisionKey, Boolean> decisions;
+    private final Counter hits;
+    private final Counter misses;
+
+    public AccessPolicyDecisionCache(Clock clock, Duration ttl, int maxEntries, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        decisions = new ExpiringLruCache<>(maxEntries);
+        hits = Counter.builder("edc.contract.access_policy.cache.hits")
+                .description("Number of access policy decisions served from the cache")
+                .register(meterRegistry);
+        misses = Counter.builder("edc.contract.access_policy.cache.misses")
+                .description("Number of access policy decisions that had to be evaluated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached decision for the agent and the policy, invoking the evaluation if no decision is cached.
+     */
+    public boolean decide(ParticipantAgent agent, String policyId, BooleanSupplier evaluation) {
+        if (ttlMillis <= 0) {
+            return evaluation.getAsBoolean();
+        }
+
+        var key = new DecisionKey(agent, policyId);
+        var now = clock.millis();
+        var cached = decisions.get(key, now);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        // a decision taken while the cache got invalidated could already be stale
+        var version = decisions.version();
+        var granted = evaluation.getAsBoolean();
+        decisions.put(key, granted, now + ttlMillis, version);
+        return granted;
+    }
+
+    /**
+     * Removes all the cached decisions.
+     */
+    public void invalidate() {
+        decisions.invalidate();
+    }
+
+    @Override
+    public void on(Event<?> event) {
+        var payload = event.getPayload();
+        if (payload instanceof PolicyDefinitionEventPayload) {
+            var policyId = ((PolicyDefinitionEventPayload) payload).getPolicyDefinitionId();
+            decisions.invalidate(key -> key.policyId.equals(policyId));
+        } else if (payload instanceof ContractDefinitionEventPayload) {
+            invalidate();
+        }
+    }
+
+    private static class DecisionKey {
+        private final Map<String, Object> claims;
+        private final Map<String, String> attributes;
+        private final String policyId;
+        private final int hash;
+
+        DecisionKey(ParticipantAgent agent, String policyId) {
+            claims = agent.getClaims();
+            attributes = agent.getAttributes();
+            this.policyId = policyId;
+            hash = Objects.hash(claims, attributes, policyId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (DecisionKey) o;
+            return hash == that.hash && policyId.equals(that.policyId) && claims.equals(that.claims) && attributes.equals(that.attributes);
+        }
+    }
+}
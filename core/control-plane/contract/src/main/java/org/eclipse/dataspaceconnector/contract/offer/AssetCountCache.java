@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.offer;
+
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
+import org.eclipse.dataspaceconnector.spi.event.Event;
+import org.eclipse.dataspaceconnector.spi.event.EventSubscriber;
+import org.eclipse.dataspaceconnector.spi.event.asset.AssetEventPayload;
+import org.eclipse.dataspaceconnector.spi.event.contractdefinition.ContractDefinitionEventPayload;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the number of assets matching a list of criteria, so that paging through the contract offers does not need to
+ * count the assets of every definition that precedes the requested page.
+ * <p>
+ * The cache is cleared when an asset or a contract definition event is received. Since assets can also be written to the
+ * index without going through the event system, entries expire after a time-to-live as well. Once the cache is full, the
+ * least recently used count is evicted. A time-to-live of zero disables the cache.
+ */
+public class AssetCountCache implements EventSubscriber {
+    private final Clock clock;
+    private final long ttlMillis;
+    private final ExpiringLruCache<List<Criterion>, Long> counts;
+
+    public AssetCountCache(Clock clock, Duration ttl, int maxEntries) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        counts = new ExpiringLruCache<>(maxEntries);
+    }
+
+    /**
+     * Returns the number of assets matching the criteria, invoking the counter if the number is not cached.
+     */
+    public long count(List<Criterion> criteria, LongSupplier counter) {
+        if (ttlMillis <= 0) {
+            return counter.getAsLong();
+        }
+
+        var now = clock.millis();
+        var cached = counts.get(criteria, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        // a count computed while the cache got invalidated could already be stale
+        var version = counts.version();
+        var count = counter.getAsLong();
+        counts.put(List.copyOf(criteria), count, now + ttlMillis, version);
+        return count;
+    }
+
+    /**
+     * Removes all the cached counts.
+     */
+    public void invalidate() {
+        counts.invalidate();
+    }
+
+    @Override
+    public void on(Event<?> event) {
+        var payload = event.getPayload();
+        if (payload instanceof AssetEventPayload || payload instanceof ContractDefinitionEventPayload) {
+            invalidate();
+        }
+    }
+}
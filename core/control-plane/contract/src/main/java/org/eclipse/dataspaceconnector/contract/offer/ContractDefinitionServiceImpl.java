@@ -16,6 +16,7 @@
 
 package org.eclipse.dataspaceconnector.contract.offer;
 
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgent;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
@@ -29,6 +30,8 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDe
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -44,19 +47,30 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final AccessPolicyDecisionCache decisionCache;
 
     public ContractDefinitionServiceImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, new AccessPolicyDecisionCache(Clock.systemUTC(), Duration.ZERO, 0, Metrics.globalRegistry));
+    }
+
+    public ContractDefinitionServiceImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore,
+                                         AccessPolicyDecisionCache decisionCache) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.decisionCache = decisionCache;
     }
 
+    /**
+     * Returns the definitions whose access policy grants access to the agent. Since this is invoked for every catalog
+     * request, the access decisions are taken from the {@link AccessPolicyDecisionCache}.
+     */
     @NotNull
     @Override
     public Stream<ContractDefinition> definitionsFor(ParticipantAgent agent) {
         return definitionStore.findAll(QuerySpec.max())
-                .filter(definition -> evaluateAccessPolicy(definition, agent));
+                .filter(definition -> decisionCache.decide(agent, definition.getAccessPolicyId(), () -> evaluateAccessPolicy(definition, agent)));
     }
 
     @Nullable
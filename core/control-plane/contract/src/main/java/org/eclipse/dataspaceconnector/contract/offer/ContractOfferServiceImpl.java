@@ -33,8 +33,8 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOf
 import org.jetbrains.annotations.NotNull;
 
 import java.net.URI;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,62 +42,63 @@ import static java.util.stream.Stream.concat;
 
 /**
  * Implementation of the {@link ContractOfferService}.
+ * <p>
+ * The requested range is resolved across the definitions visible to the agent using the number of assets each definition
+ * selects, which is kept in an {@link AssetCountCache}: the definitions that precede the range are skipped without
+ * querying assets or policies, and offset and limit of the overlapping definitions are pushed down to the {@link AssetIndex}.
  */
 public class ContractOfferServiceImpl implements ContractOfferService {
     private final ParticipantAgentService agentService;
     private final ContractDefinitionService definitionService;
     private final AssetIndex assetIndex;
     private final PolicyDefinitionStore policyStore;
+    private final AssetCountCache assetCountCache;
 
     public ContractOfferServiceImpl(ParticipantAgentService agentService, ContractDefinitionService definitionService, AssetIndex assetIndex, PolicyDefinitionStore policyStore) {
+        this(agentService, definitionService, assetIndex, policyStore, new AssetCountCache(Clock.systemUTC(), Duration.ZERO, 0));
+    }
+
+    public ContractOfferServiceImpl(ParticipantAgentService agentService, ContractDefinitionService definitionService, AssetIndex assetIndex, PolicyDefinitionStore policyStore, AssetCountCache assetCountCache) {
         this.agentService = agentService;
         this.definitionService = definitionService;
         this.assetIndex = assetIndex;
         this.policyStore = policyStore;
+        this.assetCountCache = assetCountCache;
     }
 
     @Override
     @NotNull
     public Stream<ContractOffer> queryContractOffers(ContractOfferQuery query) {
         var agent = agentService.createFor(query.getClaimToken());
-        var numSeenAssets = new AtomicLong(0);
         var range = query.getRange();
-        var limit = range.getTo() - range.getFrom();
-        var skip = new AtomicInteger(range.getFrom());
+        var cursor = new PageCursor(range.getFrom(), range.getTo() - range.getFrom());
 
         return definitionService.definitionsFor(agent)
-                .takeWhile(d -> numSeenAssets.get() < range.getTo())
+                .takeWhile(d -> cursor.hasRemaining())
                 .flatMap(definition -> {
-                    var criteria = definition.getSelectorExpression().getCriteria();
-
-                    var querySpecBuilder = QuerySpec.Builder.newInstance()
-                            .filter(concat(criteria.stream(), query.getAssetsCriteria().stream()).collect(Collectors.toList()));
-
-                    var querySpec = querySpecBuilder.build();
-                    var numAssets = assetIndex.countAssets(querySpec);
+                    var criteria = concat(definition.getSelectorExpression().getCriteria().stream(), query.getAssetsCriteria().stream()).collect(Collectors.toList());
+                    var numAssets = assetCountCache.count(criteria, () -> assetIndex.countAssets(QuerySpec.Builder.newInstance().filter(criteria).build()));
 
-                    if (skip.get() > 0) {
-                        querySpecBuilder.offset(skip.get());
-                    }
-                    if (numAssets + numSeenAssets.get() > limit) {
-                        querySpecBuilder.limit(limit);
+                    var offset = cursor.skip;
+                    if (offset >= numAssets) {
+                        cursor.advance(numAssets, 0);
+                        return Stream.empty();
                     }
 
-                    if (skip.get() < numAssets) {
-                        var byId = policyStore.findById(definition.getContractPolicyId());
-                        if (byId == null) { //policy not found
-                            return Stream.empty();
-                        }
-                        var assets = assetIndex.queryAssets(querySpecBuilder.build());
-                        numSeenAssets.addAndGet(numAssets);
-                        skip.addAndGet(Long.valueOf(-numAssets).intValue());
-                        return assets.map(a -> createContractOffer(definition, byId.getPolicy(), a));
-
-                    } else {
-                        numSeenAssets.addAndGet(numAssets);
-                        skip.addAndGet(Long.valueOf(-numAssets).intValue());
+                    var limit = Math.min(cursor.remaining, numAssets - offset);
+                    cursor.advance(offset, limit);
+
+                    var byId = policyStore.findById(definition.getContractPolicyId());
+                    if (byId == null) { //policy not found
                         return Stream.empty();
                     }
+
+                    var querySpec = QuerySpec.Builder.newInstance()
+                            .filter(criteria)
+                            .offset((int) offset)
+                            .limit((int) limit)
+                            .build();
+                    return assetIndex.queryAssets(querySpec).map(a -> createContractOffer(definition, byId.getPolicy(), a));
                 });
     }
 
@@ -112,4 +113,26 @@ public class ContractOfferServiceImpl implements ContractOfferService {
                 .consumer(URI.create("urn:connector:consumer"))
                 .build();
     }
+
+    /**
+     * Position in the requested range while walking through the definitions.
+     */
+    private static class PageCursor {
+        private long skip;
+        private long remaining;
+
+        PageCursor(long skip, long remaining) {
+            this.skip = skip;
+            this.remaining = remaining;
+        }
+
+        boolean hasRemaining() {
+            return remaining > 0;
+        }
+
+        void advance(long skipped, long taken) {
+            skip -= skipped;
+            remaining -= taken;
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.offer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.event.contractdefinition.ContractDefinitionCreated;
+import org.eclipse.dataspaceconnector.spi.event.policydefinition.PolicyDefinitionDeleted;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccessPolicyDecisionCacheTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AccessPolicyDecisionCache cache = new AccessPolicyDecisionCache(clock, Duration.ofSeconds(10), 100, meterRegistry);
+    private final ParticipantAgent agent = new ParticipantAgent(Map.of("client_id", "consumer"), Map.of());
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    @Test
+    void decide_shouldCacheDecisionPerAgentAndPolicy() {
+        when(clock.millis()).thenReturn(0L);
+
+        assertThat(cache.decide(agent, "policy", this::evaluate)).isTrue();
+        assertThat(cache.decide(new ParticipantAgent(Map.of("client_id", "consumer"), Map.of()), "policy", this::evaluate)).isTrue();
+        cache.decide(new ParticipantAgent(Map.of("client_id", "other"), Map.of()), "policy", this::evaluate);
+        cache.decide(agent, "other-policy", this::evaluate);
+
+        assertThat(evaluations).hasValue(3);
+        assertThat(meterRegistry.counter("edc.contract.access_policy.cache.hits").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("edc.contract.access_policy.cache.misses").count()).isEqualTo(3);
+    }
+
+    @Test
+    void decide_shouldEvaluateAgain_whenExpired() {
+        when(clock.millis()).thenReturn(0L, 10_000L);
+
+        cache.decide(agent, "policy", this::evaluate);
+        cache.decide(agent, "policy", this::evaluate);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void on_shouldInvalidateDecisionsOfPolicy() {
+        when(clock.millis()).thenReturn(0L);
+        cache.decide(agent, "policy", this::evaluate);
+        cache.decide(agent, "other-policy", this::evaluate);
+
+        cache.on(PolicyDefinitionDeleted.Builder.newInstance().policyDefinitionId("policy").at(1L).build());
+        cache.decide(agent, "policy", this::evaluate);
+        cache.decide(agent, "other-policy", this::evaluate);
+        assertThat(evaluations).hasValue(3);
+
+        cache.on(ContractDefinitionCreated.Builder.newInstance().contractDefinitionId("definition").at(1L).build());
+        cache.decide(agent, "other-policy", this::evaluate);
+        assertThat(evaluations).hasValue(4);
+    }
+
+    private boolean evaluate() {
+        evaluations.incrementAndGet();
+        return true;
+    }
+}
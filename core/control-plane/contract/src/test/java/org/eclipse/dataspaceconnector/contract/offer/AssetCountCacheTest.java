@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.offer;
+
+import org.eclipse.dataspaceconnector.spi.event.asset.AssetCreated;
+import org.eclipse.dataspaceconnector.spi.event.contractdefinition.ContractDefinitionDeleted;
+import org.eclipse.dataspaceconnector.spi.event.policydefinition.PolicyDefinitionCreated;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AssetCountCacheTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final AssetCountCache cache = new AssetCountCache(clock, Duration.ofSeconds(10), 100);
+    private final List<Criterion> criteria = List.of(new Criterion("asset:prop:id", "=", "id"));
+    private final AtomicLong counter = new AtomicLong();
+
+    @Test
+    void count_shouldCacheCountUntilExpired() {
+        when(clock.millis()).thenReturn(0L, 5_000L, 10_000L);
+
+        assertThat(cache.count(criteria, counter::incrementAndGet)).isEqualTo(1);
+        assertThat(cache.count(criteria, counter::incrementAndGet)).isEqualTo(1);
+        assertThat(cache.count(criteria, counter::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void count_shouldNotCache_whenTtlIsZero() {
+        var disabled = new AssetCountCache(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), Duration.ZERO, 100);
+
+        disabled.count(criteria, counter::incrementAndGet);
+        disabled.count(criteria, counter::incrementAndGet);
+
+        assertThat(counter.get()).isEqualTo(2);
+    }
+
+    @Test
+    void on_shouldInvalidateOnAssetAndContractDefinitionEvents() {
+        when(clock.millis()).thenReturn(0L);
+        cache.count(criteria, counter::incrementAndGet);
+
+        cache.on(PolicyDefinitionCreated.Builder.newInstance().policyDefinitionId("policy").at(1L).build());
+        assertThat(cache.count(criteria, counter::incrementAndGet)).isEqualTo(1);
+
+        cache.on(AssetCreated.Builder.newInstance().assetId("asset").at(1L).build());
+        assertThat(cache.count(criteria, counter::incrementAndGet)).isEqualTo(2);
+
+        cache.on(ContractDefinitionDeleted.Builder.newInstance().contractDefinitionId("definition").at(1L).build());
+        assertThat(cache.count(criteria, counter::incrementAndGet)).isEqualTo(3);
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.dataspaceconnector.contract.offer;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgent;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
@@ -29,6 +30,8 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDe
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -41,6 +44,7 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -103,6 +107,25 @@ class ContractDefinitionServiceImplTest {
         verify(policyEngine, never()).evaluate(any(), any(), any());
     }
 
+    @Test
+    void definitionsFor_shouldReuseCachedDecisions() {
+        var cache = new AccessPolicyDecisionCache(Clock.systemUTC(), Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+        definitionService = new ContractDefinitionServiceImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore, cache);
+        var agent = new ParticipantAgent(Map.of("id", "consumer"), Map.of());
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).id("access").build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(CATALOGING_SCOPE, def.getPolicy(), agent)).thenReturn(Result.success(def.getPolicy()));
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(
+                ContractDefinition.Builder.newInstance().id("1").accessPolicyId("access").contractPolicyId("contract").selectorExpression(SELECT_ALL).build(),
+                ContractDefinition.Builder.newInstance().id("2").accessPolicyId("access").contractPolicyId("contract").selectorExpression(SELECT_ALL).build()));
+
+        assertThat(definitionService.definitionsFor(agent)).hasSize(2);
+        assertThat(definitionService.definitionsFor(new ParticipantAgent(Map.of("id", "consumer"), Map.of()))).hasSize(2);
+
+        verify(policyStore, times(1)).findById("access");
+        verify(policyEngine, times(1)).evaluate(any(), any(), any());
+    }
+
     @Test
     void definitionFor_found() {
         var agent = new ParticipantAgent(Map.of(), Map.of());
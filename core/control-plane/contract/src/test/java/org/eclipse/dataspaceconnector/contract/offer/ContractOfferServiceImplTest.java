@@ -36,6 +36,8 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,6 +47,7 @@ import static java.util.stream.IntStream.range;
 import static java.util.stream.Stream.concat;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
@@ -203,6 +206,27 @@ class ContractOfferServiceImplTest {
         verify(policyStore, times(30)).findById("contract");
     }
 
+    @Test
+    void shouldPushDownPageIntoOverlappingDefinitionsOnly() {
+        var contractDefinitions = List.of(getContractDefBuilder("1").contractPolicyId("policy1").build(), getContractDefBuilder("2").contractPolicyId("policy2").build());
+        var cache = new AssetCountCache(Clock.systemUTC(), Duration.ofMinutes(1), 100);
+        contractOfferService = new ContractOfferServiceImpl(agentService, contractDefinitionService, assetIndex, policyStore, cache);
+
+        when(agentService.createFor(isA(ClaimToken.class))).thenReturn(new ParticipantAgent(emptyMap(), emptyMap()));
+        when(contractDefinitionService.definitionsFor(isA(ParticipantAgent.class))).thenAnswer(i -> contractDefinitions.stream());
+        when(assetIndex.countAssets(any())).thenReturn(10L);
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(inv -> range(0, 5).mapToObj(i -> createAsset("asset" + i).build()));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        assertThat(contractOfferService.queryContractOffers(getQuery(15, 20))).hasSize(5);
+        assertThat(contractOfferService.queryContractOffers(getQuery(15, 20))).hasSize(5);
+
+        verify(assetIndex, times(1)).countAssets(any());
+        verify(assetIndex, times(2)).queryAssets(argThat(spec -> spec.getOffset() == 5 && spec.getLimit() == 5));
+        verify(policyStore, never()).findById("policy1");
+        verify(policyStore, times(2)).findById("policy2");
+    }
+
     @Test
     void shouldGetContractOffersWithAssetFilteringApplied() {
         var contractDefinition = ContractDefinition.Builder.newInstance()
@@ -24,6 +24,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.AssetEntry;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -113,6 +114,22 @@ public class InMemoryAssetIndex implements AssetIndex {
         return assets.isEmpty() ? null : assets.get(0);
     }
 
+    @Override
+    public Stream<Asset> findByIds(Collection<String> assetIds) {
+        Objects.requireNonNull(assetIds, "assetIds");
+        lock.readLock().lock();
+        try {
+            return assetIds.stream()
+                    .distinct()
+                    .map(cache::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList())
+                    .stream();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @Override
     public void accept(AssetEntry item) {
         lock.writeLock().lock();
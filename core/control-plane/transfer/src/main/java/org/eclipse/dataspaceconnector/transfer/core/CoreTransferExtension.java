@@ -48,6 +48,7 @@ import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DeprovisionedResource;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedContentResource;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.command.TransferProcessCommand;
 import org.eclipse.dataspaceconnector.transfer.core.command.handlers.AddProvisionedResourceCommandHandler;
 import org.eclipse.dataspaceconnector.transfer.core.command.handlers.DeprovisionCompleteCommandHandler;
@@ -62,6 +63,7 @@ import org.eclipse.dataspaceconnector.transfer.core.transfer.StatusCheckerRegist
 import org.eclipse.dataspaceconnector.transfer.core.transfer.TransferProcessManagerImpl;
 
 import java.time.Clock;
+import java.util.Locale;
 
 /**
  * Provides core data transfer services to the system.
@@ -77,6 +79,20 @@ public class CoreTransferExtension implements ServiceExtension {
     @EdcSetting
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
     @EdcSetting
+    private static final String TRANSFER_STATE_MACHINE_LANES = "edc.transfer.state-machine.lanes";
+    @EdcSetting
+    private static final String TRANSFER_STATE_MACHINE_CONCURRENCY = "edc.transfer.state-machine.concurrency";
+    /**
+     * Per-state overrides, e.g. {@code edc.transfer.state-machine.requesting.batch-size}.
+     */
+    @EdcSetting
+    private static final String TRANSFER_STATE_MACHINE_STATE_BATCH_SIZE = "edc.transfer.state-machine.<state>.batch-size";
+    /**
+     * Per-state iteration wait in lanes mode, e.g. {@code edc.transfer.state-machine.requesting.iteration-wait}.
+     */
+    @EdcSetting
+    private static final String TRANSFER_STATE_MACHINE_STATE_ITERATION_WAIT = "edc.transfer.state-machine.<state>.iteration-wait";
+    @EdcSetting
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
     @EdcSetting
     private static final String TRANSFER_SEND_RETRY_BASE_DELAY_MS = "edc.transfer.send.retry.base-delay.ms";
@@ -156,7 +172,18 @@ public class CoreTransferExtension implements ServiceExtension {
         Clock clock = context.getClock();
         var sendRetryManager = new EntitySendRetryManager(monitor, () -> new ExponentialWaitStrategy(retryBaseDelay), clock, retryLimit);
 
-        processManager = TransferProcessManagerImpl.Builder.newInstance()
+        var builder = TransferProcessManagerImpl.Builder.newInstance();
+        for (var state : TransferProcessStates.values()) {
+            var size = context.getSetting(stateSetting(TRANSFER_STATE_MACHINE_STATE_BATCH_SIZE, state), -1);
+            if (size > 0) {
+                builder.batchSize(state, size);
+            }
+        }
+        if (context.getSetting(TRANSFER_STATE_MACHINE_LANES, false)) {
+            builder.processingLanes(state -> new ExponentialWaitStrategy(context.getSetting(stateSetting(TRANSFER_STATE_MACHINE_STATE_ITERATION_WAIT, state), DEFAULT_ITERATION_WAIT)));
+        }
+
+        processManager = builder
                 .waitStrategy(waitStrategy)
                 .manifestGenerator(manifestGenerator)
                 .dataFlowManager(dataFlowManager)
@@ -175,6 +202,7 @@ public class CoreTransferExtension implements ServiceExtension {
                 .transferProcessStore(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, 5))
+                .entityConcurrency(context.getSetting(TRANSFER_STATE_MACHINE_CONCURRENCY, 1))
                 .sendRetryManager(sendRetryManager)
                 .addressResolver(addressResolver)
                 .build();
@@ -197,6 +225,10 @@ public class CoreTransferExtension implements ServiceExtension {
         }
     }
 
+    private String stateSetting(String template, TransferProcessStates state) {
+        return template.replace("<state>", state.name().toLowerCase(Locale.ROOT));
+    }
+
     private void registerTypes(TypeManager typeManager) {
         typeManager.registerTypes(DataRequest.class);
         typeManager.registerTypes(ProvisionedContentResource.class);
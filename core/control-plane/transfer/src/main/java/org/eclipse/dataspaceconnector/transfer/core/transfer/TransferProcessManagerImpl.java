@@ -17,6 +17,7 @@ package org.eclipse.dataspaceconnector.transfer.core.transfer;
 
 import io.opentelemetry.extension.annotations.WithSpan;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachineManager;
+import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorExecutors;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
 import org.eclipse.dataspaceconnector.common.statemachine.retry.SendRetryManager;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
@@ -57,8 +58,12 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.command.Transfer
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -100,9 +105,17 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferP
  * <p>
  * If no processes need to be transitioned, the transfer manager will wait according to the defined {@link WaitStrategy}
  * before conducting the next iteration. A wait strategy may implement a backoff scheme.
+ * <p>
+ * Optionally every state can be processed on its own lane, with its own batch size and wait strategy, so that slow
+ * transitions (e.g. remote requests) do not hold back the other states. The processes of a batch can also be processed
+ * concurrently on a bounded pool, the lease acquired by the store for each of them is kept until it gets updated.
  */
 public class TransferProcessManagerImpl implements TransferProcessManager, ProvisionCallbackDelegate {
+    private final Map<TransferProcessStates, Integer> stateBatchSizes = new EnumMap<>(TransferProcessStates.class);
     private int batchSize = 5;
+    private Function<TransferProcessStates, WaitStrategy> laneWaitStrategies;
+    private int entityConcurrency = 1;
+    private ExecutorService entityExecutor;
     private WaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
     private ResourceManifestGenerator manifestGenerator;
     private ProvisionManager provisionManager;
@@ -138,15 +151,19 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     }
 
     public void start() {
-        stateMachineManager = StateMachineManager.Builder.newInstance("transfer-process", monitor, executorInstrumentation, waitStrategy)
-                .processor(processTransfersInState(INITIAL, this::processInitial))
-                .processor(processTransfersInState(PROVISIONING, this::processProvisioning))
-                .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
-                .processor(processTransfersInState(REQUESTING, this::processRequesting))
-                .processor(processTransfersInState(REQUESTED, this::processRequested))
-                .processor(processTransfersInState(IN_PROGRESS, this::processInProgress))
-                .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning))
-                .processor(processTransfersInState(DEPROVISIONED, this::processDeprovisioned))
+        if (entityConcurrency > 1) {
+            entityExecutor = executorInstrumentation.instrument(StateProcessorExecutors.newEntityExecutor("transfer-process-worker", entityConcurrency), "transfer-process-worker");
+        }
+        var builder = StateMachineManager.Builder.newInstance("transfer-process", monitor, executorInstrumentation, waitStrategy);
+        addStateProcessor(builder, INITIAL, this::processInitial);
+        addStateProcessor(builder, PROVISIONING, this::processProvisioning);
+        addStateProcessor(builder, PROVISIONED, this::processProvisioned);
+        addStateProcessor(builder, REQUESTING, this::processRequesting);
+        addStateProcessor(builder, REQUESTED, this::processRequested);
+        addStateProcessor(builder, IN_PROGRESS, this::processInProgress);
+        addStateProcessor(builder, DEPROVISIONING, this::processDeprovisioning);
+        addStateProcessor(builder, DEPROVISIONED, this::processDeprovisioned);
+        stateMachineManager = builder
                 .processor(onCommands(this::processCommand))
                 .build();
         stateMachineManager.start();
@@ -156,6 +173,9 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
         if (stateMachineManager != null) {
             stateMachineManager.stop();
         }
+        if (entityExecutor != null) {
+            entityExecutor.shutdown();
+        }
     }
 
     /**
@@ -180,6 +200,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     @Override
     public void enqueueCommand(TransferProcessCommand command) {
         commandQueue.enqueue(command);
+        wakeUp();
     }
 
     @Override
@@ -272,6 +293,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
         observable.invokeForEach(l -> l.preCreated(process));
         transferProcessStore.create(process);
         observable.invokeForEach(l -> l.initiated(process));
+        wakeUp();
         return StatusResult.success(process.getId());
     }
 
@@ -587,9 +609,19 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
         return commandProcessor.processCommandQueue(command);
     }
 
+    private void addStateProcessor(StateMachineManager.Builder builder, TransferProcessStates state, Function<TransferProcess, Boolean> function) {
+        var processor = processTransfersInState(state, function);
+        if (laneWaitStrategies == null) {
+            builder.processor(processor);
+        } else {
+            builder.lane(state.name().toLowerCase(Locale.ROOT), processor, laneWaitStrategies.apply(state));
+        }
+    }
+
     private StateProcessorImpl<TransferProcess> processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var functionWithTraceContext = telemetry.contextPropagationMiddleware(function);
-        return new StateProcessorImpl<>(() -> transferProcessStore.nextForState(state.code(), batchSize), functionWithTraceContext);
+        var size = stateBatchSizes.getOrDefault(state, batchSize);
+        return new StateProcessorImpl<>(() -> transferProcessStore.nextForState(state.code(), size), functionWithTraceContext, entityExecutor);
     }
 
     private StateProcessorImpl<TransferProcessCommand> onCommands(Function<TransferProcessCommand, Boolean> process) {
@@ -716,6 +748,17 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     private void updateTransferProcess(TransferProcess transferProcess, Consumer<TransferProcessListener> observe) {
         observable.invokeForEach(observe);
         transferProcessStore.update(transferProcess);
+        wakeUp();
+    }
+
+    /**
+     * Signals the state machine that a process has transitioned, so that the next state is processed without waiting
+     * for the next iteration. This matters for transitions happening outside of the loop, e.g. on remote responses.
+     */
+    private void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
+        }
     }
 
     private void breakLease(TransferProcess process) {
@@ -740,6 +783,32 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             return this;
         }
 
+        /**
+         * Overrides the batch size for the processes in the given state.
+         */
+        public Builder batchSize(TransferProcessStates state, int size) {
+            manager.stateBatchSizes.put(state, size);
+            return this;
+        }
+
+        /**
+         * Processes every state on its own lane, applying the wait strategy returned by the function for the state.
+         * The function must return a distinct instance for every state, as wait strategies keep track of the lane iterations.
+         * The commands keep being processed with the wait strategy of the manager.
+         */
+        public Builder processingLanes(Function<TransferProcessStates, WaitStrategy> waitStrategies) {
+            manager.laneWaitStrategies = waitStrategies;
+            return this;
+        }
+
+        /**
+         * Maximum number of processes of a batch that are processed concurrently. 1, the default, processes them sequentially.
+         */
+        public Builder entityConcurrency(int concurrency) {
+            manager.entityConcurrency = concurrency;
+            return this;
+        }
+
         public Builder sendRetryManager(SendRetryManager sendRetryManager) {
             manager.sendRetryManager = sendRetryManager;
             return this;
@@ -14,6 +14,7 @@
 
 val openTelemetryVersion: String by project
 val awaitility: String by project
+val micrometerVersion: String by project
 
 
 plugins {
@@ -25,6 +26,7 @@ dependencies {
     api(project(":spi:data-plane:data-plane-spi"))
     implementation(project(":core:common:util"))
     implementation("io.opentelemetry:opentelemetry-extension-annotations:${openTelemetryVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
     testImplementation(project(":extensions:common:junit"))
     testImplementation("org.awaitility:awaitility:${awaitility}")
 }
@@ -14,6 +14,8 @@
 
 package org.eclipse.dataspaceconnector.dataplane.framework;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.dataspaceconnector.dataplane.framework.manager.AdmissionPolicy;
 import org.eclipse.dataspaceconnector.dataplane.framework.manager.DataPlaneManagerImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.pipeline.PipelineServiceImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.pipeline.PipelineServiceTransferServiceImpl;
@@ -57,6 +59,18 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     private static final String WAIT_TIMEOUT = "edc.dataplane.wait";
     private static final long DEFAULT_WAIT_TIMEOUT = 1000;
     @EdcSetting
+    private static final String BATCH_SIZE = "edc.dataplane.batch.size";
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    @EdcSetting
+    private static final String ADMISSION_POLICY = "edc.dataplane.queue.admission";
+    private static final String DEFAULT_ADMISSION_POLICY = AdmissionPolicy.BLOCK.name();
+    @EdcSetting
+    private static final String ADMISSION_TIMEOUT = "edc.dataplane.queue.admission.timeout";
+    private static final long DEFAULT_ADMISSION_TIMEOUT = 1000;
+    @EdcSetting
+    private static final String LEASE_RENEWAL_INTERVAL = "edc.dataplane.lease.renewal.interval";
+    private static final long DEFAULT_LEASE_RENEWAL_INTERVAL = 60_000;
+    @EdcSetting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
     private DataPlaneManagerImpl dataPlaneManager;
@@ -70,6 +84,9 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -99,18 +116,30 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         var queueCapacity = context.getSetting(QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
         var workers = context.getSetting(WORKERS, DEFAULT_WORKERS);
         var waitTimeout = context.getSetting(WAIT_TIMEOUT, DEFAULT_WAIT_TIMEOUT);
+        var batchSize = context.getSetting(BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        var admissionPolicy = AdmissionPolicy.valueOf(context.getSetting(ADMISSION_POLICY, DEFAULT_ADMISSION_POLICY).toUpperCase());
+        var admissionTimeout = context.getSetting(ADMISSION_TIMEOUT, DEFAULT_ADMISSION_TIMEOUT);
+        var leaseRenewalInterval = context.getSetting(LEASE_RENEWAL_INTERVAL, DEFAULT_LEASE_RENEWAL_INTERVAL);
 
-        dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+        var builder = DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(queueCapacity)
                 .executorInstrumentation(executorInstrumentation)
                 .workers(workers)
                 .waitTimeout(waitTimeout)
+                .batchSize(batchSize)
+                .admissionPolicy(admissionPolicy)
+                .admissionTimeout(admissionTimeout)
+                .leaseRenewalInterval(leaseRenewalInterval)
+                .maxTransfersInFlight(numThreads)
                 .pipelineService(pipelineService)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(registerStore(context))
                 .monitor(monitor)
-                .telemetry(telemetry)
-                .build();
+                .telemetry(telemetry);
+        if (meterRegistry != null) {
+            builder.meterRegistry(meterRegistry);
+        }
+        dataPlaneManager = builder.build();
 
         context.registerService(DataPlaneManager.class, dataPlaneManager);
     }
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.manager;
+
+/**
+ * Defines how the {@link DataPlaneManagerImpl} behaves when a request is initiated while the queue is full.
+ */
+public enum AdmissionPolicy {
+
+    /**
+     * Wait until the queue has capacity, up to the admission timeout, and reject the request if it has not been accepted by then.
+     */
+    BLOCK,
+
+    /**
+     * Reject the request immediately.
+     */
+    REJECT
+}
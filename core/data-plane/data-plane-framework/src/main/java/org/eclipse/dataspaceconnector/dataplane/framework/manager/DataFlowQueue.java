@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.manager;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.ReceivedRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+
+import java.util.List;
+
+/**
+ * Queue of the requests waiting to be processed by the {@link DataPlaneManagerImpl} workers.
+ */
+interface DataFlowQueue {
+
+    /**
+     * Enqueues the request, waiting up to {@code timeout} milliseconds for capacity. Returns false if the request was not accepted.
+     */
+    boolean offer(DataFlowRequest request, long timeout) throws InterruptedException;
+
+    /**
+     * Returns at most {@code max} requests, waiting up to {@code timeout} milliseconds if none is available.
+     */
+    List<ReceivedRequest> poll(int max, long timeout) throws InterruptedException;
+
+    /**
+     * Number of requests waiting to be processed.
+     */
+    long size();
+}
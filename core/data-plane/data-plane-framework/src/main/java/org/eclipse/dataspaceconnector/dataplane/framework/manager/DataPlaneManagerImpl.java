@@ -14,25 +14,38 @@
 
 package org.eclipse.dataspaceconnector.dataplane.framework.manager;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.dataspaceconnector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.ReceivedRequest;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PersistentDataPlaneStore;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -41,29 +54,67 @@ import static java.lang.String.format;
 /**
  * Default data manager implementation.
  * <p>
- * This implementation uses a simple bounded queue to support backpressure when the system is overloaded. This should support sufficient performance since data transfers
- * generally do not require low-latency. If low-latency operation becomes a requirement, a concurrent queuing mechanism can be used.
+ * This implementation uses a bounded queue to support backpressure when the system is overloaded: depending on the {@link AdmissionPolicy}, initiating a
+ * transfer while the queue is full waits for capacity or is rejected right away. The queue is kept in memory, unless the store is a
+ * {@link PersistentDataPlaneStore}, in which case pending requests survive restarts and are leased by the workers of all the runtimes sharing the
+ * store. The leases of the requests in flight are renewed periodically, so that long transfers are not picked up again by another runtime.
+ * <p>
+ * Transfers run asynchronously, hence the workers only take as many requests from the queue as there are transfers left to run, up to
+ * {@code maxTransfersInFlight}. Requests thus wait in the queue rather than in the backlog of the transfer executor, where they would be held by
+ * this runtime while other runtimes sharing the store are idle.
+ * <p>
+ * The queue depth, the time requests spend in the queue and the number of rejected requests are reported as metrics.
  */
 public class DataPlaneManagerImpl implements DataPlaneManager {
     private int queueCapacity = 10000;
     private int workers = 1;
     private long waitTimeout = 100;
+    private int batchSize = 1;
+    private AdmissionPolicy admissionPolicy = AdmissionPolicy.BLOCK;
+    private long admissionTimeout = 1000;
+    private long leaseRenewalInterval = 60_000;
+    private int maxTransfersInFlight = 10;
 
     private PipelineService pipelineService;
     private ExecutorInstrumentation executorInstrumentation;
     private Monitor monitor;
     private Telemetry telemetry;
+    private MeterRegistry meterRegistry;
+    private Clock clock;
 
-    private BlockingQueue<DataFlowRequest> queue;
+    private DataFlowQueue queue;
     private ExecutorService executorService;
+    private ScheduledExecutorService leaseRenewalExecutor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private Semaphore transferPermits;
+    private Timer queueLatency;
+    private Counter rejected;
 
     private AtomicBoolean active = new AtomicBoolean();
     private DataPlaneStore store;
+    private PersistentDataPlaneStore persistentStore;
     private TransferServiceRegistry transferServiceRegistry;
 
     public void start() {
-        queue = new ArrayBlockingQueue<>(queueCapacity);
+        persistentStore = store instanceof PersistentDataPlaneStore ? (PersistentDataPlaneStore) store : null;
+        queue = persistentStore != null ?
+                new PersistentDataFlowQueue(persistentStore, queueCapacity, waitTimeout, clock) :
+                new InMemoryDataFlowQueue(queueCapacity, store, clock);
+        transferPermits = new Semaphore(maxTransfersInFlight);
+        Gauge.builder("edc.dataplane.queue.depth", queue, DataFlowQueue::size)
+                .description("Number of data flow requests waiting to be processed")
+                .register(meterRegistry);
+        queueLatency = Timer.builder("edc.dataplane.queue.latency")
+                .description("Time spent by data flow requests in the queue")
+                .register(meterRegistry);
+        rejected = Counter.builder("edc.dataplane.queue.rejected")
+                .description("Number of data flow requests rejected because the queue was full")
+                .register(meterRegistry);
         active.set(true);
+        if (persistentStore != null) {
+            leaseRenewalExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Data plane lease renewal");
+            leaseRenewalExecutor.scheduleAtFixedRate(this::renewLeases, leaseRenewalInterval, leaseRenewalInterval, TimeUnit.MILLISECONDS);
+        }
         executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(workers), getClass().getSimpleName());
         for (var i = 0; i < workers; i++) {
             executorService.submit(this::run);
@@ -75,6 +126,9 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         if (executorService != null) {
             executorService.shutdown();
         }
+        if (leaseRenewalExecutor != null) {
+            leaseRenewalExecutor.shutdown();
+        }
     }
 
     public void forceStop() {
@@ -82,6 +136,9 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         if (executorService != null) {
             executorService.shutdownNow();
         }
+        if (leaseRenewalExecutor != null) {
+            leaseRenewalExecutor.shutdownNow();
+        }
     }
 
     @Override
@@ -93,13 +150,22 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
     }
 
     @Override
-    public void initiateTransfer(DataFlowRequest dataRequest) {
+    public StatusResult<Void> initiateTransfer(DataFlowRequest dataRequest) {
         // store current trace context in entity for request traceability
         DataFlowRequest dataRequestWithTraceContext = dataRequest.toBuilder()
                 .traceContext(telemetry.getCurrentTraceContext())
                 .build();
-        queue.add(dataRequestWithTraceContext);
-        store.received(dataRequestWithTraceContext.getProcessId());
+        try {
+            var timeout = admissionPolicy == AdmissionPolicy.BLOCK ? admissionTimeout : 0;
+            if (queue.offer(dataRequestWithTraceContext, timeout)) {
+                return StatusResult.success();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        monitor.warning("Data plane queue is full, rejected data request: " + dataRequest.getProcessId());
+        return StatusResult.failure(ResponseStatus.ERROR_RETRY, "Data plane queue is full, retry later");
     }
 
     @Override
@@ -119,47 +185,106 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
 
     private void run() {
         while (active.get()) {
-            DataFlowRequest request = null;
+            var permits = 0;
             try {
-                request = queue.poll(waitTimeout, TimeUnit.MILLISECONDS);
-                if (request == null) {
+                permits = acquireTransferPermits();
+                if (permits == 0) {
                     continue;
                 }
-                // propagate trace context for request into the current thread
-                telemetry.contextPropagationMiddleware(this::processDataFlowRequest).accept(request);
-
+                var requests = queue.poll(permits, waitTimeout);
+                // each dispatched request holds its permit until it is completed
+                permits -= requests.size();
+                for (var received : requests) {
+                    queueLatency.record(Duration.ofMillis(Math.max(0, clock.millis() - received.getReceivedAt())));
+                    dispatch(received);
+                }
             } catch (InterruptedException e) {
                 Thread.interrupted();
                 active.set(false);
                 break;
             } catch (Exception e) {
-                if (request == null) {
-                    monitor.severe("Unable to dequeue data request", e);
-                } else {
-                    monitor.severe("Error processing data request: " + request.getProcessId(), e);
-                    // TODO persist error details
-                    store.completed(request.getProcessId());
-                }
+                monitor.severe("Unable to dequeue data request", e);
+            } finally {
+                transferPermits.release(permits);
             }
         }
     }
 
+    /**
+     * Waits up to the wait timeout for a transfer to be allowed, then takes the permits of as many further transfers as available, up to the batch
+     * size. Returns the number of permits taken, zero if no transfer is allowed.
+     */
+    private int acquireTransferPermits() throws InterruptedException {
+        if (!transferPermits.tryAcquire(waitTimeout, TimeUnit.MILLISECONDS)) {
+            return 0;
+        }
+        var permits = 1;
+        while (permits < batchSize && transferPermits.tryAcquire()) {
+            permits++;
+        }
+        return permits;
+    }
+
+    private void dispatch(ReceivedRequest received) {
+        var request = received.getRequest();
+        if (persistentStore != null) {
+            inFlight.add(request.getProcessId());
+        }
+        try {
+            // propagate trace context for request into the current thread
+            telemetry.contextPropagationMiddleware(this::processDataFlowRequest).accept(request);
+        } catch (Exception e) {
+            monitor.severe("Error processing data request: " + request.getProcessId(), e);
+            complete(request, "Error processing data request: " + e.getMessage());
+        }
+    }
+
     private void processDataFlowRequest(DataFlowRequest request) {
         var transferService = transferServiceRegistry.resolveTransferService(request);
         if (transferService == null) {
             // Should not happen since resolving a transferService is part of payload validation
-            // TODO persist error details
-            store.completed(request.getProcessId());
+            complete(request, "Cannot find a transfer service that can handle the request");
         } else {
             transferService.transfer(request).whenComplete((result, exception) -> {
-                if (request.isTrackable()) {
-                    // TODO persist TransferResult or error details
-                    store.completed(request.getProcessId());
+                // persisted requests are always completed, otherwise they would be leased again once their lease expires
+                if (request.isTrackable() || persistentStore != null) {
+                    complete(request, errorDetail(result, exception));
+                } else {
+                    transferPermits.release();
                 }
             });
         }
     }
 
+    private void complete(DataFlowRequest request, String errorDetail) {
+        try {
+            store.completed(request.getProcessId(), errorDetail);
+        } catch (Exception e) {
+            monitor.severe("Unable to complete data request: " + request.getProcessId(), e);
+        } finally {
+            inFlight.remove(request.getProcessId());
+            transferPermits.release();
+        }
+    }
+
+    private void renewLeases() {
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        try {
+            persistentStore.renewLeases(new ArrayList<>(inFlight));
+        } catch (Exception e) {
+            monitor.severe("Unable to renew the leases of the data requests in flight", e);
+        }
+    }
+
+    private String errorDetail(StatusResult<Void> result, Throwable exception) {
+        if (exception != null) {
+            return exception.getMessage();
+        }
+        return result.failed() ? String.join(", ", result.getFailureMessages()) : null;
+    }
+
     public static class Builder {
         private DataPlaneManagerImpl manager;
 
@@ -207,6 +332,55 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        /**
+         * Maximum number of requests that a worker takes from the queue at once.
+         */
+        public Builder batchSize(int batchSize) {
+            manager.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder admissionPolicy(AdmissionPolicy admissionPolicy) {
+            manager.admissionPolicy = admissionPolicy;
+            return this;
+        }
+
+        /**
+         * Maximum time in milliseconds to wait for capacity when the {@link AdmissionPolicy#BLOCK} policy is used.
+         */
+        public Builder admissionTimeout(long admissionTimeout) {
+            manager.admissionTimeout = admissionTimeout;
+            return this;
+        }
+
+        /**
+         * Interval in milliseconds at which the leases of the requests in flight are renewed, when the store is a {@link PersistentDataPlaneStore}.
+         * Must be well below the lease duration of the store.
+         */
+        public Builder leaseRenewalInterval(long leaseRenewalInterval) {
+            manager.leaseRenewalInterval = leaseRenewalInterval;
+            return this;
+        }
+
+        /**
+         * Maximum number of transfers running at once, no further requests are taken from the queue until one of them is completed. Should match
+         * the number of transfer threads.
+         */
+        public Builder maxTransfersInFlight(int maxTransfersInFlight) {
+            manager.maxTransfersInFlight = maxTransfersInFlight;
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            manager.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            manager.clock = clock;
+            return this;
+        }
+
         public Builder store(DataPlaneStore store) {
             manager.store = store;
             return this;
@@ -219,6 +393,8 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         private Builder() {
             manager = new DataPlaneManagerImpl();
             this.manager.telemetry = new Telemetry(); // default noop implementation
+            this.manager.meterRegistry = Metrics.globalRegistry; // reports nothing unless a registry has been added to it
+            this.manager.clock = Clock.systemUTC();
         }
     }
 
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.manager;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.ReceivedRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-memory queue, requests are lost when the runtime stops.
+ */
+class InMemoryDataFlowQueue implements DataFlowQueue {
+    private final BlockingQueue<ReceivedRequest> queue;
+    private final DataPlaneStore store;
+    private final Clock clock;
+
+    InMemoryDataFlowQueue(int capacity, DataPlaneStore store, Clock clock) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.store = store;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean offer(DataFlowRequest request, long timeout) throws InterruptedException {
+        var entry = new ReceivedRequest(request, clock.millis());
+        var accepted = timeout > 0 ? queue.offer(entry, timeout, TimeUnit.MILLISECONDS) : queue.offer(entry);
+        if (accepted) {
+            store.received(request);
+        }
+        return accepted;
+    }
+
+    @Override
+    public List<ReceivedRequest> poll(int max, long timeout) throws InterruptedException {
+        var first = queue.poll(timeout, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        var requests = new ArrayList<ReceivedRequest>(max);
+        requests.add(first);
+        queue.drainTo(requests, max - 1);
+        return requests;
+    }
+
+    @Override
+    public long size() {
+        return queue.size();
+    }
+}
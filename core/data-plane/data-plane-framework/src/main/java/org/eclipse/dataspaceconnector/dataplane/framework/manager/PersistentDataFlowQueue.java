@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.manager;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.ReceivedRequest;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PersistentDataPlaneStore;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue backed by a {@link PersistentDataPlaneStore}. Requests survive restarts and are shared by all the runtimes using the same store,
+ * each of them leasing the requests it processes.
+ * <p>
+ * The store is polled, so capacity checks and empty polls wait in steps of at most {@code pollInterval} milliseconds. The {@link #size() size} is
+ * not counted when read, e.g. on each metrics scrape, but by the polling workers at most once per {@code pollInterval}, and adjusted by the requests
+ * offered in between.
+ */
+class PersistentDataFlowQueue implements DataFlowQueue {
+    private final PersistentDataPlaneStore store;
+    private final int capacity;
+    private final long pollInterval;
+    private final Clock clock;
+    private final AtomicLong size = new AtomicLong();
+    private final AtomicLong sizeCountedAt;
+
+    PersistentDataFlowQueue(PersistentDataPlaneStore store, int capacity, long pollInterval, Clock clock) {
+        this.store = store;
+        this.capacity = capacity;
+        this.pollInterval = pollInterval;
+        this.clock = clock;
+        sizeCountedAt = new AtomicLong(clock.millis() - pollInterval);
+    }
+
+    @Override
+    public boolean offer(DataFlowRequest request, long timeout) throws InterruptedException {
+        var deadline = clock.millis() + timeout;
+        while (!store.received(request, capacity)) {
+            var remaining = deadline - clock.millis();
+            if (remaining <= 0) {
+                return false;
+            }
+            Thread.sleep(Math.min(pollInterval, remaining));
+        }
+        size.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public List<ReceivedRequest> poll(int max, long timeout) throws InterruptedException {
+        refreshSize();
+        var requests = store.nextReceived(max);
+        if (requests.isEmpty()) {
+            Thread.sleep(Math.min(pollInterval, timeout));
+        }
+        return requests;
+    }
+
+    @Override
+    public long size() {
+        return size.get();
+    }
+
+    private void refreshSize() {
+        var now = clock.millis();
+        var countedAt = sizeCountedAt.get();
+        if (now - countedAt >= pollInterval && sizeCountedAt.compareAndSet(countedAt, now)) {
+            size.set(store.countReceived());
+        }
+    }
+}
@@ -18,7 +18,11 @@ import org.eclipse.dataspaceconnector.dataplane.framework.store.InMemoryDataPlan
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.dataspaceconnector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.ReceivedRequest;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PersistentDataPlaneStore;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
+import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
@@ -26,12 +30,30 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,6 +62,7 @@ import static org.mockito.Mockito.when;
 class DataPlaneManagerImplTest {
     TransferService transferService = mock(TransferService.class);
     DataPlaneStore store = new InMemoryDataPlaneStore(10);
+    PersistentDataPlaneStore persistentStore = mock(PersistentDataPlaneStore.class);
     DataFlowRequest request = createRequest();
     TransferServiceRegistry registry = mock(TransferServiceRegistry.class);
 
@@ -111,17 +134,129 @@ class DataPlaneManagerImplTest {
         var dataPlaneManager = createDataPlaneManager();
 
         doAnswer(i -> null).when(registry).resolveTransferService(request);
-        doAnswer(i -> null).when(store).completed(request.getProcessId());
 
         dataPlaneManager.start();
         dataPlaneManager.initiateTransfer(request);
 
         await().untilAsserted(() -> {
-            verify(store, times(1)).completed(request.getProcessId());
+            verify(store, times(1)).completed(eq(request.getProcessId()), notNull());
+        });
+    }
+
+    @Test
+    void verifyWorkDispatch_fromPersistentStore() {
+        when(persistentStore.nextReceived(anyInt())).thenReturn(List.of(new ReceivedRequest(request, 0))).thenReturn(List.of());
+        when(transferService.transfer(request)).thenReturn(completedFuture(StatusResult.success()));
+        var dataPlaneManager = createDataPlaneManager(persistentStore);
+
+        dataPlaneManager.start();
+
+        await().untilAsserted(() -> {
+            verify(transferService).transfer(request);
+            verify(persistentStore).completed(request.getProcessId(), null);
+        });
+    }
+
+    @Test
+    void initiateTransfer_shouldPersistRequest_whenStoreIsPersistent() {
+        when(persistentStore.nextReceived(anyInt())).thenReturn(List.of());
+        when(persistentStore.received(isA(DataFlowRequest.class), anyLong())).thenReturn(true);
+        var dataPlaneManager = createDataPlaneManager(persistentStore);
+        dataPlaneManager.start();
+
+        var result = dataPlaneManager.initiateTransfer(request);
+
+        assertThat(result.succeeded()).isTrue();
+        verify(persistentStore).received(isA(DataFlowRequest.class), eq(100L));
+    }
+
+    @Test
+    void initiateTransfer_shouldReject_whenQueueIsFull() {
+        when(persistentStore.received(isA(DataFlowRequest.class), anyLong())).thenReturn(false);
+        when(persistentStore.nextReceived(anyInt())).thenReturn(List.of());
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(100)
+                .admissionPolicy(AdmissionPolicy.REJECT)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .transferServiceRegistry(registry)
+                .persistentStore(persistentStore)
+                .monitor(mock(Monitor.class))
+                .build();
+        dataPlaneManager.start();
+
+        var result = dataPlaneManager.initiateTransfer(request);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+        verify(persistentStore, never()).received(isA(DataFlowRequest.class));
+    }
+
+    @Test
+    void transfer_shouldRenewLeaseWhileInFlight_andCompleteOnFailure() {
+        when(persistentStore.nextReceived(anyInt())).thenReturn(List.of(new ReceivedRequest(request, 0))).thenReturn(List.of());
+        var transfer = new CompletableFuture<StatusResult<Void>>();
+        when(transferService.transfer(request)).thenReturn(transfer);
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(100)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .leaseRenewalInterval(10)
+                .transferServiceRegistry(registry)
+                .persistentStore(persistentStore)
+                .monitor(mock(Monitor.class))
+                .build();
+        dataPlaneManager.start();
+
+        await().untilAsserted(() -> verify(persistentStore, atLeast(2)).renewLeases(List.of(request.getProcessId())));
+
+        transfer.complete(StatusResult.failure(ResponseStatus.FATAL_ERROR, "transfer failed"));
+
+        await().untilAsserted(() -> verify(persistentStore).completed(request.getProcessId(), "transfer failed"));
+        clearInvocations(persistentStore);
+        await().during(Duration.ofMillis(50)).untilAsserted(() -> verify(persistentStore, never()).renewLeases(anyCollection()));
+        dataPlaneManager.stop();
+    }
+
+    @Test
+    void transfer_shouldNotLeaseMoreRequestsThanTransfersAllowedInFlight() {
+        var transfers = new CopyOnWriteArrayList<CompletableFuture<StatusResult<Void>>>();
+        when(registry.resolveTransferService(any())).thenReturn(transferService);
+        when(transferService.transfer(any())).thenAnswer(i -> {
+            var transfer = new CompletableFuture<StatusResult<Void>>();
+            transfers.add(transfer);
+            return transfer;
         });
+        when(persistentStore.nextReceived(anyInt())).thenAnswer(i -> IntStream.range(0, i.<Integer>getArgument(0))
+                .mapToObj(n -> new ReceivedRequest(request.toBuilder().processId(UUID.randomUUID().toString()).build(), 0))
+                .collect(Collectors.toList()));
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(100)
+                .batchSize(5)
+                .maxTransfersInFlight(2)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .transferServiceRegistry(registry)
+                .store(persistentStore)
+                .monitor(mock(Monitor.class))
+                .build();
+        dataPlaneManager.start();
+
+        await().untilAsserted(() -> assertThat(transfers).hasSize(2));
+        await().during(Duration.ofMillis(50)).untilAsserted(() -> assertThat(transfers).hasSize(2));
+        verify(persistentStore, never()).nextReceived(intThat(max -> max > 2));
+
+        transfers.get(0).complete(StatusResult.success());
+
+        await().untilAsserted(() -> assertThat(transfers).hasSize(3));
+        dataPlaneManager.stop();
     }
 
     private DataPlaneManagerImpl createDataPlaneManager() {
+        return createDataPlaneManager(store);
+    }
+
+    private DataPlaneManagerImpl createDataPlaneManager(DataPlaneStore store) {
         return DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(100)
                 .workers(1)
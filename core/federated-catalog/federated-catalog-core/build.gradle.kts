@@ -21,6 +21,7 @@ val rsApi: String by project
 val failsafeVersion: String by project
 val okHttpVersion: String by project
 val awaitility: String by project
+val micrometerVersion: String by project
 
 
 dependencies {
@@ -35,6 +36,7 @@ dependencies {
 
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
     implementation("dev.failsafe:failsafe:${failsafeVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
 
     // required for integration test
     testImplementation(project(":extensions:common:junit"))
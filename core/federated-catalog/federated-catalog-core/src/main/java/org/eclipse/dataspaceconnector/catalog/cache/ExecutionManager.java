@@ -14,25 +14,41 @@
 
 package org.eclipse.dataspaceconnector.catalog.cache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.eclipse.dataspaceconnector.catalog.cache.crawler.CatalogCrawler;
 import org.eclipse.dataspaceconnector.catalog.spi.CrawlerErrorHandler;
 import org.eclipse.dataspaceconnector.catalog.spi.CrawlerSuccessHandler;
 import org.eclipse.dataspaceconnector.catalog.spi.FederatedCacheNodeDirectory;
 import org.eclipse.dataspaceconnector.catalog.spi.FederatedCacheNodeFilter;
+import org.eclipse.dataspaceconnector.catalog.spi.NodeQueryAdapter;
 import org.eclipse.dataspaceconnector.catalog.spi.NodeQueryAdapterRegistry;
 import org.eclipse.dataspaceconnector.catalog.spi.WorkItem;
 import org.eclipse.dataspaceconnector.catalog.spi.model.ExecutionPlan;
+import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -42,6 +58,12 @@ import static java.lang.String.format;
  * The execution manager is responsible for instantiating crawlers and delegating the incoming work items among them.
  * Work items are fetched directly from the {@link FederatedCacheNodeDirectory}, crawlers are instantiated before starting the run and will be reused.
  * For example, a list of 10 work items and 2 {@link CatalogCrawler} objects would mean that every crawler gets invoked 5 times.
+ * Crawlers run asynchronously, so the number of crawlers bounds how many nodes are crawled concurrently. A crawl that
+ * times out is cancelled, and a crawler is only reused once its crawl is done.
+ * <p>
+ * A failed crawl is retried after an exponential backoff with jitter. A node whose retries are exhausted is not crawled
+ * again until its backoff, which keeps growing while the node fails, has expired. A run completes once every work item
+ * has either succeeded or been given up, then the post-execution task is run.
  * <p>
  * Pre- and Post-Tasks can be registered to perform preparatory or cleanup operations.
  * <p>
@@ -49,6 +71,7 @@ import static java.lang.String.format;
  */
 public class ExecutionManager {
 
+    private final Map<String, NodeState> nodeStates = new ConcurrentHashMap<>();
     private Monitor monitor;
     private Runnable preExecutionTask;
     private Runnable postExecutionTask;
@@ -57,6 +80,17 @@ public class ExecutionManager {
     private int numCrawlers = 1;
     private NodeQueryAdapterRegistry nodeQueryAdapterRegistry;
     private CrawlerSuccessHandler successHandler;
+    private int maxRetries = 2;
+    private long backoffBaseMillis = Duration.ofSeconds(2).toMillis();
+    private long backoffMaxMillis = Duration.ofMinutes(10).toMillis();
+    private long crawlTimeoutMillis = Duration.ofMinutes(2).toMillis();
+    private Clock clock = Clock.systemUTC();
+    private ScheduledExecutorService retryScheduler;
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+    private Timer runDuration;
+    private Timer successLatency;
+    private Timer failureLatency;
+    private volatile CrawlRun currentRun;
 
     private ExecutionManager() {
         nodeFilter = n -> true;
@@ -77,6 +111,17 @@ public class ExecutionManager {
 
     }
 
+    /**
+     * Stops scheduling retries and aborts the current run, if any.
+     */
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        var run = currentRun;
+        if (run != null) {
+            run.abort();
+        }
+    }
+
     private void doWork() {
         // load work items from directory
         List<WorkItem> workItems = fetchWorkItems();
@@ -85,58 +130,50 @@ public class ExecutionManager {
             return;
         }
         monitor.debug(message("Loaded " + workItems.size() + " work items from storage"));
-        var allItems = new ArrayBlockingQueue<>(workItems.size(), true, workItems);
 
-        monitor.debug(message("Instantiate crawlers..."));
-        //instantiate fixed pool of crawlers
-        var errorHandler = createErrorHandlers(monitor, allItems);
+        // forget about the nodes that left the directory, skip the ones that are backing off
+        var urls = workItems.stream().map(WorkItem::getUrl).collect(Collectors.toSet());
+        nodeStates.keySet().retainAll(urls);
+        var now = clock.millis();
+        var dueItems = workItems.stream().filter(item -> isDue(item, now)).collect(Collectors.toList());
+        if (dueItems.size() < workItems.size()) {
+            monitor.debug(message(format("Skipping %d work items whose nodes are backing off", workItems.size() - dueItems.size())));
+        }
+        if (dueItems.isEmpty()) {
+            return;
+        }
 
-        var actualNumCrawlers = Math.min(allItems.size(), numCrawlers);
+        monitor.debug(message("Instantiate crawlers..."));
+        var actualNumCrawlers = Math.min(dueItems.size(), numCrawlers);
         monitor.debug(format(message("Crawler parallelism is %s, based on config and number of work items"), actualNumCrawlers));
-        var availableCrawlers = createCrawlers(errorHandler, actualNumCrawlers);
-
-        while (!allItems.isEmpty()) {
-            // try get next available crawler
-            var crawler = nextAvailableCrawler(availableCrawlers);
-            if (crawler == null) {
-                monitor.debug(message("No crawler available, will retry later"));
-                continue;
-            }
+        var run = new CrawlRun(dueItems, actualNumCrawlers);
 
-            var item = allItems.poll();
-            if (item == null) {
-                monitor.warning(message("WorkItem queue empty, abort execution"));
-                break;
-            }
-
-            // for now use the first adapter that can handle the protocol
-            var adapter = nodeQueryAdapterRegistry.findForProtocol(item.getProtocol()).stream().findFirst();
-            if (adapter.isEmpty()) {
-                monitor.warning(message(format("No protocol adapter found for protocol '%s'", item.getProtocol())));
-            } else {
-                crawler.run(item, adapter.get())
-                        .whenComplete((updateResponse, throwable) -> {
-                            if (throwable != null) {
-                                monitor.severe(message(format("Unexpected exception happened during in crawler %s", crawler.getId())), throwable);
-                            } else {
-                                monitor.info(message(format("Crawler [%s] is done", crawler.getId())));
-                            }
-                            availableCrawlers.add(crawler);
-                        });
-            }
-        }
-    }
-
-    @Nullable
-    private CatalogCrawler nextAvailableCrawler(ArrayBlockingQueue<CatalogCrawler> availableCrawlers) {
-        CatalogCrawler crawler = null;
+        currentRun = run;
+        var sample = Timer.start(meterRegistry);
         try {
-            monitor.debug(message("Getting next available crawler"));
-            crawler = availableCrawlers.poll(1, TimeUnit.SECONDS);
+            run.execute();
         } catch (InterruptedException e) {
-            monitor.debug("interrupted while waiting for crawler to become available");
+            Thread.currentThread().interrupt();
+            monitor.warning(message("Interrupted while crawling, aborting execution"));
+        } finally {
+            sample.stop(runDuration);
+            currentRun = null;
         }
-        return crawler;
+    }
+
+    private boolean isDue(WorkItem item, long now) {
+        var state = nodeStates.get(item.getUrl());
+        return state == null || state.isDue(now);
+    }
+
+    /**
+     * Returns the backoff after the given number of failures: the base backoff doubled with every failure but the first,
+     * capped to the maximum backoff, of which a random part of up to a half is removed to spread the retries.
+     */
+    private long backoff(int failures) {
+        var exponential = backoffBaseMillis << Math.min(Math.max(failures - 1, 0), 30);
+        var delay = exponential < 0 ? backoffMaxMillis : Math.min(exponential, backoffMaxMillis);
+        return delay - ThreadLocalRandom.current().nextLong(delay / 2 + 1);
     }
 
     private void runPostExecution() {
@@ -160,7 +197,7 @@ public class ExecutionManager {
     }
 
     @NotNull
-    private ArrayBlockingQueue<CatalogCrawler> createCrawlers(CrawlerErrorHandler errorHandler, int numCrawlers) {
+    private ArrayBlockingQueue<CatalogCrawler> createCrawlers(CrawlerErrorHandler errorHandler, CrawlerSuccessHandler successHandler, int numCrawlers) {
         return new ArrayBlockingQueue<>(numCrawlers, true, IntStream.range(0, numCrawlers).mapToObj(i -> new CatalogCrawler(monitor, errorHandler, successHandler)).collect(Collectors.toList()));
     }
 
@@ -174,24 +211,162 @@ public class ExecutionManager {
         return supportedProtocols.isEmpty() ? null : supportedProtocols.get(0);
     }
 
-    @NotNull
-    private CrawlerErrorHandler createErrorHandlers(Monitor monitor, Queue<WorkItem> workItems) {
-        return workItem -> {
-            if (workItem.getErrors().size() > 7) {
-                monitor.severe(message(format("The following workitem has errored out more than 5 times. We'll discard it now: [%s]", workItem)));
-            } else {
-                var random = new Random();
-                var to = 5 + random.nextInt(20);
-                monitor.debug(message(format("The following work item has errored out. Will re-queue after a small delay: [%s]", workItem)));
-                Executors.newSingleThreadScheduledExecutor().schedule(() -> workItems.offer(workItem), to, TimeUnit.SECONDS);
-            }
-        };
-    }
-
     private String message(String input) {
         return "ExecutionManager: " + input;
     }
 
+    /**
+     * A single run over the work items. Work items are taken from a queue, to which failed items are added back once their
+     * backoff has elapsed, and dispatched to the next available crawler. The run ends when the last outstanding work item
+     * is completed, which adds a marker to the queue. Once the run ended, the crawls still running are cancelled and their
+     * results are discarded.
+     */
+    private final class CrawlRun {
+        private final WorkItem endOfRun = new WorkItem(null, null);
+        private final BlockingQueue<WorkItem> workItems;
+        private final BlockingQueue<CatalogCrawler> availableCrawlers;
+        private final AtomicInteger outstanding;
+        private final Map<WorkItem, Integer> failures = new ConcurrentHashMap<>();
+        private final Set<CompletableFuture<UpdateResponse>> runningCrawls = ConcurrentHashMap.newKeySet();
+        private volatile boolean ended;
+
+        CrawlRun(List<WorkItem> items, int numCrawlers) {
+            workItems = new LinkedBlockingQueue<>(items);
+            outstanding = new AtomicInteger(items.size());
+            availableCrawlers = createCrawlers(this::onCrawlerError, this::onCrawlerSuccess, numCrawlers);
+        }
+
+        void execute() throws InterruptedException {
+            try {
+                WorkItem item;
+                while ((item = workItems.take()) != endOfRun) {
+                    // for now use the first adapter that can handle the protocol
+                    var adapter = nodeQueryAdapterRegistry.findForProtocol(item.getProtocol()).stream().findFirst();
+                    if (adapter.isEmpty()) {
+                        monitor.warning(message(format("No protocol adapter found for protocol '%s'", item.getProtocol())));
+                        complete();
+                        continue;
+                    }
+
+                    var crawler = availableCrawlers.poll();
+                    if (crawler == null) {
+                        monitor.debug(message("No crawler available, waiting for a running crawl to complete"));
+                        crawler = availableCrawlers.take();
+                    }
+                    crawl(crawler, item, adapter.get());
+                }
+            } finally {
+                ended = true;
+                runningCrawls.forEach(crawl -> crawl.cancel(true));
+            }
+        }
+
+        void abort() {
+            workItems.offer(endOfRun);
+        }
+
+        private void crawl(CatalogCrawler crawler, WorkItem item, NodeQueryAdapter adapter) {
+            var state = nodeStates.computeIfAbsent(item.getUrl(), url -> new NodeState());
+            var sample = Timer.start(meterRegistry);
+            var crawl = crawler.run(item, adapter, state.getLastSuccess());
+            runningCrawls.add(crawl);
+
+            var outcome = crawlTimeoutMillis > 0 ? crawl.copy().orTimeout(crawlTimeoutMillis, TimeUnit.MILLISECONDS) : crawl;
+            outcome.whenComplete((updateResponse, throwable) -> {
+                // a timed out query is cancelled before its crawler is reused, so that no more than numCrawlers queries are running
+                if (throwable != null) {
+                    crawl.cancel(true);
+                }
+                runningCrawls.remove(crawl);
+                availableCrawlers.add(crawler);
+                if (ended) {
+                    return;
+                }
+                if (throwable != null) {
+                    sample.stop(failureLatency);
+                    monitor.severe(message(format("Unexpected exception happened during in crawler %s", crawler.getId())), throwable);
+                    retryOrGiveUp(item, state);
+                } else {
+                    sample.stop(successLatency);
+                    monitor.info(message(format("Crawler [%s] is done", crawler.getId())));
+                    state.succeeded(clock.millis());
+                    complete();
+                }
+            });
+        }
+
+        private void onCrawlerSuccess(UpdateResponse updateResponse) {
+            if (ended) {
+                monitor.debug(message(format("Discarding the catalog of %s received after the end of the run", updateResponse.getSource())));
+                return;
+            }
+            successHandler.accept(updateResponse);
+        }
+
+        private void onCrawlerError(WorkItem item) {
+            monitor.debug(message(format("Crawling failed %d times within this run: [%s]", item.getErrors().size(), item)));
+        }
+
+        private void retryOrGiveUp(WorkItem item, NodeState state) {
+            var consecutiveFailures = state.failed();
+            var failuresInRun = failures.merge(item, 1, Integer::sum);
+            if (failuresInRun > maxRetries) {
+                var backoff = backoff(consecutiveFailures);
+                state.backOff(clock.millis() + backoff);
+                monitor.severe(message(format("The following work item has errored out %d times, its node will not be crawled for %d seconds: [%s]",
+                        failuresInRun, TimeUnit.MILLISECONDS.toSeconds(backoff), item)));
+                complete();
+                return;
+            }
+
+            var delay = backoff(failuresInRun);
+            monitor.debug(message(format("The following work item has errored out. Will re-queue after %d ms: [%s]", delay, item)));
+            try {
+                retryScheduler.schedule(() -> workItems.offer(item), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                monitor.warning(message(format("Cannot re-queue work item, giving it up: [%s]", item)));
+                complete();
+            }
+        }
+
+        private void complete() {
+            if (outstanding.decrementAndGet() == 0) {
+                workItems.offer(endOfRun);
+            }
+        }
+    }
+
+    /**
+     * What is known about a node across runs.
+     */
+    private static class NodeState {
+        private long lastSuccess;
+        private int consecutiveFailures;
+        private long notBefore;
+
+        synchronized boolean isDue(long now) {
+            return now >= notBefore;
+        }
+
+        @Nullable
+        synchronized Instant getLastSuccess() {
+            return lastSuccess > 0 ? Instant.ofEpochMilli(lastSuccess) : null;
+        }
+
+        synchronized void succeeded(long now) {
+            lastSuccess = now;
+            consecutiveFailures = 0;
+            notBefore = 0;
+        }
+
+        synchronized int failed() {
+            return ++consecutiveFailures;
+        }
+
+        synchronized void backOff(long until) {
+            notBefore = until;
+        }
+    }
 
     public static final class Builder {
 
@@ -245,10 +420,71 @@ public class ExecutionManager {
             return this;
         }
 
+        /**
+         * How many times the crawl of a node is retried within a run before the node is given up.
+         */
+        public Builder maxRetries(int maxRetries) {
+            instance.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * The delay before the first retry of a failed crawl, doubled with every further failure of the node.
+         */
+        public Builder backoffBase(Duration backoffBase) {
+            instance.backoffBaseMillis = backoffBase.toMillis();
+            return this;
+        }
+
+        /**
+         * The longest delay a node that keeps failing is not crawled for.
+         */
+        public Builder backoffMax(Duration backoffMax) {
+            instance.backoffMaxMillis = backoffMax.toMillis();
+            return this;
+        }
+
+        /**
+         * The time after which the crawl of a single node is considered failed, zero to wait indefinitely.
+         */
+        public Builder crawlTimeout(Duration crawlTimeout) {
+            instance.crawlTimeoutMillis = crawlTimeout.toMillis();
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            instance.clock = clock;
+            return this;
+        }
+
+        public Builder retryScheduler(ScheduledExecutorService retryScheduler) {
+            instance.retryScheduler = retryScheduler;
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            instance.meterRegistry = meterRegistry;
+            return this;
+        }
+
         public ExecutionManager build() {
             Objects.requireNonNull(instance.monitor, "ExecutionManager.Builder: Monitor cannot be null");
             Objects.requireNonNull(instance.nodeQueryAdapterRegistry, "ExecutionManager.Builder: nodeQueryAdapterRegistry cannot be null");
             Objects.requireNonNull(instance.directory, "ExecutionManager.Builder: nodeDirectory cannot be null");
+            if (instance.retryScheduler == null) {
+                instance.retryScheduler = Executors.newSingleThreadScheduledExecutor();
+            }
+            instance.runDuration = Timer.builder("edc.catalog.crawl.duration")
+                    .description("Time taken by a crawl run over all the nodes")
+                    .register(instance.meterRegistry);
+            instance.successLatency = Timer.builder("edc.catalog.crawl.item.latency")
+                    .description("Time taken to crawl a single node")
+                    .tag("outcome", "success")
+                    .register(instance.meterRegistry);
+            instance.failureLatency = Timer.builder("edc.catalog.crawl.item.latency")
+                    .description("Time taken to crawl a single node")
+                    .tag("outcome", "failure")
+                    .register(instance.meterRegistry);
             return instance;
         }
     }
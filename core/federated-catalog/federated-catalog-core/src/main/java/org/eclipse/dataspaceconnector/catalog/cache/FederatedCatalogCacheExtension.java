@@ -14,8 +14,11 @@
 
 package org.eclipse.dataspaceconnector.catalog.cache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.dataspaceconnector.catalog.cache.controller.FederatedCatalogApiController;
 import org.eclipse.dataspaceconnector.catalog.cache.crawler.NodeQueryAdapterRegistryImpl;
+import org.eclipse.dataspaceconnector.catalog.cache.query.BatchedRequestFetcher;
 import org.eclipse.dataspaceconnector.catalog.cache.query.CacheQueryAdapterImpl;
 import org.eclipse.dataspaceconnector.catalog.cache.query.CacheQueryAdapterRegistryImpl;
 import org.eclipse.dataspaceconnector.catalog.cache.query.IdsMultipartNodeQueryAdapter;
@@ -36,11 +39,14 @@ import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Provider;
 import org.eclipse.dataspaceconnector.spi.WebService;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.system.health.HealthCheckResult;
 import org.eclipse.dataspaceconnector.spi.system.health.HealthCheckService;
 
+import java.util.concurrent.Executors;
+
 import static java.util.Optional.ofNullable;
 
 @Extension(value = FederatedCatalogCacheExtension.NAME)
@@ -61,6 +67,10 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
     // optional filter function to select FC nodes eligible for crawling.
     @Inject(required = false)
     private FederatedCacheNodeFilter nodeFilter;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
 
     private ExecutionPlan executionPlan;
     private NodeQueryAdapterRegistryImpl nodeQueryAdapterRegistry;
@@ -120,6 +130,13 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
                     store.expireAll();
                 })
                 .numCrawlers(numCrawlers)
+                .maxRetries(cacheConfiguration.getCrawlerRetries())
+                .backoffBase(cacheConfiguration.getCrawlerBackoffBase())
+                .backoffMax(cacheConfiguration.getCrawlerBackoffMax())
+                .crawlTimeout(cacheConfiguration.getCrawlerTimeout())
+                .clock(context.getClock())
+                .retryScheduler(executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "catalog-crawler-retries"))
+                .meterRegistry(meterRegistry != null ? meterRegistry : Metrics.globalRegistry)
                 .nodeQueryAdapterRegistry(createNodeQueryAdapterRegistry(context))
                 .onSuccess(this::persist)
                 .nodeDirectory(directory)
@@ -132,13 +149,23 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
         executionManager.executePlan(executionPlan);
     }
 
+    @Override
+    public void shutdown() {
+        if (executionManager != null) {
+            executionManager.shutdown();
+        }
+    }
+
     @Provider
     public NodeQueryAdapterRegistry createNodeQueryAdapterRegistry(ServiceExtensionContext context) {
 
         if (nodeQueryAdapterRegistry == null) {
             nodeQueryAdapterRegistry = new NodeQueryAdapterRegistryImpl();
-            // catalog queries via IDS multipart are supported by default
-            nodeQueryAdapterRegistry.register("ids-multipart", new IdsMultipartNodeQueryAdapter(context.getConnectorId(), dispatcherRegistry, monitor));
+            // catalog queries via IDS multipart are supported by default, the pages being stored as they are fetched
+            var cacheConfiguration = new CacheConfiguration(context);
+            var requestFetcher = new BatchedRequestFetcher(dispatcherRegistry, monitor, context.getClock(), cacheConfiguration.getCrawlerPagesInFlight(),
+                    cacheConfiguration.getCrawlerBatchSizeMax(), cacheConfiguration.getCrawlerBatchLatencyTarget());
+            nodeQueryAdapterRegistry.register("ids-multipart", new IdsMultipartNodeQueryAdapter(context.getConnectorId(), requestFetcher, this::persist));
         }
         return nodeQueryAdapterRegistry;
     }
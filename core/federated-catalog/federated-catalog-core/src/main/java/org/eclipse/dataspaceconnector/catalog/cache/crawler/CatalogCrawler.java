@@ -25,11 +25,13 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.common.async.AsyncUtils.propagateCancellation;
 
 /**
  * Receives a target (i.e. a {@link WorkItem}) that it queries for its {@link org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog}.
@@ -63,16 +65,29 @@ public class CatalogCrawler {
      * @return A completable future containing the response, or an exception if an error occurred.
      */
     public CompletableFuture<UpdateResponse> run(WorkItem target, @NotNull NodeQueryAdapter adapter) {
+        return run(target, adapter, null);
+    }
+
+    /**
+     * Executes a query by sending a request to {@code target} asking for that target's catalog.
+     *
+     * @param target              The query target
+     * @param adapter             The protocol handler which is used to send the query
+     * @param lastSuccessfulCrawl When the catalog of the target was last obtained, null if it never was
+     * @return A completable future containing the response, or an exception if an error occurred. Cancelling it cancels the query.
+     */
+    public CompletableFuture<UpdateResponse> run(WorkItem target, @NotNull NodeQueryAdapter adapter, @Nullable Instant lastSuccessfulCrawl) {
         try {
             monitor.debug(format("%s: WorkItem acquired", crawlerId));
-            var updateFuture = adapter.sendRequest(new UpdateRequest(target.getUrl()));
-            return updateFuture.whenComplete((updateResponse, throwable) -> {
+            var updateFuture = adapter.sendRequest(new UpdateRequest(target.getUrl(), lastSuccessfulCrawl));
+            var crawl = updateFuture.whenComplete((updateResponse, throwable) -> {
                 if (throwable != null) {
                     handleError(target, throwable.getMessage());
                 } else {
                     successHandler.accept(updateResponse);
                 }
             });
+            return propagateCancellation(crawl, updateFuture);
         } catch (Throwable thr) {
             handleError(target, thr.getMessage());
             return CompletableFuture.failedFuture(new EdcException(thr));
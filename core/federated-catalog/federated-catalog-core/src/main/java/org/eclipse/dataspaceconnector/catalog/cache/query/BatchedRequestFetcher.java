@@ -23,54 +23,237 @@ import org.eclipse.dataspaceconnector.spi.types.domain.catalog.CatalogRequest;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 
 /**
- * Helper class that runs through a loop and sends {@link CatalogRequest}s until no more {@link ContractOffer}s are
+ * Helper class that sends {@link CatalogRequest}s for consecutive pages until no more {@link ContractOffer}s are
  * received. This is useful to avoid overloading the provider connector by chunking the resulting response payload
  * size.
+ * <p>
+ * The first page is requested alone. Once it comes back full, showing that the node has more offers, up to
+ * {@code pagesInFlight} pages are requested concurrently. The batch size is adapted to the latency of the pages: it is
+ * doubled, up to the maximum batch size, while full pages take less than half of the target latency, and halved, down
+ * to the initial batch size, while they take longer than the target. The maximum batch size bounds the payload of a
+ * page.
+ * <p>
+ * Only an empty page ends the catalog: nodes may return fewer offers than requested in the middle of their catalog,
+ * e.g. because they cap the page size. The rest of the range of such a short page is requested again, and the batch size
+ * is never raised above the size of the short pages again, so that no offer is skipped whatever the cap of the node.
+ * <p>
+ * Cancelling the returned future cancels the pages in flight, and the pages received afterwards are discarded.
  */
 public class BatchedRequestFetcher {
+    private static final int DEFAULT_PAGES_IN_FLIGHT = 4;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+    private static final Duration DEFAULT_TARGET_LATENCY = Duration.ofSeconds(1);
+
     private final RemoteMessageDispatcherRegistry dispatcherRegistry;
     private final Monitor monitor;
+    private final Clock clock;
+    private final int pagesInFlight;
+    private final int maxBatchSize;
+    private final long targetLatencyMillis;
 
     public BatchedRequestFetcher(RemoteMessageDispatcherRegistry dispatcherRegistry, Monitor monitor) {
+        this(dispatcherRegistry, monitor, Clock.systemUTC(), DEFAULT_PAGES_IN_FLIGHT, DEFAULT_MAX_BATCH_SIZE, DEFAULT_TARGET_LATENCY);
+    }
+
+    public BatchedRequestFetcher(RemoteMessageDispatcherRegistry dispatcherRegistry, Monitor monitor, Clock clock, int pagesInFlight,
+                                 int maxBatchSize, Duration targetLatency) {
         this.dispatcherRegistry = dispatcherRegistry;
         this.monitor = monitor;
+        this.clock = clock;
+        this.pagesInFlight = Math.max(pagesInFlight, 1);
+        this.maxBatchSize = maxBatchSize;
+        targetLatencyMillis = targetLatency.toMillis();
     }
 
     /**
-     * Gets all contract offers. Requests are split in digestible chunks to match {@code batchSize} until no more offers
-     * can be obtained.
+     * Gets all contract offers. Requests are split in digestible chunks, starting with {@code batchSize}, until no more
+     * offers can be obtained.
      *
      * @param catalogRequest The catalog request. This will be copied for every request.
      * @param from           The (zero-based) index of the first item
-     * @param batchSize      The size of one batch
+     * @param batchSize      The size of the first batch
      * @return A list of {@link ContractOffer} objects
      */
     @NotNull
     public CompletableFuture<List<ContractOffer>> fetch(CatalogRequest catalogRequest, int from, int batchSize) {
-        var range = new Range(from, from + batchSize);
-        var rq = catalogRequest.toBuilder().querySpec(QuerySpec.Builder.newInstance().range(range).build()).build();
-
-        return dispatcherRegistry.send(Catalog.class, rq, () -> null)
-                .thenApply(Catalog::getContractOffers)
-                .thenCompose(offers -> {
-                    if (offers.size() > 0) {
-                        monitor.debug(format("Fetching next batch from %s to %s", from, from + batchSize));
-                        return fetch(rq, range.getFrom() + batchSize, batchSize)
-                                .thenApply(o -> concat(offers, o));
-                    } else {
-                        return CompletableFuture.completedFuture(offers);
-                    }
-                });
+        var offers = new ArrayList<ContractOffer>();
+        return fetch(catalogRequest, from, batchSize, offers::addAll).thenApply(count -> offers);
     }
 
-    private List<ContractOffer> concat(List<ContractOffer> list1, List<ContractOffer> list2) {
-        list1.addAll(list2);
-        return list1;
+    /**
+     * Gets all contract offers, handing every page to the consumer as soon as it is received instead of collecting them.
+     * Pages may be received out of order, but the consumer is never invoked concurrently.
+     *
+     * @param catalogRequest The catalog request. This will be copied for every request.
+     * @param from           The (zero-based) index of the first item
+     * @param batchSize      The size of the first batch
+     * @param pageConsumer   Receives the offers of every page
+     * @return The number of offers received, or an exception if a page could not be obtained
+     */
+    @NotNull
+    public CompletableFuture<Integer> fetch(CatalogRequest catalogRequest, int from, int batchSize, Consumer<List<ContractOffer>> pageConsumer) {
+        var fetch = new PagedFetch(catalogRequest, from, batchSize, pageConsumer);
+        fetch.requestPages();
+        return fetch.result;
+    }
+
+    /**
+     * The state of fetching the pages of a single catalog.
+     */
+    private final class PagedFetch {
+        private final CatalogRequest catalogRequest;
+        private final Consumer<List<ContractOffer>> pageConsumer;
+        private final int minBatchSize;
+        private final CompletableFuture<Integer> result = new CompletableFuture<>();
+        private final Set<CompletableFuture<Catalog>> pendingPages = ConcurrentHashMap.newKeySet();
+        private final Deque<Range> remainders = new ArrayDeque<>();
+        private int nextOffset;
+        private int batchSize;
+        private int pageSizeCap = Integer.MAX_VALUE;
+        private int end = Integer.MAX_VALUE;
+        private int inFlight;
+        private int received;
+        private boolean pipelined;
+
+        PagedFetch(CatalogRequest catalogRequest, int from, int batchSize, Consumer<List<ContractOffer>> pageConsumer) {
+            this.catalogRequest = catalogRequest;
+            this.pageConsumer = pageConsumer;
+            nextOffset = from;
+            this.batchSize = batchSize;
+            minBatchSize = batchSize;
+            // once the fetch failed or was cancelled, the pages still in flight are of no use
+            result.whenComplete((count, throwable) -> {
+                if (throwable != null) {
+                    pendingPages.forEach(page -> page.cancel(true));
+                }
+            });
+        }
+
+        /**
+         * Sends the requests for as many pages as allowed in flight. The requests are sent outside of the lock, since
+         * their response may be handled right away on the calling thread.
+         */
+        void requestPages() {
+            for (var range : takePages()) {
+                var request = catalogRequest.toBuilder().querySpec(QuerySpec.Builder.newInstance().range(range).build()).build();
+                var sentAt = clock.millis();
+                var response = send(request);
+                pendingPages.add(response);
+                response.whenComplete((catalog, throwable) -> {
+                    pendingPages.remove(response);
+                    onPage(range, catalog, throwable, clock.millis() - sentAt);
+                });
+                if (result.isCompletedExceptionally()) {
+                    response.cancel(true);
+                }
+            }
+        }
+
+        private CompletableFuture<Catalog> send(CatalogRequest request) {
+            try {
+                return dispatcherRegistry.send(Catalog.class, request, () -> null);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private synchronized List<Range> takePages() {
+            var pages = new ArrayList<Range>();
+            var maxInFlight = pipelined ? pagesInFlight : 1;
+            while (!result.isDone() && inFlight < maxInFlight) {
+                var range = nextRange();
+                if (range == null) {
+                    break;
+                }
+                pages.add(range);
+                inFlight++;
+            }
+            return pages;
+        }
+
+        /**
+         * Returns the rest of a short page if any, otherwise the next page, or null if there is no page left before the end.
+         */
+        private Range nextRange() {
+            remainders.removeIf(range -> range.getFrom() >= end);
+            if (!remainders.isEmpty()) {
+                return remainders.poll();
+            }
+            if (nextOffset >= end) {
+                return null;
+            }
+            var range = new Range(nextOffset, nextOffset + batchSize);
+            nextOffset += batchSize;
+            return range;
+        }
+
+        private void onPage(Range range, Catalog catalog, Throwable throwable, long latencyMillis) {
+            synchronized (this) {
+                inFlight--;
+                if (result.isDone()) {
+                    return;
+                }
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                    return;
+                }
+
+                var offers = catalog.getContractOffers();
+                try {
+                    pageConsumer.accept(offers);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                received += offers.size();
+
+                if (offers.isEmpty()) {
+                    end = Math.min(end, range.getFrom());
+                } else if (offers.size() < range.getTo() - range.getFrom()) {
+                    // the node may cap the page size: requests the rest of the range, and no larger page from now on
+                    remainders.add(new Range(range.getFrom() + offers.size(), range.getTo()));
+                    pageSizeCap = Math.min(pageSizeCap, offers.size());
+                    batchSize = Math.min(batchSize, pageSizeCap);
+                } else {
+                    pipelined = true;
+                    adaptBatchSize(latencyMillis);
+                }
+
+                remainders.removeIf(remainder -> remainder.getFrom() >= end);
+                if (inFlight == 0 && remainders.isEmpty() && nextOffset >= end) {
+                    result.complete(received);
+                    return;
+                }
+            }
+            requestPages();
+        }
+
+        private void adaptBatchSize(long latencyMillis) {
+            var adapted = batchSize;
+            if (latencyMillis < targetLatencyMillis / 2) {
+                adapted = Math.max(Math.min(batchSize * 2, maxBatchSize), batchSize);
+            } else if (latencyMillis > targetLatencyMillis) {
+                adapted = Math.max(batchSize / 2, minBatchSize);
+            }
+            adapted = Math.min(adapted, pageSizeCap);
+            if (adapted != batchSize) {
+                monitor.debug(format("Adapting batch size from %s to %s after a page took %s ms", batchSize, adapted, latencyMillis));
+                batchSize = adapted;
+            }
+        }
     }
 }
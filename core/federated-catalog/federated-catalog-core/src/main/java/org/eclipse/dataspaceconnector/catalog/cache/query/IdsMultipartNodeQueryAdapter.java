@@ -21,33 +21,62 @@ import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistr
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
 import org.eclipse.dataspaceconnector.spi.types.domain.catalog.CatalogRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.eclipse.dataspaceconnector.common.async.AsyncUtils.propagateCancellation;
 
 public class IdsMultipartNodeQueryAdapter implements NodeQueryAdapter {
     public static final String IDS_MULTIPART_PROTOCOL = "ids-multipart";
+    private static final int INITIAL_BATCH_SIZE = 100;
     private final String connectorId;
     private final BatchedRequestFetcher requestFetcher;
+    private final Consumer<UpdateResponse> pageHandler;
 
     public IdsMultipartNodeQueryAdapter(String connectorId, RemoteMessageDispatcherRegistry dispatcherRegistry, Monitor monitor) {
+        this(connectorId, new BatchedRequestFetcher(dispatcherRegistry, monitor), null);
+    }
+
+    /**
+     * Creates the adapter.
+     *
+     * @param pageHandler receives every page of a catalog as soon as it is fetched, in which case the response returned
+     *                    once the whole catalog is fetched holds no offers. If null, the response holds all the offers.
+     */
+    public IdsMultipartNodeQueryAdapter(String connectorId, BatchedRequestFetcher requestFetcher, @Nullable Consumer<UpdateResponse> pageHandler) {
         this.connectorId = connectorId;
-        requestFetcher = new BatchedRequestFetcher(dispatcherRegistry, monitor);
+        this.requestFetcher = requestFetcher;
+        this.pageHandler = pageHandler;
     }
 
     @Override
     public CompletableFuture<UpdateResponse> sendRequest(UpdateRequest updateRequest) {
-
+        var nodeUrl = getNodeUrl(updateRequest);
         var catalogRequest = CatalogRequest.Builder.newInstance()
                 .protocol(IDS_MULTIPART_PROTOCOL)
-                .connectorAddress(getNodeUrl(updateRequest))
+                .connectorAddress(nodeUrl)
                 .connectorId(connectorId)
                 .build();
-        var allOffers = requestFetcher.fetch(catalogRequest, 0, 100);
 
-        return allOffers.thenApply(list -> new UpdateResponse(getNodeUrl(updateRequest), Catalog.Builder.newInstance().id(UUID.randomUUID().toString()).contractOffers(list).build()));
+        // cancelling the response, e.g. once the crawl timed out, stops fetching the pages
+        if (pageHandler == null) {
+            var allOffers = requestFetcher.fetch(catalogRequest, 0, INITIAL_BATCH_SIZE);
+            return propagateCancellation(allOffers.thenApply(list -> new UpdateResponse(nodeUrl, catalog(list))), allOffers);
+        }
+
+        var count = requestFetcher.fetch(catalogRequest, 0, INITIAL_BATCH_SIZE, offers -> pageHandler.accept(new UpdateResponse(nodeUrl, catalog(offers))));
+        return propagateCancellation(count.thenApply(c -> new UpdateResponse(nodeUrl, catalog(new ArrayList<>()))), count);
     }
 
+    private Catalog catalog(List<ContractOffer> offers) {
+        return Catalog.Builder.newInstance().id(UUID.randomUUID().toString()).contractOffers(offers).build();
+    }
 
     // adds /api/ids/data if not already there
     private String getNodeUrl(UpdateRequest updateRequest) {
@@ -20,21 +20,31 @@ import org.eclipse.dataspaceconnector.catalog.spi.FederatedCacheNodeFilter;
 import org.eclipse.dataspaceconnector.catalog.spi.NodeQueryAdapter;
 import org.eclipse.dataspaceconnector.catalog.spi.NodeQueryAdapterRegistry;
 import org.eclipse.dataspaceconnector.catalog.spi.model.ExecutionPlan;
+import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateRequest;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.delayedExecutor;
 import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.eclipse.dataspaceconnector.catalog.cache.TestUtil.TEST_PROTOCOL;
 import static org.eclipse.dataspaceconnector.catalog.cache.TestUtil.createCatalog;
 import static org.eclipse.dataspaceconnector.catalog.cache.TestUtil.createNode;
@@ -54,6 +64,8 @@ import static org.mockito.Mockito.when;
 
 class ExecutionManagerTest {
 
+    private static final Instant NOW = Instant.parse("2022-08-01T10:00:00Z");
+
     private final FederatedCacheNodeDirectory nodeDirectoryMock = mock(FederatedCacheNodeDirectory.class);
     private final Monitor monitorMock = mock(Monitor.class);
     private final NodeQueryAdapterRegistry nodeQueryAdapterRegistry = mock(NodeQueryAdapterRegistry.class);
@@ -153,6 +165,113 @@ class ExecutionManagerTest {
         verify(monitorMock, atLeastOnce()).severe(anyString(), isA(CompletionException.class));
     }
 
+    @Test
+    void executePlan_retriesFailedWorkItem() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.sendRequest(any()))
+                .thenReturn(failedFuture(new EdcException("some exception")))
+                .thenReturn(completedFuture(new UpdateResponse("test-url", createCatalog())));
+        manager = createManagerBuilder().maxRetries(1).build();
+
+        manager.executePlan(simplePlan());
+
+        verify(queryAdapterMock, times(2)).sendRequest(any());
+        verify(successConsumerMock).accept(any());
+        verify(postExecutionTask).run();
+    }
+
+    @Test
+    void executePlan_givesUpAfterRetries_andSkipsNodeWhileBackingOff() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.sendRequest(any())).thenReturn(failedFuture(new EdcException("some exception")));
+        manager = createManagerBuilder().maxRetries(1).backoffMax(Duration.ofHours(1)).build();
+
+        manager.executePlan(simplePlan());
+        manager.executePlan(simplePlan());
+
+        verify(queryAdapterMock, times(2)).sendRequest(any());
+        verify(postExecutionTask, times(2)).run();
+        verify(monitorMock).severe(startsWith("ExecutionManager: The following work item has errored out 2 times"));
+        verifyNoInteractions(successConsumerMock);
+    }
+
+    @Test
+    void executePlan_crawlsConcurrently() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode(), createNode()));
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        var future = new CompletableFuture<UpdateResponse>();
+        when(queryAdapterMock.sendRequest(any())).thenReturn(future);
+        manager = createManagerBuilder().numCrawlers(2).build();
+
+        manager.executePlan(task -> CompletableFuture.runAsync(task));
+
+        await().untilAsserted(() -> verify(queryAdapterMock, times(2)).sendRequest(any()));
+        verifyNoInteractions(successConsumerMock, postExecutionTask);
+
+        future.complete(new UpdateResponse("test-url", createCatalog()));
+
+        await().untilAsserted(() -> {
+            verify(successConsumerMock, times(2)).accept(any());
+            verify(postExecutionTask).run();
+        });
+    }
+
+    @Test
+    void executePlan_passesLastSuccessfulCrawl() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.sendRequest(any())).thenReturn(completedFuture(new UpdateResponse("test-url", createCatalog())));
+
+        manager.executePlan(simplePlan());
+        manager.executePlan(simplePlan());
+
+        var captor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(queryAdapterMock, times(2)).sendRequest(captor.capture());
+        assertThat(captor.getAllValues()).extracting(UpdateRequest::getLastSuccessfulCrawl).containsExactly(null, NOW);
+    }
+
+    @Test
+    void executePlan_timesOutCrawl() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        var query = new CompletableFuture<UpdateResponse>();
+        when(queryAdapterMock.sendRequest(any())).thenReturn(query);
+        manager = createManagerBuilder().crawlTimeout(Duration.ofMillis(50)).build();
+
+        manager.executePlan(simplePlan());
+
+        verify(monitorMock).severe(anyString(), isA(TimeoutException.class));
+        verify(postExecutionTask).run();
+        verifyNoInteractions(successConsumerMock);
+        assertThat(query).isCancelled();
+    }
+
+    @Test
+    void executePlan_reusesCrawlerOnlyOnceTimedOutQueryIsCancelled() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode(), createNode()));
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        var queries = new ArrayList<CompletableFuture<UpdateResponse>>();
+        var cancelledWhenSending = new ArrayList<Boolean>();
+        when(queryAdapterMock.sendRequest(any())).thenAnswer(invocation -> {
+            cancelledWhenSending.add(queries.stream().allMatch(CompletableFuture::isCancelled));
+            var query = new CompletableFuture<UpdateResponse>();
+            queries.add(query);
+            return query;
+        });
+        manager = createManagerBuilder().crawlTimeout(Duration.ofMillis(50)).build();
+
+        manager.executePlan(simplePlan());
+
+        // the single crawler only sends the second query once the first one is cancelled
+        verify(queryAdapterMock, times(2)).sendRequest(any());
+        assertThat(cancelledWhenSending).containsExactly(true, true);
+        assertThat(queries).allMatch(CompletableFuture::isCancelled);
+        verify(postExecutionTask).run();
+        verifyNoInteractions(successConsumerMock);
+    }
+
     @Test
     void executePlan_workItemsEmpty() {
         when(nodeDirectoryMock.getAll()).thenReturn(List.of());
@@ -197,6 +316,9 @@ class ExecutionManagerTest {
                 .preExecutionTask(preExecutionTaskMock)
                 .postExecutionTask(postExecutionTask)
                 .monitor(monitorMock)
+                .maxRetries(0)
+                .backoffBase(Duration.ofMillis(10))
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
                 .onSuccess(successConsumerMock);
     }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
 import org.eclipse.dataspaceconnector.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.dataspaceconnector.spi.WebService;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.system.health.HealthCheckService;
 import org.eclipse.dataspaceconnector.spi.system.injection.ObjectFactory;
@@ -64,6 +65,7 @@ class FederatedCatalogCacheExtensionTest {
         this.context.registerService(RemoteMessageDispatcherRegistry.class, messageDispatcherMock);
         this.context.registerService(FederatedCacheNodeDirectory.class, nodeDirectoryMock);
         this.context.registerService(FederatedCacheStore.class, storeMock);
+        this.context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
         extension = factory.constructInstance(FederatedCatalogCacheExtension.class);
     }
 
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.catalog.query;
 
 import org.eclipse.dataspaceconnector.catalog.cache.query.BatchedRequestFetcher;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.message.Range;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
@@ -26,7 +27,14 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOf
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -48,7 +56,7 @@ class BatchedRequestFetcherTest {
     @BeforeEach
     void setup() {
         dispatcherMock = mock(RemoteMessageDispatcherRegistry.class);
-        fetcher = new BatchedRequestFetcher(dispatcherMock, mock(Monitor.class));
+        fetcher = new BatchedRequestFetcher(dispatcherMock, mock(Monitor.class), Clock.systemUTC(), 1, 5, Duration.ofSeconds(1));
     }
 
     @Test
@@ -69,11 +77,145 @@ class BatchedRequestFetcherTest {
         var captor = forClass(CatalogRequest.class);
         verify(dispatcherMock, times(4)).send(eq(Catalog.class), captor.capture(), any());
 
-        // verify the sequence of requests
+        // verify the sequence of requests, which requests the rest of the short page and stops at the empty page
         assertThat(captor.getAllValues())
                 .extracting(l -> l.getQuerySpec().getRange())
                 .usingRecursiveFieldByFieldElementComparator()
-                .containsExactly(new Range(0, 5), new Range(5, 10), new Range(10, 15), new Range(15, 20));
+                .containsExactly(new Range(0, 5), new Range(5, 10), new Range(10, 15), new Range(13, 15));
+    }
+
+    @Test
+    void fetchAll_getsAllOffers_whenNodeCapsPageSize() {
+        fetcher = new BatchedRequestFetcher(dispatcherMock, mock(Monitor.class), Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), 1, 20, Duration.ofSeconds(1));
+        provideOffers(13, 3);
+
+        var offers = fetcher.fetch(createRequest(), 0, 5);
+
+        assertThat(offers).isCompletedWithValueMatching(list -> list.size() == 13);
+        var captor = forClass(CatalogRequest.class);
+        verify(dispatcherMock, times(6)).send(eq(Catalog.class), captor.capture(), any());
+        // the rest of the short first page is requested, then the batch size never exceeds the cap despite fast pages
+        assertThat(captor.getAllValues())
+                .extracting(l -> l.getQuerySpec().getRange())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(new Range(0, 5), new Range(3, 5), new Range(5, 8), new Range(8, 11), new Range(11, 14), new Range(13, 14));
+    }
+
+    @Test
+    void fetchAll_emptyCatalog() {
+        when(dispatcherMock.send(eq(Catalog.class), any(CatalogRequest.class), any())).thenReturn(completedFuture(emptyCatalog()));
+
+        var offers = fetcher.fetch(createRequest(), 0, 5);
+
+        assertThat(offers).isCompletedWithValueMatching(List::isEmpty);
+        verify(dispatcherMock, times(1)).send(eq(Catalog.class), any(CatalogRequest.class), any());
+    }
+
+    @Test
+    void fetchAll_pipelinesPagesOnceFirstPageIsFull() {
+        fetcher = new BatchedRequestFetcher(dispatcherMock, mock(Monitor.class), Clock.systemUTC(), 3, 5, Duration.ofSeconds(1));
+        var ranges = new ArrayList<Range>();
+        var responses = new ArrayList<CompletableFuture<Catalog>>();
+        when(dispatcherMock.send(eq(Catalog.class), any(CatalogRequest.class), any())).thenAnswer(invocation -> {
+            ranges.add(((CatalogRequest) invocation.getArgument(1)).getQuerySpec().getRange());
+            var response = new CompletableFuture<Catalog>();
+            responses.add(response);
+            return response;
+        });
+
+        var offers = fetcher.fetch(createRequest(), 0, 5);
+        assertThat(ranges).hasSize(1);
+
+        responses.get(0).complete(createCatalog(5));
+        assertThat(ranges).hasSize(4);
+
+        responses.get(1).complete(createCatalog(5));
+        responses.get(2).complete(createCatalog(5));
+        responses.get(3).complete(createCatalog(3));
+        assertThat(offers).isNotDone();
+
+        responses.get(4).complete(emptyCatalog());
+        responses.get(5).complete(emptyCatalog());
+        assertThat(offers).isNotDone();
+
+        // the rest of the short page
+        responses.get(6).complete(createCatalog(2));
+
+        assertThat(offers).isCompletedWithValueMatching(list -> list.size() == 20);
+        assertThat(ranges)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(new Range(0, 5), new Range(5, 10), new Range(10, 15), new Range(15, 20), new Range(20, 25), new Range(25, 30),
+                        new Range(18, 20));
+    }
+
+    @Test
+    void fetchAll_growsBatchSizeWhilePagesAreFast() {
+        fetcher = new BatchedRequestFetcher(dispatcherMock, mock(Monitor.class), Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), 1, 20, Duration.ofSeconds(1));
+        provideOffers(50);
+
+        var offers = fetcher.fetch(createRequest(), 0, 5);
+
+        assertThat(offers).isCompletedWithValueMatching(list -> list.size() == 50);
+        var captor = forClass(CatalogRequest.class);
+        verify(dispatcherMock, times(5)).send(eq(Catalog.class), captor.capture(), any());
+        assertThat(captor.getAllValues())
+                .extracting(l -> l.getQuerySpec().getRange())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(new Range(0, 5), new Range(5, 15), new Range(15, 35), new Range(35, 55), new Range(50, 55));
+    }
+
+    @Test
+    void fetchPages_handsEveryPageToConsumer() {
+        provideOffers(12);
+        var pageSizes = new ArrayList<Integer>();
+
+        var count = fetcher.fetch(createRequest(), 0, 5, page -> pageSizes.add(page.size()));
+
+        assertThat(count).isCompletedWithValue(12);
+        assertThat(pageSizes).containsExactly(5, 5, 2, 0);
+    }
+
+    @Test
+    void fetchPages_cancelsPagesInFlight_andDiscardsLatePages_whenCancelled() {
+        fetcher = new BatchedRequestFetcher(dispatcherMock, mock(Monitor.class), Clock.systemUTC(), 3, 5, Duration.ofSeconds(1));
+        var responses = new ArrayList<CompletableFuture<Catalog>>();
+        when(dispatcherMock.send(eq(Catalog.class), any(CatalogRequest.class), any())).thenAnswer(invocation -> {
+            var response = new CompletableFuture<Catalog>();
+            responses.add(response);
+            return response;
+        });
+        var pageSizes = new ArrayList<Integer>();
+
+        var count = fetcher.fetch(createRequest(), 0, 5, page -> pageSizes.add(page.size()));
+        responses.get(0).complete(createCatalog(5));
+        count.cancel(true);
+
+        assertThat(responses).hasSize(4);
+        assertThat(responses.subList(1, 4)).allMatch(CompletableFuture::isCancelled);
+        assertThat(pageSizes).containsExactly(5);
+        verify(dispatcherMock, times(4)).send(eq(Catalog.class), any(CatalogRequest.class), any());
+    }
+
+    @Test
+    void fetchAll_failsWhenPageFails() {
+        when(dispatcherMock.send(eq(Catalog.class), any(CatalogRequest.class), any()))
+                .thenReturn(completedFuture(createCatalog(5)))
+                .thenReturn(CompletableFuture.failedFuture(new EdcException("test")));
+
+        var offers = fetcher.fetch(createRequest(), 0, 5);
+
+        assertThat(offers).isCompletedExceptionally();
+    }
+
+    private void provideOffers(int total) {
+        provideOffers(total, Integer.MAX_VALUE);
+    }
+
+    private void provideOffers(int total, int maxPageSize) {
+        when(dispatcherMock.send(eq(Catalog.class), any(CatalogRequest.class), any())).thenAnswer(invocation -> {
+            var range = ((CatalogRequest) invocation.getArgument(1)).getQuerySpec().getRange();
+            return completedFuture(createCatalog(Math.min(maxPageSize, Math.max(0, Math.min(range.getTo(), total) - range.getFrom()))));
+        });
     }
 
     private CatalogRequest createRequest() {
@@ -70,7 +70,7 @@ public class IdsMultipartSender {
      * for the sub-class.
      *
      * @param request the request.
-     * @return the response as {@link CompletableFuture}.
+     * @return the response as {@link CompletableFuture}, cancelling it aborts the HTTP call.
      */
     public <M extends RemoteMessage, R> CompletableFuture<R> send(M request, MultipartSenderDelegate<M, R> senderDelegate) {
         var remoteConnectorAddress = request.getConnectorAddress();
@@ -156,8 +156,16 @@ public class IdsMultipartSender {
 
         // Execute call
         var future = new CompletableFuture<R>();
+        var call = httpClient.newCall(httpRequest);
 
-        httpClient.newCall(httpRequest).enqueue(new FutureCallback<>(future, r -> {
+        // cancelling the response aborts the call
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        call.enqueue(new FutureCallback<>(future, r -> {
             try (r) {
                 monitor.debug("Response received from connector. Status " + r.code());
                 if (r.isSuccessful()) {
@@ -16,9 +16,11 @@ val infoModelVersion: String by project
 val rsApi: String by project
 val jerseyVersion: String by project
 val okHttpVersion: String by project
+val micrometerVersion: String by project
 
 plugins {
     `java-library`
+    id("me.champeau.jmh")
 }
 
 dependencies {
@@ -28,9 +30,11 @@ dependencies {
     api(project(":extensions:common:http"))
 
     implementation(project(":data-protocols:ids:ids-api-configuration"))
+    implementation(project(":data-protocols:ids:ids-jsonld-serdes"))
 
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
     implementation("org.glassfish.jersey.media:jersey-media-multipart:${jerseyVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
 
     testImplementation("net.javacrumbs.json-unit:json-unit-assertj:2.36.0")
     testImplementation("net.javacrumbs.json-unit:json-unit-json-path:2.36.0")
@@ -42,6 +46,14 @@ dependencies {
     testImplementation(project(":core:control-plane:control-plane-core"))
     testImplementation(testFixtures(project(":core:common:util")))
 
+    jmhImplementation(project(":extensions:common:iam:oauth2:oauth2-core"))
+    jmhImplementation(project(":core:common:jwt-core"))
+    jmhImplementation("com.squareup.okhttp3:okhttp:${okHttpVersion}")
+    jmhImplementation("io.micrometer:micrometer-core:${micrometerVersion}")
+}
+
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
 }
 
 publishing {
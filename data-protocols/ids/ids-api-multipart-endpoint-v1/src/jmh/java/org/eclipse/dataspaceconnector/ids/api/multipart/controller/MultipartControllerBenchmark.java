@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.controller;
+
+import com.sun.net.httpserver.HttpServer;
+import de.fraunhofer.iais.eis.DescriptionRequestMessageBuilder;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.TokenFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.eclipse.dataspaceconnector.core.jwt.JwtDecoratorRegistryImpl;
+import org.eclipse.dataspaceconnector.core.jwt.TokenGenerationServiceImpl;
+import org.eclipse.dataspaceconnector.iam.oauth2.core.Oauth2Configuration;
+import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.AccessTokenCache;
+import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.Oauth2ServiceImpl;
+import org.eclipse.dataspaceconnector.iam.oauth2.spi.NoopCredentialsRequestAdditionalParametersProvider;
+import org.eclipse.dataspaceconnector.ids.core.serialization.IdsTypeManagerUtil;
+import org.eclipse.dataspaceconnector.ids.core.service.DynamicAttributeTokenServiceImpl;
+import org.eclipse.dataspaceconnector.ids.spi.types.IdsId;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.jwt.JwtDecorator;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the processing of IDS multipart requests, which includes obtaining the token of the response, against a local
+ * mock DAPS. With the token cache, the DAPS is only called when the token is about to expire, otherwise it is called for
+ * every response.
+ * <p>
+ * Run with {@code ./gradlew :data-protocols:ids:ids-api-multipart-endpoint-v1:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultipartControllerBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean tokenCache;
+
+    /**
+     * Latency added by the mock DAPS to every token request, to mimic a remote identity provider.
+     */
+    @Param({ "0", "10" })
+    private long dapsLatencyMillis;
+
+    private HttpServer daps;
+    private ExecutorService refreshExecutor;
+    private MultipartController controller;
+    private byte[] header;
+
+    @Setup
+    public void setUp() throws IOException, NoSuchAlgorithmException {
+        daps = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        daps.createContext("/token", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            sleep(dapsLatencyMillis);
+            var body = ("{\"access_token\":\"" + UUID.randomUUID() + "\",\"expires_in\":3600}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (var responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        daps.start();
+
+        var configuration = Oauth2Configuration.Builder.newInstance()
+                .tokenUrl("http://localhost:" + daps.getAddress().getPort() + "/token")
+                .clientId("benchmark")
+                .providerAudience("idsc:IDS_CONNECTORS_ALL")
+                .build();
+        var keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        var decoratorRegistry = new JwtDecoratorRegistryImpl();
+        decoratorRegistry.register(new ClientAssertionDecorator());
+        var monitor = new Monitor() {
+        };
+        refreshExecutor = Executors.newSingleThreadExecutor();
+        var cache = tokenCache ? new AccessTokenCache(Clock.systemUTC(), true, Duration.ofSeconds(30), refreshExecutor, monitor, new SimpleMeterRegistry()) : null;
+        var identityService = new Oauth2ServiceImpl(configuration, new TokenGenerationServiceImpl(keyPairGenerator.generateKeyPair().getPrivate()), new OkHttpClient(),
+                decoratorRegistry, new TypeManager(), tokenRepresentation -> Result.success(ClaimToken.Builder.newInstance().build()),
+                new NoopCredentialsRequestAdditionalParametersProvider(), cache);
+
+        var objectMapper = IdsTypeManagerUtil.getIdsObjectMapper(new TypeManager());
+        var connectorId = IdsId.from("urn:connector:benchmark").getContent();
+        controller = new MultipartController(monitor, connectorId, objectMapper, new DynamicAttributeTokenServiceImpl(identityService, new SimpleMeterRegistry()),
+                List.of(), "http://localhost/api/v1/ids/data", new SimpleMeterRegistry());
+
+        var request = new DescriptionRequestMessageBuilder()
+                ._securityToken_(new DynamicAttributeTokenBuilder()._tokenFormat_(TokenFormat.JWT)._tokenValue_("token").build())
+                ._issuerConnector_(URI.create("urn:connector:consumer"))
+                ._senderAgent_(URI.create("urn:connector:consumer"))
+                .build();
+        header = objectMapper.writeValueAsBytes(request);
+    }
+
+    @TearDown
+    public void tearDown() {
+        daps.stop(0);
+        refreshExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object request() {
+        // no handler is registered, so the request is answered with a rejection message, which carries a token as well
+        return controller.request(new ByteArrayInputStream(header), null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class ClientAssertionDecorator implements JwtDecorator {
+        @Override
+        public Map<String, Object> claims() {
+            var now = Instant.now();
+            return Map.of(
+                    "iss", "benchmark",
+                    "sub", "benchmark",
+                    "aud", "idsc:IDS_CONNECTORS_ALL",
+                    "jti", UUID.randomUUID().toString(),
+                    "exp", now.plusSeconds(300).getEpochSecond());
+        }
+
+        @Override
+        public Map<String, Object> headers() {
+            return Map.of();
+        }
+    }
+}
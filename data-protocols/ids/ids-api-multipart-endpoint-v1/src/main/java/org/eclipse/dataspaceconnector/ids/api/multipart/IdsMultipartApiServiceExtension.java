@@ -18,6 +18,8 @@
 
 package org.eclipse.dataspaceconnector.ids.api.multipart;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.dataspaceconnector.ids.api.configuration.IdsApiConfiguration;
 import org.eclipse.dataspaceconnector.ids.api.multipart.controller.MultipartController;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.ArtifactRequestHandler;
@@ -31,8 +33,10 @@ import org.eclipse.dataspaceconnector.ids.spi.service.CatalogService;
 import org.eclipse.dataspaceconnector.ids.spi.service.ConnectorService;
 import org.eclipse.dataspaceconnector.ids.spi.service.DynamicAttributeTokenService;
 import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTransformerRegistry;
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.EdcSetting;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Extension;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Inject;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.WebService;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ConsumerContractNegotiationManager;
@@ -59,6 +63,13 @@ import static org.eclipse.dataspaceconnector.ids.core.util.ConnectorIdUtil.resol
 public final class IdsMultipartApiServiceExtension implements ServiceExtension {
 
     public static final String NAME = "IDS Multipart API";
+
+    @EdcSetting(value = "maximum number of contract offers listed in a description response, further offers being requested with the continuation token")
+    private static final String CATALOG_PAGE_SIZE_MAX = "edc.ids.catalog.page.size.max";
+    @EdcSetting(value = "whether the contract offers of a description response are streamed into the payload rather than collected beforehand")
+    private static final String CATALOG_STREAMING_ENABLED = "edc.ids.catalog.streaming.enabled";
+    private static final int DEFAULT_CATALOG_PAGE_SIZE_MAX = 1000;
+
     @Inject
     private Monitor monitor;
 
@@ -110,6 +121,9 @@ public final class IdsMultipartApiServiceExtension implements ServiceExtension {
     @Inject
     private Vault vault;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -125,9 +139,16 @@ public final class IdsMultipartApiServiceExtension implements ServiceExtension {
 
         var objectMapper = context.getTypeManager().getMapper("ids");
 
+        var maxPageSize = context.getSetting(CATALOG_PAGE_SIZE_MAX, DEFAULT_CATALOG_PAGE_SIZE_MAX);
+        if (maxPageSize <= 0) {
+            throw new EdcException(String.format("Setting %s must be positive, was %s", CATALOG_PAGE_SIZE_MAX, maxPageSize));
+        }
+        var streamOffers = context.getSetting(CATALOG_STREAMING_ENABLED, true);
+
         // create request handlers
         var handlers = new LinkedList<Handler>();
-        handlers.add(new DescriptionRequestHandler(monitor, connectorId, transformerRegistry, assetIndex, dataCatalogService, contractOfferService, connectorService, objectMapper));
+        handlers.add(new DescriptionRequestHandler(monitor, connectorId, transformerRegistry, assetIndex, dataCatalogService, contractOfferService, connectorService, objectMapper,
+                maxPageSize, streamOffers));
         handlers.add(new ArtifactRequestHandler(monitor, connectorId, objectMapper, contractNegotiationStore, contractValidationService, transferProcessManager, vault));
         handlers.add(new EndpointDataReferenceHandler(monitor, connectorId, endpointDataReferenceReceiverRegistry, endpointDataReferenceTransformerRegistry, context.getTypeManager()));
         handlers.add(new ContractRequestHandler(monitor, connectorId, objectMapper, providerNegotiationManager, transformerRegistry, assetIndex));
@@ -135,7 +156,8 @@ public final class IdsMultipartApiServiceExtension implements ServiceExtension {
         handlers.add(new ContractRejectionHandler(monitor, connectorId, providerNegotiationManager, consumerNegotiationManager));
 
         // create & register controller
-        var multipartController = new MultipartController(monitor, connectorId, objectMapper, dynamicAttributeTokenService, handlers, idsApiConfiguration.getIdsWebhookAddress());
+        var multipartController = new MultipartController(monitor, connectorId, objectMapper, dynamicAttributeTokenService, handlers, idsApiConfiguration.getIdsWebhookAddress(),
+                meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
         webService.registerResource(idsApiConfiguration.getContextAlias(), multipartController);
     }
 
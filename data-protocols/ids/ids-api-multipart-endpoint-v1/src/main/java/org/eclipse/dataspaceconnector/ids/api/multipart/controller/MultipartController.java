@@ -22,11 +22,15 @@ import de.fraunhofer.iais.eis.DynamicAttributeToken;
 import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
 import de.fraunhofer.iais.eis.Message;
 import de.fraunhofer.iais.eis.TokenFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.Handler;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartRequest;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartResponse;
@@ -63,6 +67,8 @@ public class MultipartController {
     private final ObjectMapper objectMapper;
     private final DynamicAttributeTokenService tokenService;
     private final String idsWebhookAddress;
+    private final Timer requestLatency;
+    private final Timer responseTokenLatency;
 
     public MultipartController(@NotNull Monitor monitor,
                                @NotNull IdsId connectorId,
@@ -70,12 +76,28 @@ public class MultipartController {
                                @NotNull DynamicAttributeTokenService tokenService,
                                @NotNull List<Handler> multipartHandlers,
                                @NotNull String idsWebhookAddress) {
+        this(monitor, connectorId, objectMapper, tokenService, multipartHandlers, idsWebhookAddress, Metrics.globalRegistry);
+    }
+
+    public MultipartController(@NotNull Monitor monitor,
+                               @NotNull IdsId connectorId,
+                               @NotNull ObjectMapper objectMapper,
+                               @NotNull DynamicAttributeTokenService tokenService,
+                               @NotNull List<Handler> multipartHandlers,
+                               @NotNull String idsWebhookAddress,
+                               @NotNull MeterRegistry meterRegistry) {
         this.monitor = monitor;
         this.connectorId = connectorId;
         this.objectMapper = objectMapper;
         this.multipartHandlers = multipartHandlers;
         this.tokenService = tokenService;
         this.idsWebhookAddress = idsWebhookAddress;
+        requestLatency = Timer.builder("edc.ids.multipart.request")
+                .description("Time taken to process an incoming IDS multipart request, response token included")
+                .register(meterRegistry);
+        responseTokenLatency = Timer.builder("edc.ids.multipart.response.token")
+                .description("Time spent obtaining the token of IDS multipart responses")
+                .register(meterRegistry);
     }
     
     /**
@@ -90,6 +112,10 @@ public class MultipartController {
     @POST
     public FormDataMultiPart request(@FormDataParam(HEADER) InputStream headerInputStream,
                                      @FormDataParam(PAYLOAD) String payload) {
+        return requestLatency.record(() -> handleRequest(headerInputStream, payload));
+    }
+
+    private FormDataMultiPart handleRequest(InputStream headerInputStream, String payload) {
         if (headerInputStream == null) {
             return buildMultipart(malformedMessage(null, connectorId));
         }
@@ -171,7 +197,8 @@ public class MultipartController {
     }
     
     /**
-     * Builds a form-data multipart body with the given header and payload.
+     * Builds a form-data multipart body with the given header and payload. A {@link StreamingOutput} payload is written
+     * while the response is sent instead of being serialized beforehand.
      *
      * @param header the header.
      * @param payload the payload.
@@ -184,7 +211,8 @@ public class MultipartController {
         }
 
         if (payload != null) {
-            multiPart.bodyPart(new FormDataBodyPart(PAYLOAD, toJson(payload), MediaType.APPLICATION_JSON_TYPE));
+            var entity = payload instanceof StreamingOutput ? payload : toJson(payload);
+            multiPart.bodyPart(new FormDataBodyPart(PAYLOAD, entity, MediaType.APPLICATION_JSON_TYPE));
         }
 
         return multiPart;
@@ -200,7 +228,7 @@ public class MultipartController {
     private DynamicAttributeToken getToken(Message header) {
         if (header.getRecipientConnector() != null && !header.getRecipientConnector().isEmpty()) {
             var recipient = header.getRecipientConnector().get(0);
-            var tokenResult = tokenService.obtainDynamicAttributeToken(recipient.toString());
+            var tokenResult = responseTokenLatency.record(() -> tokenService.obtainDynamicAttributeToken(recipient.toString()));
             if (tokenResult.succeeded()) {
                 return tokenResult.getContent();
             }
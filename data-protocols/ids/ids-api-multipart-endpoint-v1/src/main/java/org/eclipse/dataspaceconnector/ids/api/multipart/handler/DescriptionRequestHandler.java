@@ -25,6 +25,7 @@ import de.fraunhofer.iais.eis.Resource;
 import de.fraunhofer.iais.eis.ResourceCatalog;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartRequest;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartResponse;
+import org.eclipse.dataspaceconnector.ids.api.multipart.message.StreamingCatalogPayload;
 import org.eclipse.dataspaceconnector.ids.spi.service.CatalogService;
 import org.eclipse.dataspaceconnector.ids.spi.service.ConnectorService;
 import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTransformerRegistry;
@@ -40,8 +41,16 @@ import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.dataspaceconnector.ids.api.multipart.util.RequestUtil.getQuerySpec;
@@ -49,8 +58,19 @@ import static org.eclipse.dataspaceconnector.ids.api.multipart.util.ResponseUtil
 import static org.eclipse.dataspaceconnector.ids.api.multipart.util.ResponseUtil.createMultipartResponse;
 import static org.eclipse.dataspaceconnector.ids.api.multipart.util.ResponseUtil.descriptionResponse;
 import static org.eclipse.dataspaceconnector.ids.api.multipart.util.ResponseUtil.notFound;
+import static org.eclipse.dataspaceconnector.ids.spi.domain.IdsConstants.CONTINUATION_TOKEN_PROPERTY;
 
+/**
+ * Handles description requests. The contract offers of a connector self-description or of a catalog are paged: the
+ * requested range is capped to the maximum page size, and the response header holds a continuation token pointing at
+ * the offset of the next page, which can be set on the next request instead of an offset. The token is omitted on the
+ * last page, i.e. when the page is not full or, for streamed offers whose number is not known upfront, when no offer
+ * follows the page. Unless disabled, the offers are streamed into the response payload while they are read from the
+ * asset index.
+ */
 public class DescriptionRequestHandler implements Handler {
+    private static final String CONTINUATION_TOKEN_PREFIX = "offset:";
+
     private final Monitor monitor;
     private final IdsId connectorId;
     private final IdsTransformerRegistry transformerRegistry;
@@ -59,6 +79,8 @@ public class DescriptionRequestHandler implements Handler {
     private final ContractOfferService contractOfferService;
     private final ConnectorService connectorService;
     private final ObjectMapper objectMapper;
+    private final int maxPageSize;
+    private final boolean streamOffers;
 
     public DescriptionRequestHandler(
             @NotNull Monitor monitor,
@@ -68,7 +90,9 @@ public class DescriptionRequestHandler implements Handler {
             @NotNull CatalogService catalogService,
             @NotNull ContractOfferService contractOfferService,
             @NotNull ConnectorService connectorService,
-            @NotNull ObjectMapper objectMapper) {
+            @NotNull ObjectMapper objectMapper,
+            int maxPageSize,
+            boolean streamOffers) {
         this.monitor = monitor;
         this.connectorId = connectorId;
         this.transformerRegistry = transformerRegistry;
@@ -77,6 +101,8 @@ public class DescriptionRequestHandler implements Handler {
         this.contractOfferService = contractOfferService;
         this.connectorService = connectorService;
         this.objectMapper = objectMapper;
+        this.maxPageSize = maxPageSize;
+        this.streamOffers = streamOffers;
     }
 
     @Override
@@ -92,19 +118,41 @@ public class DescriptionRequestHandler implements Handler {
         // Get ID of requested element
         var requestedElement = IdsId.from(message.getRequestedElement());
 
-        var querySpec = getQuerySpec(message, objectMapper);
+        var querySpec = getPage(message, getQuerySpec(message, objectMapper));
+        if (querySpec.failed()) {
+            monitor.warning(format("Invalid continuation token: [%s]", String.join(", ", querySpec.getFailureMessages())));
+            return createMultipartResponse(badParameters(message, connectorId));
+        }
+        var page = querySpec.getContent();
 
         // Retrieve and transform requested element
         Result<? extends ModelClass> result;
+        Supplier<Stream<ContractOffer>> offers = null;
+        var hasNextPage = false;
         if (requestedElement.failed() || requestedElement.getContent() == null ||
                 (requestedElement.getContent().getType() == IdsType.CONNECTOR)) {
-            result = getConnector(claimToken, querySpec);
+            if (streamOffers) {
+                result = transformerRegistry.transform(connectorService.getConnectorWithoutOffers(claimToken), Connector.class);
+                offers = () -> catalogService.getContractOffers(claimToken, page);
+                hasNextPage = hasOffersAfter(claimToken, page);
+            } else {
+                var connector = connectorService.getConnector(claimToken, page);
+                result = transformerRegistry.transform(connector, Connector.class);
+                hasNextPage = countOffers(connector.getDataCatalogs()) >= page.getLimit();
+            }
+        } else if (streamOffers && requestedElement.getContent().getType() == IdsType.CATALOG) {
+            result = transformerRegistry.transform(catalogService.getDataCatalogWithoutOffers(claimToken), ResourceCatalog.class);
+            offers = () -> catalogService.getContractOffers(claimToken, page);
+            hasNextPage = hasOffersAfter(claimToken, page);
         } else {
-            var retrievedObject = retrieveRequestedElement(requestedElement.getContent(), claimToken, querySpec);
+            var retrievedObject = retrieveRequestedElement(requestedElement.getContent(), claimToken, page);
             if (retrievedObject == null) {
                 return createMultipartResponse(notFound(message, connectorId));
             }
             result = transformRequestedElement(retrievedObject, requestedElement.getContent().getType());
+            if (retrievedObject instanceof Catalog) {
+                hasNextPage = countOffers(List.of((Catalog) retrievedObject)) >= page.getLimit();
+            }
         }
 
         if (result.failed()) {
@@ -115,11 +163,84 @@ public class DescriptionRequestHandler implements Handler {
             return createMultipartResponse(badParameters(message, connectorId));
         }
 
-        return createMultipartResponse(descriptionResponse(message, connectorId), result.getContent());
+        var header = descriptionResponse(message, connectorId);
+        if (hasNextPage) {
+            header.setProperty(CONTINUATION_TOKEN_PROPERTY, continuationToken(page.getOffset() + page.getLimit()));
+        }
+
+        if (offers != null) {
+            var payload = new StreamingCatalogPayload(result.getContent(), offers, transformerRegistry, objectMapper, monitor);
+            return createMultipartResponse(header, payload);
+        }
+        return createMultipartResponse(header, result.getContent());
+    }
+
+    /**
+     * Caps the limit of the query to the maximum page size, and starts it at the offset of the continuation token if the
+     * message holds one.
+     */
+    private Result<QuerySpec> getPage(DescriptionRequestMessage message, QuerySpec querySpec) {
+        var offset = querySpec.getOffset();
+        var token = message.getProperties() != null ? message.getProperties().get(CONTINUATION_TOKEN_PROPERTY) : null;
+        if (token != null) {
+            var tokenOffset = parseContinuationToken(token.toString());
+            if (tokenOffset.failed()) {
+                return Result.failure(tokenOffset.getFailureMessages());
+            }
+            offset = tokenOffset.getContent();
+        }
+
+        return Result.success(QuerySpec.Builder.newInstance()
+                .offset(offset)
+                .limit(Math.min(querySpec.getLimit(), maxPageSize))
+                .filter(querySpec.getFilterExpression())
+                .sortOrder(querySpec.getSortOrder())
+                .sortField(querySpec.getSortField())
+                .build());
+    }
+
+    private static String continuationToken(int offset) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((CONTINUATION_TOKEN_PREFIX + offset).getBytes(StandardCharsets.UTF_8));
     }
 
-    private Result<Connector> getConnector(ClaimToken claimToken, QuerySpec querySpec) {
-        return transformerRegistry.transform(connectorService.getConnector(claimToken, querySpec), Connector.class);
+    private static Result<Integer> parseContinuationToken(String token) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (decoded.startsWith(CONTINUATION_TOKEN_PREFIX)) {
+                var offset = Integer.parseInt(decoded.substring(CONTINUATION_TOKEN_PREFIX.length()));
+                if (offset >= 0) {
+                    return Result.success(offset);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // not Base64 or not a number, reported below
+        }
+        return Result.failure("Not a continuation token: " + token);
+    }
+
+    /**
+     * Whether an offer follows the page, by querying the first offer of the next page.
+     */
+    private boolean hasOffersAfter(ClaimToken claimToken, QuerySpec page) {
+        var nextOffer = QuerySpec.Builder.newInstance()
+                .offset(page.getOffset() + page.getLimit())
+                .limit(1)
+                .filter(page.getFilterExpression())
+                .sortOrder(page.getSortOrder())
+                .sortField(page.getSortField())
+                .build();
+        try (var offers = catalogService.getContractOffers(claimToken, nextOffer)) {
+            return offers.findAny().isPresent();
+        }
+    }
+
+    private static int countOffers(List<Catalog> catalogs) {
+        if (catalogs == null) {
+            return 0;
+        }
+        return catalogs.stream()
+                .mapToInt(catalog -> catalog.getContractOffers() != null ? catalog.getContractOffers().size() : 0)
+                .sum();
     }
 
     /**
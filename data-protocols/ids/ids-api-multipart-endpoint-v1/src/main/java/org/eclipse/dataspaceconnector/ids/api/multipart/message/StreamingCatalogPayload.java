@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.message;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.fraunhofer.iais.eis.ModelClass;
+import de.fraunhofer.iais.eis.Resource;
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.dataspaceconnector.ids.jsonld.JsonLdSerializer;
+import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTransformerRegistry;
+import org.eclipse.dataspaceconnector.ids.spi.types.container.OfferedAsset;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Payload of a description response listing contract offers, i.e. a connector self-description or a resource catalog,
+ * which transforms and writes the offers one resource at a time. Thus, the IDS resources of a page are never held in
+ * memory at once, only its EDC offers.
+ * <p>
+ * The description is given without offers, and the resources are inserted into its (first) resource catalog. The
+ * offers of the page are grouped by asset, since the offers for the same asset are not necessarily consecutive, e.g.
+ * when they come from several contract definitions, and each asset is written as a single resource. If writing fails,
+ * including when the offers of an asset cannot be transformed, the JSON document is left unterminated rather than
+ * closed, so that the recipient does not mistake it for a complete catalog.
+ */
+public class StreamingCatalogPayload implements StreamingOutput {
+    private static final String RESOURCE_CATALOG = "ids:resourceCatalog";
+    private static final String OFFERED_RESOURCE = "ids:offeredResource";
+
+    private final ModelClass description;
+    private final Supplier<Stream<ContractOffer>> contractOffers;
+    private final IdsTransformerRegistry transformerRegistry;
+    private final ObjectMapper objectMapper;
+    private final Monitor monitor;
+
+    /**
+     * Creates the payload.
+     *
+     * @param description    the IDS connector or resource catalog, without offered resources
+     * @param contractOffers opens the stream of the contract offers, which is closed once written
+     */
+    public StreamingCatalogPayload(@NotNull ModelClass description, @NotNull Supplier<Stream<ContractOffer>> contractOffers,
+                                   @NotNull IdsTransformerRegistry transformerRegistry, @NotNull ObjectMapper objectMapper,
+                                   @NotNull Monitor monitor) {
+        this.description = Objects.requireNonNull(description);
+        this.contractOffers = Objects.requireNonNull(contractOffers);
+        this.transformerRegistry = Objects.requireNonNull(transformerRegistry);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.monitor = Objects.requireNonNull(monitor);
+    }
+
+    public ModelClass getDescription() {
+        return description;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        JsonNode tree = objectMapper.valueToTree(description);
+        var resourceWriter = JsonLdSerializer.nestedObjectWriter(objectMapper).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (var generator = objectMapper.getFactory().createGenerator(output);
+             var offers = contractOffers.get()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+            if (description instanceof ResourceCatalog) {
+                writeCatalog(tree, offers.iterator(), generator, resourceWriter);
+            } else {
+                writeConnector(tree, offers.iterator(), generator, resourceWriter);
+            }
+        }
+    }
+
+    private void writeConnector(JsonNode connector, Iterator<ContractOffer> offers, JsonGenerator generator, ObjectWriter resourceWriter) throws IOException {
+        generator.writeStartObject();
+        var fields = connector.fields();
+        while (fields.hasNext()) {
+            var field = fields.next();
+            generator.writeFieldName(field.getKey());
+            var value = field.getValue();
+            if (RESOURCE_CATALOG.equals(field.getKey()) && value.isArray() && value.size() > 0) {
+                generator.writeStartArray();
+                var catalogs = value.elements();
+                writeCatalog(catalogs.next(), offers, generator, resourceWriter);
+                while (catalogs.hasNext()) {
+                    generator.writeTree(catalogs.next());
+                }
+                generator.writeEndArray();
+            } else {
+                generator.writeTree(value);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeCatalog(JsonNode catalog, Iterator<ContractOffer> offers, JsonGenerator generator, ObjectWriter resourceWriter) throws IOException {
+        generator.writeStartObject();
+        var fields = catalog.fields();
+        while (fields.hasNext()) {
+            var field = fields.next();
+            if (!OFFERED_RESOURCE.equals(field.getKey())) {
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+        }
+
+        var offersByAsset = new LinkedHashMap<String, List<ContractOffer>>();
+        offers.forEachRemaining(offer -> offersByAsset.computeIfAbsent(offer.getAsset().getId(), id -> new ArrayList<>()).add(offer));
+
+        var started = false;
+        for (var assetOffers : offersByAsset.values()) {
+            started = writeResource(assetOffers, started, generator, resourceWriter);
+        }
+        if (started) {
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Transforms the offers of an asset to a resource and writes it, starting the array of offered resources if needed.
+     *
+     * @return whether the array of offered resources has been started
+     * @throws EdcException if the offers cannot be transformed, since skipping them would silently hide them from the recipient
+     */
+    private boolean writeResource(List<ContractOffer> assetOffers, boolean started, JsonGenerator generator, ObjectWriter resourceWriter) throws IOException {
+        var asset = assetOffers.get(0).getAsset();
+        var result = transformerRegistry.transform(new OfferedAsset(asset, assetOffers), Resource.class);
+        if (result.failed()) {
+            var message = format("Could not transform the offers for asset %s: [%s]", asset.getId(), String.join(", ", result.getFailureMessages()));
+            monitor.severe(message);
+            throw new EdcException(message);
+        }
+
+        if (!started) {
+            generator.writeFieldName(OFFERED_RESOURCE);
+            generator.writeStartArray();
+        }
+        resourceWriter.writeValue(generator, result.getContent());
+        return true;
+    }
+}
@@ -24,6 +24,8 @@ import de.fraunhofer.iais.eis.DescriptionRequestMessageBuilder;
 import de.fraunhofer.iais.eis.DescriptionRequestMessageImpl;
 import de.fraunhofer.iais.eis.DescriptionResponseMessage;
 import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.RejectionMessage;
+import de.fraunhofer.iais.eis.RejectionReason;
 import de.fraunhofer.iais.eis.Representation;
 import de.fraunhofer.iais.eis.RepresentationBuilder;
 import de.fraunhofer.iais.eis.Resource;
@@ -32,37 +34,49 @@ import de.fraunhofer.iais.eis.ResourceCatalog;
 import de.fraunhofer.iais.eis.ResourceCatalogBuilder;
 import de.fraunhofer.iais.eis.TokenFormat;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartRequest;
+import org.eclipse.dataspaceconnector.ids.api.multipart.message.StreamingCatalogPayload;
+import org.eclipse.dataspaceconnector.ids.core.serialization.IdsTypeManagerUtil;
 import org.eclipse.dataspaceconnector.ids.spi.domain.connector.Connector;
 import org.eclipse.dataspaceconnector.ids.spi.service.CatalogService;
 import org.eclipse.dataspaceconnector.ids.spi.service.ConnectorService;
 import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTransformerRegistry;
 import org.eclipse.dataspaceconnector.ids.spi.types.IdsId;
 import org.eclipse.dataspaceconnector.ids.spi.types.IdsType;
+import org.eclipse.dataspaceconnector.ids.spi.types.container.OfferedAsset;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferService;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspaceconnector.ids.spi.domain.IdsConstants.CONTINUATION_TOKEN_PROPERTY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -78,6 +92,7 @@ class DescriptionRequestHandlerTest {
     private static final String FILTER_EXPRESSION = "filterExpression";
     private static final String OFFSET = "offset";
     private static final String LIMIT = "limit";
+    private static final int MAX_PAGE_SIZE = 1000;
     private final int rangeFrom = 0;
     private final int rangeTo = 10;
     private IdsId connectorId;
@@ -100,7 +115,7 @@ class DescriptionRequestHandlerTest {
         connectorService = mock(ConnectorService.class);
 
         handler = new DescriptionRequestHandler(mock(Monitor.class), connectorId, transformerRegistry,
-                assetIndex, catalogService, contractOfferService, connectorService, new ObjectMapper());
+                assetIndex, catalogService, contractOfferService, connectorService, new ObjectMapper(), MAX_PAGE_SIZE, false);
     }
 
     @Test
@@ -173,6 +188,161 @@ class DescriptionRequestHandlerTest {
         verifyNoInteractions(connectorService, contractOfferService, assetIndex);
     }
 
+    @Test
+    void handleRequest_catalog_streamsOffers() throws IOException {
+        var objectMapper = IdsTypeManagerUtil.getIdsObjectMapper(new TypeManager());
+        var streamingHandler = new DescriptionRequestHandler(mock(Monitor.class), connectorId, transformerRegistry,
+                assetIndex, catalogService, contractOfferService, connectorService, objectMapper, MAX_PAGE_SIZE, true);
+        var catalog = Catalog.Builder.newInstance().id("1").contractOffers(new ArrayList<>()).build();
+        var request = MultipartRequest.Builder.newInstance()
+                .header(descriptionRequestMessage(URI.create("urn:catalog:1")))
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .build();
+
+        when(catalogService.getDataCatalogWithoutOffers(any())).thenReturn(catalog);
+        // the offers for the same asset are not consecutive when they come from several contract definitions
+        when(catalogService.getContractOffers(any(), any())).thenAnswer(invocation -> {
+            var query = (QuerySpec) invocation.getArgument(1);
+            return query.getOffset() == rangeFrom ?
+                    Stream.of(contractOffer("1", "a"), contractOffer("2", "b"), contractOffer("3", "a")) :
+                    Stream.of(contractOffer("4", "c"));
+        });
+        when(transformerRegistry.transform(catalog, ResourceCatalog.class))
+                .thenReturn(Result.success(new ResourceCatalogBuilder(URI.create("urn:catalog:1")).build()));
+        when(transformerRegistry.transform(any(OfferedAsset.class), eq(Resource.class))).thenAnswer(invocation -> {
+            var offeredAsset = (OfferedAsset) invocation.getArgument(0);
+            return Result.success(new ResourceBuilder(URI.create("urn:resource:" + offeredAsset.getAsset().getId())).build());
+        });
+
+        var response = streamingHandler.handleRequest(request);
+
+        assertThat(response.getHeader()).isInstanceOf(DescriptionResponseMessage.class);
+        assertThat(response.getHeader().getProperties()).containsKey(CONTINUATION_TOKEN_PROPERTY);
+        assertThat(response.getPayload()).isInstanceOf(StreamingCatalogPayload.class);
+        verify(catalogService, never()).getContractOffers(any(), argThat(query -> query.getOffset() == rangeFrom));
+
+        var output = new ByteArrayOutputStream();
+        ((StreamingCatalogPayload) response.getPayload()).write(output);
+
+        var json = objectMapper.readTree(output.toByteArray());
+        assertThat(json.get("@id").asText()).isEqualTo("urn:catalog:1");
+        assertThat(json.get("@context")).isNotNull();
+        var resources = json.get("ids:offeredResource");
+        assertThat(resources).hasSize(2);
+        assertThat(resources.get(0).get("@id").asText()).isEqualTo("urn:resource:a");
+        assertThat(resources.get(0).get("@context")).isNull();
+        assertThat(resources.get(1).get("@id").asText()).isEqualTo("urn:resource:b");
+        verify(transformerRegistry).transform(argThat(offeredAsset -> offeredAsset instanceof OfferedAsset &&
+                ((OfferedAsset) offeredAsset).getTargetingContractOffers().size() == 2), eq(Resource.class));
+        verify(catalogService).getContractOffers(any(), argThat(query -> query.getOffset() == rangeFrom && query.getLimit() == rangeTo));
+    }
+
+    @Test
+    void handleRequest_catalog_leavesDocumentUnterminated_whenOffersCannotBeTransformed() throws IOException {
+        var objectMapper = IdsTypeManagerUtil.getIdsObjectMapper(new TypeManager());
+        var streamingHandler = new DescriptionRequestHandler(mock(Monitor.class), connectorId, transformerRegistry,
+                assetIndex, catalogService, contractOfferService, connectorService, objectMapper, MAX_PAGE_SIZE, true);
+        var catalog = Catalog.Builder.newInstance().id("1").contractOffers(new ArrayList<>()).build();
+        var request = MultipartRequest.Builder.newInstance()
+                .header(descriptionRequestMessage(URI.create("urn:catalog:1")))
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .build();
+
+        when(catalogService.getDataCatalogWithoutOffers(any())).thenReturn(catalog);
+        when(catalogService.getContractOffers(any(), any())).thenAnswer(invocation -> Stream.of(contractOffer("1", "a"), contractOffer("2", "b")));
+        when(transformerRegistry.transform(catalog, ResourceCatalog.class))
+                .thenReturn(Result.success(new ResourceCatalogBuilder(URI.create("urn:catalog:1")).build()));
+        when(transformerRegistry.transform(any(OfferedAsset.class), eq(Resource.class))).thenAnswer(invocation -> {
+            var offeredAsset = (OfferedAsset) invocation.getArgument(0);
+            return "a".equals(offeredAsset.getAsset().getId()) ?
+                    Result.success(new ResourceBuilder(URI.create("urn:resource:a")).build()) : Result.failure("error");
+        });
+
+        var response = streamingHandler.handleRequest(request);
+        var output = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> ((StreamingCatalogPayload) response.getPayload()).write(output)).isInstanceOf(EdcException.class);
+        assertThatThrownBy(() -> objectMapper.readTree(output.toByteArray())).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void handleRequest_continuationToken_requestsNextPage() {
+        var pagingHandler = new DescriptionRequestHandler(mock(Monitor.class), connectorId, transformerRegistry,
+                assetIndex, catalogService, contractOfferService, connectorService, new ObjectMapper(), 5, false);
+        var offers = List.of(contractOffer("1", "a"), contractOffer("2", "b"), contractOffer("3", "c"), contractOffer("4", "d"), contractOffer("5", "e"));
+        var catalog = Catalog.Builder.newInstance().id("1").contractOffers(offers).build();
+        var message = descriptionRequestMessage(URI.create("urn:catalog:1"));
+        message.setProperty(CONTINUATION_TOKEN_PROPERTY, Base64.getUrlEncoder().withoutPadding().encodeToString("offset:20".getBytes(StandardCharsets.UTF_8)));
+        var request = MultipartRequest.Builder.newInstance()
+                .header(message)
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .build();
+
+        when(catalogService.getDataCatalog(any(), any())).thenReturn(catalog);
+        when(transformerRegistry.transform(catalog, ResourceCatalog.class)).thenReturn(Result.success(new ResourceCatalogBuilder().build()));
+
+        var response = pagingHandler.handleRequest(request);
+
+        assertThat(response.getHeader()).isInstanceOf(DescriptionResponseMessage.class);
+        var nextToken = (String) response.getHeader().getProperties().get(CONTINUATION_TOKEN_PROPERTY);
+        assertThat(new String(Base64.getUrlDecoder().decode(nextToken), StandardCharsets.UTF_8)).isEqualTo("offset:25");
+        verify(catalogService).getDataCatalog(any(), argThat(query -> query.getOffset() == 20 && query.getLimit() == 5));
+    }
+
+    @Test
+    void handleRequest_lastPage_omitsContinuationToken() {
+        var catalog = Catalog.Builder.newInstance().id("1").contractOffers(List.of(contractOffer("1", "a"))).build();
+        var request = MultipartRequest.Builder.newInstance()
+                .header(descriptionRequestMessage(URI.create("urn:catalog:1")))
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .build();
+
+        when(catalogService.getDataCatalog(any(), any())).thenReturn(catalog);
+        when(transformerRegistry.transform(catalog, ResourceCatalog.class)).thenReturn(Result.success(new ResourceCatalogBuilder().build()));
+
+        var response = handler.handleRequest(request);
+
+        assertThat(response.getHeader()).isInstanceOf(DescriptionResponseMessage.class);
+        assertThat(response.getHeader().getProperties()).doesNotContainKey(CONTINUATION_TOKEN_PROPERTY);
+    }
+
+    @Test
+    void handleRequest_streamedOffersExhausted_omitsContinuationToken() {
+        var streamingHandler = new DescriptionRequestHandler(mock(Monitor.class), connectorId, transformerRegistry,
+                assetIndex, catalogService, contractOfferService, connectorService, new ObjectMapper(), MAX_PAGE_SIZE, true);
+        var catalog = Catalog.Builder.newInstance().id("1").contractOffers(new ArrayList<>()).build();
+        var request = MultipartRequest.Builder.newInstance()
+                .header(descriptionRequestMessage(URI.create("urn:catalog:1")))
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .build();
+
+        when(catalogService.getDataCatalogWithoutOffers(any())).thenReturn(catalog);
+        when(catalogService.getContractOffers(any(), any())).thenReturn(Stream.empty());
+        when(transformerRegistry.transform(catalog, ResourceCatalog.class)).thenReturn(Result.success(new ResourceCatalogBuilder().build()));
+
+        var response = streamingHandler.handleRequest(request);
+
+        assertThat(response.getHeader()).isInstanceOf(DescriptionResponseMessage.class);
+        assertThat(response.getHeader().getProperties()).doesNotContainKey(CONTINUATION_TOKEN_PROPERTY);
+        verify(catalogService).getContractOffers(any(), argThat(query -> query.getOffset() == rangeTo && query.getLimit() == 1));
+    }
+
+    @Test
+    void handleRequest_invalidContinuationToken_returnBadParameters() {
+        var message = descriptionRequestMessage(URI.create("urn:catalog:1"));
+        message.setProperty(CONTINUATION_TOKEN_PROPERTY, "invalid");
+        var request = MultipartRequest.Builder.newInstance()
+                .header(message)
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .build();
+
+        var response = handler.handleRequest(request);
+
+        assertThat(response.getHeader()).isInstanceOf(RejectionMessage.class);
+        assertThat(((RejectionMessage) response.getHeader()).getRejectionReason()).isEqualTo(RejectionReason.BAD_PARAMETERS);
+        verifyNoInteractions(catalogService, connectorService);
+    }
+
     @Test
     void handleRequest_resource_returnDescription() {
         var assetId = "1";
@@ -263,6 +433,14 @@ class DescriptionRequestHandlerTest {
         verifyNoInteractions(connectorService, catalogService, contractOfferService);
     }
 
+    private ContractOffer contractOffer(String id, String assetId) {
+        return ContractOffer.Builder.newInstance()
+                .id(id)
+                .policy(Policy.Builder.newInstance().build())
+                .asset(Asset.Builder.newInstance().id(assetId).build())
+                .build();
+    }
+
     private DescriptionRequestMessage descriptionRequestMessage(URI requestedElement) {
         var message = (DescriptionRequestMessageImpl) new DescriptionRequestMessageBuilder()
                 ._senderAgent_(URI.create("senderAgent"))
@@ -16,6 +16,7 @@
 val infoModelVersion: String by project
 val rsApi: String by project
 val okHttpVersion: String by project
+val micrometerVersion: String by project
 
 plugins {
     `java-library`
@@ -30,6 +31,7 @@ dependencies {
 
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
     implementation("com.squareup.okhttp3:okhttp:${okHttpVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
     implementation(project(":data-protocols:ids:ids-jsonld-serdes"))
 }
 
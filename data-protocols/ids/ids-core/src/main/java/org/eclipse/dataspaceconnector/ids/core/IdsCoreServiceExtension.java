@@ -15,6 +15,8 @@
 
 package org.eclipse.dataspaceconnector.ids.core;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.ids.core.serialization.IdsTypeManagerUtil;
 import org.eclipse.dataspaceconnector.ids.core.service.CatalogServiceImpl;
@@ -68,6 +70,9 @@ public class IdsCoreServiceExtension implements ServiceExtension {
     @Inject
     private OkHttpClient okHttpClient;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -107,7 +112,7 @@ public class IdsCoreServiceExtension implements ServiceExtension {
         var connectorService = new ConnectorServiceImpl(monitor, connectorServiceSettings, dataCatalogService);
         context.registerService(ConnectorService.class, connectorService);
 
-        context.registerService(DynamicAttributeTokenService.class, new DynamicAttributeTokenServiceImpl(identityService));
+        context.registerService(DynamicAttributeTokenService.class, new DynamicAttributeTokenServiceImpl(identityService, meterRegistry != null ? meterRegistry : Metrics.globalRegistry));
     }
 
     private String resolveCatalogId(ServiceExtensionContext context) {
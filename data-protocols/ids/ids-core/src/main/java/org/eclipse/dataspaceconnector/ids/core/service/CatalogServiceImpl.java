@@ -22,9 +22,12 @@ import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferService;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
@@ -47,17 +50,31 @@ public class CatalogServiceImpl implements CatalogService {
     @Override
     @NotNull
     public Catalog getDataCatalog(ClaimToken claimToken, QuerySpec querySpec) {
+        try (var offers = getContractOffers(claimToken, querySpec)) {
+            return Catalog.Builder.newInstance()
+                    .id(dataCatalogId)
+                    .contractOffers(offers.collect(toList()))
+                    .build();
+        }
+    }
 
+    @Override
+    @NotNull
+    public Catalog getDataCatalogWithoutOffers(ClaimToken claimToken) {
+        return Catalog.Builder.newInstance()
+                .id(dataCatalogId)
+                .contractOffers(new ArrayList<>())
+                .build();
+    }
+
+    @Override
+    @NotNull
+    public Stream<ContractOffer> getContractOffers(ClaimToken claimToken, QuerySpec querySpec) {
         var query = ContractOfferQuery.Builder.newInstance()
                 .claimToken(claimToken)
                 .assetsCriteria(querySpec.getFilterExpression())
                 .range(querySpec.getRange()).build();
 
-        try (var offers = contractOfferService.queryContractOffers(query)) {
-            return Catalog.Builder.newInstance()
-                    .id(dataCatalogId)
-                    .contractOffers(offers.collect(toList()))
-                    .build();
-        }
+        return contractOfferService.queryContractOffers(query);
     }
 }
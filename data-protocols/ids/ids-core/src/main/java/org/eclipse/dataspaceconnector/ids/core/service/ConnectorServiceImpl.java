@@ -22,6 +22,7 @@ import org.eclipse.dataspaceconnector.ids.spi.service.ConnectorService;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
@@ -48,8 +49,18 @@ public class ConnectorServiceImpl implements ConnectorService {
     public Connector getConnector(@NotNull ClaimToken claimToken, QuerySpec querySpec) {
         Objects.requireNonNull(claimToken);
 
-        var catalog = dataCatalogService.getDataCatalog(claimToken, querySpec);
+        return buildConnector(dataCatalogService.getDataCatalog(claimToken, querySpec));
+    }
+
+    @NotNull
+    @Override
+    public Connector getConnectorWithoutOffers(@NotNull ClaimToken claimToken) {
+        Objects.requireNonNull(claimToken);
+
+        return buildConnector(dataCatalogService.getDataCatalogWithoutOffers(claimToken));
+    }
 
+    private Connector buildConnector(Catalog catalog) {
         return Connector.Builder
                 .newInstance()
                 .id(connectorServiceSettings.getId())
@@ -17,6 +17,9 @@ package org.eclipse.dataspaceconnector.ids.core.service;
 import de.fraunhofer.iais.eis.DynamicAttributeToken;
 import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
 import de.fraunhofer.iais.eis.TokenFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.eclipse.dataspaceconnector.ids.spi.service.DynamicAttributeTokenService;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
@@ -31,19 +34,31 @@ public class DynamicAttributeTokenServiceImpl implements DynamicAttributeTokenSe
     
     private static final String TOKEN_SCOPE = "idsc:IDS_CONNECTOR_ATTRIBUTES_ALL";
     
-    private IdentityService identityService;
+    private final IdentityService identityService;
+    private final Timer tokenIssuance;
     
     public DynamicAttributeTokenServiceImpl(IdentityService identityService) {
+        this(identityService, Metrics.globalRegistry);
+    }
+    
+    public DynamicAttributeTokenServiceImpl(IdentityService identityService, MeterRegistry meterRegistry) {
         this.identityService = identityService;
+        tokenIssuance = Timer.builder("edc.ids.token.issuance")
+                .description("Time spent obtaining the tokens of outgoing IDS messages, requests and responses")
+                .register(meterRegistry);
     }
     
+    /**
+     * Obtains the token from the {@link IdentityService}, which is expected to reuse its tokens as long as they are valid,
+     * as the token is obtained for every message sent and for every response.
+     */
     @Override
     public Result<DynamicAttributeToken> obtainDynamicAttributeToken(String recipientAddress) {
         var tokenParameters = TokenParameters.Builder.newInstance()
                 .scope(TOKEN_SCOPE)
                 .audience(recipientAddress)
                 .build();
-        return identityService.obtainClientCredentials(tokenParameters)
+        return tokenIssuance.record(() -> identityService.obtainClientCredentials(tokenParameters))
                 .map(credentials -> new DynamicAttributeTokenBuilder()
                         ._tokenFormat_(TokenFormat.JWT)
                         ._tokenValue_(credentials.getToken())
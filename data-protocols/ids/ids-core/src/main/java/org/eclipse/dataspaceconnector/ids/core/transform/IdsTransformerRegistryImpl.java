@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.ids.core.transform;
 
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
 import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTransformerRegistry;
 import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTypeTransformer;
 import org.eclipse.dataspaceconnector.spi.EdcException;
@@ -23,20 +24,29 @@ import org.eclipse.dataspaceconnector.spi.transformer.TransformerContextImpl;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implements a {@link IdsTransformerRegistry} that recursively dispatches to transformers for type conversion.
+ * <p>
+ * The transformer eligible for a pair of concrete input class and output type is resolved once by walking the class
+ * hierarchy of the input, and then looked up in a dispatch table, which also records the pairs without transformer. The
+ * table is cleared when a transformer is registered, and bounded by evicting the least recently used pairs.
  */
 public class IdsTransformerRegistryImpl implements IdsTransformerRegistry {
-    private final Map<TransformKey, IdsTypeTransformer<?, ?>> transformers = new HashMap<>();
+    private static final Object NO_TRANSFORMER = new Object();
+    private static final int MAX_RESOLVED = 10_000;
+
+    private final Map<TransformKey, IdsTypeTransformer<?, ?>> transformers = new ConcurrentHashMap<>();
+    private final ExpiringLruCache<TransformKey, Object> resolved = new ExpiringLruCache<>(MAX_RESOLVED);
 
     @Override
     public void register(IdsTypeTransformer<?, ?> transformer) {
         Objects.requireNonNull(transformer);
         transformers.put(new TransformKey(transformer.getInputType(), transformer.getOutputType()), transformer);
+        resolved.invalidate();
     }
 
     @Override
@@ -59,14 +69,30 @@ public class IdsTransformerRegistryImpl implements IdsTransformerRegistry {
 
     @SuppressWarnings({ "unchecked" })
     private <INPUT, OUTPUT> IdsTypeTransformer<INPUT, OUTPUT> findEligibleTransformer(INPUT object, Class<OUTPUT> outputType) {
-        IdsTypeTransformer<INPUT, OUTPUT> idsTypeTransformer;
+        var key = new TransformKey(object.getClass(), outputType);
+        var entry = resolved.get(key);
+        if (entry == null) {
+            // a resolution made while a transformer got registered could already be stale
+            var version = resolved.version();
+            var transformer = resolveTransformer(key.input, outputType);
+            entry = transformer != null ? transformer : NO_TRANSFORMER;
+            resolved.put(key, entry, ExpiringLruCache.NEVER, version);
+        }
+        return entry == NO_TRANSFORMER ? null : (IdsTypeTransformer<INPUT, OUTPUT>) entry;
+    }
+
+    /**
+     * Walks the class hierarchy of the input, looking for a transformer registered for the class or one of its interfaces.
+     */
+    private @Nullable IdsTypeTransformer<?, ?> resolveTransformer(Class<?> concreteClass, Class<?> outputType) {
+        IdsTypeTransformer<?, ?> idsTypeTransformer;
 
-        Class<?> inputClass = object.getClass();
+        Class<?> inputClass = concreteClass;
         do {
-            idsTypeTransformer = (IdsTypeTransformer<INPUT, OUTPUT>) transformers.get(new TransformKey(inputClass, outputType));
+            idsTypeTransformer = transformers.get(new TransformKey(inputClass, outputType));
             if (idsTypeTransformer == null) {
                 for (Class<?> anInterface : inputClass.getInterfaces()) {
-                    idsTypeTransformer = (IdsTypeTransformer<INPUT, OUTPUT>) transformers.get(new TransformKey(anInterface, outputType));
+                    idsTypeTransformer = transformers.get(new TransformKey(anInterface, outputType));
                     if (idsTypeTransformer != null) {
                         break;
                     }
@@ -30,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class CatalogServiceImplTest {
@@ -68,4 +69,13 @@ class CatalogServiceImplTest {
         verify(contractOfferService).queryContractOffers(any(ContractOfferQuery.class));
     }
 
+    @Test
+    void getDataCatalogWithoutOffers_doesNotQueryOffers() {
+        var result = dataCatalogService.getDataCatalogWithoutOffers(ClaimToken.Builder.newInstance().build());
+
+        assertThat(result.getId()).isEqualTo(CATALOG_ID);
+        assertThat(result.getContractOffers()).isEmpty();
+        verifyNoInteractions(contractOfferService);
+    }
+
 }
@@ -15,14 +15,17 @@
 package org.eclipse.dataspaceconnector.ids.core.transform;
 
 import org.eclipse.dataspaceconnector.ids.spi.transform.IdsTypeTransformer;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.transformer.TransformerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,6 +66,35 @@ class IdsTransformerRegistryImplTest {
         verify(fooBarTransformer).transform(isA(Foo.class), isA(TransformerContext.class));
     }
 
+    @Test
+    void verifyDispatchToSuperclassAndInterface() {
+        var fooBarTransformer = createMock(Foo.class, Bar.class);
+        when(fooBarTransformer.transform(isA(Foo.class), isA(TransformerContext.class))).thenReturn(new Bar());
+        var quxBazTransformer = createMock(Qux.class, Baz.class);
+        when(quxBazTransformer.transform(isA(Qux.class), isA(TransformerContext.class))).thenReturn(new Baz());
+
+        registry.register(fooBarTransformer);
+        registry.register(quxBazTransformer);
+
+        assertNotNull(registry.transform(new SubFoo(), Bar.class).getContent());
+        assertNotNull(registry.transform(new SubFoo(), Bar.class).getContent());
+        assertNotNull(registry.transform(new SubFoo(), Baz.class).getContent());
+        verify(fooBarTransformer, times(2)).transform(isA(SubFoo.class), isA(TransformerContext.class));
+        verify(quxBazTransformer).transform(isA(SubFoo.class), isA(TransformerContext.class));
+    }
+
+    @Test
+    void verifyTransformerRegisteredAfterMissingDispatch() {
+        assertThatThrownBy(() -> registry.transform(new Foo(), Bar.class)).isInstanceOf(EdcException.class);
+        assertThatThrownBy(() -> registry.transform(new Foo(), Bar.class)).isInstanceOf(EdcException.class);
+
+        var fooBarTransformer = createMock(Foo.class, Bar.class);
+        when(fooBarTransformer.transform(isA(Foo.class), isA(TransformerContext.class))).thenReturn(new Bar());
+        registry.register(fooBarTransformer);
+
+        assertNotNull(registry.transform(new Foo(), Bar.class).getContent());
+    }
+
     @BeforeEach
     void setUp() {
         registry = new IdsTransformerRegistryImpl();
@@ -79,6 +111,14 @@ class IdsTransformerRegistryImplTest {
 
     }
 
+    private interface Qux {
+
+    }
+
+    private static class SubFoo extends Foo implements Qux {
+
+    }
+
     private static class Bar {
 
     }
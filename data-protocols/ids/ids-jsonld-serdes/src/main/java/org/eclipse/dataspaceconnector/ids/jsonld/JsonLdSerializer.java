@@ -16,116 +16,226 @@ package org.eclipse.dataspaceconnector.ids.jsonld;
 
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerBuilder;
 import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Custom Jackson serializer for any {@link Object}. Adds type and context information to result object.
+ * <p>
+ * The bean serializers the object is delegated to are created once per serialization config, and the way an object is
+ * written is planned once per runtime class, so that serializing does not need any reflection. The object is never
+ * modified: its RDF metadata (comment and label) and its custom properties are left out of the delegate serializer
+ * instead, and the custom properties are written as root properties. Thus, the same object can be serialized
+ * concurrently.
  *
  * @param <T> The object that should be serialized.
  */
 public class JsonLdSerializer<T> extends JsonSerializer<T> {
-    private final Class<T> type;
-    private final String contextInformation;
+    private static final SerializedString CONTEXT = new SerializedString("@context");
+    private static final SerializedString TYPE = new SerializedString("@type");
+
+    /**
+     * Key of the per-call attribute holding the depth of nested JSON-LD objects.
+     */
+    private static final Object DEPTH_ATTRIBUTE = JsonLdSerializer.class.getName() + ".depth";
+
+    private static final Set<String> RDF_METADATA = Set.of("properties", "comment", "label");
+    private static final Set<String> RDF_METADATA_ACCESSORS = Set.of("getProperties", "getComment", "getLabel");
 
-    private static final ThreadLocal<Integer> CURRENT_RECURSION_DEPTH = ThreadLocal.withInitial(() -> 0);
+    private static final BeanSerializerFactory RDF_METADATA_IGNORING_FACTORY =
+            (BeanSerializerFactory) BeanSerializerFactory.instance.withSerializerModifier(new RdfMetadataRemover());
+
+    private static final ClassValue<ClassPlan> CLASS_PLANS = new ClassValue<>() {
+        @Override
+        protected ClassPlan computeValue(Class<?> type) {
+            return new ClassPlan(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final SerializedString contextInformation;
+    private volatile Delegates delegates;
 
     public JsonLdSerializer(Class<T> type, String contextInformation) {
         this.type = type;
-        this.contextInformation = contextInformation;
+        this.contextInformation = new SerializedString(contextInformation);
+    }
+
+    /**
+     * Returns a writer for objects nested into a JSON-LD document that is written separately, e.g. streamed, which
+     * leaves out their context like the serializer does for nested objects.
+     */
+    public static ObjectWriter nestedObjectWriter(ObjectMapper objectMapper) {
+        return objectMapper.writer().withAttribute(DEPTH_ATTRIBUTE, 1);
     }
 
     @Override
     public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
-        CURRENT_RECURSION_DEPTH.set(CURRENT_RECURSION_DEPTH.get() + 1);
-
-        Map<String, Object> propertiesMap = null;
+        var depth = (Integer) provider.getAttribute(DEPTH_ATTRIBUTE);
+        var currentDepth = depth != null ? depth + 1 : 1;
+        provider.setAttribute(DEPTH_ATTRIBUTE, currentDepth);
         try {
-            var field = value.getClass().getDeclaredField("properties");
-            field.setAccessible(true);
-            propertiesMap = (Map<String, Object>) field.get(value);
-        } catch (NoSuchFieldException | IllegalAccessException ignore) {
-            // empty
+            write(value, generator, provider, currentDepth);
+        } finally {
+            provider.setAttribute(DEPTH_ATTRIBUTE, currentDepth - 1);
         }
-        removeProperty(value, "properties");
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer ser) throws IOException {
+        serialize(value, gen, provider);
+    }
 
-        // remove properties "comment" and "label"
-        removeProperty(value, "comment");
-        removeProperty(value, "label");
+    private void write(T value, JsonGenerator generator, SerializerProvider provider, int depth) throws IOException {
+        var plan = CLASS_PLANS.get(value.getClass());
 
         generator.writeStartObject();
 
         // write new object
-        var serializer = instantiateSerializerFromProvider(provider, type);
-        serializer.unwrappingSerializer(null).serialize(value, generator, provider);
+        var resolved = getDelegates(provider);
+        var serializer = plan.hasRdfMetadata ? resolved.withoutRdfMetadata : resolved.all;
+        serializer.serialize(value, generator, provider);
 
-        if (CURRENT_RECURSION_DEPTH.get() == 1) {
+        if (depth == 1) {
             // context needed only once (for parent object)
-            generator.writeObjectField("@context", contextInformation);
+            generator.writeFieldName(CONTEXT);
+            generator.writeString(contextInformation);
         }
 
         // add type property
-        var type = getTypeName(value.getClass());
-        if (type != null) {
-            generator.writeObjectField("@type", type);
+        if (plan.typeName != null) {
+            generator.writeFieldName(TYPE);
+            generator.writeString(plan.typeName);
         }
 
         // add custom properties as root properties (not in a separate "properties" map)
-        if (propertiesMap != null) {
-            for (var key : propertiesMap.keySet()) {
-                var val = propertiesMap.get(key);
+        var properties = plan.getProperties(value);
+        if (properties != null) {
+            for (var entry : properties.entrySet()) {
+                var val = entry.getValue();
                 if (val instanceof URI) {
-                    generator.writeStringField(key, val.toString());
+                    generator.writeStringField(entry.getKey(), val.toString());
                 } else {
-                    generator.writeObjectField(key, val);
+                    generator.writeObjectField(entry.getKey(), val);
                 }
             }
         }
 
         generator.writeEndObject();
-
-        CURRENT_RECURSION_DEPTH.set(CURRENT_RECURSION_DEPTH.get() - 1);
     }
 
-    @Override
-    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer ser) throws IOException {
-        serialize(value, gen, provider);
+    private Delegates getDelegates(SerializerProvider provider) throws JsonMappingException {
+        var current = delegates;
+        if (current == null || current.config != provider.getConfig()) {
+            current = new Delegates(provider, type);
+            delegates = current;
+        }
+        return current;
     }
 
-    private void removeProperty(Object value, String name) {
-        try {
-            var field = value.getClass().getDeclaredField(name);
-            field.setAccessible(true);
-            field.set(value, null);
-        } catch (NoSuchFieldException | IllegalAccessException ignore) {
-            // empty
+    /**
+     * The unwrapping bean serializers of the serialized type for a serialization config, with and without the RDF metadata.
+     */
+    private static class Delegates {
+        private final SerializationConfig config;
+        private final JsonSerializer<Object> all;
+        private final JsonSerializer<Object> withoutRdfMetadata;
+
+        Delegates(SerializerProvider provider, Class<?> type) throws JsonMappingException {
+            config = provider.getConfig();
+            all = createUnwrappingSerializer(BeanSerializerFactory.instance, provider, type);
+            withoutRdfMetadata = createUnwrappingSerializer(RDF_METADATA_IGNORING_FACTORY, provider, type);
+        }
+
+        private static JsonSerializer<Object> createUnwrappingSerializer(BeanSerializerFactory factory, SerializerProvider provider, Class<?> type) throws JsonMappingException {
+            var javaType = provider.constructType(type);
+            var beanDescription = provider.getConfig().introspect(javaType);
+            var staticTyping = provider.isEnabled(MapperFeature.USE_STATIC_TYPING);
+            var serializer = factory.findBeanOrAddOnSerializer(provider, javaType, beanDescription, staticTyping);
+            if (serializer instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) serializer).resolve(provider);
+            }
+            return serializer.unwrappingSerializer(NameTransformer.NOP);
         }
     }
 
-    private String getTypeName(Class<?> clazz) {
-        var typeName = clazz.getAnnotation(JsonTypeName.class);
-        if (typeName != null) {
-            var value = typeName.value();
-            if (value == null) {
-                getTypeName(clazz.getSuperclass());
+    /**
+     * How the objects of a runtime class are written: whether the class holds RDF metadata and custom properties, which
+     * are not written by the delegate serializer, and the JSON-LD type of the class.
+     */
+    private static class ClassPlan {
+        private final boolean hasRdfMetadata;
+        private final Field properties;
+        private final SerializedString typeName;
+
+        ClassPlan(Class<?> type) {
+            var rdfMetadata = false;
+            Field propertiesField = null;
+            for (var field : type.getDeclaredFields()) {
+                if (RDF_METADATA.contains(field.getName())) {
+                    rdfMetadata = true;
+                    if ("properties".equals(field.getName()) && Map.class.isAssignableFrom(field.getType()) && field.trySetAccessible()) {
+                        propertiesField = field;
+                    }
+                }
+            }
+            hasRdfMetadata = rdfMetadata;
+            properties = propertiesField;
+
+            var typeNameAnnotation = type.getAnnotation(JsonTypeName.class);
+            typeName = typeNameAnnotation != null ? new SerializedString(typeNameAnnotation.value()) : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        Map<String, Object> getProperties(Object value) {
+            if (properties == null) {
+                return null;
+            }
+            try {
+                return (Map<String, Object>) properties.get(value);
+            } catch (IllegalAccessException e) {
+                return null;
             }
-            return value;
         }
-        return null;
     }
 
-    private JsonSerializer<Object> instantiateSerializerFromProvider(SerializerProvider provider, Class<T> type) throws JsonMappingException {
-        var javaType = provider.constructType(type);
-        var beanDescription = provider.getConfig().introspect(javaType);
-        var staticTyping = provider.isEnabled(MapperFeature.USE_STATIC_TYPING);
-        return BeanSerializerFactory.instance.findBeanOrAddOnSerializer(provider, javaType, beanDescription, staticTyping);
+    /**
+     * Leaves the RDF metadata and the custom properties out of the bean serializer.
+     */
+    private static class RdfMetadataRemover extends BeanSerializerModifier {
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+            beanProperties.removeIf(property -> RDF_METADATA.contains(property.getName()) || RDF_METADATA_ACCESSORS.contains(property.getMember().getName()));
+            return beanProperties;
+        }
+
+        @Override
+        public BeanSerializerBuilder updateBuilder(SerializationConfig config, BeanDescription beanDesc, BeanSerializerBuilder builder) {
+            builder.setAnyGetter(null);
+            return builder;
+        }
     }
 }
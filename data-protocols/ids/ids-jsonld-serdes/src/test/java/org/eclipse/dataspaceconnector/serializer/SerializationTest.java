@@ -67,6 +67,8 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.util.Collections;
+import java.util.concurrent.Executors;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -358,6 +360,45 @@ class SerializationTest {
         assertEquals(resultString, objectMapper.writeValueAsString(resultObj));
     }
 
+    @Test
+    void serialize_doesNotModifyObject() throws IOException {
+        var artifact = getArtifact();
+
+        var first = objectMapper.writeValueAsString(artifact);
+        var second = objectMapper.writeValueAsString(artifact);
+
+        assertEquals(first, second);
+        assertEquals("value", artifact.getProperties().get("key"));
+        assertEquals("value", objectMapper.readValue(first, JsonNode.class).get("key").asText());
+        assertThat(artifact.getLabel()).isNotNull();
+        assertThat(artifact.getComment()).isNotNull();
+    }
+
+    @Test
+    void serialize_contextOnlyOnRootObject() throws IOException {
+        var result = objectMapper.readValue(objectMapper.writeValueAsString(getCatalog()), JsonNode.class);
+
+        assertNotNull(result.get("@context"));
+        var resource = result.get("ids:offeredResource").get(0);
+        assertEquals("ids:Resource", resource.get("@type").asText());
+        assertNull(resource.get("@context"));
+    }
+
+    @Test
+    void serialize_concurrently() throws Exception {
+        var catalog = getCatalog();
+        var expected = objectMapper.writeValueAsString(catalog);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var results = executor.invokeAll(Collections.nCopies(100, () -> objectMapper.writeValueAsString(catalog)));
+            for (var result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     // build objects
 
     private ContractOffer getContract() {
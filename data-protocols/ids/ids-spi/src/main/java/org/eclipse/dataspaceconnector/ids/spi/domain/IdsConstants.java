@@ -30,6 +30,12 @@ public final class IdsConstants {
      */
     public static final String IDS_WEBHOOK_ADDRESS_PROPERTY = "idsWebhookAddress";
 
+    /**
+     * Continuation token of a paged description response, to be set on the next description request to get the
+     * following page of contract offers.
+     */
+    public static final String CONTINUATION_TOKEN_PROPERTY = "continuationToken";
+
     /**
      * Version of the used IDS information model library.
      */
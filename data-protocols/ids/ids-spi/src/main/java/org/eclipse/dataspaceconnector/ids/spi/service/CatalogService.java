@@ -19,8 +19,12 @@ import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.ExtensionPoin
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
 /**
  * The IDS service is able to create a description of the EDC data catalog.
  */
@@ -34,4 +38,28 @@ public interface CatalogService {
      */
     @NotNull
     Catalog getDataCatalog(ClaimToken claimToken, QuerySpec querySpec);
+
+    /**
+     * Provides the data catalog without its contract offers, which are streamed with
+     * {@link #getContractOffers(ClaimToken, QuerySpec)}.
+     *
+     * @return data catalog holding no contract offers
+     */
+    @NotNull
+    default Catalog getDataCatalogWithoutOffers(ClaimToken claimToken) {
+        var catalog = getDataCatalog(claimToken, QuerySpec.Builder.newInstance().limit(1).build());
+        return Catalog.Builder.newInstance().id(catalog.getId()).contractOffers(new ArrayList<>()).build();
+    }
+
+    /**
+     * Streams the contract offers of the data catalog, in the order of {@link #getDataCatalog(ClaimToken, QuerySpec)},
+     * so that a large catalog can be written without holding all its offers in memory. The stream must be closed after
+     * use.
+     *
+     * @return contract offers of the data catalog
+     */
+    @NotNull
+    default Stream<ContractOffer> getContractOffers(ClaimToken claimToken, QuerySpec querySpec) {
+        return getDataCatalog(claimToken, querySpec).getContractOffers().stream();
+    }
 }
@@ -19,8 +19,13 @@ import org.eclipse.dataspaceconnector.ids.spi.domain.connector.Connector;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+
+import static java.util.stream.Collectors.toList;
+
 
 /**
  * The IDS service is able to create IDS compliant descriptions of resources. These descriptions may be used to create a
@@ -36,4 +41,29 @@ public interface ConnectorService {
      */
     @NotNull
     Connector getConnector(@NotNull ClaimToken claimToken, QuerySpec querySpec);
+
+    /**
+     * Provides the connector object with data catalogs that hold no contract offers, the offers being streamed with
+     * {@link CatalogService#getContractOffers(ClaimToken, QuerySpec)}.
+     *
+     * @return connector description without contract offers
+     */
+    @NotNull
+    default Connector getConnectorWithoutOffers(@NotNull ClaimToken claimToken) {
+        var connector = getConnector(claimToken, QuerySpec.Builder.newInstance().limit(1).build());
+        var dataCatalogs = connector.getDataCatalogs() == null ? null : connector.getDataCatalogs().stream()
+                .map(catalog -> Catalog.Builder.newInstance().id(catalog.getId()).contractOffers(new ArrayList<>()).build())
+                .collect(toList());
+        return Connector.Builder.newInstance()
+                .id(connector.getId())
+                .title(connector.getTitle())
+                .description(connector.getDescription())
+                .connectorVersion(connector.getConnectorVersion())
+                .securityProfile(connector.getSecurityProfile())
+                .dataCatalogs(dataCatalogs)
+                .endpoint(connector.getEndpoint())
+                .maintainer(connector.getMaintainer())
+                .curator(connector.getCurator())
+                .build();
+    }
 }
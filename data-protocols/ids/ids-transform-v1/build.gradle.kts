@@ -17,6 +17,7 @@ val rsApi: String by project
 
 plugins {
     `java-library`
+    id("me.champeau.jmh")
 }
 
 
@@ -33,6 +34,10 @@ dependencies {
 
 }
 
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
+}
+
 publishing {
     publications {
         create<MavenPublication>("ids-api-transform-v1") {
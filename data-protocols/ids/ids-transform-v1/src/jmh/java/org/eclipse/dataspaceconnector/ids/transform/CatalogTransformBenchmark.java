@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.transform;
+
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import org.eclipse.dataspaceconnector.ids.core.transform.IdsTransformerRegistryImpl;
+import org.eclipse.dataspaceconnector.ids.transform.type.asset.AssetFromIdsArtifactTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.asset.AssetFromIdsRepresentationTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.asset.AssetFromIdsResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.asset.AssetToIdsArtifactTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.asset.AssetToIdsRepresentationTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.asset.AssetToIdsResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.asset.OfferedAssetToIdsResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.connector.CatalogFromIdsResourceCatalogTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.connector.CatalogToIdsResourceCatalogTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.connector.ConnectorToIdsConnectorTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.connector.SecurityProfileToIdsSecurityProfileTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.contract.ContractAgreementFromIdsContractAgreementTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.contract.ContractAgreementToIdsContractAgreementTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.contract.ContractOfferFromIdsContractOfferOrRequestTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.contract.ContractOfferToIdsContractOfferTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ActionToIdsActionTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ConstraintFromIdsConstraintTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ConstraintFromIdsLogicalConstraintTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ConstraintToIdsConstraintTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ConstraintToIdsLogicalConstraintTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.DutyToIdsDutyTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ExpressionFromIdsLeftOperandTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ExpressionFromIdsRdfResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ExpressionToIdsLeftOperandTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ExpressionToIdsRdfResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.OperatorFromIdsBinaryOperatorTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.OperatorToIdsBinaryOperatorTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.PermissionFromIdsPermissionTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.PermissionToIdsPermissionTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ProhibitionFromIdsProhibitionTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.type.policy.ProhibitionToIdsProhibitionTransformer;
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraint;
+import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.dataspaceconnector.policy.model.Operator.EQ;
+
+/**
+ * Measures the transformation of a large catalog to its IDS representation and back, as it happens when a catalog is
+ * served by the provider and read by the consumer. Every offer holds a policy with constraints, so that the registry
+ * dispatches to nested transformers many times per offer.
+ * <p>
+ * Run with {@code ./gradlew :data-protocols:ids:ids-transform-v1:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogTransformBenchmark {
+
+    @Param({ "10000" })
+    private int offers;
+
+    private IdsTransformerRegistryImpl registry;
+    private Catalog catalog;
+    private ResourceCatalog resourceCatalog;
+
+    @Setup
+    public void setUp() {
+        registry = new IdsTransformerRegistryImpl();
+        registry.register(new ActionToIdsActionTransformer());
+        registry.register(new AssetToIdsArtifactTransformer());
+        registry.register(new AssetToIdsRepresentationTransformer());
+        registry.register(new AssetToIdsResourceTransformer());
+        registry.register(new ConnectorToIdsConnectorTransformer());
+        registry.register(new ConstraintToIdsConstraintTransformer());
+        registry.register(new ConstraintToIdsLogicalConstraintTransformer());
+        registry.register(new ContractOfferToIdsContractOfferTransformer());
+        registry.register(new ContractAgreementToIdsContractAgreementTransformer());
+        registry.register(new CatalogToIdsResourceCatalogTransformer());
+        registry.register(new DutyToIdsDutyTransformer());
+        registry.register(new ExpressionToIdsLeftOperandTransformer());
+        registry.register(new ExpressionToIdsRdfResourceTransformer());
+        registry.register(new AssetFromIdsArtifactTransformer());
+        registry.register(new OperatorFromIdsBinaryOperatorTransformer());
+        registry.register(new ConstraintFromIdsConstraintTransformer());
+        registry.register(new ConstraintFromIdsLogicalConstraintTransformer());
+        registry.register(new ContractAgreementFromIdsContractAgreementTransformer());
+        registry.register(new ContractOfferFromIdsContractOfferOrRequestTransformer());
+        registry.register(new ExpressionFromIdsLeftOperandTransformer());
+        registry.register(new PermissionFromIdsPermissionTransformer());
+        registry.register(new ProhibitionFromIdsProhibitionTransformer());
+        registry.register(new ExpressionFromIdsRdfResourceTransformer());
+        registry.register(new AssetFromIdsRepresentationTransformer());
+        registry.register(new AssetFromIdsResourceTransformer());
+        registry.register(new CatalogFromIdsResourceCatalogTransformer());
+        registry.register(new OfferedAssetToIdsResourceTransformer());
+        registry.register(new OperatorToIdsBinaryOperatorTransformer());
+        registry.register(new PermissionToIdsPermissionTransformer());
+        registry.register(new ProhibitionToIdsProhibitionTransformer());
+        registry.register(new SecurityProfileToIdsSecurityProfileTransformer());
+
+        var contractOffers = new ArrayList<ContractOffer>();
+        for (var i = 0; i < offers; i++) {
+            var asset = Asset.Builder.newInstance().id("asset" + i).contentType("application/json").build();
+            var policyBuilder = Policy.Builder.newInstance();
+            for (var j = 0; j < 3; j++) {
+                var constraint = AtomicConstraint.Builder.newInstance()
+                        .leftExpression(new LiteralExpression("key" + j))
+                        .operator(EQ)
+                        .rightExpression(new LiteralExpression("value" + j))
+                        .build();
+                policyBuilder.permission(Permission.Builder.newInstance()
+                        .target(asset.getId())
+                        .action(Action.Builder.newInstance().type("USE").build())
+                        .constraint(constraint)
+                        .build());
+            }
+            contractOffers.add(ContractOffer.Builder.newInstance().id("offer" + i).asset(asset).policy(policyBuilder.build()).build());
+        }
+        catalog = Catalog.Builder.newInstance().id("catalog").contractOffers(contractOffers).build();
+        resourceCatalog = toIds();
+    }
+
+    @Benchmark
+    public ResourceCatalog toIds() {
+        return content(registry.transform(catalog, ResourceCatalog.class));
+    }
+
+    @Benchmark
+    public Catalog fromIds() {
+        return content(registry.transform(resourceCatalog, Catalog.class));
+    }
+
+    private static <T> T content(Result<T> result) {
+        if (result.failed()) {
+            throw new EdcException("Transformation failed: " + result.getFailureDetail());
+        }
+        return result.getContent();
+    }
+}
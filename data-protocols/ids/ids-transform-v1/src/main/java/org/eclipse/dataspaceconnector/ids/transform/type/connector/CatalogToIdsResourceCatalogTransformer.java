@@ -29,6 +29,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -62,9 +63,12 @@ public class CatalogToIdsResourceCatalogTransformer implements IdsTypeTransforme
                 .distinct()
                 .collect(Collectors.toList());
 
+        // group once instead of filtering all the offers for every asset, which is quadratic for large catalogs
+        var offersByAssetId = contractOffers.stream()
+                .collect(Collectors.groupingBy(c -> c.getAsset().getId(), LinkedHashMap::new, Collectors.toList()));
+
         for (var asset : distinctAssets) {
-            var targetingOffers = contractOffers.stream()
-                    .filter(c -> c.getAsset().getId().equals(asset.getId())).collect(Collectors.toList());
+            var targetingOffers = offersByAssetId.get(asset.getId());
 
             var assetAndContractOffers = new OfferedAsset(asset, targetingOffers);
             var resource = context.transform(assetAndContractOffers, Resource.class);
@@ -30,4 +30,40 @@ public interface BlobAdapter {
     String getBlobName();
 
     long getBlobSize();
+
+    /**
+     * Returns the size and the ETag of the blob, read at once so that they are consistent with each other.
+     */
+    Properties getBlobProperties();
+
+    /**
+     * Downloads a range of the blob content, failing if the blob does not match the given ETag anymore.
+     *
+     * @param offset the offset of the range.
+     * @param count  the number of bytes of the range.
+     * @param eTag   the ETag the blob must match, or null to skip the check.
+     * @return the content of the range.
+     */
+    byte[] read(long offset, long count, String eTag);
+
+    /**
+     * The properties of a blob needed to read it in ranges.
+     */
+    class Properties {
+        private final long size;
+        private final String eTag;
+
+        public Properties(long size, String eTag) {
+            this.size = size;
+            this.eTag = eTag;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
 }
@@ -14,8 +14,12 @@
 
 package org.eclipse.dataspaceconnector.azure.blob.core.adapter;
 
+import com.azure.core.util.Context;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
 import com.azure.storage.blob.specialized.BlockBlobClient;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 
@@ -48,4 +52,18 @@ public class DefaultBlobAdapter implements BlobAdapter {
     public long getBlobSize() {
         return client.getProperties().getBlobSize();
     }
+
+    @Override
+    public Properties getBlobProperties() {
+        var properties = client.getProperties();
+        return new Properties(properties.getBlobSize(), properties.getETag());
+    }
+
+    @Override
+    public byte[] read(long offset, long count, String eTag) {
+        var output = new ByteArrayOutputStream((int) count);
+        var conditions = new BlobRequestConditions().setIfMatch(eTag);
+        client.downloadStreamWithResponse(output, new BlobRange(offset, count), null, conditions, false, null, Context.NONE);
+        return output.toByteArray();
+    }
 }
@@ -18,28 +18,56 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.JWK;
 import org.eclipse.dataspaceconnector.iam.did.crypto.key.EcPrivateKeyWrapper;
+import org.eclipse.dataspaceconnector.iam.did.resolution.CachingDidResolverRegistry;
 import org.eclipse.dataspaceconnector.iam.did.resolution.DidPublicKeyResolverImpl;
 import org.eclipse.dataspaceconnector.iam.did.resolution.DidResolverRegistryImpl;
 import org.eclipse.dataspaceconnector.iam.did.spi.key.PrivateKeyWrapper;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.EdcSetting;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Extension;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Inject;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Provides;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+    @EdcSetting(value = "how long resolved DID documents are cached if they do not state a max age, 0 disables the cache")
+    private static final String DID_CACHE_TTL = "edc.iam.did.cache.ttl.ms";
+    @EdcSetting(value = "how long resolved DID documents are cached at most, whatever the max age they state")
+    private static final String DID_CACHE_MAX_TTL = "edc.iam.did.cache.max-ttl.ms";
+    @EdcSetting(value = "how long failed DID resolutions are cached")
+    private static final String DID_CACHE_NEGATIVE_TTL = "edc.iam.did.cache.negative-ttl.ms";
+    @EdcSetting(value = "how long expired DID documents are still served while they are resolved again in the background")
+    private static final String DID_CACHE_STALE_WHILE_REVALIDATE = "edc.iam.did.cache.stale-while-revalidate.ms";
+    @EdcSetting(value = "maximum number of cached DID documents")
+    private static final String DID_CACHE_MAX_ENTRIES = "edc.iam.did.cache.max-entries";
+    private static final long DEFAULT_DID_CACHE_TTL = 300_000;
+    private static final long DEFAULT_DID_CACHE_MAX_TTL = 86_400_000;
+    private static final long DEFAULT_DID_CACHE_NEGATIVE_TTL = 30_000;
+    private static final long DEFAULT_DID_CACHE_STALE_WHILE_REVALIDATE = 60_000;
+    private static final int DEFAULT_DID_CACHE_MAX_ENTRIES = 1000;
+
     @Inject
     private PrivateKeyResolver privateKeyResolver;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService revalidationExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -47,7 +75,7 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        var didResolverRegistry = createResolverRegistry(context);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(didResolverRegistry);
@@ -56,6 +84,33 @@ public class IdentityDidCoreExtension implements ServiceExtension {
         registerParsers(privateKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (revalidationExecutor != null) {
+            revalidationExecutor.shutdownNow();
+        }
+    }
+
+    private DidResolverRegistry createResolverRegistry(ServiceExtensionContext context) {
+        var registry = new DidResolverRegistryImpl();
+        var ttl = context.getSetting(DID_CACHE_TTL, DEFAULT_DID_CACHE_TTL);
+        if (ttl <= 0) {
+            return registry;
+        }
+
+        revalidationExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "did-document-revalidation");
+        return CachingDidResolverRegistry.Builder.newInstance(registry)
+                .clock(context.getClock())
+                .defaultTtl(Duration.ofMillis(ttl))
+                .maxTtl(Duration.ofMillis(context.getSetting(DID_CACHE_MAX_TTL, DEFAULT_DID_CACHE_MAX_TTL)))
+                .negativeTtl(Duration.ofMillis(context.getSetting(DID_CACHE_NEGATIVE_TTL, DEFAULT_DID_CACHE_NEGATIVE_TTL)))
+                .staleWhileRevalidate(Duration.ofMillis(context.getSetting(DID_CACHE_STALE_WHILE_REVALIDATE, DEFAULT_DID_CACHE_STALE_WHILE_REVALIDATE)))
+                .maxEntries(context.getSetting(DID_CACHE_MAX_ENTRIES, DEFAULT_DID_CACHE_MAX_ENTRIES))
+                .revalidationExecutor(revalidationExecutor)
+                .monitor(context.getMonitor())
+                .build();
+    }
+
     private void registerParsers(PrivateKeyResolver resolver) {
 
         // add EC-/PEM-Parser
@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.did.resolution;
+
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Decorates a {@link DidResolverRegistry} with a cache of the resolved DID documents.
+ * <p>
+ * A document is cached for the max age stated by its resolver, e.g. taken from the HTTP cache headers of a Web DID, or
+ * for the default time-to-live if none is stated, but never longer than the maximum time-to-live. Once expired, it is
+ * still served during the stale-while-revalidate period while it is resolved again in the background. Failed resolutions
+ * are cached for the negative time-to-live, so that an unreachable DID does not cause a request for every token to
+ * verify. A failed revalidation keeps serving the stale document until the end of its stale-while-revalidate period. Once
+ * the cache is full, the least recently used resolution is evicted.
+ */
+public class CachingDidResolverRegistry implements DidResolverRegistry {
+    private final DidResolverRegistry delegate;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+    private ExpiringLruCache<String, CachedResolution> resolutions;
+    private Clock clock;
+    private long defaultTtlMillis;
+    private long maxTtlMillis;
+    private long negativeTtlMillis;
+    private long staleWhileRevalidateMillis;
+    private int maxEntries;
+    private Executor revalidationExecutor;
+    private Monitor monitor;
+
+    private CachingDidResolverRegistry(DidResolverRegistry delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Registers the resolver with the decorated registry. Cached resolutions are discarded, since a failure might have
+     * been cached for the DID method of the resolver.
+     */
+    @Override
+    public void register(DidResolver resolver) {
+        delegate.register(resolver);
+        invalidate();
+    }
+
+    @Override
+    public Result<DidDocument> resolve(String didKey) {
+        return resolveForCaching(didKey).map(DidResolution::getDocument);
+    }
+
+    @Override
+    public Result<DidResolution> resolveForCaching(String didKey) {
+        Objects.requireNonNull(didKey);
+        var now = clock.millis();
+        var cached = resolutions.get(didKey, now);
+        if (cached != null && now < cached.freshUntil) {
+            return cached.result;
+        }
+        if (cached != null) {
+            revalidateInBackground(didKey);
+            return cached.result;
+        }
+        return load(didKey, false);
+    }
+
+    /**
+     * Removes all the cached resolutions.
+     */
+    public void invalidate() {
+        resolutions.invalidate();
+    }
+
+    private void revalidateInBackground(String didKey) {
+        if (!revalidating.add(didKey)) {
+            return;
+        }
+        try {
+            revalidationExecutor.execute(() -> {
+                try {
+                    var result = load(didKey, true);
+                    if (result.failed()) {
+                        monitor.warning("Failed to revalidate DID document " + didKey + ": " + result.getFailureDetail());
+                    }
+                } catch (RuntimeException e) {
+                    monitor.warning("Failed to revalidate DID document " + didKey, e);
+                } finally {
+                    revalidating.remove(didKey);
+                }
+            });
+        } catch (RuntimeException e) {
+            revalidating.remove(didKey);
+            monitor.warning("Failed to schedule the revalidation of DID document " + didKey, e);
+        }
+    }
+
+    /**
+     * Resolves the document and caches the result. A failed revalidation leaves the stale document in place until the end
+     * of its stale-while-revalidate period.
+     */
+    private Result<DidResolution> load(String didKey, boolean revalidation) {
+        // a resolution made while the cache got invalidated could already be stale
+        var version = resolutions.version();
+        var requestedAt = clock.millis();
+        var result = delegate.resolveForCaching(didKey);
+
+        CachedResolution entry;
+        if (result.succeeded()) {
+            var maxAge = result.getContent().getMaxAge();
+            var ttl = Math.min(maxAge != null ? maxAge.toMillis() : defaultTtlMillis, maxTtlMillis);
+            if (ttl <= 0) {
+                resolutions.remove(didKey);
+                return result;
+            }
+            entry = new CachedResolution(result, requestedAt + ttl, requestedAt + ttl + staleWhileRevalidateMillis);
+        } else {
+            if (revalidation || negativeTtlMillis <= 0) {
+                return result;
+            }
+            entry = new CachedResolution(result, requestedAt + negativeTtlMillis, requestedAt + negativeTtlMillis);
+        }
+
+        resolutions.put(didKey, entry, entry.staleUntil, version);
+        return result;
+    }
+
+    private static class CachedResolution {
+        private final Result<DidResolution> result;
+        private final long freshUntil;
+        private final long staleUntil;
+
+        CachedResolution(Result<DidResolution> result, long freshUntil, long staleUntil) {
+            this.result = result;
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+        }
+    }
+
+    public static class Builder {
+        private final CachingDidResolverRegistry registry;
+
+        private Builder(DidResolverRegistry delegate) {
+            registry = new CachingDidResolverRegistry(delegate);
+            registry.clock = Clock.systemUTC();
+            registry.defaultTtlMillis = Duration.ofMinutes(5).toMillis();
+            registry.maxTtlMillis = Duration.ofDays(1).toMillis();
+            registry.negativeTtlMillis = Duration.ofSeconds(30).toMillis();
+            registry.staleWhileRevalidateMillis = Duration.ofMinutes(1).toMillis();
+            registry.maxEntries = 1000;
+            registry.revalidationExecutor = Runnable::run;
+        }
+
+        public static Builder newInstance(DidResolverRegistry delegate) {
+            return new Builder(delegate);
+        }
+
+        public Builder clock(Clock clock) {
+            registry.clock = clock;
+            return this;
+        }
+
+        /**
+         * How long a document is cached if its resolver does not state a max age.
+         */
+        public Builder defaultTtl(Duration defaultTtl) {
+            registry.defaultTtlMillis = defaultTtl.toMillis();
+            return this;
+        }
+
+        /**
+         * The longest a document is cached, whatever the max age stated by its resolver.
+         */
+        public Builder maxTtl(Duration maxTtl) {
+            registry.maxTtlMillis = maxTtl.toMillis();
+            return this;
+        }
+
+        /**
+         * How long a failed resolution is cached, zero to not cache failures.
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+            registry.negativeTtlMillis = negativeTtl.toMillis();
+            return this;
+        }
+
+        /**
+         * How long an expired document is still served while it is resolved again in the background.
+         */
+        public Builder staleWhileRevalidate(Duration staleWhileRevalidate) {
+            registry.staleWhileRevalidateMillis = staleWhileRevalidate.toMillis();
+            return this;
+        }
+
+        public Builder maxEntries(int maxEntries) {
+            registry.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder revalidationExecutor(Executor revalidationExecutor) {
+            registry.revalidationExecutor = revalidationExecutor;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            registry.monitor = monitor;
+            return this;
+        }
+
+        public CachingDidResolverRegistry build() {
+            Objects.requireNonNull(registry.delegate, "delegate");
+            Objects.requireNonNull(registry.monitor, "monitor");
+            registry.resolutions = new ExpiringLruCache<>(registry.maxEntries);
+            return registry;
+        }
+    }
+}
@@ -14,7 +14,7 @@
 
 package org.eclipse.dataspaceconnector.iam.did.resolution;
 
-import org.eclipse.dataspaceconnector.iam.did.crypto.key.KeyConverter;
+import org.eclipse.dataspaceconnector.iam.did.crypto.key.PublicKeyWrapperCache;
 import org.eclipse.dataspaceconnector.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
@@ -26,6 +26,7 @@ import static org.eclipse.dataspaceconnector.iam.did.spi.document.DidConstants.A
 
 public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
     private final DidResolverRegistry resolverRegistry;
+    private final PublicKeyWrapperCache publicKeyCache = new PublicKeyWrapperCache();
 
     public DidPublicKeyResolverImpl(DidResolverRegistry resolverRegistry) {
         this.resolverRegistry = resolverRegistry;
@@ -50,7 +51,7 @@ public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
         var verificationMethod = didDocument.getVerificationMethod().get(0);
         var jwk = verificationMethod.getPublicKeyJwk();
         try {
-            return Result.success(KeyConverter.toPublicKeyWrapper(jwk, verificationMethod.getId()));
+            return Result.success(publicKeyCache.toPublicKeyWrapper(jwk, verificationMethod.getId()));
         } catch (IllegalArgumentException e) {
             return Result.failure("Public key was not a valid EC key. Details: " + e.getMessage());
         }
@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.iam.did.resolution;
 
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.spi.result.Result;
@@ -40,6 +41,23 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
 
     @Override
     public Result<DidDocument> resolve(String didKey) {
+        var resolver = resolverFor(didKey);
+        if (resolver.failed()) {
+            return Result.failure(resolver.getFailureMessages());
+        }
+        return resolver.getContent().resolve(didKey);
+    }
+
+    @Override
+    public Result<DidResolution> resolveForCaching(String didKey) {
+        var resolver = resolverFor(didKey);
+        if (resolver.failed()) {
+            return Result.failure(resolver.getFailureMessages());
+        }
+        return resolver.getContent().resolveForCaching(didKey);
+    }
+
+    private Result<DidResolver> resolverFor(String didKey) {
         Objects.requireNonNull(didKey);
         // for the definition of DID syntax, .cf https://www.w3.org/TR/did-core/#did-syntax
         var tokens = didKey.split(":");
@@ -54,6 +72,6 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         if (resolver == null) {
             return Result.failure("No resolver registered for DID Method: " + methodName);
         }
-        return resolver.resolve(didKey);
+        return Result.success(resolver);
     }
 }
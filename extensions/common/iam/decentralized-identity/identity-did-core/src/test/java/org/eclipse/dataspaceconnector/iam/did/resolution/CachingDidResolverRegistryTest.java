@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.did.resolution;
+
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDidResolverRegistryTest {
+
+    private static final String DID = "did:web:example.com";
+
+    private final DidResolverRegistry delegate = mock(DidResolverRegistry.class);
+    private final Clock clock = mock(Clock.class);
+    private final ArrayList<Runnable> revalidations = new ArrayList<>();
+    private final CachingDidResolverRegistry registry = CachingDidResolverRegistry.Builder.newInstance(delegate)
+            .clock(clock)
+            .defaultTtl(Duration.ofSeconds(60))
+            .maxTtl(Duration.ofSeconds(600))
+            .negativeTtl(Duration.ofSeconds(10))
+            .staleWhileRevalidate(Duration.ofSeconds(30))
+            .revalidationExecutor(revalidations::add)
+            .monitor(mock(Monitor.class))
+            .build();
+
+    @Test
+    void resolve_shouldCacheDocumentForDefaultTtl() {
+        var document = DidDocument.Builder.newInstance().id(DID).build();
+        when(delegate.resolveForCaching(DID)).thenReturn(Result.success(new DidResolution(document, null)));
+
+        when(clock.millis()).thenReturn(0L);
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+        when(clock.millis()).thenReturn(59_000L);
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+
+        verify(delegate, times(1)).resolveForCaching(DID);
+        assertThat(revalidations).isEmpty();
+    }
+
+    @Test
+    void resolve_shouldUseMaxAgeBoundedByMaxTtl() {
+        var document = DidDocument.Builder.newInstance().id(DID).build();
+        when(delegate.resolveForCaching(DID)).thenReturn(Result.success(new DidResolution(document, Duration.ofDays(1))));
+
+        when(clock.millis()).thenReturn(0L);
+        registry.resolve(DID);
+        when(clock.millis()).thenReturn(599_000L);
+        registry.resolve(DID);
+        when(clock.millis()).thenReturn(700_000L);
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolveForCaching(DID);
+    }
+
+    @Test
+    void resolve_shouldNotCacheDocumentWithZeroMaxAge() {
+        var document = DidDocument.Builder.newInstance().id(DID).build();
+        when(delegate.resolveForCaching(DID)).thenReturn(Result.success(new DidResolution(document, Duration.ZERO)));
+        when(clock.millis()).thenReturn(0L);
+
+        registry.resolve(DID);
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolveForCaching(DID);
+    }
+
+    @Test
+    void resolve_shouldServeStaleDocumentWhileRevalidating() {
+        var document = DidDocument.Builder.newInstance().id(DID).build();
+        var newDocument = DidDocument.Builder.newInstance().id(DID).build();
+        when(delegate.resolveForCaching(DID))
+                .thenReturn(Result.success(new DidResolution(document, null)))
+                .thenReturn(Result.success(new DidResolution(newDocument, null)));
+
+        when(clock.millis()).thenReturn(0L);
+        registry.resolve(DID);
+        when(clock.millis()).thenReturn(70_000L);
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+        assertThat(revalidations).hasSize(1);
+
+        revalidations.get(0).run();
+
+        assertThat(registry.resolve(DID).getContent()).isSameAs(newDocument);
+        verify(delegate, times(2)).resolveForCaching(DID);
+    }
+
+    @Test
+    void resolve_shouldKeepStaleDocument_whenRevalidationFails() {
+        var document = DidDocument.Builder.newInstance().id(DID).build();
+        when(delegate.resolveForCaching(DID))
+                .thenReturn(Result.success(new DidResolution(document, null)))
+                .thenReturn(Result.failure("unreachable"));
+
+        when(clock.millis()).thenReturn(0L);
+        registry.resolve(DID);
+        when(clock.millis()).thenReturn(70_000L);
+        registry.resolve(DID);
+        revalidations.get(0).run();
+
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+    }
+
+    @Test
+    void resolve_shouldCacheFailureForNegativeTtl() {
+        when(delegate.resolveForCaching(DID)).thenReturn(Result.failure("unreachable"));
+
+        when(clock.millis()).thenReturn(0L);
+        assertThat(registry.resolve(DID).failed()).isTrue();
+        when(clock.millis()).thenReturn(9_000L);
+        assertThat(registry.resolve(DID).failed()).isTrue();
+        when(clock.millis()).thenReturn(11_000L);
+        assertThat(registry.resolve(DID).failed()).isTrue();
+
+        verify(delegate, times(2)).resolveForCaching(DID);
+        assertThat(revalidations).isEmpty();
+    }
+
+    @Test
+    void register_shouldDiscardCachedResolutions() {
+        when(delegate.resolveForCaching(DID)).thenReturn(Result.failure("No resolver registered for DID Method: web"));
+        when(clock.millis()).thenReturn(0L);
+        registry.resolve(DID);
+
+        var resolver = mock(DidResolver.class);
+        registry.register(resolver);
+        registry.resolve(DID);
+
+        verify(delegate).register(resolver);
+        verify(delegate, times(2)).resolveForCaching(DID);
+    }
+}
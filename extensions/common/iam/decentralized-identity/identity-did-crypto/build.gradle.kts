@@ -5,6 +5,7 @@ plugins {
 dependencies {
     api(project(":spi:common:identity-did-spi"))
     api(project(":spi:common:jwt-spi"))
+    implementation(project(":core:common:util"))
 
     implementation("org.bouncycastle:bcpkix-jdk15on:1.70")
     testImplementation(project(":extensions:common:junit"))
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.did.crypto.key;
+
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
+import org.eclipse.dataspaceconnector.iam.did.spi.document.JwkPublicKey;
+import org.eclipse.dataspaceconnector.iam.did.spi.key.PublicKeyWrapper;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Caches the {@link PublicKeyWrapper}s converted with the {@link KeyConverter}, keyed by the id of the verification
+ * method holding the public key. A cached wrapper is only reused as long as the verification method holds the same
+ * public key, so a rotated key gets converted again. Once the cache is full, the least recently used wrapper is evicted.
+ */
+public class PublicKeyWrapperCache {
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final ExpiringLruCache<String, CachedKey> keys;
+
+    public PublicKeyWrapperCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public PublicKeyWrapperCache(int maxEntries) {
+        keys = new ExpiringLruCache<>(maxEntries);
+    }
+
+    /**
+     * Returns the cached wrapper of the public key, converting it if it is not cached.
+     *
+     * @param publicKey            the public key of the verification method
+     * @param verificationMethodId the id of the verification method, that serves as 'kid' property
+     * @throws IllegalArgumentException if the public key cannot be converted, see {@link KeyConverter#toPublicKeyWrapper(JwkPublicKey, String)}
+     */
+    public @NotNull PublicKeyWrapper toPublicKeyWrapper(JwkPublicKey publicKey, String verificationMethodId) {
+        if (verificationMethodId == null) {
+            return KeyConverter.toPublicKeyWrapper(publicKey, null);
+        }
+
+        var cached = keys.get(verificationMethodId);
+        if (cached != null && cached.publicKey.equals(publicKey)) {
+            return cached.wrapper;
+        }
+
+        var wrapper = KeyConverter.toPublicKeyWrapper(publicKey, verificationMethodId);
+        keys.put(verificationMethodId, new CachedKey(publicKey, wrapper));
+        return wrapper;
+    }
+
+    private static class CachedKey {
+        private final JwkPublicKey publicKey;
+        private final PublicKeyWrapper wrapper;
+
+        CachedKey(JwkPublicKey publicKey, PublicKeyWrapper wrapper) {
+            this.publicKey = publicKey;
+            this.wrapper = wrapper;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.did.crypto.key;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import org.eclipse.dataspaceconnector.iam.did.spi.document.EllipticCurvePublicKey;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicKeyWrapperCacheTest {
+
+    private final PublicKeyWrapperCache cache = new PublicKeyWrapperCache();
+
+    @Test
+    void toPublicKeyWrapper_shouldReuseWrapperOfSameKey() throws JOSEException {
+        var publicKey = generatePublicKey();
+        var samePublicKey = new EllipticCurvePublicKey(publicKey.getCrv(), publicKey.getKty(), publicKey.getX(), publicKey.getY());
+
+        var wrapper = cache.toPublicKeyWrapper(publicKey, "#key-1");
+
+        assertThat(cache.toPublicKeyWrapper(samePublicKey, "#key-1")).isSameAs(wrapper);
+    }
+
+    @Test
+    void toPublicKeyWrapper_shouldConvertRotatedKey() throws JOSEException {
+        var wrapper = cache.toPublicKeyWrapper(generatePublicKey(), "#key-1");
+
+        assertThat(cache.toPublicKeyWrapper(generatePublicKey(), "#key-1")).isNotSameAs(wrapper);
+    }
+
+    @Test
+    void toPublicKeyWrapper_shouldNotCacheInvalidKey() {
+        var invalidKey = new EllipticCurvePublicKey("secp256k1", "EC", "foobar", "uxjZNS8HQ9krKn5ZXpjBtSAAj9FQXSDlHlEMR2YA7Hs");
+
+        assertThatThrownBy(() -> cache.toPublicKeyWrapper(invalidKey, "#key-1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cache.toPublicKeyWrapper(invalidKey, "#key-1")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EllipticCurvePublicKey generatePublicKey() throws JOSEException {
+        var key = new ECKeyGenerator(Curve.P_256).generate();
+        return new EllipticCurvePublicKey(key.getCurve().getName(), key.getKeyType().getValue(), key.getX().toString(), key.getY().toString());
+    }
+}
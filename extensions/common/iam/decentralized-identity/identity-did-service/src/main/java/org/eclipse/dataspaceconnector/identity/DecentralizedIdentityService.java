@@ -18,7 +18,7 @@ package org.eclipse.dataspaceconnector.identity;
 
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.dataspaceconnector.iam.did.crypto.JwtUtils;
-import org.eclipse.dataspaceconnector.iam.did.crypto.key.KeyConverter;
+import org.eclipse.dataspaceconnector.iam.did.crypto.key.PublicKeyWrapperCache;
 import org.eclipse.dataspaceconnector.iam.did.spi.credentials.CredentialsVerifier;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidConstants;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
@@ -44,6 +44,7 @@ public class DecentralizedIdentityService implements IdentityService {
     private final PrivateKeyWrapper privateKey;
     private final String issuer;
     private final Clock clock;
+    private final PublicKeyWrapperCache publicKeyCache = new PublicKeyWrapperCache();
 
     public DecentralizedIdentityService(DidResolverRegistry resolverRegistry, CredentialsVerifier credentialsVerifier, Monitor monitor, PrivateKeyWrapper privateKey, String issuer, Clock clock) {
         this.resolverRegistry = resolverRegistry;
@@ -82,7 +83,7 @@ public class DecentralizedIdentityService implements IdentityService {
 
             //convert the POJO into a usable PK-wrapper:
             var publicKeyJwk = publicKey.get().getPublicKeyJwk();
-            var publicKeyWrapper = KeyConverter.toPublicKeyWrapper(publicKeyJwk, publicKey.get().getId());
+            var publicKeyWrapper = publicKeyCache.toPublicKeyWrapper(publicKeyJwk, publicKey.get().getId());
 
             monitor.debug("Verifying JWT with public key...");
             var verified = JwtUtils.verify(jwt, publicKeyWrapper, audience);
@@ -17,13 +17,18 @@ package org.eclipse.dataspaceconnector.iam.did.web.resolution;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 
 import static java.lang.String.format;
 
@@ -56,6 +61,16 @@ public class WebDidResolver implements DidResolver {
     @Override
     @NotNull
     public Result<DidDocument> resolve(String didKey) {
+        return resolveForCaching(didKey).map(DidResolution::getDocument);
+    }
+
+    /**
+     * Resolves the DID document, taking how long it may be cached from the {@code Cache-Control} or {@code Expires} headers
+     * of the response.
+     */
+    @Override
+    @NotNull
+    public Result<DidResolution> resolveForCaching(String didKey) {
         String url;
         try {
             url = urlResolver.apply(didKey);
@@ -63,7 +78,7 @@ public class WebDidResolver implements DidResolver {
             monitor.severe("Invalid DID key: " + didKey, e);
             return Result.failure("Invalid DID key: " + e.getMessage());
         }
-        
+
         var request = new Request.Builder().url(url).get().build();
         try (var response = httpClient.newCall(request).execute()) {
             if (response.code() != 200) {
@@ -74,11 +89,29 @@ public class WebDidResolver implements DidResolver {
                     return Result.failure("DID response contained an empty body: " + didKey);
                 }
                 DidDocument didDocument = mapper.readValue(body.string(), DidDocument.class);
-                return Result.success(didDocument);
+                return Result.success(new DidResolution(didDocument, maxAge(response)));
             }
         } catch (IOException e) {
             monitor.severe("Error resolving DID: " + didKey, e);
             return Result.failure("Error resolving DID: " + e.getMessage());
         }
     }
+
+    @Nullable
+    private Duration maxAge(Response response) {
+        var cacheControl = response.cacheControl();
+        if (cacheControl.noStore() || cacheControl.noCache()) {
+            return Duration.ZERO;
+        }
+        if (cacheControl.maxAgeSeconds() >= 0) {
+            return Duration.ofSeconds(cacheControl.maxAgeSeconds());
+        }
+        var expires = response.headers().getInstant("Expires");
+        if (expires == null) {
+            return null;
+        }
+        var date = response.headers().getInstant("Date");
+        var maxAge = Duration.between(date != null ? date : Instant.now(), expires);
+        return maxAge.isNegative() ? Duration.ZERO : maxAge;
+    }
 }
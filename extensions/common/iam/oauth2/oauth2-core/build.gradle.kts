@@ -17,6 +17,7 @@ plugins {
 }
 
 val httpMockServer: String by project
+val micrometerVersion: String by project
 val nimbusVersion: String by project
 val okHttpVersion: String by project
 
@@ -26,6 +27,7 @@ dependencies {
 
     implementation("com.nimbusds:nimbus-jose-jwt:${nimbusVersion}")
     implementation("com.squareup.okhttp3:okhttp:${okHttpVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
 
     testImplementation(project(":extensions:common:junit"))
 
@@ -15,9 +15,13 @@
 
 package org.eclipse.dataspaceconnector.iam.oauth2.core;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.core.jwt.TokenGenerationServiceImpl;
 import org.eclipse.dataspaceconnector.core.jwt.TokenValidationServiceImpl;
+import org.eclipse.dataspaceconnector.core.jwt.VerifiedTokenCache;
+import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.AccessTokenCache;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.IdentityProviderKeyResolver;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.IdentityProviderKeyResolverConfiguration;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.Oauth2ServiceImpl;
@@ -35,12 +39,16 @@ import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
 import java.security.PrivateKey;
 import java.security.cert.CertificateEncodingException;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -70,7 +78,18 @@ public class Oauth2Extension implements ServiceExtension {
     private static final String CLIENT_ID = "edc.oauth.client.id";
     @EdcSetting
     private static final String NOT_BEFORE_LEEWAY = "edc.oauth.validation.nbf.leeway";
+    @EdcSetting(value = "whether the tokens obtained from the authorization server are cached until they expire")
+    private static final String TOKEN_CACHE_ENABLED = "edc.oauth.token.cache.enabled";
+    @EdcSetting(value = "seconds before the expiration of a cached token at which a new token is requested in the background")
+    private static final String TOKEN_CACHE_REFRESH_MARGIN = "edc.oauth.token.cache.refresh.margin";
+    @EdcSetting(value = "whether incoming tokens have their signature verified only the first time they are presented")
+    private static final String VALIDATION_CACHE_ENABLED = "edc.oauth.validation.cache.enabled";
+    @EdcSetting(value = "maximum time in seconds a verified incoming token is cached, if it does not expire before")
+    private static final String VALIDATION_CACHE_MAX_TTL = "edc.oauth.validation.cache.max.ttl";
+    @EdcSetting(value = "maximum number of verified incoming tokens held in the cache")
+    private static final String VALIDATION_CACHE_MAX_ENTRIES = "edc.oauth.validation.cache.max.entries";
     private IdentityProviderKeyResolver providerKeyResolver;
+    private ExecutorService tokenRefreshExecutor;
 
     @Inject
     private OkHttpClient okHttpClient;
@@ -87,6 +106,12 @@ public class Oauth2Extension implements ServiceExtension {
     @Inject
     private CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -112,14 +137,36 @@ public class Oauth2Extension implements ServiceExtension {
         var privateKeyAlias = configuration.getPrivateKeyAlias();
         var privateKey = configuration.getPrivateKeyResolver().resolvePrivateKey(privateKeyAlias, PrivateKey.class);
 
+        var registry = meterRegistry != null ? meterRegistry : Metrics.globalRegistry;
+        tokenRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "oauth2-token-refresh");
+        var tokenCache = new AccessTokenCache(
+                clock,
+                context.getSetting(TOKEN_CACHE_ENABLED, true),
+                Duration.ofSeconds(context.getSetting(TOKEN_CACHE_REFRESH_MARGIN, 30)),
+                tokenRefreshExecutor,
+                context.getMonitor(),
+                registry
+        );
+
+        VerifiedTokenCache verifiedTokenCache = null;
+        if (context.getSetting(VALIDATION_CACHE_ENABLED, false)) {
+            verifiedTokenCache = new VerifiedTokenCache(
+                    clock,
+                    Duration.ofSeconds(context.getSetting(VALIDATION_CACHE_MAX_TTL, 60)),
+                    context.getSetting(VALIDATION_CACHE_MAX_ENTRIES, 10_000),
+                    registry
+            );
+        }
+
         var oauth2Service = new Oauth2ServiceImpl(
                 configuration,
                 new TokenGenerationServiceImpl(privateKey),
                 okHttpClient,
                 jwtDecoratorRegistry,
                 context.getTypeManager(),
-                new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry),
-                credentialsRequestAdditionalParametersProvider
+                new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry, verifiedTokenCache),
+                credentialsRequestAdditionalParametersProvider,
+                tokenCache
         );
 
         context.registerService(IdentityService.class, oauth2Service);
@@ -133,6 +180,9 @@ public class Oauth2Extension implements ServiceExtension {
     @Override
     public void shutdown() {
         providerKeyResolver.stop();
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
     }
 
     private byte[] getEncodedClientCertificate(Oauth2Configuration configuration) {
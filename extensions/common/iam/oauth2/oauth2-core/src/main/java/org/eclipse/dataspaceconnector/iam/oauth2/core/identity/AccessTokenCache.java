@@ -0,0 +1,214 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.oauth2.core.identity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Caches the access tokens obtained from the token endpoint until they expire.
+ * <p>
+ * Concurrent requests for a token that is not cached share a single call to the token endpoint. A token that is about to
+ * expire, i.e. that is in the refresh margin or past half of its lifetime, is still returned but a new one is requested
+ * in the background, so that callers do not wait for the token endpoint as long as tokens are in use: a single refresh is
+ * scheduled per key, however many callers see the token in its refresh window. Tokens without lifetime ({@code expires_in})
+ * are not cached, and expired tokens are evicted when read or when a new token is cached.
+ */
+public class AccessTokenCache {
+    private static final long EXPIRY_LEEWAY_MILLIS = 5_000;
+
+    private final Clock clock;
+    private final boolean enabled;
+    private final long refreshMarginMillis;
+    private final Executor refreshExecutor;
+    private final Monitor monitor;
+    private final Map<Object, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<Object, CompletableFuture<Result<TokenRepresentation>>> inFlight = new ConcurrentHashMap<>();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer requestLatency;
+
+    public AccessTokenCache(Clock clock, boolean enabled, Duration refreshMargin, Executor refreshExecutor, Monitor monitor, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.enabled = enabled;
+        refreshMarginMillis = refreshMargin.toMillis();
+        this.refreshExecutor = refreshExecutor;
+        this.monitor = monitor;
+        hits = Counter.builder("edc.oauth2.token.cache.hits")
+                .description("Number of access tokens served from the cache")
+                .register(meterRegistry);
+        misses = Counter.builder("edc.oauth2.token.cache.misses")
+                .description("Number of access tokens that were not cached")
+                .register(meterRegistry);
+        requestLatency = Timer.builder("edc.oauth2.token.request")
+                .description("Time spent requesting access tokens from the token endpoint")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the token cached for the key, or obtains a new one with the fetcher.
+     *
+     * @param key     identifies the token, i.e. all the parameters of the token request that are not specific to a single request
+     * @param fetcher requests a token from the token endpoint
+     */
+    public Result<TokenRepresentation> get(Object key, Supplier<Result<ExpiringToken>> fetcher) {
+        if (!enabled) {
+            return fetch(key, fetcher);
+        }
+
+        var now = clock.millis();
+        var cached = tokens.get(key);
+        if (cached != null && now < cached.expiresAt) {
+            hits.increment();
+            if (now >= cached.refreshAt) {
+                refreshInBackground(key, fetcher);
+            }
+            return Result.success(cached.token);
+        }
+        if (cached != null) {
+            tokens.remove(key, cached);
+        }
+
+        misses.increment();
+        try {
+            return fetchShared(key, fetcher).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Schedules a refresh of the token, unless one is already scheduled or running for the key. The key is claimed before the refresh is
+     * submitted, so that the callers reading the token until the refresh runs do not schedule further ones.
+     */
+    private void refreshInBackground(Object key, Supplier<Result<ExpiringToken>> fetcher) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    fetchShared(key, fetcher).whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            monitor.warning("Failed to refresh access token", throwable);
+                        } else if (result.failed()) {
+                            monitor.warning("Failed to refresh access token: " + result.getFailureDetail());
+                        }
+                    });
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            monitor.warning("Failed to schedule the refresh of an access token", e);
+        }
+    }
+
+    /**
+     * Fetches the token on the calling thread, unless a fetch is already in progress for the key, in which case its outcome is shared.
+     */
+    private CompletableFuture<Result<TokenRepresentation>> fetchShared(Object key, Supplier<Result<ExpiringToken>> fetcher) {
+        var future = new CompletableFuture<Result<TokenRepresentation>>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            future.complete(fetch(key, fetcher));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, future);
+        }
+        return future;
+    }
+
+    private Result<TokenRepresentation> fetch(Object key, Supplier<Result<ExpiringToken>> fetcher) {
+        var requestedAt = clock.millis();
+        var result = requestLatency.record(fetcher);
+        if (result == null || result.failed()) {
+            return result == null ? Result.failure("No token obtained") : Result.failure(result.getFailureMessages());
+        }
+
+        var token = result.getContent();
+        if (enabled && token.getExpiresInSeconds() > 0) {
+            var lifetime = token.getExpiresInSeconds() * 1000;
+            var expiresAt = requestedAt + lifetime - Math.min(EXPIRY_LEEWAY_MILLIS, lifetime / 10);
+            var refreshAt = Math.max(requestedAt + lifetime / 2, expiresAt - refreshMarginMillis);
+            tokens.put(key, new CachedToken(token.getToken(), expiresAt, refreshAt));
+            tokens.values().removeIf(cached -> requestedAt >= cached.expiresAt);
+        }
+        return Result.success(token.getToken());
+    }
+
+    /**
+     * A token returned by the token endpoint together with its lifetime.
+     */
+    public static class ExpiringToken {
+        private final TokenRepresentation token;
+        private final long expiresInSeconds;
+
+        /**
+         * Creates the token.
+         *
+         * @param expiresInSeconds the lifetime of the token, 0 if unknown
+         */
+        public ExpiringToken(TokenRepresentation token, long expiresInSeconds) {
+            this.token = token;
+            this.expiresInSeconds = expiresInSeconds;
+        }
+
+        public TokenRepresentation getToken() {
+            return token;
+        }
+
+        public long getExpiresInSeconds() {
+            return expiresInSeconds;
+        }
+    }
+
+    private static class CachedToken {
+        private final TokenRepresentation token;
+        private final long expiresAt;
+        private final long refreshAt;
+
+        CachedToken(TokenRepresentation token, long expiresAt, long refreshAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
@@ -33,9 +33,12 @@ import org.eclipse.dataspaceconnector.spi.jwt.TokenGenerationService;
 import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationService;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Implements the OAuth2 client credentials flow and bearer token validation.
@@ -53,6 +56,7 @@ public class Oauth2ServiceImpl implements IdentityService {
     private final TokenGenerationService tokenGenerationService;
     private final TokenValidationService tokenValidationService;
     private final CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider;
+    private final AccessTokenCache tokenCache;
 
     /**
      * Creates a new instance of the OAuth2 Service
@@ -67,6 +71,18 @@ public class Oauth2ServiceImpl implements IdentityService {
      */
     public Oauth2ServiceImpl(Oauth2Configuration configuration, TokenGenerationService tokenGenerationService, OkHttpClient client, JwtDecoratorRegistry jwtDecoratorRegistry, TypeManager typeManager,
                              TokenValidationService tokenValidationService, CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider) {
+        this(configuration, tokenGenerationService, client, jwtDecoratorRegistry, typeManager, tokenValidationService, credentialsRequestAdditionalParametersProvider, null);
+    }
+
+    /**
+     * Creates a new instance of the OAuth2 Service that caches the obtained tokens
+     *
+     * @param tokenCache Cache of the obtained tokens, null to request a token for every call
+     * @see #Oauth2ServiceImpl(Oauth2Configuration, TokenGenerationService, OkHttpClient, JwtDecoratorRegistry, TypeManager, TokenValidationService, CredentialsRequestAdditionalParametersProvider)
+     */
+    public Oauth2ServiceImpl(Oauth2Configuration configuration, TokenGenerationService tokenGenerationService, OkHttpClient client, JwtDecoratorRegistry jwtDecoratorRegistry, TypeManager typeManager,
+                             TokenValidationService tokenValidationService, CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider,
+                             @Nullable AccessTokenCache tokenCache) {
         this.configuration = configuration;
         this.typeManager = typeManager;
         httpClient = client;
@@ -74,13 +90,30 @@ public class Oauth2ServiceImpl implements IdentityService {
         this.tokenGenerationService = tokenGenerationService;
         this.tokenValidationService = tokenValidationService;
         this.credentialsRequestAdditionalParametersProvider = credentialsRequestAdditionalParametersProvider;
+        this.tokenCache = tokenCache;
     }
 
     @Override
     public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        var additionalParameters = credentialsRequestAdditionalParametersProvider.provide(parameters);
+        if (tokenCache == null) {
+            return requestToken(parameters, additionalParameters).map(AccessTokenCache.ExpiringToken::getToken);
+        }
+
+        // the audience is not part of the token request, so the same token is shared among all the recipients
+        var key = Arrays.asList(parameters.getScope(), additionalParameters);
+        return tokenCache.get(key, () -> requestToken(parameters, additionalParameters));
+    }
+
+    @Override
+    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, String audience) {
+        return tokenValidationService.validate(tokenRepresentation);
+    }
+
+    private Result<AccessTokenCache.ExpiringToken> requestToken(TokenParameters parameters, Map<String, String> additionalParameters) {
         var jwtCreationResult = tokenGenerationService.generate(jwtDecoratorRegistry.getAll().toArray(JwtDecorator[]::new));
         if (jwtCreationResult.failed()) {
-            return jwtCreationResult;
+            return Result.failure(jwtCreationResult.getFailureMessages());
         }
 
         var assertion = jwtCreationResult.getContent().getToken();
@@ -91,7 +124,7 @@ public class Oauth2ServiceImpl implements IdentityService {
                 .add("client_assertion", assertion)
                 .add("scope", parameters.getScope());
 
-        credentialsRequestAdditionalParametersProvider.provide(parameters).forEach(requestBodyBuilder::add);
+        additionalParameters.forEach(requestBodyBuilder::add);
 
         var request = new Request.Builder()
                 .url(configuration.getTokenUrl())
@@ -114,15 +147,24 @@ public class Oauth2ServiceImpl implements IdentityService {
                 var deserialized = typeManager.readValue(responsePayload, LinkedHashMap.class);
                 var token = (String) deserialized.get("access_token");
                 var tokenRepresentation = TokenRepresentation.Builder.newInstance().token(token).build();
-                return Result.success(tokenRepresentation);
+                return Result.success(new AccessTokenCache.ExpiringToken(tokenRepresentation, expiresIn(deserialized.get("expires_in"))));
             }
         } catch (IOException e) {
             throw new EdcException(e);
         }
     }
 
-    @Override
-    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, String audience) {
-        return tokenValidationService.validate(tokenRepresentation);
+    private long expiresIn(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
     }
 }
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.oauth2.core.identity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccessTokenCacheTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Executor directExecutor = Runnable::run;
+
+    @Test
+    void get_shouldCacheTokenUntilExpired() {
+        var cache = createCache(directExecutor);
+        when(clock.millis()).thenReturn(0L, 0L, 10_000L, 60_000L, 60_000L);
+
+        assertThat(cache.get("key", tokenFetcher(60)).getContent().getToken()).isEqualTo("token1");
+        assertThat(cache.get("key", tokenFetcher(60)).getContent().getToken()).isEqualTo("token1");
+        assertThat(cache.get("key", tokenFetcher(60)).getContent().getToken()).isEqualTo("token2");
+
+        assertThat(requests).hasValue(2);
+        assertThat(meterRegistry.counter("edc.oauth2.token.cache.hits").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("edc.oauth2.token.cache.misses").count()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldNotCacheTokenWithoutLifetime() {
+        var cache = createCache(directExecutor);
+        when(clock.millis()).thenReturn(0L);
+
+        cache.get("key", tokenFetcher(0));
+        cache.get("key", tokenFetcher(0));
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        var cache = createCache(directExecutor);
+        when(clock.millis()).thenReturn(0L);
+
+        var result = cache.get("key", () -> {
+            requests.incrementAndGet();
+            return Result.failure("error");
+        });
+        cache.get("key", tokenFetcher(60));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenTokenIsAboutToExpire() {
+        var pending = new ArrayList<Runnable>();
+        var cache = createCache(pending::add);
+        when(clock.millis()).thenReturn(0L, 0L, 50_000L, 50_000L, 51_000L);
+
+        cache.get("key", tokenFetcher(60));
+        assertThat(cache.get("key", tokenFetcher(60)).getContent().getToken()).isEqualTo("token1");
+        assertThat(pending).hasSize(1);
+
+        pending.get(0).run();
+
+        assertThat(cache.get("key", tokenFetcher(60)).getContent().getToken()).isEqualTo("token2");
+    }
+
+    @Test
+    void get_shouldScheduleSingleRefresh_untilRefreshRuns() {
+        var pending = new ArrayList<Runnable>();
+        var cache = createCache(pending::add);
+        when(clock.millis()).thenReturn(0L, 0L, 50_000L);
+
+        cache.get("key", tokenFetcher(60));
+        cache.get("key", tokenFetcher(60));
+        cache.get("key", tokenFetcher(60));
+        cache.get("key", tokenFetcher(60));
+        assertThat(pending).hasSize(1);
+
+        pending.get(0).run();
+
+        assertThat(requests).hasValue(2);
+        assertThat(cache.get("key", tokenFetcher(60)).getContent().getToken()).isEqualTo("token2");
+    }
+
+    @Test
+    void get_shouldShareConcurrentRequests() throws Exception {
+        var cache = createCache(directExecutor);
+        when(clock.millis()).thenReturn(0L);
+        var requestStarted = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Supplier<Result<AccessTokenCache.ExpiringToken>> slowFetcher = () -> {
+            requestStarted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return tokenFetcher(60).get();
+        };
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            var first = CompletableFuture.supplyAsync(() -> cache.get("key", slowFetcher), executor);
+            assertThat(requestStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            var second = CompletableFuture.supplyAsync(() -> cache.get("key", slowFetcher), executor);
+            release.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token1");
+            assertThat(second.get(10, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token1");
+            assertThat(requests).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AccessTokenCache createCache(Executor refreshExecutor) {
+        return new AccessTokenCache(clock, true, Duration.ofSeconds(20), refreshExecutor, mock(Monitor.class), meterRegistry);
+    }
+
+    private Supplier<Result<AccessTokenCache.ExpiringToken>> tokenFetcher(long expiresIn) {
+        return () -> {
+            var token = TokenRepresentation.Builder.newInstance().token("token" + requests.incrementAndGet()).build();
+            return Result.success(new AccessTokenCache.ExpiringToken(token, expiresIn));
+        };
+    }
+}
@@ -27,6 +27,7 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.core.jwt.JwtDecoratorRegistryImpl;
 import org.eclipse.dataspaceconnector.core.jwt.TokenValidationServiceImpl;
@@ -37,6 +38,7 @@ import org.eclipse.dataspaceconnector.spi.iam.PublicKeyResolver;
 import org.eclipse.dataspaceconnector.spi.iam.TokenParameters;
 import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
 import org.eclipse.dataspaceconnector.spi.jwt.TokenGenerationService;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
@@ -48,8 +50,10 @@ import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
@@ -88,6 +92,8 @@ class Oauth2ServiceImplTest {
     private final TokenGenerationService tokenGenerationService = mock(TokenGenerationService.class);
     private final CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider = mock(CredentialsRequestAdditionalParametersProvider.class);
     private Oauth2ServiceImpl authService;
+    private Oauth2Configuration configuration;
+    private TokenValidationServiceImpl tokenValidationService;
     private JWSSigner jwsSigner;
     private static ClientAndServer oauth2Server;
 
@@ -110,7 +116,7 @@ class Oauth2ServiceImplTest {
         var privateKeyResolverMock = mock(PrivateKeyResolver.class);
         var certificateResolverMock = mock(CertificateResolver.class);
         when(publicKeyResolverMock.resolveKey(anyString())).thenReturn(testKey.toPublicKey());
-        var configuration = Oauth2Configuration.Builder.newInstance()
+        configuration = Oauth2Configuration.Builder.newInstance()
                 .tokenUrl(OAUTH2_SERVER_URL)
                 .clientId(CLIENT_ID)
                 .privateKeyAlias(PRIVATE_KEY_ALIAS)
@@ -124,7 +130,7 @@ class Oauth2ServiceImplTest {
 
         var clock = Clock.fixed(now, UTC);
         var validationRulesRegistry = new Oauth2ValidationRulesRegistryImpl(configuration, clock);
-        var tokenValidationService = new TokenValidationServiceImpl(publicKeyResolverMock, validationRulesRegistry);
+        tokenValidationService = new TokenValidationServiceImpl(publicKeyResolverMock, validationRulesRegistry);
 
         authService = new Oauth2ServiceImpl(configuration, tokenGenerationService, okHttpClient,
                 new JwtDecoratorRegistryImpl(), new TypeManager(), tokenValidationService,
@@ -172,6 +178,26 @@ class Oauth2ServiceImplTest {
         oauth2Server.verify(clientCredentialsRequest);
     }
 
+    @Test
+    void obtainClientCredentials_withCache_sharesTokenAmongAudiences() {
+        when(credentialsRequestAdditionalParametersProvider.provide(any())).thenReturn(emptyMap());
+        when(tokenGenerationService.generate(any())).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+        var clientCredentialsRequest = new HttpRequest().withBody(params(param("scope", "shared-scope")));
+        var responseBody = Map.of("access_token", "sharedAccessToken", "expires_in", 3600);
+        oauth2Server.when(clientCredentialsRequest, once()).respond(new HttpResponse().withStatusCode(200).withBody(json(responseBody)));
+        var tokenCache = new AccessTokenCache(Clock.fixed(now, UTC), true, Duration.ofSeconds(30), Runnable::run, mock(Monitor.class), new SimpleMeterRegistry());
+        var cachingService = new Oauth2ServiceImpl(configuration, tokenGenerationService, okHttpClient,
+                new JwtDecoratorRegistryImpl(), new TypeManager(), tokenValidationService,
+                credentialsRequestAdditionalParametersProvider, tokenCache);
+
+        var first = cachingService.obtainClientCredentials(TokenParameters.Builder.newInstance().audience("recipient1").scope("shared-scope").build());
+        var second = cachingService.obtainClientCredentials(TokenParameters.Builder.newInstance().audience("recipient2").scope("shared-scope").build());
+
+        assertThat(first.getContent().getToken()).isEqualTo("sharedAccessToken");
+        assertThat(second.getContent().getToken()).isEqualTo("sharedAccessToken");
+        oauth2Server.verify(clientCredentialsRequest, VerificationTimes.once());
+    }
+
     @Test
     void verifyNoAudienceToken() {
         var jwt = createJwt(null, Date.from(now.minusSeconds(1000)), Date.from(now.plusSeconds(1000)));
@@ -23,6 +23,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -59,6 +60,33 @@ public final class SqlQueryExecutor {
         }
     }
 
+    /**
+     * Intended for mutating queries that are executed once per set of arguments, which are sent to the database in a single batch.
+     *
+     * @param sql the parametrized sql query
+     * @param arguments the parameters to interpolate with the parametrized sql query, one array per execution
+     * @return rowsChanged for every execution
+     */
+    public static int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(arguments, "arguments");
+
+        if (arguments.isEmpty()) {
+            return new int[0];
+        }
+
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var batchArguments : arguments) {
+                setArguments(statement, batchArguments);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
     public static <T> T executeQuerySingle(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
         try (var stream = executeQuery(connection, closeConnection, resultSetMapper, sql, arguments)) {
             return stream.findFirst().orElse(null);
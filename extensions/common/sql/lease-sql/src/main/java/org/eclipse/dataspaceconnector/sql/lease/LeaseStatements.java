@@ -26,6 +26,23 @@ public interface LeaseStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * Statement deleting the lease of an entity if it has expired, with the entity ID and the current time as parameters. Deleting the lease must
+     * clear it from the entity, i.e. the entity must reference the lease with {@code ON DELETE SET NULL}. Returns null if not supported, in which
+     * case {@link SqlLeaseContext#acquireLeases(java.util.Collection)} leases the entities one by one.
+     */
+    default String getDeleteExpiredLeaseTemplate() {
+        return null;
+    }
+
+    /**
+     * Statement setting the lease of an entity only if it is not leased, with the lease ID and the entity ID as parameters. Returns null if not
+     * supported, in which case {@link SqlLeaseContext#acquireLeases(java.util.Collection)} leases the entities one by one.
+     */
+    default String getUpdateLeaseIfNotLeasedTemplate() {
+        return null;
+    }
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
@@ -24,9 +24,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeBatch;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuerySingle;
 
@@ -83,8 +87,10 @@ public class SqlLeaseContext implements LeaseContext {
             }
 
             //clean out old lease if present
-            var deleteStmt = statements.getDeleteLeaseTemplate();
-            executeQuery(connection, deleteStmt, entityId);
+            if (lease != null) {
+                var deleteStmt = statements.getDeleteLeaseTemplate();
+                executeQuery(connection, deleteStmt, lease.getLeaseId());
+            }
 
             // create new lease in DB
             var id = UUID.randomUUID().toString();
@@ -99,6 +105,74 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires the lease on several entities at once, with batched statements: one deleting the expired leases of the entities, one inserting
+     * the new leases and one updating the entities that are not leased. The entities leased in the meantime by a concurrent runtime are skipped,
+     * and their new lease deleted.
+     * <p>
+     * The entities should have been selected as not leased (or holding an expired lease) on the same connection and transaction, ideally locking
+     * their rows so that concurrent runtimes skip them. If the {@link LeaseStatements} do not provide the statements needed for batching, the
+     * entities are leased one by one.
+     *
+     * @param entityIds The IDs of the entities to lease.
+     * @return The IDs of the entities actually leased, in the given order.
+     */
+    public List<String> acquireLeases(Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+
+        var deleteExpiredStmt = statements.getDeleteExpiredLeaseTemplate();
+        var updateStmt = statements.getUpdateLeaseIfNotLeasedTemplate();
+        if (deleteExpiredStmt == null || updateStmt == null) {
+            return trxContext.execute(() -> {
+                var acquired = new ArrayList<String>(entityIds.size());
+                for (var entityId : entityIds) {
+                    // skip the entities leased by a concurrent runtime in the meantime
+                    var lease = getLease(entityId);
+                    if (lease == null || lease.isExpired(clock)) {
+                        acquireLease(entityId);
+                        acquired.add(entityId);
+                    }
+                }
+                return acquired;
+            });
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+
+            var expiredLeases = new ArrayList<Object[]>(entityIds.size());
+            var leases = new ArrayList<Object[]>(entityIds.size());
+            var entityLeases = new ArrayList<Object[]>(entityIds.size());
+            for (var entityId : entityIds) {
+                var id = UUID.randomUUID().toString();
+                expiredLeases.add(new Object[]{ entityId, now });
+                leases.add(new Object[]{ id, leaseHolder, now, duration });
+                entityLeases.add(new Object[]{ id, entityId });
+            }
+
+            executeBatch(connection, deleteExpiredStmt, expiredLeases);
+            executeBatch(connection, statements.getInsertLeaseTemplate(), leases);
+            var updated = executeBatch(connection, updateStmt, entityLeases);
+
+            var acquired = new ArrayList<String>(entityIds.size());
+            var lost = new ArrayList<Object[]>();
+            for (var i = 0; i < entityLeases.size(); i++) {
+                if (updated[i] == 0) {
+                    lost.add(new Object[]{ entityLeases.get(i)[0] });
+                } else {
+                    acquired.add((String) entityLeases.get(i)[1]);
+                }
+            }
+            if (!lost.isEmpty()) {
+                executeBatch(connection, statements.getDeleteLeaseTemplate(), lost);
+            }
+            return acquired;
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -92,6 +93,25 @@ abstract class LeaseContextTest {
         assertThatThrownBy(() -> leaseContext.acquireLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void acquireLeases() {
+        insertTestEntity("id1");
+        insertTestEntity("id2");
+
+        getLeaseContext().acquireLeases(List.of("id1", "id2"));
+
+        assertThat(isLeased("id1")).isTrue();
+        assertThat(isLeased("id2")).isTrue();
+        assertThat(getLeaseContext().getLease("id1").getLeaseId()).isNotEqualTo(getLeaseContext().getLease("id2").getLeaseId());
+        assertThat(getLeaseContext().getLease("id2").getLeasedBy()).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_empty() {
+        getLeaseContext().acquireLeases(List.of());
+        //should not throw an exception
+    }
+
     @Test
     void getLease() {
         var id = "test-id";
@@ -23,6 +23,7 @@ import org.eclipse.dataspaceconnector.sql.SqlQueryExecutor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -30,10 +31,15 @@ import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import javax.sql.DataSource;
 
 import static java.time.ZoneOffset.UTC;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuerySingle;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -76,6 +82,76 @@ class PostgresLeaseContextTest extends LeaseContextTest {
         connection.close();
     }
 
+    @Test
+    void acquireLeases_skipsEntitiesLeasedMeanwhile() {
+        insertTestEntity("id1");
+        insertTestEntity("id2");
+        createLeaseContext("someone-else").acquireLease("id1");
+
+        var leased = createLeaseContext(LEASE_HOLDER).acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(getLeaseContext().getLease("id1").getLeasedBy()).isEqualTo("someone-else");
+        assertThat(countLeases()).isEqualTo(2);
+    }
+
+    @Test
+    void acquireLeases_replacesAndDeletesExpiredLeases() {
+        insertTestEntity("id1");
+        SqlLeaseContextBuilder.with(transactionContext, "someone-else", dialect, Clock.fixed(now, UTC)).forTime(Duration.ofMillis(-1))
+                .withConnection(connection).acquireLease("id1");
+
+        var leased = getLeaseContext().acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        assertThat(getLeaseContext().getLease("id1").getLeasedBy()).isEqualTo(LEASE_HOLDER);
+        assertThat(countLeases()).isEqualTo(1);
+    }
+
+    @Test
+    void acquireLeases_concurrentConnectionsGetDisjointBatches() throws SQLException {
+        for (var i = 1; i <= 4; i++) {
+            insertTestEntity("id" + i);
+        }
+        var select = "SELECT id FROM " + dialect.getEntityTableName() + " WHERE lease_id IS NULL ORDER BY id LIMIT 2 FOR UPDATE SKIP LOCKED;";
+
+        try (var first = PostgresqlLocalInstance.getTestConnection(); var second = PostgresqlLocalInstance.getTestConnection()) {
+            first.setAutoCommit(false);
+            second.setAutoCommit(false);
+
+            // the second runtime selects while the first one still holds the locks on its rows
+            var firstIds = selectIds(first, select);
+            var firstLeased = SqlLeaseContextBuilder.with(transactionContext, "first", dialect, Clock.fixed(now, UTC)).withConnection(first).acquireLeases(firstIds);
+            var secondIds = selectIds(second, select);
+            var secondLeased = SqlLeaseContextBuilder.with(transactionContext, "second", dialect, Clock.fixed(now, UTC)).withConnection(second).acquireLeases(secondIds);
+            first.commit();
+            second.commit();
+
+            assertThat(firstLeased).containsExactly("id1", "id2");
+            assertThat(secondLeased).containsExactly("id3", "id4");
+        }
+    }
+
+    @Test
+    void acquireLeases_withoutRowLocks_leasesEntityOnlyOnce() throws SQLException {
+        insertTestEntity("id1");
+        insertTestEntity("id2");
+        var select = "SELECT id FROM " + dialect.getEntityTableName() + " WHERE lease_id IS NULL ORDER BY id;";
+
+        try (var first = PostgresqlLocalInstance.getTestConnection(); var second = PostgresqlLocalInstance.getTestConnection()) {
+            // both runtimes select the same entities, as nothing is locked
+            var firstIds = selectIds(first, select);
+            var secondIds = selectIds(second, select);
+
+            var firstLeased = SqlLeaseContextBuilder.with(transactionContext, "first", dialect, Clock.fixed(now, UTC)).withConnection(first).acquireLeases(firstIds);
+            var secondLeased = SqlLeaseContextBuilder.with(transactionContext, "second", dialect, Clock.fixed(now, UTC)).withConnection(second).acquireLeases(secondIds);
+
+            assertThat(firstLeased).containsExactly("id1", "id2");
+            assertThat(secondLeased).isEmpty();
+            assertThat(countLeases()).isEqualTo(2);
+        }
+    }
+
     @Override
     protected SqlLeaseContext createLeaseContext(String holder) {
         return builder.by(holder).withConnection(connection);
@@ -113,6 +189,16 @@ class PostgresLeaseContextTest extends LeaseContextTest {
         });
     }
 
+    private List<String> selectIds(Connection connection, String select) {
+        try (var stream = SqlQueryExecutor.executeQuery(connection, false, rs -> rs.getString("id"), select)) {
+            return stream.collect(toList());
+        }
+    }
+
+    private long countLeases() {
+        return executeQuerySingle(connection, false, rs -> rs.getLong(1), "SELECT COUNT(*) FROM " + dialect.getLeaseTableName());
+    }
+
     private ResultSetMapper<TestEntity> map() {
         return (rs) -> new TestEntity(rs.getString("id"), rs.getString("lease_id"));
     }
@@ -139,6 +225,16 @@ class PostgresLeaseContextTest extends LeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getDeleteExpiredLeaseTemplate() {
+            return "DELETE FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?) AND (? > (leased_at + lease_duration));";
+        }
+
+        @Override
+        public String getUpdateLeaseIfNotLeasedTemplate() {
+            return "UPDATE " + getEntityTableName() + " SET lease_id=? WHERE id = ? AND lease_id IS NULL;";
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
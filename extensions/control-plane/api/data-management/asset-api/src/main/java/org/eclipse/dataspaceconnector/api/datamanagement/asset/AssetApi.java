@@ -45,6 +45,17 @@ public interface AssetApi {
     )
     IdResponseDto createAsset(@Valid AssetEntryDto assetEntryDto);
 
+    @Operation(description = "Creates multiple assets together with their data addresses. Either all the assets are created or none of them",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Assets were created successfully. Returns the asset Ids and created timestamps",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = IdResponseDto.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed, or it contains the same asset ID more than once",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)))),
+                    @ApiResponse(responseCode = "409", description = "Could not create the assets, because assets with some of the IDs already exist",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)))) }
+    )
+    List<IdResponseDto> createAssets(@Valid List<AssetEntryDto> assetEntryDtos);
+
     @Operation(description = "Gets all assets according to a particular query",
             responses = {
                     @ApiResponse(responseCode = "200",
@@ -39,13 +39,16 @@ import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.AssetEntry;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.dataspaceconnector.api.ServiceResultHandler.mapToException;
 
@@ -92,6 +95,43 @@ public class AssetApiController implements AssetApi {
         }
     }
 
+    @POST
+    @Override
+    @Path("/bulk")
+    public List<IdResponseDto> createAssets(@Valid List<AssetEntryDto> assetEntryDtos) {
+        var entries = new ArrayList<AssetEntry>();
+        var errorMessages = new ArrayList<String>();
+        for (var assetEntryDto : assetEntryDtos) {
+            var assetResult = transformerRegistry.transform(assetEntryDto.getAsset(), Asset.class);
+            var dataAddressResult = transformerRegistry.transform(assetEntryDto.getDataAddress(), DataAddress.class);
+            if (assetResult.failed() || dataAddressResult.failed()) {
+                errorMessages.addAll(assetResult.getFailureMessages());
+                errorMessages.addAll(dataAddressResult.getFailureMessages());
+            } else {
+                entries.add(new AssetEntry(assetResult.getContent(), dataAddressResult.getContent()));
+            }
+        }
+
+        if (!errorMessages.isEmpty()) {
+            throw new InvalidRequestException(errorMessages);
+        }
+
+        var result = service.createAll(entries);
+
+        if (result.succeeded()) {
+            monitor.debug(format("%d assets created", entries.size()));
+            return result.getContent().stream()
+                    .map(asset -> IdResponseDto.Builder.newInstance()
+                            .id(asset.getId())
+                            .createdAt(asset.getCreatedAt())
+                            .build())
+                    .collect(toList());
+        } else {
+            var ids = entries.stream().map(entry -> entry.getAsset().getId()).collect(joining(", "));
+            throw mapToException(result, Asset.class, ids);
+        }
+    }
+
     @GET
     @Override
     @Deprecated
@@ -18,7 +18,9 @@ import org.eclipse.dataspaceconnector.api.result.ServiceResult;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.AssetEntry;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 public interface AssetService {
@@ -48,6 +50,14 @@ public interface AssetService {
      */
     ServiceResult<Asset> create(Asset asset, DataAddress dataAddress);
 
+    /**
+     * Create multiple assets with their related data addresses at once. Either all the assets are created or none.
+     *
+     * @param entries the assets together with their data addresses
+     * @return successful result containing the created assets, failure if any of the assets already exists or the ids are not unique
+     */
+    ServiceResult<List<Asset>> createAll(List<AssetEntry> entries);
+
     /**
      * Delete an asset
      *
@@ -24,11 +24,16 @@ import org.eclipse.dataspaceconnector.spi.query.QueryValidator;
 import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.AssetEntry;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 
 public class AssetServiceImpl implements AssetService {
     private static final String ASSET_ID_QUERY = "contractAgreement.assetId";
@@ -75,6 +80,30 @@ public class AssetServiceImpl implements AssetService {
         });
     }
 
+    @Override
+    public ServiceResult<List<Asset>> createAll(List<AssetEntry> entries) {
+        var ids = entries.stream().map(entry -> entry.getAsset().getId()).collect(toList());
+        var seen = new HashSet<String>();
+        var duplicates = ids.stream().filter(id -> !seen.add(id)).collect(toCollection(LinkedHashSet::new));
+        if (!duplicates.isEmpty()) {
+            return ServiceResult.badRequest(format("Assets cannot be created because the ids %s are not unique", duplicates));
+        }
+
+        return transactionContext.execute(() -> {
+            try (var existing = index.findByIds(ids)) {
+                var existingIds = existing.map(Asset::getId).collect(toList());
+                if (!existingIds.isEmpty()) {
+                    return ServiceResult.conflict(format("Assets %s cannot be created because they already exist", existingIds));
+                }
+            }
+
+            index.acceptAll(entries);
+            var assets = entries.stream().map(AssetEntry::getAsset).collect(toList());
+            assets.forEach(asset -> observable.invokeForEach(l -> l.created(asset)));
+            return ServiceResult.success(assets);
+        });
+    }
+
     @Override
     public ServiceResult<Asset> delete(String assetId) {
         return transactionContext.execute(() -> {
@@ -37,6 +37,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -48,6 +49,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class AssetApiControllerTest {
@@ -130,6 +132,50 @@ public class AssetApiControllerTest {
         assertThatThrownBy(() -> controller.createAsset(assetEntry)).isInstanceOf(InvalidRequestException.class);
     }
 
+    @Test
+    void createAssets() {
+        var assetEntry = AssetEntryDto.Builder.newInstance()
+                .asset(AssetRequestDto.Builder.newInstance().build())
+                .dataAddress(DataAddressDto.Builder.newInstance().build())
+                .build();
+        var asset1 = Asset.Builder.newInstance().build();
+        var asset2 = Asset.Builder.newInstance().build();
+        when(transformerRegistry.transform(isA(AssetRequestDto.class), eq(Asset.class))).thenReturn(Result.success(asset1), Result.success(asset2));
+        when(transformerRegistry.transform(isA(DataAddressDto.class), eq(DataAddress.class))).thenReturn(Result.success(DataAddress.Builder.newInstance().type("any").build()));
+        when(service.createAll(any())).thenReturn(ServiceResult.success(List.of(asset1, asset2)));
+
+        var ids = controller.createAssets(List.of(assetEntry, assetEntry));
+
+        assertThat(ids).extracting(IdResponseDto::getId).containsExactly(asset1.getId(), asset2.getId());
+        verify(service).createAll(argThat(entries -> entries.size() == 2));
+    }
+
+    @Test
+    void createAssets_alreadyExists() {
+        var assetEntry = AssetEntryDto.Builder.newInstance()
+                .asset(AssetRequestDto.Builder.newInstance().build())
+                .dataAddress(DataAddressDto.Builder.newInstance().build())
+                .build();
+        when(transformerRegistry.transform(isA(AssetRequestDto.class), eq(Asset.class))).thenReturn(Result.success(Asset.Builder.newInstance().build()));
+        when(transformerRegistry.transform(isA(DataAddressDto.class), eq(DataAddress.class))).thenReturn(Result.success(DataAddress.Builder.newInstance().type("any").build()));
+        when(service.createAll(any())).thenReturn(ServiceResult.conflict("already exists"));
+
+        assertThatThrownBy(() -> controller.createAssets(List.of(assetEntry))).isInstanceOf(ObjectExistsException.class);
+    }
+
+    @Test
+    void createAssets_transformFails() {
+        var assetEntry = AssetEntryDto.Builder.newInstance()
+                .asset(AssetRequestDto.Builder.newInstance().build())
+                .dataAddress(DataAddressDto.Builder.newInstance().build())
+                .build();
+        when(transformerRegistry.transform(isA(AssetRequestDto.class), eq(Asset.class))).thenReturn(Result.failure("failed"));
+        when(transformerRegistry.transform(isA(DataAddressDto.class), eq(DataAddress.class))).thenReturn(Result.success(DataAddress.Builder.newInstance().type("any").build()));
+
+        assertThatThrownBy(() -> controller.createAssets(List.of(assetEntry))).isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(service);
+    }
+
     @Test
     void getAllAssets() {
         when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(Asset.Builder.newInstance().build())));
@@ -23,6 +23,7 @@ import org.eclipse.dataspaceconnector.spi.transaction.NoopTransactionContext;
 import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.AssetEntry;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.agreement.ContractAgreement;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
 import org.jetbrains.annotations.NotNull;
@@ -31,17 +32,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.api.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.eclipse.dataspaceconnector.api.result.ServiceFailure.Reason.CONFLICT;
 import static org.eclipse.dataspaceconnector.api.result.ServiceFailure.Reason.NOT_FOUND;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -136,6 +142,42 @@ class AssetServiceImplTest {
         assertThat(inserted.succeeded()).isFalse();
     }
 
+    @Test
+    void createAll_shouldCreateAssetsIfNoneExists() {
+        var entries = List.of(createEntry("id1"), createEntry("id2"));
+        when(index.findByIds(any())).thenReturn(Stream.empty());
+
+        var inserted = service.createAll(entries);
+
+        assertThat(inserted.succeeded()).isTrue();
+        assertThat(inserted.getContent()).hasSize(2).anyMatch(hasId("id1")).anyMatch(hasId("id2"));
+        verify(index).acceptAll(entries);
+        verify(observable, times(2)).invokeForEach(any());
+    }
+
+    @Test
+    void createAll_shouldNotCreateAssetsIfAnyAlreadyExists() {
+        var entries = List.of(createEntry("id1"), createEntry("id2"));
+        when(index.findByIds(any())).thenReturn(Stream.of(createAsset("id2")));
+
+        var inserted = service.createAll(entries);
+
+        assertThat(inserted.succeeded()).isFalse();
+        assertThat(inserted.getFailure().getReason()).isEqualTo(CONFLICT);
+        verify(index, never()).acceptAll(any());
+    }
+
+    @Test
+    void createAll_shouldNotCreateAssetsIfIdsAreNotUnique() {
+        var entries = List.of(createEntry("id1"), createEntry("id1"));
+
+        var inserted = service.createAll(entries);
+
+        assertThat(inserted.succeeded()).isFalse();
+        assertThat(inserted.getFailure().getReason()).isEqualTo(BAD_REQUEST);
+        verifyNoInteractions(index);
+    }
+
     @Test
     void delete_shouldDeleteAssetIfItsNotReferencedByAnyNegotiation() {
         when(contractNegotiationStore.queryNegotiations(any())).thenReturn(Stream.empty());
@@ -197,6 +239,10 @@ class AssetServiceImplTest {
         return it -> assetId.equals(it.getId());
     }
 
+    private AssetEntry createEntry(String assetId) {
+        return new AssetEntry(createAsset(assetId), DataAddress.Builder.newInstance().type("addressType").build());
+    }
+
     private Asset createAsset(String assetId) {
         return Asset.Builder.newInstance().id(assetId).build();
     }
@@ -40,7 +40,6 @@ public class EmbeddedDataPlaneTransferClient implements DataPlaneTransferClient
         if (result.failed()) {
             return StatusResult.failure(ResponseStatus.FATAL_ERROR, String.join(", ", result.getFailureMessages()));
         }
-        dataPlaneManager.initiateTransfer(request);
-        return StatusResult.success();
+        return dataPlaneManager.initiateTransfer(request);
     }
 }
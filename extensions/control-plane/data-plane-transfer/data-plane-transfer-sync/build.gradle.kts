@@ -33,6 +33,7 @@ dependencies {
     api(project(":spi:data-plane-selector:data-plane-selector-spi"))
 
     implementation(project(":core:common:jwt-core"))
+    implementation(project(":extensions:data-plane:data-plane-token-validation"))
 
     api("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
     api("com.nimbusds:nimbus-jose-jwt:${nimbusVersion}")
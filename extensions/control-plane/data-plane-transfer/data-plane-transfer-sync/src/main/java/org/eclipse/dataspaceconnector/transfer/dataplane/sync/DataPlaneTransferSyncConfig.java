@@ -29,4 +29,15 @@ public interface DataPlaneTransferSyncConfig {
 
     @EdcSetting
     String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.transfer.proxy.token.verifier.publickey.alias";
+
+    @EdcSetting
+    String TOKEN_VERIFICATION_CACHE_ENABLED = "edc.transfer.proxy.token.verification.cache.enabled";
+
+    @EdcSetting
+    String TOKEN_VERIFICATION_CACHE_MAX_TTL_SECONDS = "edc.transfer.proxy.token.verification.cache.max.ttl.seconds";
+    long DEFAULT_TOKEN_VERIFICATION_CACHE_MAX_TTL_SECONDS = TimeUnit.MINUTES.toSeconds(1);
+
+    @EdcSetting
+    String TOKEN_VERIFICATION_CACHE_MAX_ENTRIES = "edc.transfer.proxy.token.verification.cache.max.entries";
+    int DEFAULT_TOKEN_VERIFICATION_CACHE_MAX_ENTRIES = 10_000;
 }
@@ -14,12 +14,12 @@
 
 package org.eclipse.dataspaceconnector.transfer.dataplane.sync;
 
+import org.eclipse.dataspaceconnector.dataplane.token.validation.NoopDataEncrypter;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Extension;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Provider;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.security.DataEncrypter;
-import org.eclipse.dataspaceconnector.transfer.dataplane.sync.security.NoopDataEncrypter;
 
 /**
  * Provides default service implementations for fallback
@@ -15,15 +15,23 @@
 
 package org.eclipse.dataspaceconnector.transfer.dataplane.sync;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.eclipse.dataspaceconnector.core.jwt.TokenGenerationServiceImpl;
 import org.eclipse.dataspaceconnector.core.jwt.TokenValidationRulesRegistryImpl;
 import org.eclipse.dataspaceconnector.core.jwt.TokenValidationServiceImpl;
+import org.eclipse.dataspaceconnector.core.jwt.VerifiedTokenCache;
 import org.eclipse.dataspaceconnector.dataplane.selector.client.DataPlaneSelectorClient;
+import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
+import org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationClient;
+import org.eclipse.dataspaceconnector.dataplane.token.validation.PublicKeyParser;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.EdcSetting;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Extension;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Inject;
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Provides;
 import org.eclipse.dataspaceconnector.spi.WebService;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationService;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
@@ -31,7 +39,6 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.transfer.edr.EndpointDataReferenceTransformerRegistry;
 import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowManager;
-import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.proxy.DataPlaneTransferProxyReferenceService;
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.security.DataEncrypter;
 import org.eclipse.dataspaceconnector.transfer.dataplane.sync.api.DataPlaneTokenValidationApiController;
@@ -39,7 +46,6 @@ import org.eclipse.dataspaceconnector.transfer.dataplane.sync.flow.ProviderDataP
 import org.eclipse.dataspaceconnector.transfer.dataplane.sync.proxy.DataPlaneTransferConsumerProxyTransformer;
 import org.eclipse.dataspaceconnector.transfer.dataplane.sync.proxy.DataPlaneTransferProxyReferenceServiceImpl;
 import org.eclipse.dataspaceconnector.transfer.dataplane.sync.proxy.DataPlaneTransferProxyResolverImpl;
-import org.eclipse.dataspaceconnector.transfer.dataplane.sync.security.PublicKeyParser;
 import org.eclipse.dataspaceconnector.transfer.dataplane.sync.validation.ContractValidationRule;
 import org.eclipse.dataspaceconnector.transfer.dataplane.sync.validation.ExpirationDateValidationRule;
 
@@ -47,13 +53,25 @@ import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
 
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.DEFAULT_TOKEN_VALIDATION_CACHE_MAX_ENTRIES;
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.DEFAULT_TOKEN_VALIDATION_CACHE_TTL;
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.TOKEN_VALIDATION_CACHE_MAX_ENTRIES;
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.TOKEN_VALIDATION_CACHE_METER_PREFIX;
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.TOKEN_VALIDATION_CACHE_TTL;
 import static org.eclipse.dataspaceconnector.transfer.dataplane.sync.DataPlaneTransferSyncConfig.DATA_PROXY_TOKEN_VALIDITY_SECONDS;
 import static org.eclipse.dataspaceconnector.transfer.dataplane.sync.DataPlaneTransferSyncConfig.DEFAULT_DATA_PROXY_TOKEN_VALIDITY_SECONDS;
+import static org.eclipse.dataspaceconnector.transfer.dataplane.sync.DataPlaneTransferSyncConfig.DEFAULT_TOKEN_VERIFICATION_CACHE_MAX_ENTRIES;
+import static org.eclipse.dataspaceconnector.transfer.dataplane.sync.DataPlaneTransferSyncConfig.DEFAULT_TOKEN_VERIFICATION_CACHE_MAX_TTL_SECONDS;
 import static org.eclipse.dataspaceconnector.transfer.dataplane.sync.DataPlaneTransferSyncConfig.TOKEN_SIGNER_PRIVATE_KEY_ALIAS;
+import static org.eclipse.dataspaceconnector.transfer.dataplane.sync.DataPlaneTransferSyncConfig.TOKEN_VERIFICATION_CACHE_ENABLED;
+import static org.eclipse.dataspaceconnector.transfer.dataplane.sync.DataPlaneTransferSyncConfig.TOKEN_VERIFICATION_CACHE_MAX_ENTRIES;
+import static org.eclipse.dataspaceconnector.transfer.dataplane.sync.DataPlaneTransferSyncConfig.TOKEN_VERIFICATION_CACHE_MAX_TTL_SECONDS;
 import static org.eclipse.dataspaceconnector.transfer.dataplane.sync.DataPlaneTransferSyncConfig.TOKEN_VERIFIER_PUBLIC_KEY_ALIAS;
 
+@Provides(TokenValidationClient.class)
 @Extension(value = DataPlaneTransferSyncExtension.NAME)
 public class DataPlaneTransferSyncExtension implements ServiceExtension {
 
@@ -91,6 +109,9 @@ public class DataPlaneTransferSyncExtension implements ServiceExtension {
     @Inject
     private DataEncrypter dataEncrypter;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -103,8 +124,9 @@ public class DataPlaneTransferSyncExtension implements ServiceExtension {
 
         var proxyResolver = new DataPlaneTransferProxyResolverImpl(selectorClient, selectorStrategy);
 
-        var controller = createTokenValidationApiController(keyPair.getPublic(), dataEncrypter, context.getTypeManager());
-        webService.registerResource(API_CONTEXT_ALIAS, controller);
+        var tokenValidationService = createTokenValidationService(context, keyPair.getPublic());
+        webService.registerResource(API_CONTEXT_ALIAS, new DataPlaneTokenValidationApiController(tokenValidationService, dataEncrypter, context.getTypeManager()));
+        context.registerService(TokenValidationClient.class, createEmbeddedTokenValidationClient(context, tokenValidationService));
 
         var proxyReferenceService = createProxyReferenceService(context, keyPair.getPrivate(), dataEncrypter);
         var flowController = new ProviderDataPlaneProxyDataFlowController(context.getConnectorId(), proxyResolver, dispatcherRegistry, proxyReferenceService);
@@ -125,14 +147,38 @@ public class DataPlaneTransferSyncExtension implements ServiceExtension {
     }
 
     /**
-     * Register the API controller that is used for validating tokens received in input of Data Plane API.
+     * Creates the service validating the tokens received in input of Data Plane API.
      */
-    private DataPlaneTokenValidationApiController createTokenValidationApiController(PublicKey publicKey, DataEncrypter encrypter, TypeManager typeManager) {
+    private TokenValidationService createTokenValidationService(ServiceExtensionContext context, PublicKey publicKey) {
         var registry = new TokenValidationRulesRegistryImpl();
         registry.addRule(new ContractValidationRule(contractNegotiationStore, clock));
         registry.addRule(new ExpirationDateValidationRule(clock));
-        var tokenValidationService = new TokenValidationServiceImpl(id -> publicKey, registry);
-        return new DataPlaneTokenValidationApiController(tokenValidationService, encrypter, typeManager);
+        return new TokenValidationServiceImpl(id -> publicKey, registry, createVerifiedTokenCache(context));
+    }
+
+    /**
+     * Creates the client validating the tokens in-process for a Data Plane embedded in this runtime, with the same rules
+     * as the validation API.
+     */
+    private TokenValidationClient createEmbeddedTokenValidationClient(ServiceExtensionContext context, TokenValidationService tokenValidationService) {
+        var cacheTtl = Duration.ofMillis(context.getSetting(TOKEN_VALIDATION_CACHE_TTL, DEFAULT_TOKEN_VALIDATION_CACHE_TTL));
+        var cacheMaxEntries = context.getSetting(TOKEN_VALIDATION_CACHE_MAX_ENTRIES, DEFAULT_TOKEN_VALIDATION_CACHE_MAX_ENTRIES);
+        var validatedTokens = cacheTtl.toMillis() > 0 ? new VerifiedTokenCache(clock, cacheTtl, cacheMaxEntries,
+                meterRegistry != null ? meterRegistry : Metrics.globalRegistry, TOKEN_VALIDATION_CACHE_METER_PREFIX) : null;
+        return new LocalTokenValidationClient(tokenValidationService, dataEncrypter, context.getTypeManager().getMapper(), clock, validatedTokens);
+    }
+
+    /**
+     * Creates the cache of the verified tokens if enabled, as the same token is typically presented for every request
+     * made to the Data Plane public API until it expires.
+     */
+    private VerifiedTokenCache createVerifiedTokenCache(ServiceExtensionContext context) {
+        if (!context.getSetting(TOKEN_VERIFICATION_CACHE_ENABLED, false)) {
+            return null;
+        }
+        var maxTtl = Duration.ofSeconds(context.getSetting(TOKEN_VERIFICATION_CACHE_MAX_TTL_SECONDS, DEFAULT_TOKEN_VERIFICATION_CACHE_MAX_TTL_SECONDS));
+        var maxEntries = context.getSetting(TOKEN_VERIFICATION_CACHE_MAX_ENTRIES, DEFAULT_TOKEN_VERIFICATION_CACHE_MAX_ENTRIES);
+        return new VerifiedTokenCache(clock, maxTtl, maxEntries, meterRegistry != null ? meterRegistry : Metrics.globalRegistry);
     }
 
     /**
@@ -28,4 +28,10 @@ public interface ConfigurationKeys {
     @EdcSetting(required = true)
     String DATASOURCE_SETTING_NAME = "edc.datasource.asset.name";
 
+    /**
+     * Number of asset entries written with each batch of statements when assets are stored in bulk.
+     */
+    @EdcSetting
+    String BATCH_SIZE_SETTING_NAME = "edc.assetindex.sql.batch.size";
+
 }
@@ -33,30 +33,57 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.sql.DataSource;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toMap;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeBatch;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuerySingle;
 
 public class SqlAssetIndex implements AssetIndex {
 
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int FIND_BY_IDS_CHUNK_SIZE = 1000;
+
     private final ObjectMapper objectMapper;
     private final DataSourceRegistry dataSourceRegistry;
     private final String dataSourceName;
     private final TransactionContext transactionContext;
     private final AssetStatements assetStatements;
+    private final int batchSize;
 
     public SqlAssetIndex(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, ObjectMapper objectMapper, AssetStatements assetStatements) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, assetStatements, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates the asset index.
+     *
+     * @param batchSize the number of entries written with each batch of statements by {@link #acceptAll(Collection)}
+     */
+    public SqlAssetIndex(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, ObjectMapper objectMapper, AssetStatements assetStatements, int batchSize) {
         this.dataSourceRegistry = Objects.requireNonNull(dataSourceRegistry);
         this.dataSourceName = Objects.requireNonNull(dataSourceName);
         this.transactionContext = Objects.requireNonNull(transactionContext);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.assetStatements = Objects.requireNonNull(assetStatements);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -79,8 +106,9 @@ public class SqlAssetIndex implements AssetIndex {
             try {
                 var statement = assetStatements.createQuery(querySpec);
 
-                return executeQuery(getConnection(), true, this::mapAssetIds, statement.getQueryAsString(), statement.getParameters())
-                        .map(this::findById);
+                var assetSubSelect = statement.getQueryAsString().replaceAll(";\\s*$", "");
+                var sql = assetStatements.getSelectAssetsWithPropertiesTemplate(assetSubSelect);
+                return queryAssetsWithProperties(getConnection(), sql, statement.getParameters());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -91,31 +119,15 @@ public class SqlAssetIndex implements AssetIndex {
     public @Nullable Asset findById(String assetId) {
         Objects.requireNonNull(assetId);
 
-        try (var connection = getConnection()) {
-
+        try {
             return transactionContext.execute(() -> {
-                if (!existsById(assetId, connection)) {
-                    return null;
-                }
-
-                var selectAssetByIdSql = assetStatements.getSelectAssetByIdTemplate();
-                var findPropertyByIdSql = assetStatements.getFindPropertyByIdTemplate();
-                try (
-                        var createdAtStream = executeQuery(connection, false, this::mapCreatedAt, selectAssetByIdSql, assetId);
-                        var propertiesStream = executeQuery(connection, false, this::mapPropertyResultSet, findPropertyByIdSql, assetId)
-                ) {
-                    var createdAt = createdAtStream.findFirst().orElse(0L);
-                    var assetProperties = propertiesStream
-                            .collect(toMap(AbstractMap.SimpleImmutableEntry::getKey, AbstractMap.SimpleImmutableEntry::getValue));
-
-                    return Asset.Builder.newInstance()
-                            .id(assetId)
-                            .properties(assetProperties)
-                            .createdAt(createdAt)
-                            .build();
+                var sql = assetStatements.getFindAssetsWithPropertiesByIdsTemplate(1);
+                try (var assets = queryAssetsWithProperties(getConnection(), sql, assetId)) {
+                    return assets.findFirst().orElse(null);
+                } catch (SQLException e) {
+                    throw new EdcPersistenceException(e);
                 }
             });
-
         } catch (Exception e) {
             if (e instanceof EdcPersistenceException) {
                 throw (EdcPersistenceException) e;
@@ -125,6 +137,17 @@ public class SqlAssetIndex implements AssetIndex {
         }
     }
 
+    @Override
+    public Stream<Asset> findByIds(Collection<String> assetIds) {
+        Objects.requireNonNull(assetIds);
+
+        var ids = List.copyOf(new LinkedHashSet<>(assetIds));
+        // the ids are bound as statement parameters, whose number per statement is limited by the databases
+        return IntStream.iterate(0, from -> from < ids.size(), from -> from + FIND_BY_IDS_CHUNK_SIZE)
+                .mapToObj(from -> ids.subList(from, Math.min(from + FIND_BY_IDS_CHUNK_SIZE, ids.size())))
+                .flatMap(this::findChunkByIds);
+    }
+
     @Override
     public void accept(AssetEntry item) {
         Objects.requireNonNull(item);
@@ -163,6 +186,32 @@ public class SqlAssetIndex implements AssetIndex {
         });
     }
 
+    /**
+     * Writes the entries with batched statements in a single transaction: for every chunk of {@code batchSize} entries the
+     * existing assets are deleted (their data addresses and properties are removed by cascade), then the assets, data
+     * addresses and properties are inserted with one batch each.
+     */
+    @Override
+    public void acceptAll(Collection<AssetEntry> items) {
+        Objects.requireNonNull(items);
+        if (items.isEmpty()) {
+            return;
+        }
+
+        var entries = List.copyOf(items);
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                for (var from = 0; from < entries.size(); from += batchSize) {
+                    writeBatch(connection, entries.subList(from, Math.min(from + batchSize, entries.size())));
+                }
+            } catch (EdcPersistenceException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
     @Override
     public Asset deleteById(String assetId) {
         Objects.requireNonNull(assetId);
@@ -214,21 +263,98 @@ public class SqlAssetIndex implements AssetIndex {
         });
     }
 
-    private long mapCreatedAt(ResultSet resultSet) throws SQLException {
-        return resultSet.getLong(assetStatements.getCreatedAtColumn());
+    private void writeBatch(Connection connection, List<AssetEntry> entries) throws JsonProcessingException {
+        var deletes = new ArrayList<Object[]>(entries.size());
+        var assets = new ArrayList<Object[]>(entries.size());
+        var dataAddresses = new ArrayList<Object[]>(entries.size());
+        var properties = new ArrayList<Object[]>();
+        for (var entry : entries) {
+            var asset = Objects.requireNonNull(entry.getAsset());
+            var dataAddress = Objects.requireNonNull(entry.getDataAddress());
+            var assetId = asset.getId();
+
+            deletes.add(new Object[]{ assetId });
+            assets.add(new Object[]{ assetId, asset.getCreatedAt() });
+            dataAddresses.add(new Object[]{ assetId, objectMapper.writeValueAsString(dataAddress.getProperties()) });
+            for (var property : asset.getProperties().entrySet()) {
+                properties.add(new Object[]{ assetId, property.getKey(), toPropertyValue(property.getValue()), property.getValue().getClass().getName() });
+            }
+        }
+
+        executeBatch(connection, assetStatements.getDeleteAssetByIdTemplate(), deletes);
+        executeBatch(connection, assetStatements.getInsertAssetTemplate(), assets);
+        executeBatch(connection, assetStatements.getInsertDataAddressTemplate(), dataAddresses);
+        executeBatch(connection, assetStatements.getInsertPropertyTemplate(), properties);
+    }
+
+    private Stream<Asset> findChunkByIds(List<String> assetIds) {
+        return transactionContext.execute(() -> {
+            try {
+                var sql = assetStatements.getFindAssetsWithPropertiesByIdsTemplate(assetIds.size());
+                return queryAssetsWithProperties(getConnection(), sql, assetIds.toArray());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
     }
 
-    private int mapRowCount(ResultSet resultSet) throws SQLException {
-        return resultSet.getInt(assetStatements.getCountVariableName());
+    /**
+     * Runs a query returning one row per asset property, ordered by asset id, and assembles the rows of every asset
+     * while streaming them. The connection is closed when the returned stream is closed.
+     */
+    private Stream<Asset> queryAssetsWithProperties(Connection connection, String sql, Object... arguments) {
+        var rows = executeQuery(connection, true, this::mapAssetPropertyRow, sql, arguments);
+        var iterator = rows.iterator();
+        var assembler = new Spliterators.AbstractSpliterator<Asset>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private AssetPropertyRow next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Asset> action) {
+                var first = next;
+                if (first == null) {
+                    if (!iterator.hasNext()) {
+                        return false;
+                    }
+                    first = iterator.next();
+                }
+                next = null;
+
+                var properties = new HashMap<String, Object>();
+                first.addTo(properties);
+                while (iterator.hasNext()) {
+                    var row = iterator.next();
+                    if (!row.assetId.equals(first.assetId)) {
+                        next = row;
+                        break;
+                    }
+                    row.addTo(properties);
+                }
+
+                action.accept(Asset.Builder.newInstance()
+                        .id(first.assetId)
+                        .properties(properties)
+                        .createdAt(first.createdAt)
+                        .build());
+                return true;
+            }
+        };
+        return StreamSupport.stream(assembler, false).onClose(rows::close);
     }
 
-    private AbstractMap.SimpleImmutableEntry<String, Object> mapPropertyResultSet(ResultSet resultSet) throws SQLException, ClassNotFoundException, JsonProcessingException {
+    private AssetPropertyRow mapAssetPropertyRow(ResultSet resultSet) throws SQLException, ClassNotFoundException, JsonProcessingException {
+        var assetId = resultSet.getString(assetStatements.getAssetIdColumn());
+        var createdAt = resultSet.getLong(assetStatements.getCreatedAtColumn());
         var name = resultSet.getString(assetStatements.getAssetPropertyColumnName());
+        if (name == null) {
+            return new AssetPropertyRow(assetId, createdAt, null, null);
+        }
         var value = resultSet.getString(assetStatements.getAssetPropertyColumnValue());
         var type = resultSet.getString(assetStatements.getAssetPropertyColumnType());
+        return new AssetPropertyRow(assetId, createdAt, name, fromPropertyValue(value, type));
+    }
 
-
-        return new AbstractMap.SimpleImmutableEntry<>(name, fromPropertyValue(value, type));
+    private int mapRowCount(ResultSet resultSet) throws SQLException {
+        return resultSet.getInt(assetStatements.getCountVariableName());
     }
 
     /**
@@ -265,11 +391,30 @@ public class SqlAssetIndex implements AssetIndex {
                 .build();
     }
 
-    private String mapAssetIds(ResultSet resultSet) throws SQLException {
-        return resultSet.getString(assetStatements.getAssetIdColumn());
-    }
-
     private String toPropertyValue(Object value) throws JsonProcessingException {
         return value instanceof String ? value.toString() : objectMapper.writeValueAsString(value);
     }
+
+    /**
+     * A row of the asset-with-properties queries: the asset columns and one of its properties, if it has any.
+     */
+    private static class AssetPropertyRow {
+        private final String assetId;
+        private final long createdAt;
+        private final String propertyName;
+        private final Object propertyValue;
+
+        AssetPropertyRow(String assetId, long createdAt, @Nullable String propertyName, @Nullable Object propertyValue) {
+            this.assetId = assetId;
+            this.createdAt = createdAt;
+            this.propertyName = propertyName;
+            this.propertyValue = propertyValue;
+        }
+
+        void addTo(Map<String, Object> properties) {
+            if (propertyName != null) {
+                properties.put(propertyName, propertyValue);
+            }
+        }
+    }
 }
@@ -160,4 +160,21 @@ public interface AssetStatements {
      * Select single asset by ID
      */
     String getSelectAssetByIdTemplate();
+
+    /**
+     * SELECT clause for the assets selected by a sub-select, joined with their properties. Returns one row per asset
+     * property (or a single row with null property columns for an asset without properties), ordered by asset ID so
+     * that the rows of the same asset are contiguous.
+     *
+     * @param assetSubSelect a SELECT statement on the asset table, without trailing semicolon
+     */
+    String getSelectAssetsWithPropertiesTemplate(String assetSubSelect);
+
+    /**
+     * SELECT clause for the assets with the given IDs, joined with their properties.
+     *
+     * @param idCount the number of ID placeholders
+     * @see #getSelectAssetsWithPropertiesTemplate(String)
+     */
+    String getFindAssetsWithPropertiesByIdsTemplate(int idCount);
 }
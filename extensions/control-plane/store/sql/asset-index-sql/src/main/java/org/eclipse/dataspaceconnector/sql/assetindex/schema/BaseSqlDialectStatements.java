@@ -22,6 +22,7 @@ import org.eclipse.dataspaceconnector.sql.dialect.BaseSqlDialect;
 import org.eclipse.dataspaceconnector.sql.translation.SqlConditionExpression;
 import org.eclipse.dataspaceconnector.sql.translation.SqlQueryStatement;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -128,6 +129,22 @@ public class BaseSqlDialectStatements implements AssetStatements {
         return format("SELECT * FROM %s WHERE %s=?", getAssetTable(), getAssetIdColumn());
     }
 
+    @Override
+    public String getSelectAssetsWithPropertiesTemplate(String assetSubSelect) {
+        return format("SELECT a.%s, a.%s, p.%s, p.%s, p.%s FROM (%s) AS a LEFT OUTER JOIN %s AS p ON p.%s = a.%s ORDER BY a.%s",
+                getAssetIdColumn(), getCreatedAtColumn(),
+                getAssetPropertyColumnName(), getAssetPropertyColumnValue(), getAssetPropertyColumnType(),
+                assetSubSelect,
+                getAssetPropertyTable(), getPropertyAssetIdFkColumn(), getAssetIdColumn(),
+                getAssetIdColumn());
+    }
+
+    @Override
+    public String getFindAssetsWithPropertiesByIdsTemplate(int idCount) {
+        var placeholders = String.join(", ", Collections.nCopies(idCount, "?"));
+        return getSelectAssetsWithPropertiesTemplate(format("SELECT * FROM %s WHERE %s IN (%s)", getAssetTable(), getAssetIdColumn(), placeholders));
+    }
+
     /**
      * Concatenates all SELECT statements on all properties into one big statement, or returns "" if list is empty.
      */
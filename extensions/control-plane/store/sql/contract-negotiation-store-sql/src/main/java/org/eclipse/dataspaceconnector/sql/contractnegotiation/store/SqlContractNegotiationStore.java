@@ -34,6 +34,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -195,8 +196,9 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
                     var stream = executeQuery(connection, true, this::mapContractNegotiation, stmt, state, clock.millis(), max)
             ) {
                 var negotiations = stream.collect(Collectors.toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
-                return negotiations;
+                var leased = new HashSet<>(leaseContext.withConnection(connection)
+                        .acquireLeases(negotiations.stream().map(ContractNegotiation::getId).collect(Collectors.toList())));
+                return negotiations.stream().filter(negotiation -> leased.contains(negotiation.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
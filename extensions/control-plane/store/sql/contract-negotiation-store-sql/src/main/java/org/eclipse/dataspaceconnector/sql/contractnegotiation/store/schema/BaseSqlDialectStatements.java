@@ -67,7 +67,8 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
         return format("SELECT * FROM %s\n" +
                 "WHERE %s=?\n" +
                 "  AND (%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))\n" +
-                "LIMIT ?;", getContractNegotiationTable(), getStateColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
+                "LIMIT ?%s;", getContractNegotiationTable(), getStateColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                getRowLockClause());
     }
 
     @Override
@@ -137,6 +138,17 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteExpiredLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?) AND (? > (%s + %s));",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    @Override
+    public String getUpdateLeaseIfNotLeasedTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ? AND %s IS NULL;", getContractNegotiationTable(), getLeaseIdColumn(), getIdColumn(), getLeaseIdColumn());
+    }
+
     /**
      * Overridable operator to convert strings to JSON. For postgres, this is the "::json" operator
      */
@@ -144,4 +156,12 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
         return BaseSqlDialect.getJsonCastOperator();
     }
 
+    /**
+     * Clause appended to the next-for-state query to lock the selected rows, so that concurrent runtimes skip them instead of
+     * competing for the same leases. Empty by default, as it is not supported by all the databases.
+     */
+    protected String getRowLockClause() {
+        return "";
+    }
+
 }
@@ -41,6 +41,11 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return new SqlQueryStatement(selectStmt, querySpec, new ContractAgreementMapping(this));
     }
 
+    @Override
+    protected String getRowLockClause() {
+        return " FOR UPDATE SKIP LOCKED";
+    }
+
     /**
      * Overridable operator to convert strings to JSON. For postgres, this is the "::json" operator
      */
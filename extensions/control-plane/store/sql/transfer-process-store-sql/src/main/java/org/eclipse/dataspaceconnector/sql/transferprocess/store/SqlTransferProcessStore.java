@@ -38,6 +38,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
@@ -82,8 +83,9 @@ public class SqlTransferProcessStore implements TransferProcessStore {
                     var stream = executeQuery(connection, true, this::mapTransferProcess, stmt, state, now, max)
             ) {
                 var transferProcesses = stream.collect(toList());
-                transferProcesses.forEach(t -> leaseContext.by(leaseHolderName).withConnection(connection).acquireLease(t.getId()));
-                return transferProcesses;
+                var leased = new HashSet<>(leaseContext.by(leaseHolderName).withConnection(connection)
+                        .acquireLeases(transferProcesses.stream().map(TransferProcess::getId).collect(toList())));
+                return transferProcesses.stream().filter(process -> leased.contains(process.getId())).collect(toList());
 
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -49,6 +49,17 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteExpiredLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?) AND (? > (%s + %s));",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    @Override
+    public String getUpdateLeaseIfNotLeasedTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ? AND %s IS NULL;", getTransferProcessTableName(), getLeaseIdColumn(), getIdColumn(), getLeaseIdColumn());
+    }
+
     @Override
     public String getInsertStatement() {
         return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?%s, ?, ?%s, ?%s, ?%s, ?, ?%s);",
@@ -79,9 +90,9 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
         return format("SELECT *, dr.%s as edc_data_request_id FROM %s LEFT OUTER JOIN %s dr ON %s.%s = dr.transfer_process_id " +
                         "WHERE %s=? " +
                         "AND (%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s)))) " +
-                        "ORDER BY %s ASC LIMIT ? ;",
+                        "ORDER BY %s ASC LIMIT ?%s;",
                 getDataRequestIdColumn(), getTransferProcessTableName(), getDataRequestTable(), getTransferProcessTableName(), getIdColumn(), getStateColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
-                getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn(), getStateTimestampColumn());
+                getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn(), getStateTimestampColumn(), getRowLockClause());
     }
 
     @Override
@@ -123,4 +134,12 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this));
     }
+
+    /**
+     * Clause appended to the next-for-state query to lock the selected rows, so that concurrent runtimes skip them instead of
+     * competing for the same leases. Empty by default, as it is not supported by all the databases.
+     */
+    protected String getRowLockClause() {
+        return "";
+    }
 }
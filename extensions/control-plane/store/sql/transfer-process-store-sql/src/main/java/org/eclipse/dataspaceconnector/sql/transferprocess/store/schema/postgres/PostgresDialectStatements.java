@@ -36,6 +36,14 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return PostgresDialect.getJsonCastOperator();
     }
 
+    /**
+     * Locks the selected transfer processes only, as the rows of an outer join cannot be locked.
+     */
+    @Override
+    protected String getRowLockClause() {
+        return format(" FOR UPDATE OF %s SKIP LOCKED", getTransferProcessTableName());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         // if any criterion targets a JSON array field, we need to slightly adapt the FROM clause
@@ -28,6 +28,8 @@ plugins {
 dependencies {
     api(project(":spi:common:web-spi"))
     implementation(project(":spi:data-plane:data-plane-spi"))
+    implementation(project(":core:common:jwt-core"))
+    implementation(project(":extensions:data-plane:data-plane-token-validation"))
 
     implementation("com.squareup.okhttp3:okhttp:${okHttpVersion}")
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
@@ -14,20 +14,40 @@
 
 package org.eclipse.dataspaceconnector.dataplane.api;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import org.eclipse.dataspaceconnector.core.jwt.TokenValidationRulesRegistryImpl;
+import org.eclipse.dataspaceconnector.core.jwt.TokenValidationServiceImpl;
+import org.eclipse.dataspaceconnector.core.jwt.VerifiedTokenCache;
 import org.eclipse.dataspaceconnector.dataplane.api.controller.DataPlaneControlApiController;
 import org.eclipse.dataspaceconnector.dataplane.api.controller.DataPlanePublicApiController;
 import org.eclipse.dataspaceconnector.dataplane.api.validation.TokenValidationClientImpl;
+import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationClient;
+import org.eclipse.dataspaceconnector.dataplane.token.validation.NoopDataEncrypter;
+import org.eclipse.dataspaceconnector.dataplane.token.validation.PublicKeyParser;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.EdcSetting;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Extension;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Inject;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.WebService;
-import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.transfer.dataplane.spi.security.DataEncrypter;
 
-import java.util.concurrent.Executors;
+import java.time.Clock;
+import java.time.Duration;
+
+import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.DEFAULT_TOKEN_VALIDATION_CACHE_MAX_ENTRIES;
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.DEFAULT_TOKEN_VALIDATION_CACHE_TTL;
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.TOKEN_VALIDATION_CACHE_MAX_ENTRIES;
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.TOKEN_VALIDATION_CACHE_METER_PREFIX;
+import static org.eclipse.dataspaceconnector.dataplane.token.validation.LocalTokenValidationConfig.TOKEN_VALIDATION_CACHE_TTL;
 
 /**
  * This extension provides the Data Plane API:
@@ -39,6 +59,20 @@ public class DataPlaneApiExtension implements ServiceExtension {
     public static final String NAME = "Data Plane API";
     @EdcSetting
     private static final String CONTROL_PLANE_VALIDATION_ENDPOINT = "edc.dataplane.token.validation.endpoint";
+    @EdcSetting(value = "'remote' to validate tokens by calling the validation server, 'embedded' to validate them within the data plane")
+    private static final String TOKEN_VALIDATION_MODE = "edc.dataplane.token.validation.mode";
+    private static final String REMOTE_VALIDATION_MODE = "remote";
+    private static final String EMBEDDED_VALIDATION_MODE = "embedded";
+    @EdcSetting(value = "maximum number of concurrent calls to the validation server in remote mode")
+    private static final String TOKEN_VALIDATION_MAX_CONCURRENT_REQUESTS = "edc.dataplane.token.validation.max.concurrent.requests";
+    private static final int DEFAULT_TOKEN_VALIDATION_MAX_CONCURRENT_REQUESTS = 64;
+    @EdcSetting(value = "alias of the public key in the vault verifying the tokens in embedded mode, when the data plane does not run with the control plane")
+    private static final String TOKEN_VALIDATION_PUBLIC_KEY_ALIAS = "edc.dataplane.token.validation.publickey.alias";
+    @EdcSetting(value = "PEM encoded public key verifying the tokens in embedded mode, when the data plane does not run with the control plane and no alias is set")
+    private static final String TOKEN_VALIDATION_PUBLIC_KEY = "edc.dataplane.token.validation.publickey";
+    @EdcSetting
+    private static final String PUBLIC_API_STREAM_BUFFER_SIZE = "edc.dataplane.public.stream.buffer.size";
+    private static final int DEFAULT_PUBLIC_API_STREAM_BUFFER_SIZE = 64 * 1024;
     private static final String CONTROL = "control";
     private static final String PUBLIC = "public";
     @Inject
@@ -50,6 +84,22 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Inject
     private OkHttpClient httpClient;
 
+    @Inject
+    private Vault vault;
+
+    @Inject
+    private Clock clock;
+
+    // provided by the control plane when the data plane is embedded into its runtime
+    @Inject(required = false)
+    private TokenValidationClient embeddedTokenValidationClient;
+
+    @Inject(required = false)
+    private DataEncrypter dataEncrypter;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -58,20 +108,73 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
-        var typeManager = context.getTypeManager();
-
-        var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
 
-        var tokenValidationClient = new TokenValidationClientImpl(httpClient, validationEndpoint, typeManager.getMapper(), monitor);
+        var tokenValidationClient = createTokenValidationClient(context);
 
-        var executorService = context.getService(ExecutorInstrumentation.class)
-                .instrument(Executors.newSingleThreadExecutor(), DataPlanePublicApiController.class.getSimpleName());
+        var streamBufferSize = context.getSetting(PUBLIC_API_STREAM_BUFFER_SIZE, DEFAULT_PUBLIC_API_STREAM_BUFFER_SIZE);
 
         webService.registerResource(CONTROL, new DataPlaneControlApiController(dataPlaneManager));
 
-        var publicApiController = new DataPlanePublicApiController(dataPlaneManager, tokenValidationClient, monitor, executorService);
+        var publicApiController = new DataPlanePublicApiController(dataPlaneManager, tokenValidationClient, monitor, streamBufferSize);
         webService.registerResource(PUBLIC, publicApiController);
     }
-}
 
+    private TokenValidationClient createTokenValidationClient(ServiceExtensionContext context) {
+        var mode = context.getSetting(TOKEN_VALIDATION_MODE, REMOTE_VALIDATION_MODE);
+        switch (mode) {
+            case REMOTE_VALIDATION_MODE:
+                var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
+                // the calls all target the validation server, so they get their own dispatcher not limited to the default 5 requests per
+                // host; the connection pool is still shared with the other clients
+                var dispatcher = new Dispatcher();
+                dispatcher.setMaxRequests(context.getSetting(TOKEN_VALIDATION_MAX_CONCURRENT_REQUESTS, DEFAULT_TOKEN_VALIDATION_MAX_CONCURRENT_REQUESTS));
+                dispatcher.setMaxRequestsPerHost(dispatcher.getMaxRequests());
+                var validationHttpClient = httpClient.newBuilder().dispatcher(dispatcher).build();
+                return new TokenValidationClientImpl(validationHttpClient, validationEndpoint, context.getTypeManager().getMapper(), context.getMonitor());
+            case EMBEDDED_VALIDATION_MODE:
+                return embeddedTokenValidationClient != null ? embeddedTokenValidationClient : createLocalTokenValidationClient(context);
+            default:
+                throw new EdcException(format("Unsupported token validation mode %s, must be one of: %s, %s", mode, REMOTE_VALIDATION_MODE, EMBEDDED_VALIDATION_MODE));
+        }
+    }
+
+    /**
+     * Creates the client validating the tokens within the data plane when it does not run with the control plane: the signature and the
+     * expiration of the tokens are verified with the configured public key, but not the contract agreement, which only the control plane knows.
+     */
+    private TokenValidationClient createLocalTokenValidationClient(ServiceExtensionContext context) {
+        var monitor = context.getMonitor();
+        monitor.info("No token validation provided by a control plane, the tokens are validated with the configured public key");
+        var publicKey = PublicKeyParser.from(resolvePublicKeyPem(context));
+        var tokenValidationService = new TokenValidationServiceImpl(id -> publicKey, new TokenValidationRulesRegistryImpl());
+
+        var encrypter = dataEncrypter;
+        if (encrypter == null) {
+            monitor.warning("No DataEncrypter registered, the data addresses of the tokens are expected to be unencrypted");
+            encrypter = new NoopDataEncrypter();
+        }
 
+        var cacheTtl = Duration.ofMillis(context.getSetting(TOKEN_VALIDATION_CACHE_TTL, DEFAULT_TOKEN_VALIDATION_CACHE_TTL));
+        var cacheMaxEntries = context.getSetting(TOKEN_VALIDATION_CACHE_MAX_ENTRIES, DEFAULT_TOKEN_VALIDATION_CACHE_MAX_ENTRIES);
+        var validatedTokens = cacheTtl.toMillis() > 0 ? new VerifiedTokenCache(clock, cacheTtl, cacheMaxEntries,
+                meterRegistry != null ? meterRegistry : Metrics.globalRegistry, TOKEN_VALIDATION_CACHE_METER_PREFIX) : null;
+        return new LocalTokenValidationClient(tokenValidationService, encrypter, context.getTypeManager().getMapper(), clock, validatedTokens);
+    }
+
+    private String resolvePublicKeyPem(ServiceExtensionContext context) {
+        var alias = context.getSetting(TOKEN_VALIDATION_PUBLIC_KEY_ALIAS, null);
+        if (alias != null) {
+            var pem = vault.resolveSecret(alias);
+            if (pem == null) {
+                throw new EdcException(format("Failed to resolve the token validation public key with alias %s", alias));
+            }
+            return pem;
+        }
+        var pem = context.getSetting(TOKEN_VALIDATION_PUBLIC_KEY, null);
+        if (pem == null) {
+            throw new EdcException(format("Embedded token validation without control plane requires the public key verifying the tokens, set either %s or %s",
+                    TOKEN_VALIDATION_PUBLIC_KEY_ALIAS, TOKEN_VALIDATION_PUBLIC_KEY));
+        }
+        return pem;
+    }
+}
@@ -29,20 +29,18 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.dataspaceconnector.dataplane.api.pipeline.StreamingResponseDataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
-import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.OutputStreamDataSink;
-import org.eclipse.dataspaceconnector.spi.exception.NotAuthorizedException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 
-import java.io.ByteArrayOutputStream;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.internalErrors;
+import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.notAuthorizedErrors;
 import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.validationError;
 
 @Path("{any:.*}")
@@ -53,17 +51,17 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
     private final TokenValidationClient tokenValidationClient;
     private final DataFlowRequestSupplier requestSupplier;
     private final Monitor monitor;
-    private final ExecutorService executorService;
+    private final int streamBufferSize;
 
     public DataPlanePublicApiController(DataPlaneManager dataPlaneManager,
                                         TokenValidationClient tokenValidationClient,
                                         Monitor monitor,
-                                        ExecutorService executorService) {
+                                        int streamBufferSize) {
         this.dataPlaneManager = dataPlaneManager;
         this.tokenValidationClient = tokenValidationClient;
         this.requestSupplier = new DataFlowRequestSupplier();
         this.monitor = monitor;
-        this.executorService = executorService;
+        this.streamBufferSize = streamBufferSize;
     }
 
     @GET
@@ -128,7 +126,26 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return;
         }
 
-        var dataAddress = extractSourceDataAddress(token);
+        // the token is validated without blocking the request thread, the transfer is started once it completes
+        tokenValidationClient.callAsync(token)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        response.resume(internalErrors(List.of("Unhandled exception occurred during token validation: " + throwable.getMessage())));
+                    } else if (result.failed()) {
+                        response.resume(notAuthorizedErrors(List.of(join(", ", result.getFailureMessages()))));
+                    } else {
+                        try {
+                            transfer(contextApi, result.getContent(), response);
+                        } catch (RuntimeException e) {
+                            // this may run outside the request thread, where the exception mappers do not apply
+                            monitor.severe("Failed to start data transfer", e);
+                            response.resume(internalErrors(List.of("Unhandled exception occurred during data transfer: " + e.getMessage())));
+                        }
+                    }
+                });
+    }
+
+    private void transfer(ContainerRequestContextApi contextApi, DataAddress dataAddress, AsyncResponse response) {
         var dataFlowRequest = requestSupplier.apply(contextApi, dataAddress);
 
         var validationResult = dataPlaneManager.validate(dataFlowRequest);
@@ -140,35 +157,32 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return;
         }
 
-        var stream = new ByteArrayOutputStream();
-        var sink = new OutputStreamDataSink(stream, executorService, monitor);
+        // the sink resumes the response as soon as the source is opened and streams the data into it
+        var sink = new StreamingResponseDataSink(response, streamBufferSize, monitor);
 
         dataPlaneManager.transfer(sink, dataFlowRequest)
                 .whenComplete((result, throwable) -> {
                     if (throwable == null) {
                         if (result.succeeded()) {
-                            response.resume(Response.ok(stream.toString()).build());
+                            resumeIfSuspended(response, Response.ok().build(), dataFlowRequest.getId());
                         } else {
-                            response.resume(internalErrors(result.getFailureMessages()));
+                            resumeIfSuspended(response, internalErrors(result.getFailureMessages()), dataFlowRequest.getId());
                         }
                     } else {
-                        response.resume(internalErrors(List.of("Unhandled exception occurred during data transfer: " + throwable.getMessage())));
+                        var errors = List.of("Unhandled exception occurred during data transfer: " + throwable.getMessage());
+                        resumeIfSuspended(response, internalErrors(errors), dataFlowRequest.getId());
                     }
                 });
     }
 
     /**
-     * Invoke the {@link TokenValidationClient} with the provided token to retrieve the source data address.
-     *
-     * @param token input token
-     * @return the source {@link DataAddress}.
-     * @throws NotAuthorizedException if {@link TokenValidationClient} invokation failed.
+     * Resumes the response unless the data has already been streamed into it, in which case the status cannot be changed anymore.
      */
-    private DataAddress extractSourceDataAddress(String token) {
-        var result = tokenValidationClient.call(token);
-        if (result.failed()) {
-            throw new NotAuthorizedException(String.join(", ", result.getFailureMessages()));
+    private void resumeIfSuspended(AsyncResponse response, Response result, String requestId) {
+        if (response.isSuspended()) {
+            response.resume(result);
+        } else if (result.getStatus() != Response.Status.OK.getStatusCode()) {
+            monitor.severe(format("Data transfer failed after response streaming started for request: %s", requestId));
         }
-        return result.getContent();
     }
 }
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.pipeline;
+
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.response.StatusResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
+
+/**
+ * Streams the source parts directly into the body of a suspended {@link AsyncResponse}.
+ * <p>
+ * Parts are copied through a single bounded buffer, and since writes to the servlet output stream block while the consumer is not reading, a slow
+ * consumer naturally throttles the read from the source. The returned future completes once the response body has been fully written.
+ * <p>
+ * If the parts cannot be opened the response is not resumed, so that the caller can still answer with an error response. If the response completes
+ * without the body having been fully written, e.g. because the consumer disconnected or the container never invoked the output, the future completes
+ * with a failure.
+ */
+public class StreamingResponseDataSink implements DataSink {
+    private final AsyncResponse response;
+    private final int bufferSize;
+    private final Monitor monitor;
+
+    public StreamingResponseDataSink(AsyncResponse response, int bufferSize, Monitor monitor) {
+        this.response = response;
+        this.bufferSize = bufferSize;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> transfer(DataSource source) {
+        List<DataSource.Part> parts;
+        try (var partStream = source.openPartStream()) {
+            parts = partStream.collect(toList());
+        } catch (Exception e) {
+            monitor.severe("Error processing data transfer request", e);
+            return completedFuture(StatusResult.failure(ERROR_RETRY, "Error processing data transfer request: " + e.getMessage()));
+        }
+
+        var future = new CompletableFuture<StatusResult<Void>>();
+        var partsClosed = new AtomicBoolean();
+        StreamingOutput output = outputStream -> {
+            try {
+                writeParts(parts, outputStream);
+                future.complete(StatusResult.success());
+            } catch (IOException | RuntimeException | Error e) {
+                monitor.severe("Error writing data to the response", e);
+                future.complete(StatusResult.failure(ERROR_RETRY, "Error writing data to the response: " + e.getMessage()));
+                throw e;
+            } finally {
+                closeParts(parts, partsClosed);
+            }
+        };
+
+        // invoked once the response is done, also when the output has not been invoked or has not completed
+        response.register((CompletionCallback) throwable -> {
+            closeParts(parts, partsClosed);
+            var message = throwable != null ? throwable.getMessage() : "the response completed before its body was written";
+            future.complete(StatusResult.failure(ERROR_RETRY, "Error writing data to the response: " + message));
+        });
+
+        try {
+            if (!response.resume(createResponse(parts, output))) {
+                closeParts(parts, partsClosed);
+                future.complete(StatusResult.failure(ERROR_RETRY, "Response is no longer suspended, the consumer might have disconnected"));
+            }
+        } catch (RuntimeException e) {
+            closeParts(parts, partsClosed);
+            monitor.severe("Error resuming the response", e);
+            future.complete(StatusResult.failure(ERROR_RETRY, "Error resuming the response: " + e.getMessage()));
+        }
+        return future;
+    }
+
+    private Response createResponse(List<DataSource.Part> parts, StreamingOutput output) {
+        var builder = Response.ok(output);
+        if (parts.size() == 1) {
+            var part = parts.get(0);
+            if (part.mediaType() != null) {
+                builder.type(part.mediaType());
+            }
+            if (part.size() != DataSource.Part.SIZE_UNKNOWN) {
+                builder.header(HttpHeaders.CONTENT_LENGTH, part.size());
+            }
+        }
+        return builder.build();
+    }
+
+    private void writeParts(List<DataSource.Part> parts, OutputStream outputStream) throws IOException {
+        var buffer = new byte[bufferSize];
+        for (var part : parts) {
+            try (var inputStream = part.openStream()) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+            outputStream.flush();
+        }
+    }
+
+    private void closeParts(List<DataSource.Part> parts, AtomicBoolean closed) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (var part : parts) {
+            try {
+                part.close();
+            } catch (Exception e) {
+                monitor.warning("Error closing part: " + part.name(), e);
+            }
+        }
+    }
+}
@@ -16,17 +16,26 @@ package org.eclipse.dataspaceconnector.dataplane.api.validation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.core.HttpHeaders;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 
+/**
+ * Validates the tokens by calling the validation server. Calls are dispatched asynchronously on the connections pooled by
+ * the {@link OkHttpClient}.
+ */
 public class TokenValidationClientImpl implements TokenValidationClient {
 
     private final OkHttpClient httpClient;
@@ -43,21 +52,52 @@ public class TokenValidationClientImpl implements TokenValidationClient {
 
     @Override
     public Result<DataAddress> call(String token) {
-        var request = new Request.Builder().url(endpoint).header(HttpHeaders.AUTHORIZATION, token).get().build();
-        try (var response = httpClient.newCall(request).execute()) {
-            var body = response.body();
-            var stringBody = body != null ? body.string() : null;
-            if (stringBody == null) {
-                return Result.failure("Token validation server returned null body");
+        try (var response = httpClient.newCall(createRequest(token)).execute()) {
+            return handleResponse(response);
+        } catch (IOException e) {
+            return Result.failure("Unhandled exception occurred during call to token validation server: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Result<DataAddress>> callAsync(String token) {
+        var future = new CompletableFuture<Result<DataAddress>>();
+        httpClient.newCall(createRequest(token)).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.complete(Result.failure("Unhandled exception occurred during call to token validation server: " + e.getMessage()));
             }
 
-            if (response.isSuccessful()) {
-                return Result.success(mapper.readValue(stringBody, DataAddress.class));
-            } else {
-                return Result.failure(format("Call to token validation sever failed: %s - %s. %s", response.code(), response.message(), stringBody));
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (response) {
+                    future.complete(handleResponse(response));
+                } catch (IOException e) {
+                    onFailure(call, e);
+                } catch (RuntimeException e) {
+                    monitor.severe("Failed to handle the response of the token validation server", e);
+                    future.completeExceptionally(e);
+                }
             }
-        } catch (IOException e) {
-            return Result.failure("Unhandled exception occurred during call to token validation server: " + e.getMessage());
+        });
+        return future;
+    }
+
+    private Request createRequest(String token) {
+        return new Request.Builder().url(endpoint).header(HttpHeaders.AUTHORIZATION, token).get().build();
+    }
+
+    private Result<DataAddress> handleResponse(Response response) throws IOException {
+        var body = response.body();
+        var stringBody = body != null ? body.string() : null;
+        if (stringBody == null) {
+            return Result.failure("Token validation server returned null body");
+        }
+
+        if (response.isSuccessful()) {
+            return Result.success(mapper.readValue(stringBody, DataAddress.class));
+        } else {
+            return Result.failure(format("Call to token validation sever failed: %s - %s. %s", response.code(), response.message(), stringBody));
         }
     }
 }
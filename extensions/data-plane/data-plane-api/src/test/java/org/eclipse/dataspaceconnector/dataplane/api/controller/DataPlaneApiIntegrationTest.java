@@ -21,6 +21,7 @@ import io.restassured.http.ContentType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.OutputStreamDataSinkFactory;
 import org.eclipse.dataspaceconnector.junit.extensions.EdcExtension;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Provides;
@@ -45,6 +46,7 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.model.MediaType;
 import org.mockserver.verify.VerificationTimes;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -116,6 +118,7 @@ class DataPlaneApiIntegrationTest {
                 .build();
 
         when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(Boolean.TRUE));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(StatusResult.success());
 
         given().port(CONTROL_API_PORT)
                 .when()
@@ -128,6 +131,28 @@ class DataPlaneApiIntegrationTest {
         verify(dataPlaneManager).initiateTransfer(isA(DataFlowRequest.class));
     }
 
+    @Test
+    void controlApi_should_returnServiceUnavailable_if_requestIsRejected() {
+        var flowRequest = DataFlowRequest.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(testDestAddress())
+                .destinationDataAddress(testDestAddress())
+                .build();
+
+        when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(Boolean.TRUE));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(StatusResult.failure(ResponseStatus.ERROR_RETRY, "queue is full"));
+
+        given().port(CONTROL_API_PORT)
+                .when()
+                .contentType(ContentType.JSON)
+                .body(flowRequest)
+                .post("/control/transfer")
+                .then()
+                .statusCode(Response.Status.SERVICE_UNAVAILABLE.getStatusCode())
+                .body("errors", CoreMatchers.equalTo(List.of("queue is full")));
+    }
+
     @Test
     void controlApi_should_returnBadRequest_if_requestIsInValid() {
         var errorMsg = "test error message";
@@ -286,6 +311,34 @@ class DataPlaneApiIntegrationTest {
                 });
     }
 
+    @Test
+    void publicApi_should_streamDataFromSource_if_transferSuccessful() throws JsonProcessingException {
+        var token = UUID.randomUUID().toString();
+        var data = UUID.randomUUID().toString();
+
+        tokenValidationServer.when(new HttpRequest().withHeader(AUTHORIZATION, token), once())
+                .respond(new HttpResponse()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(MAPPER.writeValueAsString(testDestAddress()))
+                );
+        when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), any()))
+                .thenAnswer(invocation -> {
+                    DataSink sink = invocation.getArgument(0);
+                    return sink.transfer(new InputStreamDataSource("test", new ByteArrayInputStream(data.getBytes())));
+                });
+
+        given()
+                .port(PUBLIC_API_PORT)
+                .header(AUTHORIZATION, token)
+                .when()
+                .get("/public/any")
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .body(is(data));
+    }
+
     private DataAddress testDestAddress() {
         return DataAddress.Builder.newInstance().type("test").build();
     }
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.controller;
+
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
+import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.response.StatusResult;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.CompletableFuture;
+
+import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DataPlanePublicApiControllerTest {
+
+    private static final String TOKEN = "test-token";
+
+    private final DataPlaneManager dataPlaneManager = mock(DataPlaneManager.class);
+    private final TokenValidationClient tokenValidationClient = mock(TokenValidationClient.class);
+    private final ContainerRequestContext requestContext = mock(ContainerRequestContext.class);
+    private final AsyncResponse response = mock(AsyncResponse.class);
+    private DataPlanePublicApiController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new DataPlanePublicApiController(dataPlaneManager, tokenValidationClient, mock(Monitor.class), 1024);
+
+        var headers = new MultivaluedHashMap<String, String>();
+        headers.putSingle(AUTHORIZATION, TOKEN);
+        var uriInfo = mock(UriInfo.class);
+        when(uriInfo.getQueryParameters()).thenReturn(new MultivaluedHashMap<>());
+        when(uriInfo.getPath()).thenReturn("/test-path");
+        when(requestContext.getHeaders()).thenReturn(headers);
+        when(requestContext.getUriInfo()).thenReturn(uriInfo);
+        when(requestContext.getMethod()).thenReturn("GET");
+    }
+
+    @Test
+    void get_shouldStartTransfer_onceTokenValidationCompletes() {
+        var validation = new CompletableFuture<Result<DataAddress>>();
+        when(tokenValidationClient.callAsync(TOKEN)).thenReturn(validation);
+        when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), isA(DataFlowRequest.class))).thenReturn(new CompletableFuture<>());
+
+        controller.get(requestContext, response);
+
+        verify(response, never()).resume(any(Response.class));
+        verifyNoInteractions(dataPlaneManager);
+
+        validation.complete(Result.success(DataAddress.Builder.newInstance().type("test-type").build()));
+
+        var captor = ArgumentCaptor.forClass(DataFlowRequest.class);
+        verify(dataPlaneManager).transfer(any(DataSink.class), captor.capture());
+        assertThat(captor.getValue().getSourceDataAddress().getType()).isEqualTo("test-type");
+    }
+
+    @Test
+    void get_shouldResumeWithForbidden_ifTokenValidationFails() {
+        var validation = new CompletableFuture<Result<DataAddress>>();
+        when(tokenValidationClient.callAsync(TOKEN)).thenReturn(validation);
+
+        controller.get(requestContext, response);
+        validation.complete(Result.failure("token is not valid"));
+
+        assertThat(resumedStatus()).isEqualTo(Response.Status.FORBIDDEN.getStatusCode());
+        verifyNoInteractions(dataPlaneManager);
+    }
+
+    @Test
+    void get_shouldResumeWithInternalError_ifTokenValidationThrows() {
+        var validation = new CompletableFuture<Result<DataAddress>>();
+        when(tokenValidationClient.callAsync(TOKEN)).thenReturn(validation);
+
+        controller.get(requestContext, response);
+        validation.completeExceptionally(new RuntimeException("validation server unreachable"));
+
+        assertThat(resumedStatus()).isEqualTo(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
+        verifyNoInteractions(dataPlaneManager);
+    }
+
+    @Test
+    void get_shouldResumeWithInternalError_ifTransferCannotStart() {
+        when(tokenValidationClient.callAsync(TOKEN))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(DataAddress.Builder.newInstance().type("test-type").build())));
+        when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenThrow(new RuntimeException("test-error"));
+
+        controller.get(requestContext, response);
+
+        assertThat(resumedStatus()).isEqualTo(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
+    }
+
+    private int resumedStatus() {
+        var captor = ArgumentCaptor.forClass(Response.class);
+        verify(response).resume(captor.capture());
+        return captor.getValue().getStatus();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.pipeline;
+
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingResponseDataSinkTest {
+
+    private AsyncResponse asyncResponse;
+    private StreamingResponseDataSink sink;
+
+    @BeforeEach
+    void setUp() {
+        asyncResponse = mock(AsyncResponse.class);
+        sink = new StreamingResponseDataSink(asyncResponse, 4, mock(Monitor.class));
+    }
+
+    @Test
+    void transfer_shouldStreamPartIntoResponse() throws Exception {
+        var data = "some test content larger than the buffer".getBytes();
+        when(asyncResponse.resume(any(Response.class))).thenReturn(true);
+
+        var future = sink.transfer(new InputStreamDataSource("test", new ByteArrayInputStream(data)));
+
+        var captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(captor.capture());
+        assertThat(future).isNotDone();
+
+        var output = new ByteArrayOutputStream();
+        ((StreamingOutput) captor.getValue().getEntity()).write(output);
+
+        assertThat(output.toByteArray()).isEqualTo(data);
+        assertThat(future).isCompletedWithValueMatching(result -> result.succeeded());
+    }
+
+    @Test
+    void transfer_shouldPropagateMediaTypeAndContentLength() {
+        var data = "{\"foo\":\"bar\"}".getBytes();
+        when(asyncResponse.resume(any(Response.class))).thenReturn(true);
+
+        sink.transfer(() -> Stream.of(new TestPart(data, "application/json")));
+
+        var captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(captor.capture());
+        var response = captor.getValue();
+        assertThat(response.getMediaType()).hasToString("application/json");
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_LENGTH)).isEqualTo(String.valueOf(data.length));
+    }
+
+    @Test
+    void transfer_shouldNotResumeResponse_whenSourceCannotBeOpened() {
+        DataSource source = () -> {
+            throw new IllegalStateException("cannot open");
+        };
+
+        var future = sink.transfer(source);
+
+        assertThat(future).isCompletedWithValueMatching(result -> result.failed());
+        verify(asyncResponse, never()).resume(any(Response.class));
+    }
+
+    @Test
+    void transfer_shouldFail_whenResponseCannotBeResumed() {
+        when(asyncResponse.resume(any(Response.class))).thenReturn(false);
+
+        var future = sink.transfer(new InputStreamDataSource("test", new ByteArrayInputStream("data".getBytes())));
+
+        assertThat(future).isCompletedWithValueMatching(result -> result.failed());
+    }
+
+    @Test
+    void transfer_shouldFail_whenResponseCompletesWithoutWritingBody() {
+        when(asyncResponse.resume(any(Response.class))).thenReturn(true);
+        var closed = new AtomicBoolean();
+        var part = new TestPart("data".getBytes(), null) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        var future = sink.transfer(() -> Stream.of(part));
+
+        var captor = ArgumentCaptor.forClass(Object.class);
+        verify(asyncResponse).register(captor.capture());
+        assertThat(future).isNotDone();
+
+        ((CompletionCallback) captor.getValue()).onComplete(null);
+
+        assertThat(future).isCompletedWithValueMatching(result -> result.failed());
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void transfer_shouldFail_whenWritingThrowsError() {
+        when(asyncResponse.resume(any(Response.class))).thenReturn(true);
+        var part = new TestPart("data".getBytes(), null) {
+            @Override
+            public InputStream openStream() {
+                throw new AssertionError("unexpected");
+            }
+        };
+
+        var future = sink.transfer(() -> Stream.of(part));
+
+        var captor = ArgumentCaptor.forClass(Response.class);
+        verify(asyncResponse).resume(captor.capture());
+        assertThatThrownBy(() -> ((StreamingOutput) captor.getValue().getEntity()).write(new ByteArrayOutputStream())).isInstanceOf(AssertionError.class);
+        assertThat(future).isCompletedWithValueMatching(result -> result.failed());
+    }
+
+    private static class TestPart implements DataSource.Part {
+        private final byte[] data;
+        private final String mediaType;
+
+        TestPart(byte[] data, String mediaType) {
+            this.data = data;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public long size() {
+            return data.length;
+        }
+
+        @Override
+        public String mediaType() {
+            return mediaType;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(data);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.model.MediaType;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.getFreePort;
@@ -105,4 +106,32 @@ class TokenValidationClientImplTest {
 
         assertThat(result.failed()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void verifySuccessAsyncTokenValidation() throws Exception {
+        var token = UUID.randomUUID().toString();
+        var address = DataAddress.Builder.newInstance()
+                .type("test-type")
+                .build();
+
+        validationClientAndServer.when(new HttpRequest().withHeader(HttpHeaders.AUTHORIZATION, token), once())
+                .respond(HttpResponse.response()
+                        .withStatusCode(200)
+                        .withBody(MAPPER.writeValueAsString(address))
+                        .withContentType(MediaType.APPLICATION_JSON));
+
+        var result = client.callAsync(token).get(10, TimeUnit.SECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getType()).isEqualTo(address.getType());
+    }
+
+    @Test
+    void verifyFailedResultReturnedIfAsyncCallFails() throws Exception {
+        var unreachableClient = new TokenValidationClientImpl(testOkHttpClient(), "http://localhost:" + getFreePort(), MAPPER, mock(Monitor.class));
+
+        var result = unreachableClient.callAsync(UUID.randomUUID().toString()).get(10, TimeUnit.SECONDS);
+
+        assertThat(result.failed()).isTrue();
+    }
+}
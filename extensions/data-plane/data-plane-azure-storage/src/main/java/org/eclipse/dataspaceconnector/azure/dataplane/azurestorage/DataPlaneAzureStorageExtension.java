@@ -20,6 +20,7 @@ import org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline.Azur
 import org.eclipse.dataspaceconnector.azure.dataplane.azurestorage.pipeline.AzureStorageDataSourceFactory;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.EdcSetting;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Extension;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Inject;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
@@ -33,6 +34,10 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 public class DataPlaneAzureStorageExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Azure Storage";
+    private static final int DEFAULT_MAX_PARTS_IN_FLIGHT = 5;
+    @EdcSetting(value = "maximum number of parts written in parallel by the Azure Storage sink")
+    private static final String EDC_DATAPLANE_AZURE_SINK_MAX_PARTS_IN_FLIGHT = "edc.dataplane.azure.sink.max.parts.in.flight";
+
     @Inject
     private RetryPolicy retryPolicy;
 
@@ -60,7 +65,8 @@ public class DataPlaneAzureStorageExtension implements ServiceExtension {
         var sourceFactory = new AzureStorageDataSourceFactory(blobStoreApi, retryPolicy, monitor, vault);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new AzureStorageDataSinkFactory(blobStoreApi, executorContainer.getExecutorService(), 5, monitor, vault, context.getTypeManager());
+        var sinkMaxPartsInFlight = context.getSetting(EDC_DATAPLANE_AZURE_SINK_MAX_PARTS_IN_FLIGHT, DEFAULT_MAX_PARTS_IN_FLIGHT);
+        var sinkFactory = new AzureStorageDataSinkFactory(blobStoreApi, executorContainer.getExecutorService(), sinkMaxPartsInFlight, monitor, vault, context.getTypeManager());
         pipelineService.registerFactory(sinkFactory);
     }
 }
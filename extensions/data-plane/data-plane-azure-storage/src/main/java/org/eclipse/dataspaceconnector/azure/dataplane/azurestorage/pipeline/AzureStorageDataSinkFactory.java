@@ -42,15 +42,15 @@ import static org.eclipse.dataspaceconnector.azure.blob.core.validator.AzureStor
 public class AzureStorageDataSinkFactory implements DataSinkFactory {
     private final BlobStoreApi blobStoreApi;
     private final ExecutorService executorService;
-    private final int partitionSize;
+    private final int maxPartsInFlight;
     private final Monitor monitor;
     private final Vault vault;
     private final TypeManager typeManager;
 
-    public AzureStorageDataSinkFactory(BlobStoreApi blobStoreApi, ExecutorService executorService, int partitionSize, Monitor monitor, Vault vault, TypeManager typeManager) {
+    public AzureStorageDataSinkFactory(BlobStoreApi blobStoreApi, ExecutorService executorService, int maxPartsInFlight, Monitor monitor, Vault vault, TypeManager typeManager) {
         this.blobStoreApi = blobStoreApi;
         this.executorService = executorService;
-        this.partitionSize = partitionSize;
+        this.maxPartsInFlight = maxPartsInFlight;
         this.monitor = monitor;
         this.vault = vault;
         this.typeManager = typeManager;
@@ -96,7 +96,7 @@ public class AzureStorageDataSinkFactory implements DataSinkFactory {
                 .containerName(dataAddress.getProperty(AzureBlobStoreSchema.CONTAINER_NAME))
                 .sharedAccessSignature(token.getSas())
                 .requestId(requestId)
-                .partitionSize(partitionSize)
+                .maxPartsInFlight(maxPartsInFlight)
                 .blobStoreApi(blobStoreApi)
                 .executorService(executorService)
                 .monitor(monitor)
@@ -122,8 +122,14 @@ public class AzureStorageDataSource implements DataSource {
         }
     }
 
+    /**
+     * A blob part. Its size and ETag are fetched once, and ranged reads are only served as long as the blob still matches that ETag, so that
+     * segments read concurrently are consistent with each other.
+     */
     private static class AzureStoragePart implements Part {
         private final BlobAdapter adapter;
+        private String eTag;
+        private long size = SIZE_UNKNOWN;
 
         AzureStoragePart(BlobAdapter adapter) {
             this.adapter = adapter;
@@ -135,14 +141,30 @@ public class AzureStorageDataSource implements DataSource {
         }
 
         @Override
-        public long size() {
-            return adapter.getBlobSize();
+        public synchronized long size() {
+            if (size == SIZE_UNKNOWN) {
+                var properties = adapter.getBlobProperties();
+                eTag = properties.getETag();
+                size = properties.getSize();
+            }
+            return size;
         }
 
         @Override
         public InputStream openStream() {
             return adapter.openInputStream();
         }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            size();
+            return adapter.read(offset, bytes, eTag);
+        }
     }
 
 }
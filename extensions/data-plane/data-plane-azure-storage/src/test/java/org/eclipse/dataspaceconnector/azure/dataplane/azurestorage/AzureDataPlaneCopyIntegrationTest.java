@@ -110,8 +110,8 @@ class AzureDataPlaneCopyIntegrationTest extends AbstractAzureBlobTest {
         var dataSource = new AzureStorageDataSourceFactory(account1Api, policy, monitor, vault)
                 .createSource(request);
 
-        int partitionSize = 5;
-        var dataSink = new AzureStorageDataSinkFactory(account2Api, executor, partitionSize, monitor, vault, new TypeManager())
+        int maxPartsInFlight = 5;
+        var dataSink = new AzureStorageDataSinkFactory(account2Api, executor, maxPartsInFlight, monitor, vault, new TypeManager())
                 .createSink(request);
 
         assertThat(dataSink.transfer(dataSource))
@@ -25,6 +25,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
@@ -233,5 +234,15 @@ class AzureDataSourceToDataSinkTest {
         public long getBlobSize() {
             return length;
         }
+
+        @Override
+        public Properties getBlobProperties() {
+            return new Properties(length, "test-etag");
+        }
+
+        @Override
+        public byte[] read(long offset, long count, String eTag) {
+            return Arrays.copyOfRange(content.getBytes(UTF_8), (int) offset, (int) (offset + count));
+        }
     }
 }
@@ -36,6 +36,7 @@ import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFix
 import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFixtures.createRequest;
 import static org.eclipse.dataspaceconnector.azure.blob.core.AzureStorageTestFixtures.createSharedKey;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -83,6 +84,21 @@ class AzureStorageDataSourceTest {
         assertThat(result).map(s -> s.openStream()).containsExactly(input);
     }
 
+    @Test
+    void read_usesRangedDownloadsConsistentWithETag() {
+        when(destination.getBlobProperties()).thenReturn(new BlobAdapter.Properties(content.length(), "etag"));
+        when(destination.read(0, 4, "etag")).thenReturn("Test".getBytes(UTF_8));
+        when(destination.read(5, 7, "etag")).thenReturn("Content".getBytes(UTF_8));
+
+        var part = dataSource.openPartStream().findFirst().orElseThrow();
+
+        assertThat(part.supportsRandomAccess()).isTrue();
+        assertThat(part.read(0, 4)).asString(UTF_8).isEqualTo("Test");
+        assertThat(part.read(5, 7)).asString(UTF_8).isEqualTo("Content");
+        assertThat(part.size()).isEqualTo(content.length());
+        verify(destination, times(1)).getBlobProperties();
+    }
+
     @Test
     void openPartStream_whenBlobClientCreationFails_fails() {
         when(blobStoreApi.getBlobAdapter(
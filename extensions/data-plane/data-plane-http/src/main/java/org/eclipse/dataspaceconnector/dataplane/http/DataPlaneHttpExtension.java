@@ -21,6 +21,7 @@ import org.eclipse.dataspaceconnector.dataplane.http.pipeline.HttpDataSinkFactor
 import org.eclipse.dataspaceconnector.dataplane.http.pipeline.HttpDataSourceFactory;
 import org.eclipse.dataspaceconnector.dataplane.http.pipeline.HttpSinkRequestParamsSupplier;
 import org.eclipse.dataspaceconnector.dataplane.http.pipeline.HttpSourceRequestParamsSupplier;
+import org.eclipse.dataspaceconnector.dataplane.http.pipeline.NonChunkedTransferRequestBody;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.EdcSetting;
@@ -36,9 +37,11 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 @Extension(value = DataPlaneHttpExtension.NAME)
 public class DataPlaneHttpExtension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP";
-    private static final int DEFAULT_PART_SIZE = 5;
+    private static final int DEFAULT_MAX_PARTS_IN_FLIGHT = 5;
+    @EdcSetting(value = "maximum number of parts pushed in parallel by the HTTP sink")
+    private static final String EDC_DATAPLANE_HTTP_SINK_MAX_PARTS_IN_FLIGHT = "edc.dataplane.http.sink.max.parts.in.flight";
     @EdcSetting
-    private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
+    private static final String EDC_DATAPLANE_HTTP_SINK_SPOOL_THRESHOLD = "edc.dataplane.http.sink.spool.threshold";
     @Inject
     private OkHttpClient httpClient;
     @Inject
@@ -58,12 +61,13 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
-        var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE, DEFAULT_PART_SIZE);
+        var sinkMaxPartsInFlight = context.getSetting(EDC_DATAPLANE_HTTP_SINK_MAX_PARTS_IN_FLIGHT, DEFAULT_MAX_PARTS_IN_FLIGHT);
+        var sinkSpoolThreshold = context.getSetting(EDC_DATAPLANE_HTTP_SINK_SPOOL_THRESHOLD, NonChunkedTransferRequestBody.DEFAULT_SPOOL_THRESHOLD);
 
         var sourceFactory = new HttpDataSourceFactory(httpClient, retryPolicy, new HttpSourceRequestParamsSupplier(vault));
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, new HttpSinkRequestParamsSupplier(vault));
+        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkMaxPartsInFlight, sinkSpoolThreshold, monitor, new HttpSinkRequestParamsSupplier(vault));
         pipelineService.registerFactory(sinkFactory);
     }
 }
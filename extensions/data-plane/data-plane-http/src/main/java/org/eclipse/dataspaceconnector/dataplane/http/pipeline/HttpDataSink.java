@@ -33,11 +33,12 @@ public class HttpDataSink extends ParallelSink {
 
     private HttpRequestParams params;
     private OkHttpClient httpClient;
-    
+    private long spoolThreshold = NonChunkedTransferRequestBody.DEFAULT_SPOOL_THRESHOLD;
+
     @Override
     protected StatusResult<Void> transferParts(List<DataSource.Part> parts) {
         for (DataSource.Part part : parts) {
-            var request = params.toRequest(part::openStream);
+            var request = params.toRequest(part::openStream, part.size(), spoolThreshold);
             try (var response = httpClient.newCall(request).execute()) {
                 if (!response.isSuccessful()) {
                     monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
@@ -49,6 +50,8 @@ public class HttpDataSink extends ParallelSink {
             } catch (Exception e) {
                 monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
                 return ERROR_WRITING_DATA;
+            } finally {
+                NonChunkedTransferRequestBody.close(request);
             }
         }
         return StatusResult.success();
@@ -73,6 +76,11 @@ public class HttpDataSink extends ParallelSink {
             return this;
         }
 
+        public Builder spoolThreshold(long spoolThreshold) {
+            sink.spoolThreshold = spoolThreshold;
+            return this;
+        }
+
         protected void validate() {
         }
 
@@ -34,18 +34,21 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.HttpDataAddress.DA
 public class HttpDataSinkFactory implements DataSinkFactory {
     private final OkHttpClient httpClient;
     private final ExecutorService executorService;
-    private final int partitionSize;
+    private final int maxPartsInFlight;
+    private final long spoolThreshold;
     private final Monitor monitor;
     private final HttpRequestParamsSupplier supplier;
 
     public HttpDataSinkFactory(OkHttpClient httpClient,
                                ExecutorService executorService,
-                               int partitionSize,
+                               int maxPartsInFlight,
+                               long spoolThreshold,
                                Monitor monitor,
                                HttpRequestParamsSupplier supplier) {
         this.httpClient = httpClient;
         this.executorService = executorService;
-        this.partitionSize = partitionSize;
+        this.maxPartsInFlight = maxPartsInFlight;
+        this.spoolThreshold = spoolThreshold;
         this.monitor = monitor;
         this.supplier = supplier;
     }
@@ -70,8 +73,9 @@ public class HttpDataSinkFactory implements DataSinkFactory {
         return HttpDataSink.Builder.newInstance()
                 .params(supplier.apply(request))
                 .requestId(request.getId())
-                .partitionSize(partitionSize)
+                .maxPartsInFlight(maxPartsInFlight)
                 .httpClient(httpClient)
+                .spoolThreshold(spoolThreshold)
                 .executorService(executorService)
                 .monitor(monitor)
                 .build();
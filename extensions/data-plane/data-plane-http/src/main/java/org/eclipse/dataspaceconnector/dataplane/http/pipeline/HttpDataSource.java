@@ -17,10 +17,11 @@ package org.eclipse.dataspaceconnector.dataplane.http.pipeline;
 
 import dev.failsafe.RetryPolicy;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
@@ -29,7 +30,20 @@ import java.util.stream.Stream;
 import static dev.failsafe.Failsafe.with;
 import static java.lang.String.format;
 
+/**
+ * Pulls data from an HTTP endpoint.
+ * <p>
+ * The response body is not buffered: the returned part streams the content from the open HTTP response. If the origin advertises support for byte
+ * ranges, the part also supports random access through HTTP {@code Range} requests, so that segments of a large payload can be fetched concurrently.
+ * The part holds the response open until it is closed, or until a segment is read, since the ranges are fetched by separate requests.
+ */
 public class HttpDataSource implements DataSource {
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String RANGE = "Range";
+    private static final String BYTES = "bytes";
+    private static final int PARTIAL_CONTENT = 206;
+
     private String name;
     private HttpRequestParams params;
     private String requestId;
@@ -42,20 +56,30 @@ public class HttpDataSource implements DataSource {
     }
 
     private HttpPart getPart() {
-        try (var response = with(retryPolicy).get(() -> httpClient.newCall(params.toRequest()).execute())) {
-            var body = response.body();
-            var stringBody = body != null ? body.string() : null;
-            if (stringBody == null) {
-                throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
-            }
-            if (response.isSuccessful()) {
-                return new HttpPart(name, stringBody.getBytes());
-            } else {
-                throw new EdcException(format("Received code transferring HTTP data for request %s: %s - %s. %s", requestId, response.code(), response.message(), stringBody));
+        var request = params.toRequest();
+        Response response;
+        try {
+            response = execute(request);
+        } finally {
+            NonChunkedTransferRequestBody.close(request);
+        }
+        var body = response.body();
+        if (body == null) {
+            response.close();
+            throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
+        }
+        if (!response.isSuccessful()) {
+            try (response) {
+                throw new EdcException(format("Received code transferring HTTP data for request %s: %s - %s. %s", requestId, response.code(), response.message(), body.string()));
+            } catch (IOException e) {
+                throw new EdcException(e);
             }
-        } catch (IOException e) {
-            throw new EdcException(e);
         }
+        return new HttpPart(request, response);
+    }
+
+    private Response execute(Request request) {
+        return with(retryPolicy).get(() -> httpClient.newCall(request).execute());
     }
 
     private HttpDataSource() {
@@ -105,13 +129,15 @@ public class HttpDataSource implements DataSource {
         }
     }
 
-    private static class HttpPart implements Part {
-        private final String name;
-        private final byte[] content;
+    private class HttpPart implements Part {
+        private final Request request;
+        private final Response response;
+        private long size;
 
-        HttpPart(String name, byte[] content) {
-            this.name = name;
-            this.content = content;
+        HttpPart(Request request, Response response) {
+            this.request = request;
+            this.response = response;
+            this.size = Objects.requireNonNull(response.body()).contentLength();
         }
 
         @Override
@@ -121,13 +147,67 @@ public class HttpDataSource implements DataSource {
 
         @Override
         public long size() {
-            return content.length;
+            if (size == SIZE_UNKNOWN && isGet()) {
+                size = headContentLength();
+            }
+            return size;
+        }
+
+        @Override
+        public String mediaType() {
+            var contentType = Objects.requireNonNull(response.body()).contentType();
+            return contentType != null ? contentType.toString() : null;
         }
 
         @Override
         public InputStream openStream() {
-            return new ByteArrayInputStream(content);
+            return Objects.requireNonNull(response.body()).byteStream();
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return isGet() && BYTES.equalsIgnoreCase(response.header(ACCEPT_RANGES)) && size() != SIZE_UNKNOWN;
         }
 
+        @Override
+        public byte[] read(long offset, long bytes) {
+            if (!supportsRandomAccess()) {
+                throw new UnsupportedOperationException("Random access not supported");
+            }
+            // the body of the initial response is not read when reading ranges, release its connection
+            response.close();
+            var rangeRequest = request.newBuilder()
+                    .header(RANGE, format("%s=%d-%d", BYTES, offset, offset + bytes - 1))
+                    .build();
+            try (var rangeResponse = execute(rangeRequest)) {
+                var body = rangeResponse.body();
+                if (rangeResponse.code() != PARTIAL_CONTENT || body == null) {
+                    throw new EdcException(format("Received code transferring HTTP data range %s-%s for request %s: %s - %s",
+                            offset, offset + bytes - 1, requestId, rangeResponse.code(), rangeResponse.message()));
+                }
+                return body.bytes();
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+
+        private boolean isGet() {
+            return "GET".equalsIgnoreCase(request.method());
+        }
+
+        private long headContentLength() {
+            var headRequest = request.newBuilder().head().build();
+            try (var headResponse = execute(headRequest)) {
+                var contentLength = headResponse.header(CONTENT_LENGTH);
+                return headResponse.isSuccessful() && contentLength != null ? Long.parseLong(contentLength) : SIZE_UNKNOWN;
+            } catch (NumberFormatException e) {
+                return SIZE_UNKNOWN;
+            }
+        }
     }
 }
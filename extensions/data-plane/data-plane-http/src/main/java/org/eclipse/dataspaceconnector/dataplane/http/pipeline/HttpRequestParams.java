@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.dataplane.http.pipeline;
 
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.InputStream;
@@ -24,6 +25,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
+import static org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
+
 public class HttpRequestParams {
 
     private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
@@ -57,7 +60,19 @@ public class HttpRequestParams {
      * @return HTTP request.
      */
     public Request toRequest(@Nullable Supplier<InputStream> bodySupplier) {
-        var requestBody = createRequestBody(bodySupplier);
+        return toRequest(bodySupplier, SIZE_UNKNOWN, NonChunkedTransferRequestBody.DEFAULT_SPOOL_THRESHOLD);
+    }
+
+    /**
+     * Creates HTTP request from the current set of parameters and the provided request body.
+     *
+     * @param bodySupplier   the request body supplier.
+     * @param contentLength  the length of the request body, or {@link DataSource.Part#SIZE_UNKNOWN} if it is not known upfront.
+     * @param spoolThreshold the size above which a body of unknown length sent with non-chunked transfer is spooled to disk.
+     * @return HTTP request.
+     */
+    public Request toRequest(@Nullable Supplier<InputStream> bodySupplier, long contentLength, long spoolThreshold) {
+        var requestBody = createRequestBody(bodySupplier, contentLength, spoolThreshold);
 
         var requestBuilder = new Request.Builder()
                 .url(toUrl())
@@ -66,13 +81,13 @@ public class HttpRequestParams {
         return requestBuilder.build();
     }
 
-    private RequestBody createRequestBody(@Nullable Supplier<InputStream> bodySupplier) {
+    private RequestBody createRequestBody(@Nullable Supplier<InputStream> bodySupplier, long contentLength, long spoolThreshold) {
         if (bodySupplier == null || contentType == null) {
             return null;
         }
 
         return nonChunkedTransfer ?
-                new NonChunkedTransferRequestBody(bodySupplier, contentType) : new ChunkedTransferRequestBody(bodySupplier, contentType);
+                new NonChunkedTransferRequestBody(bodySupplier, contentType, contentLength, spoolThreshold) : new ChunkedTransferRequestBody(bodySupplier, contentType);
     }
 
 
@@ -15,38 +15,69 @@
 package org.eclipse.dataspaceconnector.dataplane.http.pipeline;
 
 import okhttp3.MediaType;
+import okhttp3.Request;
 import okhttp3.RequestBody;
 import okio.BufferedSink;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
+
 /**
  * Writes content into an OK HTTP buffered sink.
- *
- * The extra Transfer-Encoding is not created because the Content-Length is provided upfront.
- * Note that means that the all content is loaded into memory, so this method can be used for small files (up to 50MB) for e.g.
+ * <p>
+ * The extra Transfer-Encoding is not created because the Content-Length is provided upfront:
+ * <ul>
+ *     <li>if the content length is known, the content is streamed as is,</li>
+ *     <li>otherwise the content is read once to determine its length: it is kept in memory up to the spool threshold, above which it is spooled
+ *     to a temporary file that is memory-mapped when writing the body.</li>
+ * </ul>
+ * The spool file is kept until the body is closed, so that the body can be written again if the call is retried. The caller executing the
+ * request must therefore close the body once the call is done, whether or not the body has been written, see {@link #close(Request)}.
+ * Errors reading the content are propagated to the HTTP call rather than resulting in an empty body.
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
-public class NonChunkedTransferRequestBody extends RequestBody {
-    private byte[] bytes;
+public class NonChunkedTransferRequestBody extends RequestBody implements Closeable {
+    public static final long DEFAULT_SPOOL_THRESHOLD = 8 * 1024 * 1024;
+    private static final long MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+
+    private final Supplier<InputStream> contentSupplier;
     private final String contentType;
+    private final long spoolThreshold;
+    private long contentLength;
+    private byte[] bytes;
+    private Path spoolFile;
+    private boolean closed;
 
     public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType) {
-        try {
-            this.bytes = contentSupplier.get().readAllBytes();
-        } catch (IOException e) {
-            //do nothing
-        }
+        this(contentSupplier, contentType, SIZE_UNKNOWN, DEFAULT_SPOOL_THRESHOLD);
+    }
+
+    public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType, long contentLength, long spoolThreshold) {
+        this.contentSupplier = contentSupplier;
         this.contentType = contentType;
+        this.contentLength = contentLength;
+        this.spoolThreshold = spoolThreshold;
     }
 
     @Override
-    public long contentLength() {
-        return bytes == null ? 0 : bytes.length;
+    public long contentLength() throws IOException {
+        if (contentLength == SIZE_UNKNOWN) {
+            spool();
+        }
+        return contentLength;
     }
 
     @Override
@@ -54,15 +85,93 @@ public class NonChunkedTransferRequestBody extends RequestBody {
         return MediaType.parse(contentType);
     }
 
+    @Override
+    public boolean isOneShot() {
+        // only content held in memory or spooled to disk can be written more than once
+        return bytes == null && spoolFile == null;
+    }
+
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
-        if (bytes == null) {
+        var length = contentLength();
+        if (bytes != null) {
+            try (var os = sink.outputStream()) {
+                os.write(bytes);
+            }
+        } else if (spoolFile != null) {
+            writeSpoolFile(sink);
+        } else {
+            try (var os = sink.outputStream(); var is = contentSupplier.get()) {
+                var written = is.transferTo(os);
+                if (written != length) {
+                    throw new IOException(format("Content length mismatch: expected %s bytes but read %s", length, written));
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the spool file, if any.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (spoolFile == null) {
             return;
         }
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch (IOException e) {
+            spoolFile.toFile().deleteOnExit();
+        }
+        spoolFile = null;
+    }
 
-        try (var os = sink.outputStream()) {
-            os.write(bytes);
+    /**
+     * Closes the body of the request if it is a {@link NonChunkedTransferRequestBody}, to be called once the request has been executed.
+     */
+    public static void close(Request request) {
+        if (request.body() instanceof NonChunkedTransferRequestBody) {
+            ((NonChunkedTransferRequestBody) request.body()).close();
         }
     }
-}
 
+    private synchronized void spool() throws IOException {
+        if (closed) {
+            throw new IOException("Request body is closed");
+        }
+        try (var is = contentSupplier.get()) {
+            var inMemoryLimit = (int) Math.min(spoolThreshold, Integer.MAX_VALUE - 8);
+            var head = is.readNBytes(inMemoryLimit);
+            if (head.length < inMemoryLimit) {
+                bytes = head;
+                contentLength = head.length;
+                return;
+            }
+
+            spoolFile = Files.createTempFile("edc-http-sink-", ".spool");
+            try (var channel = FileChannel.open(spoolFile, WRITE)) {
+                var os = Channels.newOutputStream(channel);
+                os.write(head);
+                is.transferTo(os);
+                contentLength = channel.size();
+            } catch (IOException e) {
+                Files.deleteIfExists(spoolFile);
+                spoolFile = null;
+                throw e;
+            }
+        }
+    }
+
+    private void writeSpoolFile(BufferedSink sink) throws IOException {
+        try (var channel = FileChannel.open(spoolFile, READ)) {
+            for (long position = 0; position < contentLength; position += MAPPED_REGION_SIZE) {
+                var region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPED_REGION_SIZE, contentLength - position));
+                while (region.hasRemaining()) {
+                    sink.write(region);
+                }
+            }
+            sink.flush();
+        }
+    }
+}
@@ -67,7 +67,7 @@ class HttpDataSinkFactoryTest {
 
     @BeforeEach
     void setUp() {
-        factory = new HttpDataSinkFactory(HTTP_CLIENT, Executors.newFixedThreadPool(1), 5, mock(Monitor.class), supplierMock);
+        factory = new HttpDataSinkFactory(HTTP_CLIENT, Executors.newFixedThreadPool(1), 5, NonChunkedTransferRequestBody.DEFAULT_SPOOL_THRESHOLD, mock(Monitor.class), supplierMock);
     }
 
     @Test
@@ -71,6 +71,9 @@ class HttpDataSourceTest {
         assertThat(interceptedRequest).isEqualTo(request);
         assertThat(parts).hasSize(1);
         var part = parts.get(0);
+        assertThat(part.size()).isEqualTo(json.length());
+        assertThat(part.mediaType()).startsWith("application/json");
+        assertThat(part.supportsRandomAccess()).isFalse();
         try (var is = part.openStream()) {
             assertThat(new String(is.readAllBytes())).isEqualTo(json);
         }
@@ -78,6 +81,37 @@ class HttpDataSourceTest {
         verify(params).toRequest();
     }
 
+    @Test
+    void verifyRandomAccessUsesRangeRequests() throws Exception {
+        var content = "0123456789";
+        var requests = new ArrayList<Request>();
+        Interceptor interceptor = chain -> {
+            var request = chain.request();
+            requests.add(request);
+            var range = request.header("Range");
+            var builder = new Response.Builder().request(request).protocol(HTTP_1_1).message("ok").header("Accept-Ranges", "bytes");
+            if (range == null) {
+                return builder.code(200).body(ResponseBody.create(content, MediaType.parse("text/plain"))).build();
+            }
+            var bounds = range.substring("bytes=".length()).split("-");
+            var segment = content.substring(Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]) + 1);
+            return builder.code(206).body(ResponseBody.create(segment, MediaType.parse("text/plain"))).build();
+        };
+        var params = mock(HttpRequestParams.class);
+        when(params.toRequest()).thenReturn(new Request.Builder().url(url).get().build());
+        var source = defaultBuilder(interceptor).params(params).build();
+
+        try (var part = source.openPartStream().findFirst().orElseThrow()) {
+            assertThat(part.supportsRandomAccess()).isTrue();
+            assertThat(new String(part.read(2, 3))).isEqualTo("234");
+            assertThat(new String(part.read(7, 3))).isEqualTo("789");
+        }
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(1).header("Range")).isEqualTo("bytes=2-4");
+        assertThat(requests.get(2).header("Range")).isEqualTo("bytes=7-9");
+    }
+
     @Test
     void verifyExceptionIsThrownIfCallFailed() {
         var message = "Test message";
@@ -15,6 +15,8 @@
 
 package org.eclipse.dataspaceconnector.dataplane.http.pipeline;
 
+import okhttp3.Request;
+import okio.Buffer;
 import okio.BufferedSink;
 import org.eclipse.dataspaceconnector.spi.types.domain.HttpDataAddress;
 import org.junit.jupiter.api.Test;
@@ -23,9 +25,20 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class NonChunkedTransferRequestBodyTest {
@@ -66,19 +79,90 @@ class NonChunkedTransferRequestBodyTest {
 
     @Test
     void verifyTransferWhenThrows() throws IOException {
-        var sink = mock(BufferedSink.class);
-        var outputStream = new ByteArrayOutputStream();
         var inputStream = mock(InputStream.class);
 
-        when(inputStream.readAllBytes()).thenThrow(IOException.class);
-        when(sink.outputStream()).thenReturn(outputStream);
+        when(inputStream.readNBytes(anyInt())).thenThrow(IOException.class);
 
         var body = new NonChunkedTransferRequestBody(() -> inputStream, HttpDataAddress.OCTET_STREAM);
 
-        assertThat(body.contentLength()).isEqualTo(0);
+        assertThatThrownBy(body::contentLength).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void verifyTransferWhenContentLengthKnown() throws IOException {
+        var content = "Test Content";
+        var supplier = spy(new StreamSupplier(content));
+        var sink = new Buffer();
+
+        var body = new NonChunkedTransferRequestBody(supplier, HttpDataAddress.OCTET_STREAM, content.length(), 4);
+
+        assertThat(body.contentLength()).isEqualTo(content.length());
+        verify(supplier, never()).get();
 
         body.writeTo(sink);
 
-        assertThat(outputStream).hasToString("");
+        assertThat(sink.readUtf8()).isEqualTo(content);
+    }
+
+    @Test
+    void verifyTransferWhenContentLengthKnownButMismatch() {
+        var body = new NonChunkedTransferRequestBody(new StreamSupplier("Test Content"), HttpDataAddress.OCTET_STREAM, 100, 4);
+
+        assertThatThrownBy(() -> body.writeTo(new Buffer())).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void verifyTransferWhenContentLargerThanSpoolThreshold() throws IOException {
+        var content = "Test Content larger than the spool threshold";
+        var sink = new Buffer();
+
+        var body = new NonChunkedTransferRequestBody(new StreamSupplier(content), HttpDataAddress.OCTET_STREAM, SIZE_UNKNOWN, 4);
+
+        assertThat(body.contentLength()).isEqualTo(content.length());
+        assertThat(body.isOneShot()).isFalse();
+
+        body.writeTo(sink);
+        assertThat(sink.readUtf8()).isEqualTo(content);
+
+        // the spool file is kept until the body is closed, so that the call can be retried
+        body.writeTo(sink);
+        assertThat(sink.readUtf8()).isEqualTo(content);
+
+        body.close();
+    }
+
+    @Test
+    void verifySpoolFileDeletedWhenClosed_evenIfNeverWritten() throws IOException {
+        var spoolFilesBefore = spoolFiles();
+        var body = new NonChunkedTransferRequestBody(new StreamSupplier("Test Content larger than the spool threshold"), HttpDataAddress.OCTET_STREAM, SIZE_UNKNOWN, 4);
+        var request = new Request.Builder().url("http://some.test.url/").post(body).build();
+
+        body.contentLength();
+        var spoolFiles = spoolFiles();
+        spoolFiles.removeAll(spoolFilesBefore);
+        assertThat(spoolFiles).hasSize(1);
+
+        NonChunkedTransferRequestBody.close(request);
+
+        assertThat(spoolFiles.get(0)).doesNotExist();
+    }
+
+    private static List<Path> spoolFiles() throws IOException {
+        try (var files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("edc-http-sink-")).collect(Collectors.toList());
+        }
+    }
+
+    private static class StreamSupplier implements Supplier<InputStream> {
+        private final String content;
+
+        StreamSupplier(String content) {
+            this.content = content;
+        }
+
+        @Override
+        public InputStream get() {
+            return new ByteArrayInputStream(content.getBytes());
+        }
     }
 }
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ */
+
+package org.eclipse.dataspaceconnector.aws.dataplane.s3;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounded pool of direct {@link ByteBuffer}s having all the same capacity.
+ * <p>
+ * Buffers are allocated lazily and reused once released. {@link #acquire()} blocks while all the buffers are in use, which bounds the memory used by
+ * the uploads that share the pool.
+ */
+class ByteBufferPool {
+    private final int bufferSize;
+    private final Semaphore available;
+    private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+
+    ByteBufferPool(int bufferSize, int maxBuffers) {
+        this.bufferSize = bufferSize;
+        this.available = new Semaphore(maxBuffers);
+    }
+
+    /**
+     * The capacity of the buffers of the pool.
+     */
+    int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns a cleared buffer, blocking until one is available.
+     */
+    ByteBuffer acquire() throws InterruptedException {
+        available.acquire();
+        var buffer = free.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        return buffer.clear();
+    }
+
+    /**
+     * Returns a buffer to the pool.
+     */
+    void release(ByteBuffer buffer) {
+        free.offer(buffer);
+        available.release();
+    }
+}
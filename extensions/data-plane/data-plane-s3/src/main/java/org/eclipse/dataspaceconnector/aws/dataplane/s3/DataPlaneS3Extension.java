@@ -16,18 +16,38 @@ package org.eclipse.dataspaceconnector.aws.dataplane.s3;
 
 import org.eclipse.dataspaceconnector.aws.s3.core.AwsClientProvider;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.EdcSetting;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Extension;
 import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Inject;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import static java.lang.String.format;
+
 @Extension(value = DataPlaneS3Extension.NAME)
 public class DataPlaneS3Extension implements ServiceExtension {
 
     public static final String NAME = "Data Plane S3 Storage";
+    @EdcSetting
+    private static final String SINK_CHUNK_SIZE_MB = "edc.dataplane.aws.sink.chunk.size.mb";
+    private static final int DEFAULT_SINK_CHUNK_SIZE_MB = 64;
+    // S3 rejects multipart uploads whose parts, except the last one, are smaller than 5 MB
+    private static final int MIN_SINK_CHUNK_SIZE_MB = 5;
+    @EdcSetting
+    private static final String SINK_THREADS = "edc.dataplane.aws.sink.threads";
+    private static final int DEFAULT_SINK_THREADS = 10;
+    @EdcSetting
+    private static final String SINK_UPLOAD_CONCURRENCY = "edc.dataplane.aws.sink.upload.concurrency";
+    private static final int DEFAULT_SINK_UPLOAD_CONCURRENCY = 4;
+    @EdcSetting
+    private static final String SINK_UPLOAD_BUFFERS = "edc.dataplane.aws.sink.upload.buffers";
+    private static final int DEFAULT_SINK_UPLOAD_BUFFERS = 8;
     @Inject
     private PipelineService pipelineService;
 
@@ -37,6 +57,12 @@ public class DataPlaneS3Extension implements ServiceExtension {
     @Inject
     private Vault vault;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService executorService;
+    private ExecutorService uploadExecutorService;
+
     @Override
     public String name() {
         return NAME;
@@ -44,14 +70,35 @@ public class DataPlaneS3Extension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var executorService = Executors.newFixedThreadPool(10); // TODO make configurable
+        executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(context.getSetting(SINK_THREADS, DEFAULT_SINK_THREADS)), "S3 data sink");
 
         var monitor = context.getMonitor();
 
         var sourceFactory = new S3DataSourceFactory(awsClientProvider);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new S3DataSinkFactory(awsClientProvider, executorService, monitor, vault, context.getTypeManager());
+        var chunkSizeBytes = context.getSetting(SINK_CHUNK_SIZE_MB, DEFAULT_SINK_CHUNK_SIZE_MB) * 1024L * 1024;
+        // the chunks are read into byte buffers, whose capacity is an int
+        if (chunkSizeBytes < MIN_SINK_CHUNK_SIZE_MB * 1024L * 1024 || chunkSizeBytes > Integer.MAX_VALUE - 8) {
+            throw new EdcException(format("%s must be between %s and %s", SINK_CHUNK_SIZE_MB, MIN_SINK_CHUNK_SIZE_MB, (Integer.MAX_VALUE - 8) / (1024 * 1024)));
+        }
+        var uploadConcurrency = context.getSetting(SINK_UPLOAD_CONCURRENCY, DEFAULT_SINK_UPLOAD_CONCURRENCY);
+        var uploadBuffers = context.getSetting(SINK_UPLOAD_BUFFERS, DEFAULT_SINK_UPLOAD_BUFFERS);
+        // uploads of the chunks run on their own pool, since they are awaited by the tasks running on the transfer executor
+        uploadExecutorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(uploadBuffers), "S3 data sink uploads");
+
+        var sinkFactory = new S3DataSinkFactory(awsClientProvider, executorService, uploadExecutorService, (int) chunkSizeBytes, uploadConcurrency, uploadBuffers,
+                monitor, vault, context.getTypeManager());
         pipelineService.registerFactory(sinkFactory);
     }
+
+    @Override
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        if (uploadExecutorService != null) {
+            uploadExecutorService.shutdownNow();
+        }
+    }
 }
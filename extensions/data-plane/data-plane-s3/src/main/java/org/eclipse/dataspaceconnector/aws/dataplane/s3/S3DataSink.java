@@ -20,6 +20,7 @@ import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -27,51 +28,58 @@ import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.FATAL_ERROR;
 
+/**
+ * Writes parts as S3 multipart uploads.
+ * <p>
+ * The chunks of an object are uploaded concurrently, up to the configured concurrency, on a dedicated executor. The chunks are read into pooled
+ * direct buffers that are handed over to the uploads without copy: in parallel with ranged reads if the part supports random access, sequentially
+ * otherwise. Any failure aborts the multipart upload.
+ */
 class S3DataSink extends ParallelSink {
+    private static final String OCTET_STREAM = "application/octet-stream";
 
     private S3Client client;
     private String bucketName;
     private String keyName;
     private int chunkSize;
+    private int uploadConcurrency = 4;
+    private ExecutorService uploadExecutorService;
+    private ByteBufferPool bufferPool;
 
     private S3DataSink() {}
 
     @Override
     protected StatusResult<Void> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
-            try (var input = part.openStream()) {
-
-                var partNumber = 1;
-                var completedParts = new ArrayList<CompletedPart>();
-
-                var uploadId = client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+            String uploadId = null;
+            try {
+                uploadId = client.createMultipartUpload(CreateMultipartUploadRequest.builder()
                         .bucket(bucketName)
                         .key(keyName)
                         .build()).uploadId();
 
-                while (true) {
-                    var bytesChunk = input.readNBytes(chunkSize);
-
-                    if (bytesChunk.length < 1) {
-                        break;
-                    }
-
-                    completedParts.add(CompletedPart.builder().partNumber(partNumber)
-                            .eTag(client.uploadPart(UploadPartRequest.builder()
-                                .bucket(bucketName)
-                                .key(keyName)
-                                .uploadId(uploadId)
-                                .partNumber(partNumber)
-                                .build(), RequestBody.fromByteBuffer(ByteBuffer.wrap(bytesChunk))).eTag()).build());
-                    partNumber++;
-                }
+                var completedParts = part.supportsRandomAccess() && part.size() != DataSource.Part.SIZE_UNKNOWN ?
+                        uploadRandomAccess(part, uploadId) :
+                        uploadSequential(part, uploadId);
 
                 client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
                         .bucket(bucketName)
@@ -83,6 +91,9 @@ class S3DataSink extends ParallelSink {
                         .build());
 
             } catch (Exception e) {
+                if (uploadId != null) {
+                    abort(uploadId);
+                }
                 return uploadFailure(e, keyName);
             }
         }
@@ -90,6 +101,140 @@ class S3DataSink extends ParallelSink {
         return StatusResult.success();
     }
 
+    private List<CompletedPart> uploadRandomAccess(DataSource.Part part, String uploadId) throws Exception {
+        var size = part.size();
+        var permits = new Semaphore(uploadConcurrency);
+        var failure = new AtomicReference<Throwable>();
+        var uploads = new ArrayList<CompletableFuture<CompletedPart>>();
+
+        var partNumber = 1;
+        for (long offset = 0; offset < size && failure.get() == null; offset += chunkSize) {
+            var chunkOffset = offset;
+            var chunkLength = (int) Math.min(chunkSize, size - offset);
+            var number = partNumber++;
+
+            permits.acquire();
+            var buffer = acquireBuffer(permits);
+            uploads.add(uploadAsync(() -> {
+                buffer.limit(chunkLength);
+                part.read(chunkOffset, buffer);
+                buffer.flip();
+                return uploadPart(uploadId, number, RequestBody.fromContentProvider(() -> new ByteBufferInputStream(buffer.duplicate()), chunkLength, OCTET_STREAM));
+            }, () -> releaseBuffer(buffer, permits), failure));
+        }
+
+        return awaitUploads(uploads);
+    }
+
+    private List<CompletedPart> uploadSequential(DataSource.Part part, String uploadId) throws Exception {
+        var permits = new Semaphore(uploadConcurrency);
+        var failure = new AtomicReference<Throwable>();
+        var uploads = new ArrayList<CompletableFuture<CompletedPart>>();
+
+        try (var input = part.openStream()) {
+            var channel = Channels.newChannel(input);
+            var partNumber = 1;
+            var exhausted = false;
+            while (!exhausted && failure.get() == null) {
+                permits.acquire();
+                var buffer = acquireBuffer(permits);
+                try {
+                    exhausted = fill(channel, buffer);
+                } catch (IOException e) {
+                    releaseBuffer(buffer, permits);
+                    throw e;
+                }
+                if (buffer.position() == 0 && partNumber > 1) {
+                    releaseBuffer(buffer, permits);
+                    break;
+                }
+                buffer.flip();
+
+                var number = partNumber++;
+                var length = buffer.remaining();
+                uploads.add(uploadAsync(() -> uploadPart(uploadId, number, RequestBody.fromContentProvider(() -> new ByteBufferInputStream(buffer.duplicate()), length, OCTET_STREAM)),
+                        () -> releaseBuffer(buffer, permits), failure));
+            }
+        }
+
+        return awaitUploads(uploads);
+    }
+
+    private ByteBuffer acquireBuffer(Semaphore permits) throws InterruptedException {
+        try {
+            return bufferPool.acquire();
+        } catch (InterruptedException e) {
+            permits.release();
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private void releaseBuffer(ByteBuffer buffer, Semaphore permits) {
+        bufferPool.release(buffer);
+        permits.release();
+    }
+
+    /**
+     * Reads from the channel until the buffer is full, returns true if the end of the stream has been reached.
+     */
+    private boolean fill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CompletableFuture<CompletedPart> uploadAsync(Supplier<CompletedPart> upload, Runnable onDone, AtomicReference<Throwable> failure) {
+        return supplyAsync(() -> {
+            try {
+                return upload.get();
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                onDone.run();
+            }
+        }, uploadExecutorService);
+    }
+
+    private List<CompletedPart> awaitUploads(List<CompletableFuture<CompletedPart>> uploads) throws Exception {
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        var completedParts = new ArrayList<CompletedPart>();
+        for (var upload : uploads) {
+            completedParts.add(upload.join());
+        }
+        return completedParts;
+    }
+
+    private CompletedPart uploadPart(String uploadId, int partNumber, RequestBody body) {
+        var eTag = client.uploadPart(UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(keyName)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .build(), body).eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+    }
+
+    private void abort(String uploadId) {
+        try {
+            client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(keyName)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            monitor.severe(format("Error aborting the multipart upload %s of the %s object on the %s bucket", uploadId, keyName, bucketName), e);
+        }
+    }
+
     @Override
     protected StatusResult<Void> complete() {
         var completeKeyName = keyName + ".complete";
@@ -140,7 +285,62 @@ class S3DataSink extends ParallelSink {
             return this;
         }
 
+        public Builder uploadConcurrency(int uploadConcurrency) {
+            sink.uploadConcurrency = uploadConcurrency;
+            return this;
+        }
+
+        public Builder uploadExecutorService(ExecutorService uploadExecutorService) {
+            sink.uploadExecutorService = uploadExecutorService;
+            return this;
+        }
+
+        /**
+         * Pool of buffers used to read sequential parts, which might be shared between sinks. Its buffer size overrides the chunk size.
+         */
+        public Builder bufferPool(ByteBufferPool bufferPool) {
+            sink.bufferPool = bufferPool;
+            return this;
+        }
+
+        @Override
+        protected void validate() {
+            Objects.requireNonNull(sink.uploadExecutorService, "uploadExecutorService");
+            if (sink.bufferPool == null) {
+                sink.bufferPool = new ByteBufferPool(sink.chunkSize, sink.uploadConcurrency);
+            }
+            sink.chunkSize = sink.bufferPool.bufferSize();
+        }
+    }
+
+    /**
+     * Reads the remaining content of a buffer, without modifying the position of the given one.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
         @Override
-        protected void validate() {}
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            var read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
     }
 }
@@ -42,19 +42,24 @@ import static org.eclipse.dataspaceconnector.aws.s3.core.S3BucketSchema.SECRET_A
 
 public class S3DataSinkFactory implements DataSinkFactory {
 
-    private static final int CHUNK_SIZE_IN_BYTES = 1024 * 1024 * 500; // 500MB chunk size
-
     private final ValidationRule<DataAddress> validation = new S3DataAddressValidationRule();
     private final ValidationRule<DataAddress> credentialsValidation = new S3DataAddressCredentialsValidationRule();
     private final AwsClientProvider clientProvider;
     private final ExecutorService executorService;
+    private final ExecutorService uploadExecutorService;
+    private final ByteBufferPool bufferPool;
+    private final int uploadConcurrency;
     private final Monitor monitor;
     private Vault vault;
     private TypeManager typeManager;
 
-    public S3DataSinkFactory(AwsClientProvider clientProvider, ExecutorService executorService, Monitor monitor, Vault vault, TypeManager typeManager) {
+    public S3DataSinkFactory(AwsClientProvider clientProvider, ExecutorService executorService, ExecutorService uploadExecutorService,
+                             int chunkSizeBytes, int uploadConcurrency, int uploadBuffers, Monitor monitor, Vault vault, TypeManager typeManager) {
         this.clientProvider = clientProvider;
         this.executorService = executorService;
+        this.uploadExecutorService = uploadExecutorService;
+        this.bufferPool = new ByteBufferPool(chunkSizeBytes, uploadBuffers);
+        this.uploadConcurrency = uploadConcurrency;
         this.monitor = monitor;
         this.vault = vault;
         this.typeManager = typeManager;
@@ -100,7 +105,9 @@ public class S3DataSinkFactory implements DataSinkFactory {
             .executorService(executorService)
             .monitor(monitor)
             .client(client)
-            .chunkSizeBytes(CHUNK_SIZE_IN_BYTES)
+            .uploadExecutorService(uploadExecutorService)
+            .uploadConcurrency(uploadConcurrency)
+            .bufferPool(bufferPool)
             .build();
     }
 
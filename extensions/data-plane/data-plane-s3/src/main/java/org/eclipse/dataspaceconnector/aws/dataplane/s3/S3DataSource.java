@@ -15,13 +15,20 @@
 package org.eclipse.dataspaceconnector.aws.dataplane.s3;
 
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.stream.Stream;
 
+import static java.lang.String.format;
+
 class S3DataSource implements DataSource {
 
     private String bucketName;
@@ -35,10 +42,15 @@ class S3DataSource implements DataSource {
         return Stream.of(new S3Part(client, keyName, bucketName));
     }
 
+    /**
+     * An object part. Its metadata is fetched once, and ranged reads are only served as long as the object still matches its ETag, so that
+     * segments read concurrently are consistent with each other.
+     */
     private static class S3Part implements Part {
         private final S3Client client;
         private final String keyName;
         private final String bucketName;
+        private HeadObjectResponse metadata;
 
         S3Part(S3Client client, String keyName, String bucketName) {
             this.client = client;
@@ -53,8 +65,12 @@ class S3DataSource implements DataSource {
 
         @Override
         public long size() {
-            var request = HeadObjectRequest.builder().key(keyName).bucket(bucketName).build();
-            return client.headObject(request).contentLength();
+            return metadata().contentLength();
+        }
+
+        @Override
+        public String mediaType() {
+            return metadata().contentType();
         }
 
         @Override
@@ -62,6 +78,47 @@ class S3DataSource implements DataSource {
             var request = GetObjectRequest.builder().key(keyName).bucket(bucketName).build();
             return client.getObject(request);
         }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            return client.getObjectAsBytes(rangeRequest(offset, bytes)).asByteArray();
+        }
+
+        @Override
+        public void read(long offset, ByteBuffer buffer) {
+            var length = buffer.remaining();
+            try (var channel = Channels.newChannel(client.getObject(rangeRequest(offset, length)))) {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) == -1) {
+                        throw new EdcException(format("Unexpected end of the %s object reading %s bytes at offset %s", keyName, length, offset));
+                    }
+                }
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+
+        private GetObjectRequest rangeRequest(long offset, long bytes) {
+            return GetObjectRequest.builder()
+                    .key(keyName)
+                    .bucket(bucketName)
+                    .range(format("bytes=%d-%d", offset, offset + bytes - 1))
+                    .ifMatch(metadata().eTag())
+                    .build();
+        }
+
+        private synchronized HeadObjectResponse metadata() {
+            if (metadata == null) {
+                var request = HeadObjectRequest.builder().key(keyName).bucket(bucketName).build();
+                metadata = client.headObject(request);
+            }
+            return metadata;
+        }
     }
 
     public static class Builder {
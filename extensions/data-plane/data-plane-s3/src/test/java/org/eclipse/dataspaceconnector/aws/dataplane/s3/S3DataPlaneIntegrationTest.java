@@ -65,7 +65,7 @@ public class S3DataPlaneIntegrationTest extends AbstractS3Test {
         var key = UUID.randomUUID().toString();
         putStringOnBucket(sourceBucketName, key, body);
 
-        var sinkFactory = new S3DataSinkFactory(clientProvider, Executors.newSingleThreadExecutor(), mock(Monitor.class), mock(Vault.class), new TypeManager());
+        var sinkFactory = new S3DataSinkFactory(clientProvider, Executors.newSingleThreadExecutor(), Executors.newFixedThreadPool(2), 5 * 1024 * 1024, 2, 2, mock(Monitor.class), mock(Vault.class), new TypeManager());
         var sourceFactory = new S3DataSourceFactory(clientProvider);
         var sourceAddress = DataAddress.Builder.newInstance()
                 .type(S3BucketSchema.TYPE)
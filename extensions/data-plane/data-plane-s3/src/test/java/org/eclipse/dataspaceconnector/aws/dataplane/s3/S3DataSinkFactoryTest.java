@@ -56,7 +56,7 @@ class S3DataSinkFactoryTest {
     private final AwsClientProvider clientProvider = mock(AwsClientProvider.class);
     private final Vault vault = mock(Vault.class);
     private final TypeManager typeManager = new TypeManager();
-    private final S3DataSinkFactory factory = new S3DataSinkFactory(clientProvider, mock(ExecutorService.class), mock(Monitor.class), vault, typeManager);
+    private final S3DataSinkFactory factory = new S3DataSinkFactory(clientProvider, mock(ExecutorService.class), mock(ExecutorService.class), 1024, 2, 2, mock(Monitor.class), vault, typeManager);
 
     @Test
     void canHandle_returnsTrueWhenExpectedType() {
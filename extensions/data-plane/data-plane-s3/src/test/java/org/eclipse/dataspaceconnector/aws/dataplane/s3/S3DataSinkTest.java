@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.aws.dataplane.s3;
 
 import org.eclipse.dataspaceconnector.aws.s3.core.S3BucketSchema;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.InputStreamDataSource;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,7 +24,9 @@ import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -32,14 +35,20 @@ import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.aws.dataplane.s3.TestFunctions.createRequest;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,6 +75,8 @@ public class S3DataSinkTest {
             .client(s3ClientMock)
             .requestId(createRequest(S3BucketSchema.TYPE).build().getId())
             .executorService(Executors.newFixedThreadPool(2))
+            .uploadExecutorService(Executors.newFixedThreadPool(2))
+            .uploadConcurrency(2)
             .monitor(mock(Monitor.class))
             .chunkSizeBytes(CHUNK_SIZE_BYTES)
             .build();
@@ -105,6 +116,47 @@ public class S3DataSinkTest {
         assertThat(completeMultipartUploadRequest.multipartUpload().parts()).hasSize(2);
     }
 
+    @Test
+    void transferParts_randomAccessPart_uploadsRangedChunks() {
+        var content = "content bigger than 50 bytes chunk size so that it gets chunked and uploaded as a multipart upload".getBytes(UTF_8);
+        var part = mock(DataSource.Part.class);
+        when(part.supportsRandomAccess()).thenReturn(true);
+        when(part.size()).thenReturn((long) content.length);
+        var lengths = new CopyOnWriteArrayList<Integer>();
+        doAnswer(invocation -> {
+            long offset = invocation.getArgument(0);
+            ByteBuffer buffer = invocation.getArgument(1);
+            lengths.add(buffer.remaining());
+            buffer.put(content, (int) offset, buffer.remaining());
+            return null;
+        }).when(part).read(anyLong(), any(ByteBuffer.class));
+
+        var result = dataSink.transferParts(List.of(part));
+
+        assertThat(result.succeeded()).isTrue();
+        verify(part).read(eq(0L), any(ByteBuffer.class));
+        verify(part).read(eq((long) CHUNK_SIZE_BYTES), any(ByteBuffer.class));
+        assertThat(lengths).containsExactlyInAnyOrder(CHUNK_SIZE_BYTES, content.length - CHUNK_SIZE_BYTES);
+        verify(part, never()).read(anyLong(), anyLong());
+        verify(part, never()).openStream();
+        verify(s3ClientMock).completeMultipartUpload(completeMultipartUploadRequestCaptor.capture());
+        assertThat(completeMultipartUploadRequestCaptor.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber).containsExactly(1, 2);
+    }
+
+    @Test
+    void transferParts_abortsUploadIfPartUploadFails() {
+        when(s3ClientMock.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(SdkException.builder().message("an error").build());
+
+        var result = dataSink.transferParts(
+                List.of(new InputStreamDataSource(KEY_NAME, new ByteArrayInputStream("content".getBytes(UTF_8)))));
+
+        assertThat(result.failed()).isTrue();
+        verify(s3ClientMock).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3ClientMock, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
     @Test
     void complete_succeedIfPutObjectSucceeds() {
         when(s3ClientMock.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
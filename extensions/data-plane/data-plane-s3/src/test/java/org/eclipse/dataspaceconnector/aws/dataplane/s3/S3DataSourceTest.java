@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ */
+
+package org.eclipse.dataspaceconnector.aws.dataplane.s3;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3DataSourceTest {
+
+    private final S3Client client = mock(S3Client.class);
+    private final S3DataSource dataSource = S3DataSource.Builder.newInstance()
+            .bucketName("bucketName")
+            .keyName("keyName")
+            .client(client)
+            .build();
+
+    @Test
+    void read_shouldUseRangedGetMatchingETag() {
+        when(client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength(100L).eTag("etag").build());
+        when(client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), "content".getBytes(UTF_8)));
+
+        var part = dataSource.openPartStream().findFirst().orElseThrow();
+
+        assertThat(part.supportsRandomAccess()).isTrue();
+        assertThat(part.size()).isEqualTo(100L);
+        assertThat(part.read(10, 7)).asString(UTF_8).isEqualTo("content");
+        assertThat(part.size()).isEqualTo(100L);
+
+        var captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(client).getObjectAsBytes(captor.capture());
+        assertThat(captor.getValue().range()).isEqualTo("bytes=10-16");
+        assertThat(captor.getValue().ifMatch()).isEqualTo("etag");
+        verify(client, times(1)).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void read_shouldFillBufferWithRangedGet() {
+        when(client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength(100L).eTag("etag").build());
+        when(client.getObject(any(GetObjectRequest.class)))
+                .thenReturn(new ResponseInputStream<>(GetObjectResponse.builder().build(), AbortableInputStream.create(new ByteArrayInputStream("content".getBytes(UTF_8)))));
+        var buffer = ByteBuffer.allocate(16).limit(7);
+
+        var part = dataSource.openPartStream().findFirst().orElseThrow();
+        part.read(10, buffer);
+
+        assertThat(buffer.flip()).isEqualTo(ByteBuffer.wrap("content".getBytes(UTF_8)));
+        var captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(client).getObject(captor.capture());
+        assertThat(captor.getValue().range()).isEqualTo("bytes=10-16");
+        assertThat(captor.getValue().ifMatch()).isEqualTo("etag");
+    }
+}
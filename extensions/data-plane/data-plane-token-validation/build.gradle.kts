@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+val nimbusVersion: String by project
+val bouncycastleVersion: String by project
+
+dependencies {
+    api(project(":spi:control-plane:data-plane-transfer-spi"))
+    api(project(":spi:data-plane:data-plane-spi"))
+    api(project(":core:common:jwt-core"))
+
+    implementation("com.nimbusds:nimbus-jose-jwt:${nimbusVersion}")
+    // Note: nimbus requires bouncycastle to parse PEM encoded keys
+    implementation("org.bouncycastle:bcpkix-jdk15on:${bouncycastleVersion}")
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("data-plane-token-validation") {
+            artifactId = "data-plane-token-validation"
+            from(components["java"])
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.token.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.core.jwt.VerifiedTokenCache;
+import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
+import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationService;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.transfer.dataplane.spi.security.DataEncrypter;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+
+import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.spi.jwt.JwtRegisteredClaimNames.EXPIRATION_TIME;
+import static org.eclipse.dataspaceconnector.transfer.dataplane.spi.DataPlaneTransferConstants.DATA_ADDRESS;
+
+/**
+ * Validates the tokens within the data plane, with a {@link TokenValidationService} and the {@link DataEncrypter} decrypting
+ * their data address. When the data plane is embedded in the control plane runtime, the latter provides it with the same
+ * service as the validation endpoint, thus applying the same rules, otherwise the data plane builds it from its configured
+ * public key.
+ * <p>
+ * The validated claims are cached by a {@link VerifiedTokenCache} for a short time-to-live, bounded by the expiration of
+ * the token. A cached token is not validated again until then, so that the end of the contract is detected with a delay
+ * of at most the time-to-live.
+ */
+public class LocalTokenValidationClient implements TokenValidationClient {
+
+    private final TokenValidationService tokenValidationService;
+    private final DataEncrypter dataEncrypter;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+    private final VerifiedTokenCache validatedTokens;
+
+    /**
+     * Creates the client.
+     *
+     * @param validatedTokens cache of the validated tokens, null to validate the token on every call
+     */
+    public LocalTokenValidationClient(TokenValidationService tokenValidationService, DataEncrypter dataEncrypter, ObjectMapper mapper, Clock clock,
+                                      @Nullable VerifiedTokenCache validatedTokens) {
+        this.tokenValidationService = tokenValidationService;
+        this.dataEncrypter = dataEncrypter;
+        this.mapper = mapper;
+        this.clock = clock;
+        this.validatedTokens = validatedTokens;
+    }
+
+    @Override
+    public Result<DataAddress> call(String token) {
+        var result = validatedTokens != null ? validatedTokens.get(token, tokenValidationService::validate) : tokenValidationService.validate(token);
+        if (result.failed()) {
+            return Result.failure(result.getFailureMessages());
+        }
+
+        var claims = result.getContent();
+        var expiration = claims.getInstantClaim(EXPIRATION_TIME);
+        if (expiration == null) {
+            return Result.failure("Missing expiration time in token");
+        }
+        if (clock.millis() >= expiration.toEpochMilli()) {
+            return Result.failure("Token has expired on " + expiration);
+        }
+
+        var encryptedDataAddress = claims.getClaim(DATA_ADDRESS);
+        if (!(encryptedDataAddress instanceof String)) {
+            return Result.failure(format("Missing claim `%s` in token", DATA_ADDRESS));
+        }
+
+        try {
+            return Result.success(mapper.readValue(dataEncrypter.decrypt((String) encryptedDataAddress), DataAddress.class));
+        } catch (JsonProcessingException e) {
+            return Result.failure("Failed to read the data address of the token: " + e.getMessage());
+        }
+    }
+}
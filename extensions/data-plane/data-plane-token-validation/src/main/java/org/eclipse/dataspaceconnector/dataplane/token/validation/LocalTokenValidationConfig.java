@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.token.validation;
+
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.EdcSetting;
+
+/**
+ * Settings of the {@link LocalTokenValidationClient}, whether it is provided by the control plane or built by the data plane.
+ */
+public interface LocalTokenValidationConfig {
+
+    @EdcSetting(value = "time-to-live in milliseconds of the tokens validated by the embedded data plane token validation, 0 to disable the cache")
+    String TOKEN_VALIDATION_CACHE_TTL = "edc.dataplane.token.validation.cache.ttl.ms";
+    long DEFAULT_TOKEN_VALIDATION_CACHE_TTL = 30_000;
+
+    @EdcSetting(value = "maximum number of tokens cached by the embedded data plane token validation")
+    String TOKEN_VALIDATION_CACHE_MAX_ENTRIES = "edc.dataplane.token.validation.cache.max.entries";
+    int DEFAULT_TOKEN_VALIDATION_CACHE_MAX_ENTRIES = 10_000;
+
+    /**
+     * Prefix of the meters counting the hits and misses of the cache, distinct from the one of the cache of the token validation API.
+     */
+    String TOKEN_VALIDATION_CACHE_METER_PREFIX = "edc.dataplane.token.validation.cache";
+}
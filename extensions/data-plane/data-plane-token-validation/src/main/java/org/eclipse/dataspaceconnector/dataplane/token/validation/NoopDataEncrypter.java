@@ -12,7 +12,7 @@
  *
  */
 
-package org.eclipse.dataspaceconnector.transfer.dataplane.sync.security;
+package org.eclipse.dataspaceconnector.dataplane.token.validation;
 
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.security.DataEncrypter;
 
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.token.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.dataspaceconnector.core.jwt.VerifiedTokenCache;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationService;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.transfer.dataplane.spi.security.DataEncrypter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.spi.jwt.JwtRegisteredClaimNames.EXPIRATION_TIME;
+import static org.eclipse.dataspaceconnector.transfer.dataplane.spi.DataPlaneTransferConstants.DATA_ADDRESS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocalTokenValidationClientTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String TOKEN = "token";
+
+    private final TokenValidationService tokenValidationService = mock(TokenValidationService.class);
+    private final DataEncrypter dataEncrypter = mock(DataEncrypter.class);
+    private final Clock clock = mock(Clock.class);
+    private final LocalTokenValidationClient client = new LocalTokenValidationClient(tokenValidationService, dataEncrypter, MAPPER, clock,
+            new VerifiedTokenCache(clock, Duration.ofSeconds(30), 100, new SimpleMeterRegistry()));
+
+    @BeforeEach
+    void setUp() throws JsonProcessingException {
+        var address = DataAddress.Builder.newInstance().type("test-type").property("foo", "bar").build();
+        when(dataEncrypter.decrypt("encrypted")).thenReturn(MAPPER.writeValueAsString(address));
+    }
+
+    @Test
+    void call_shouldReturnDecryptedDataAddress() {
+        when(clock.millis()).thenReturn(0L);
+        when(tokenValidationService.validate(TOKEN)).thenReturn(Result.success(claims(60_000)));
+
+        var result = client.call(TOKEN);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getType()).isEqualTo("test-type");
+        assertThat(result.getContent().getProperty("foo")).isEqualTo("bar");
+    }
+
+    @Test
+    void call_shouldCacheValidatedTokenUntilTtl() {
+        when(tokenValidationService.validate(TOKEN)).thenReturn(Result.success(claims(60_000)));
+
+        when(clock.millis()).thenReturn(0L);
+        client.call(TOKEN);
+        when(clock.millis()).thenReturn(29_000L);
+        var cached = client.call(TOKEN);
+        when(clock.millis()).thenReturn(30_000L);
+        client.call(TOKEN);
+
+        assertThat(cached.getContent().getProperty("foo")).isEqualTo("bar");
+        verify(tokenValidationService, times(2)).validate(TOKEN);
+    }
+
+    @Test
+    void call_shouldNotCacheValidatedTokenBeyondTokenExpiration() {
+        when(tokenValidationService.validate(TOKEN)).thenReturn(Result.success(claims(10_000)));
+
+        when(clock.millis()).thenReturn(0L);
+        client.call(TOKEN);
+        when(clock.millis()).thenReturn(10_000L);
+        var result = client.call(TOKEN);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains("Token has expired");
+    }
+
+    @Test
+    void call_shouldValidateEveryCall_ifCacheIsDisabled() {
+        var uncachedClient = new LocalTokenValidationClient(tokenValidationService, dataEncrypter, MAPPER, clock, null);
+        when(clock.millis()).thenReturn(0L);
+        when(tokenValidationService.validate(TOKEN)).thenReturn(Result.success(claims(60_000)));
+
+        uncachedClient.call(TOKEN);
+        uncachedClient.call(TOKEN);
+
+        verify(tokenValidationService, times(2)).validate(TOKEN);
+    }
+
+    @Test
+    void call_shouldFail_ifTokenValidationFails() {
+        when(clock.millis()).thenReturn(0L);
+        when(tokenValidationService.validate(TOKEN)).thenReturn(Result.failure("Token verification failed"));
+
+        var result = client.call(TOKEN);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).containsExactly("Token verification failed");
+    }
+
+    @Test
+    void call_shouldFail_ifDataAddressClaimIsMissing() {
+        when(clock.millis()).thenReturn(0L);
+        var claims = ClaimToken.Builder.newInstance().claim(EXPIRATION_TIME, new Date(60_000)).build();
+        when(tokenValidationService.validate(TOKEN)).thenReturn(Result.success(claims));
+
+        var result = client.call(TOKEN);
+
+        assertThat(result.failed()).isTrue();
+    }
+
+    private ClaimToken claims(long expiration) {
+        return ClaimToken.Builder.newInstance()
+                .claim(EXPIRATION_TIME, new Date(expiration))
+                .claim(DATA_ADDRESS, "encrypted")
+                .build();
+    }
+}
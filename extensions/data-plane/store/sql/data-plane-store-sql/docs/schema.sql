@@ -0,0 +1,39 @@
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_lease
+(
+    leased_by      VARCHAR NOT NULL,
+    leased_at      BIGINT,
+    lease_duration INTEGER NOT NULL,
+    lease_id       VARCHAR NOT NULL
+        CONSTRAINT lease_pk
+            PRIMARY KEY
+);
+
+COMMENT ON COLUMN edc_lease.leased_at IS 'posix timestamp of lease';
+
+COMMENT ON COLUMN edc_lease.lease_duration IS 'duration of lease in milliseconds';
+
+CREATE TABLE IF NOT EXISTS edc_data_plane
+(
+    process_id   VARCHAR NOT NULL
+        CONSTRAINT data_plane_pk
+            PRIMARY KEY,
+    state        VARCHAR NOT NULL,
+    received_at  BIGINT  NOT NULL,
+    updated_at   BIGINT  NOT NULL,
+    request      JSON,
+    error_detail VARCHAR,
+    lease_id     VARCHAR
+        CONSTRAINT data_plane_lease_lease_id_fk
+            REFERENCES edc_lease
+            ON DELETE SET NULL
+);
+
+COMMENT ON COLUMN edc_data_plane.request IS 'DataFlowRequest serialized as JSON';
+
+CREATE INDEX IF NOT EXISTS data_plane_state_received_at_index
+    ON edc_data_plane (state, received_at);
+
+CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
+    ON edc_lease (lease_id);
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.dataplane;
+
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.EdcSetting;
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Extension;
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Inject;
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.Provides;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.SqlDataPlaneStore;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.schema.DataPlaneStoreStatements;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.schema.postgres.PostgresDialectStatements;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+
+@Provides(DataPlaneStore.class)
+@Extension(value = "SQL data plane store")
+public class SqlDataPlaneStoreExtension implements ServiceExtension {
+
+    @EdcSetting
+    private static final String DATASOURCE_NAME_SETTING = "edc.datasource.dataplane.name";
+    private static final String DEFAULT_DATASOURCE_NAME = "dataplane";
+    @EdcSetting
+    private static final String LEASE_DURATION_SETTING = "edc.dataplane.store.lease.duration";
+    private static final long DEFAULT_LEASE_DURATION = 600_000;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private TransactionContext trxContext;
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private DataPlaneStoreStatements statements;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        // the lease holder must be unique per runtime, since data plane replicas usually share the same connector id
+        var leaseHolder = context.getConnectorId() + "-" + UUID.randomUUID();
+        var leaseDuration = Duration.ofMillis(context.getSetting(LEASE_DURATION_SETTING, DEFAULT_LEASE_DURATION));
+        var store = new SqlDataPlaneStore(dataSourceRegistry, getDataSourceName(context), trxContext, context.getTypeManager().getMapper(),
+                getStatementImpl(), leaseHolder, leaseDuration, clock);
+        context.registerService(DataPlaneStore.class, store);
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private DataPlaneStoreStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresDialectStatements();
+    }
+
+    private String getDataSourceName(ServiceExtensionContext context) {
+        return context.getConfig().getString(DATASOURCE_NAME_SETTING, DEFAULT_DATASOURCE_NAME);
+    }
+}
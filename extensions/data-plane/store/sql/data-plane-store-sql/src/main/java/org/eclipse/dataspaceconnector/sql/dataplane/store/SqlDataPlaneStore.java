@@ -0,0 +1,247 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.dataplane.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.PersistentDataPlaneStore;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.persistence.EdcPersistenceException;
+import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.schema.DataPlaneStoreStatements;
+import org.eclipse.dataspaceconnector.sql.lease.SqlLeaseContextBuilder;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeBatch;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuerySingle;
+
+/**
+ * Implementation of the {@link PersistentDataPlaneStore} based on SQL. Received requests are persisted, and leased by the runtime that claims them through
+ * {@link #nextReceived(int)} until they are completed.
+ */
+public class SqlDataPlaneStore implements PersistentDataPlaneStore {
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String datasourceName;
+    private final TransactionContext transactionContext;
+    private final ObjectMapper objectMapper;
+    private final DataPlaneStoreStatements statements;
+    private final String leaseHolderName;
+    private final SqlLeaseContextBuilder leaseContext;
+    private final Clock clock;
+
+    public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String datasourceName, TransactionContext transactionContext, ObjectMapper objectMapper,
+                             DataPlaneStoreStatements statements, String leaseHolderName, Duration leaseDuration, Clock clock) {
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.datasourceName = datasourceName;
+        this.transactionContext = transactionContext;
+        this.objectMapper = objectMapper;
+        this.statements = statements;
+        this.leaseHolderName = leaseHolderName;
+        this.clock = clock;
+        leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock).forTime(leaseDuration);
+    }
+
+    @Override
+    public void received(String processId) {
+        upsertReceived(processId, null);
+    }
+
+    @Override
+    public void received(DataFlowRequest request) {
+        upsertReceived(request.getProcessId(), toJson(request));
+    }
+
+    @Override
+    public boolean received(DataFlowRequest request, long capacity) {
+        var json = toJson(request);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                // the capacity is checked by the statement itself rather than under a table lock, which would serialize the admissions of all runtimes
+                var now = clock.millis();
+                var state = State.RECEIVED.name();
+                int updated;
+                if (findState(connection, request.getProcessId()) == null) {
+                    updated = executeQuery(connection, statements.getInsertIfBelowCapacityTemplate(), request.getProcessId(), state, now, now, json, null,
+                            state, capacity);
+                } else {
+                    updated = executeQuery(connection, statements.getUpdateReceivedIfBelowCapacityTemplate(), state, json, now, now, request.getProcessId(),
+                            state, capacity);
+                }
+                return updated > 0;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void completed(String processId) {
+        completed(processId, null);
+    }
+
+    @Override
+    public void completed(String processId, @Nullable String errorDetail) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                if (findState(connection, processId) == null) {
+                    executeQuery(connection, statements.getInsertTemplate(), processId, State.COMPLETED.name(), now, now, null, errorDetail);
+                } else {
+                    // the lease may have been taken over by another runtime after expiring, in which case it is left to that runtime
+                    var leases = leaseContext.by(leaseHolderName).withConnection(connection);
+                    var lease = leases.getLease(processId);
+                    if (lease != null && leaseHolderName.equals(lease.getLeasedBy())) {
+                        leases.breakLease(processId);
+                    }
+                    executeQuery(connection, statements.getUpdateStateTemplate(), State.COMPLETED.name(), errorDetail, now, processId);
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public State getState(String processId) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var state = findState(connection, processId);
+                return state != null ? State.valueOf(state) : State.NOT_TRACKED;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<ReceivedRequest> nextReceived(int max) {
+        var now = clock.millis();
+        return transactionContext.execute(() -> {
+            try (
+                    var connection = getConnection();
+                    var stream = executeQuery(connection, false, this::mapReceivedRequest, statements.getNextReceivedTemplate(), State.RECEIVED.name(), now, max)
+            ) {
+                var requests = stream.collect(toList());
+                var leased = new HashSet<>(leaseContext.by(leaseHolderName).withConnection(connection)
+                        .acquireLeases(requests.stream().map(r -> r.getRequest().getProcessId()).collect(toList())));
+                return requests.stream().filter(r -> leased.contains(r.getRequest().getProcessId())).collect(toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void renewLeases(Collection<String> processIds) {
+        if (processIds.isEmpty()) {
+            return;
+        }
+        var now = clock.millis();
+        var arguments = new ArrayList<Object[]>(processIds.size());
+        for (var processId : processIds) {
+            arguments.add(new Object[]{ now, leaseHolderName, processId });
+        }
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                executeBatch(connection, statements.getRenewLeaseTemplate(), arguments);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public long countReceived() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return countReceived(connection);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private void upsertReceived(String processId, @Nullable String request) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                upsertReceived(connection, processId, request);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private void upsertReceived(Connection connection, String processId, @Nullable String request) {
+        var now = clock.millis();
+        if (findState(connection, processId) == null) {
+            executeQuery(connection, statements.getInsertTemplate(), processId, State.RECEIVED.name(), now, now, request, null);
+        } else {
+            executeQuery(connection, statements.getUpdateReceivedTemplate(), State.RECEIVED.name(), request, now, now, processId);
+        }
+    }
+
+    private long countReceived(Connection connection) {
+        return executeQuerySingle(connection, false, rs -> rs.getLong(1), statements.getCountReceivedTemplate(), State.RECEIVED.name());
+    }
+
+    @Nullable
+    private String findState(Connection connection, String processId) {
+        return executeQuerySingle(connection, false, rs -> rs.getString(statements.getStateColumn()), statements.getFindStateTemplate(), processId);
+    }
+
+    private ReceivedRequest mapReceivedRequest(ResultSet resultSet) throws SQLException {
+        var request = fromJson(resultSet.getString(statements.getRequestColumn()));
+        return new ReceivedRequest(request, resultSet.getLong(statements.getReceivedAtColumn()));
+    }
+
+    private DataFlowRequest fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, DataFlowRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private String toJson(Object obj) {
+        try {
+            return objectMapper.writeValueAsString(obj);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        return getDataSource().getConnection();
+    }
+
+    private DataSource getDataSource() {
+        return dataSourceRegistry.resolve(datasourceName);
+    }
+}
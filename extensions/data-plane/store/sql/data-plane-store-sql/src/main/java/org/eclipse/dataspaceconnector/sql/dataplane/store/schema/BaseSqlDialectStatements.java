@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.dataplane.store.schema;
+
+import static java.lang.String.format;
+
+/**
+ * Generic variants of the statements required for the DataPlaneStore
+ */
+public abstract class BaseSqlDialectStatements implements DataPlaneStoreStatements {
+
+    @Override
+    public String getDeleteLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = ?;", getLeaseTableName(), getLeaseIdColumn());
+    }
+
+    @Override
+    public String getInsertLeaseTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?);",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    @Override
+    public String getUpdateLeaseTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ?;", getDataPlaneTableName(), getLeaseIdColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getFindLeaseByEntityTemplate() {
+        return format("SELECT * FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?);",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getDataPlaneTableName(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getDeleteExpiredLeaseTemplate() {
+        return format("DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?) AND (? > (%s + %s));",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getDataPlaneTableName(), getProcessIdColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    @Override
+    public String getUpdateLeaseIfNotLeasedTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ? AND %s IS NULL;", getDataPlaneTableName(), getLeaseIdColumn(), getProcessIdColumn(), getLeaseIdColumn());
+    }
+
+    @Override
+    public String getInsertTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?%s, ?);",
+                getDataPlaneTableName(), getProcessIdColumn(), getStateColumn(), getReceivedAtColumn(), getUpdatedAtColumn(), getRequestColumn(),
+                getErrorDetailColumn(), getFormatAsJsonOperator());
+    }
+
+    @Override
+    public String getUpdateReceivedTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ?%s, %s = ?, %s = ?, %s = NULL WHERE %s = ?;",
+                getDataPlaneTableName(), getStateColumn(), getRequestColumn(), getFormatAsJsonOperator(), getReceivedAtColumn(), getUpdatedAtColumn(),
+                getErrorDetailColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getUpdateStateTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ?, %s = ? WHERE %s = ?;",
+                getDataPlaneTableName(), getStateColumn(), getErrorDetailColumn(), getUpdatedAtColumn(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getFindStateTemplate() {
+        return format("SELECT %s FROM %s WHERE %s = ?;", getStateColumn(), getDataPlaneTableName(), getProcessIdColumn());
+    }
+
+    @Override
+    public String getNextReceivedTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ? AND %s IS NOT NULL " +
+                        "AND (%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s)))) " +
+                        "ORDER BY %s ASC LIMIT ?%s;",
+                getDataPlaneTableName(), getStateColumn(), getRequestColumn(),
+                getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                getReceivedAtColumn(), getRowLockClause());
+    }
+
+    @Override
+    public String getCountReceivedTemplate() {
+        return countReceivedQuery() + ";";
+    }
+
+    @Override
+    public String getRenewLeaseTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ? AND %s = (SELECT %s FROM %s WHERE %s = ?);",
+                getLeaseTableName(), getLeasedAtColumn(), getLeasedByColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getDataPlaneTableName(),
+                getProcessIdColumn());
+    }
+
+    /**
+     * Inserts a received request unless the given number of received requests are pending. The count is evaluated by the insert itself, without
+     * locking the table, so concurrent admissions may slightly exceed the capacity.
+     */
+    @Override
+    public String getInsertIfBelowCapacityTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s) SELECT ?, ?, ?, ?, ?%s, ? WHERE (%s) < ?;",
+                getDataPlaneTableName(), getProcessIdColumn(), getStateColumn(), getReceivedAtColumn(), getUpdatedAtColumn(), getRequestColumn(),
+                getErrorDetailColumn(), getFormatAsJsonOperator(), countReceivedQuery());
+    }
+
+    /**
+     * Marks a known process as received again unless the given number of received requests are pending, see
+     * {@link #getInsertIfBelowCapacityTemplate()}.
+     */
+    @Override
+    public String getUpdateReceivedIfBelowCapacityTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ?%s, %s = ?, %s = ?, %s = NULL WHERE %s = ? AND (%s) < ?;",
+                getDataPlaneTableName(), getStateColumn(), getRequestColumn(), getFormatAsJsonOperator(), getReceivedAtColumn(), getUpdatedAtColumn(),
+                getErrorDetailColumn(), getProcessIdColumn(), countReceivedQuery());
+    }
+
+    /**
+     * Clause appended to the query selecting the next received requests, to lock the returned rows until the end of the transaction so that
+     * concurrent runtimes do not lease the same requests. Empty if the dialect does not support it.
+     */
+    protected String getRowLockClause() {
+        return "";
+    }
+
+    private String countReceivedQuery() {
+        return format("SELECT COUNT(*) FROM %s WHERE %s = ? AND %s IS NOT NULL", getDataPlaneTableName(), getStateColumn(), getRequestColumn());
+    }
+}
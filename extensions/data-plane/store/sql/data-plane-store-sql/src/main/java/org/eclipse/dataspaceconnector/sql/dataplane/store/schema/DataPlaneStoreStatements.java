@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.dataplane.store.schema;
+
+import org.eclipse.dataspaceconnector.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.dataspaceconnector.sql.dialect.BaseSqlDialect;
+import org.eclipse.dataspaceconnector.sql.lease.LeaseStatements;
+
+/**
+ * Statement templates and SQL table+column names required for the DataPlaneStore
+ */
+@ExtensionPoint
+public interface DataPlaneStoreStatements extends LeaseStatements {
+
+    String getInsertTemplate();
+
+    String getUpdateReceivedTemplate();
+
+    String getUpdateStateTemplate();
+
+    String getFindStateTemplate();
+
+    String getNextReceivedTemplate();
+
+    String getCountReceivedTemplate();
+
+    String getRenewLeaseTemplate();
+
+    String getInsertIfBelowCapacityTemplate();
+
+    String getUpdateReceivedIfBelowCapacityTemplate();
+
+    default String getDataPlaneTableName() {
+        return "edc_data_plane";
+    }
+
+    default String getProcessIdColumn() {
+        return "process_id";
+    }
+
+    default String getStateColumn() {
+        return "state";
+    }
+
+    default String getReceivedAtColumn() {
+        return "received_at";
+    }
+
+    default String getUpdatedAtColumn() {
+        return "updated_at";
+    }
+
+    default String getRequestColumn() {
+        return "request";
+    }
+
+    default String getErrorDetailColumn() {
+        return "error_detail";
+    }
+
+    default String getFormatAsJsonOperator() {
+        return BaseSqlDialect.getJsonCastOperator();
+    }
+}
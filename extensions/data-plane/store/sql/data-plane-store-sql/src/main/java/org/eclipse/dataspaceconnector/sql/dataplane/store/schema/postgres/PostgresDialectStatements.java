@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.dataplane.store.schema.postgres;
+
+import org.eclipse.dataspaceconnector.sql.dataplane.store.schema.BaseSqlDialectStatements;
+import org.eclipse.dataspaceconnector.sql.dialect.PostgresDialect;
+
+/**
+ * Postgres-specific variations of the SQL statements.
+ */
+public class PostgresDialectStatements extends BaseSqlDialectStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonCastOperator();
+    }
+
+    @Override
+    protected String getRowLockClause() {
+        return " FOR UPDATE SKIP LOCKED";
+    }
+}
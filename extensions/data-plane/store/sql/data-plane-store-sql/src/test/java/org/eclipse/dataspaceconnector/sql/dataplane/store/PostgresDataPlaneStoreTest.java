@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.dataplane.store;
+
+import org.eclipse.dataspaceconnector.common.util.junit.annotations.PostgresqlDbIntegrationTest;
+import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State;
+import org.eclipse.dataspaceconnector.spi.transaction.NoopTransactionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
+import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.eclipse.dataspaceconnector.sql.PostgresqlLocalInstance;
+import org.eclipse.dataspaceconnector.sql.dataplane.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.dataspaceconnector.sql.lease.LeaseUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuerySingle;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@PostgresqlDbIntegrationTest
+class PostgresDataPlaneStoreTest {
+    private static final String DATASOURCE_NAME = "dataplane";
+    private static final String LEASE_HOLDER = "test-dataplane";
+
+    private final Clock clock = Clock.systemUTC();
+    private final TransactionContext transactionContext = new NoopTransactionContext();
+    private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    private final DataSource dataSource = mock(DataSource.class);
+    private final DataSourceRegistry dataSourceRegistry = mock(DataSourceRegistry.class);
+    private final Connection connection = spy(PostgresqlLocalInstance.getTestConnection());
+    private LeaseUtil leaseUtil;
+    private SqlDataPlaneStore store;
+
+    @BeforeAll
+    static void prepare() {
+        PostgresqlLocalInstance.createTestDatabase();
+    }
+
+    @BeforeEach
+    void setUp() throws IOException, SQLException {
+        when(dataSourceRegistry.resolve(DATASOURCE_NAME)).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        doNothing().when(connection).close();
+
+        leaseUtil = new LeaseUtil(transactionContext, () -> connection, statements, clock);
+        store = new SqlDataPlaneStore(dataSourceRegistry, DATASOURCE_NAME, transactionContext, new TypeManager().getMapper(), statements,
+                LEASE_HOLDER, Duration.ofMinutes(1), clock);
+
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        transactionContext.execute(() -> executeQuery(connection, schema));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        transactionContext.execute(() -> {
+            executeQuery(connection, "DROP TABLE " + statements.getDataPlaneTableName() + " CASCADE");
+            executeQuery(connection, "DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
+        });
+        doCallRealMethod().when(connection).close();
+        connection.close();
+    }
+
+    @Test
+    void getState_shouldTrackProcess() {
+        assertThat(store.getState("process-id")).isEqualTo(State.NOT_TRACKED);
+
+        store.received("process-id");
+        assertThat(store.getState("process-id")).isEqualTo(State.RECEIVED);
+
+        store.completed("process-id");
+        assertThat(store.getState("process-id")).isEqualTo(State.COMPLETED);
+    }
+
+    @Test
+    void nextReceived_shouldLeaseReceivedRequests() {
+        store.received(createRequest("process-1"));
+        store.received(createRequest("process-2"));
+        store.received("process-without-request");
+
+        var requests = store.nextReceived(10);
+
+        assertThat(requests).hasSize(2)
+                .extracting(r -> r.getRequest().getProcessId())
+                .containsExactlyInAnyOrder("process-1", "process-2");
+        assertThat(requests).allSatisfy(r -> assertThat(r.getRequest().getSourceDataAddress().getType()).isEqualTo("source"));
+        assertThat(leaseUtil.isLeased("process-1", LEASE_HOLDER)).isTrue();
+        assertThat(store.nextReceived(10)).isEmpty();
+        assertThat(store.countReceived()).isEqualTo(2);
+    }
+
+    @Test
+    void nextReceived_shouldSkipRequestsLeasedByOthers() {
+        store.received(createRequest("process-1"));
+        store.received(createRequest("process-2"));
+        leaseUtil.leaseEntity("process-1", "other-dataplane");
+
+        var requests = store.nextReceived(10);
+
+        assertThat(requests).extracting(r -> r.getRequest().getProcessId()).containsExactly("process-2");
+    }
+
+    @Test
+    void nextReceived_shouldReturnRequestsWithExpiredLease() {
+        store.received(createRequest("process-1"));
+        leaseUtil.leaseEntity("process-1", "other-dataplane", Duration.ofMillis(-1));
+
+        var requests = store.nextReceived(10);
+
+        assertThat(requests).extracting(r -> r.getRequest().getProcessId()).containsExactly("process-1");
+    }
+
+    @Test
+    void completed_shouldReleaseLeaseAndRecordError() {
+        store.received(createRequest("process-1"));
+        store.nextReceived(1);
+
+        store.completed("process-1", "transfer failed");
+
+        assertThat(store.getState("process-1")).isEqualTo(State.COMPLETED);
+        assertThat(leaseUtil.isLeased("process-1", LEASE_HOLDER)).isFalse();
+        assertThat(store.countReceived()).isZero();
+        var errorDetail = executeQuerySingle(connection, false, rs -> rs.getString(statements.getErrorDetailColumn()),
+                "SELECT * FROM edc_data_plane WHERE process_id = ?", "process-1");
+        assertThat(errorDetail).isEqualTo("transfer failed");
+    }
+
+    @Test
+    void completed_shouldNotFail_whenLeaseWasTakenOverByAnotherRuntime() {
+        store.received(createRequest("process-1"));
+        leaseUtil.leaseEntity("process-1", "other-dataplane");
+
+        store.completed("process-1", null);
+
+        assertThat(store.getState("process-1")).isEqualTo(State.COMPLETED);
+        assertThat(leaseUtil.isLeased("process-1", "other-dataplane")).isTrue();
+    }
+
+    @Test
+    void received_shouldRejectRequest_whenCapacityIsReached() {
+        assertThat(store.received(createRequest("process-1"), 2)).isTrue();
+        assertThat(store.received(createRequest("process-2"), 2)).isTrue();
+
+        assertThat(store.received(createRequest("process-3"), 2)).isFalse();
+
+        assertThat(store.getState("process-3")).isEqualTo(State.NOT_TRACKED);
+        assertThat(store.countReceived()).isEqualTo(2);
+    }
+
+    @Test
+    void renewLeases_shouldRenewOwnLeasesOnly() {
+        store.received(createRequest("process-1"));
+        store.received(createRequest("process-2"));
+        leaseUtil.leaseEntity("process-1", LEASE_HOLDER);
+        leaseUtil.leaseEntity("process-2", "other-dataplane");
+        transactionContext.execute(() -> executeQuery(connection, "UPDATE edc_lease SET leased_at = 0"));
+
+        store.renewLeases(List.of("process-1", "process-2"));
+
+        assertThat(leasedAt("process-1")).isPositive();
+        assertThat(leasedAt("process-2")).isZero();
+    }
+
+    private long leasedAt(String processId) {
+        return executeQuerySingle(connection, false, rs -> rs.getLong(statements.getLeasedAtColumn()), statements.getFindLeaseByEntityTemplate(), processId);
+    }
+
+    private DataFlowRequest createRequest(String processId) {
+        return DataFlowRequest.Builder.newInstance()
+                .id(processId + "-request")
+                .processId(processId)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("source").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("destination").build())
+                .build();
+    }
+}
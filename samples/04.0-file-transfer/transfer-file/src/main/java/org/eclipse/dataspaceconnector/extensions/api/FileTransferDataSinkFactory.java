@@ -27,12 +27,12 @@ import java.util.concurrent.ExecutorService;
 class FileTransferDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final ExecutorService executorService;
-    private final int partitionSize;
+    private final int maxPartsInFlight;
 
-    FileTransferDataSinkFactory(Monitor monitor, ExecutorService executorService, int partitionSize) {
+    FileTransferDataSinkFactory(Monitor monitor, ExecutorService executorService, int maxPartsInFlight) {
         this.monitor = monitor;
         this.executorService = executorService;
-        this.partitionSize = partitionSize;
+        this.maxPartsInFlight = maxPartsInFlight;
     }
 
     @Override
@@ -57,7 +57,7 @@ class FileTransferDataSinkFactory implements DataSinkFactory {
         return FileTransferDataSink.Builder.newInstance()
                 .file(destinationFile)
                 .requestId(request.getId())
-                .partitionSize(partitionSize)
+                .maxPartsInFlight(maxPartsInFlight)
                 .executorService(executorService)
                 .monitor(monitor)
                 .build();
@@ -135,6 +135,8 @@ include(":extensions:data-plane:data-plane-azure-storage")
 include(":extensions:data-plane:data-plane-data-factory")
 include(":extensions:data-plane:data-plane-http")
 include(":extensions:data-plane:data-plane-s3")
+include(":extensions:data-plane:data-plane-token-validation")
+include(":extensions:data-plane:store:sql:data-plane-store-sql")
 include(":extensions:data-plane:integration-tests")
 
 include(":extensions:data-plane-selector:selector-api")
@@ -22,6 +22,8 @@ import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.AssetEntry;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
@@ -70,12 +72,41 @@ public interface AssetIndex extends DataAddressResolver {
     @Nullable
     Asset findById(String assetId);
 
+    /**
+     * Fetches the {@link Asset}s with the given IDs from the metadata backend. IDs that do not match any asset are ignored.
+     * <p>
+     * The default implementation looks up every asset with {@link #findById(String)}, implementations backed by a remote
+     * system should override it to fetch the assets at once.
+     *
+     * @param assetIds The IDs of the assets.
+     * @return A {@code Stream} of the assets that were found, in no particular order. Might be empty, never null.
+     * @throws NullPointerException If {@code assetIds} was null.
+     */
+    default Stream<Asset> findByIds(Collection<String> assetIds) {
+        Objects.requireNonNull(assetIds);
+        return assetIds.stream().distinct().map(this::findById).filter(Objects::nonNull);
+    }
+
     default void accept(Asset asset, DataAddress dataAddress) {
         accept(new AssetEntry(asset, dataAddress));
     }
 
     void accept(AssetEntry item);
 
+    /**
+     * Stores several assets with their data addresses, replacing the ones that already exist.
+     * <p>
+     * The default implementation stores every entry with {@link #accept(AssetEntry)}, implementations backed by a remote
+     * system should override it to write the entries in bulk.
+     *
+     * @param items the entries to store.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    default void acceptAll(Collection<AssetEntry> items) {
+        Objects.requireNonNull(items);
+        items.forEach(this::accept);
+    }
+
     /**
      * Deletes an asset.
      *
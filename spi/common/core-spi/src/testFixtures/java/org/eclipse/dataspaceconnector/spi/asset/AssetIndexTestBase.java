@@ -320,6 +320,41 @@ public abstract class AssetIndexTestBase {
         assertThat(assetFound).usingRecursiveComparison().isEqualTo(asset);
     }
 
+    @Test
+    @DisplayName("Accept several asset entries at once, replacing the existing ones")
+    void acceptAll() {
+        getAssetIndex().accept(getAsset("id1"), getDataAddress());
+        var asset1 = Asset.Builder.newInstance().id("id1").createdAt(Clock.systemUTC().millis()).property("replaced", "yes").build();
+        var asset2 = getAsset("id2");
+        var dataAddress = DataAddress.Builder.newInstance().type("other").property("bulk", "true").build();
+
+        getAssetIndex().acceptAll(List.of(new AssetEntry(asset1, dataAddress), new AssetEntry(asset2, dataAddress)));
+
+        assertThat(getAssetIndex().findByIds(List.of("id1", "id2"))).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrder(asset1, asset2);
+        assertThat(getAssetIndex().resolveForAsset("id1")).usingRecursiveComparison().isEqualTo(dataAddress);
+        assertThat(getAssetIndex().resolveForAsset("id2")).usingRecursiveComparison().isEqualTo(dataAddress);
+    }
+
+    @Test
+    @DisplayName("Find several assets at once, ignoring the ones that don't exist")
+    void findAssets_byIds() {
+        var asset1 = getAsset("id1");
+        var asset2 = getAsset("id2");
+        getAssetIndex().accept(asset1, getDataAddress());
+        getAssetIndex().accept(asset2, getDataAddress());
+        getAssetIndex().accept(getAsset("id3"), getDataAddress());
+
+        var assetsFound = getAssetIndex().findByIds(List.of("id1", "id2", "not-exist"));
+
+        assertThat(assetsFound).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrder(asset1, asset2);
+    }
+
+    @Test
+    @DisplayName("Find several assets at once, none of them exist")
+    void findAssets_byIds_doNotExist() {
+        assertThat(getAssetIndex().findByIds(List.of("id1", "id2"))).isEmpty();
+    }
+
     @Test
     @DisplayName("Find a data address that doesn't exist")
     void resolveDataAddress_doesNotExist() {
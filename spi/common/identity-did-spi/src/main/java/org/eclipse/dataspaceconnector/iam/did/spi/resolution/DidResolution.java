@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.did.spi.resolution;
+
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A resolved DID document together with how long it may be cached, as stated by the source it was resolved from, e.g.
+ * by the HTTP cache headers of a Web DID.
+ */
+public class DidResolution {
+    private final DidDocument document;
+    private final Duration maxAge;
+
+    /**
+     * Creates the resolution.
+     *
+     * @param maxAge how long the document may be cached, null if the source does not state it
+     */
+    public DidResolution(DidDocument document, @Nullable Duration maxAge) {
+        this.document = document;
+        this.maxAge = maxAge;
+    }
+
+    public DidDocument getDocument() {
+        return document;
+    }
+
+    /**
+     * How long the document may be cached, null if unknown. {@link Duration#ZERO} means it must not be cached.
+     */
+    @Nullable
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+}
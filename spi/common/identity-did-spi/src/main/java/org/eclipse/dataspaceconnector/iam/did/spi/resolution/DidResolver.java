@@ -35,4 +35,13 @@ public interface DidResolver {
     @NotNull
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves the DID document together with how long it may be cached. Resolvers that do not know it return a
+     * resolution without max age.
+     */
+    @NotNull
+    default Result<DidResolution> resolveForCaching(String didKey) {
+        return resolve(didKey).map(document -> new DidResolution(document, null));
+    }
+
 }
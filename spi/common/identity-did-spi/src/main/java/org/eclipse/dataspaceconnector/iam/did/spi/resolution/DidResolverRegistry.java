@@ -34,4 +34,13 @@ public interface DidResolverRegistry {
      */
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves a DID document based on the DID method, together with how long it may be cached.
+     *
+     * @see DidResolver#resolveForCaching(String)
+     */
+    default Result<DidResolution> resolveForCaching(String didKey) {
+        return resolve(didKey).map(document -> new DidResolution(document, null));
+    }
+
 }
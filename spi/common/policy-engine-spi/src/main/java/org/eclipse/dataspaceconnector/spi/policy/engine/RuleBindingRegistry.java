@@ -34,4 +34,12 @@ public interface RuleBindingRegistry {
      * Returns true of the rule type is bound to the scope; otherwise false.
      */
     boolean isInScope(String ruleType, String scope);
+
+    /**
+     * Returns a number that changes whenever a rule type is bound, so that results derived from the bindings can be invalidated. Registries that do
+     * not track their bindings return a negative number, in which case such results must not be reused.
+     */
+    default long getGeneration() {
+        return -1;
+    }
 }
@@ -41,6 +41,23 @@ public class Action {
         return type;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, includedIn, constraint);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Action action = (Action) o;
+        return type.equals(action.type) && Objects.equals(includedIn, action.includedIn) && Objects.equals(constraint, action.constraint);
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
         private final Action action;
@@ -18,6 +18,8 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 
+import java.util.Objects;
+
 /**
  * A leaf constraint containing a left expression, right expression, and operator triple that can be evaluated.
  */
@@ -44,6 +46,23 @@ public class AtomicConstraint extends Constraint {
         return visitor.visitAtomicConstraint(this);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(leftExpression, rightExpression, operator);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AtomicConstraint that = (AtomicConstraint) o;
+        return Objects.equals(leftExpression, that.leftExpression) && Objects.equals(rightExpression, that.rightExpression) && operator == that.operator;
+    }
+
     @Override
     public String toString() {
         return "Constraint " + leftExpression + " " + operator.toString() + " " + rightExpression;
@@ -21,6 +21,8 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
+
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -57,6 +59,19 @@ public class Duty extends Rule {
         return visitor.visitDuty(this);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), consequence);
+    }
+
+    /**
+     * The parent permission is not compared, since the permission compares its duties.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && Objects.equals(consequence, ((Duty) o).consequence);
+    }
+
     @Override
     public String toString() {
         return "Duty constraint: [" + getConstraints().stream().map(Object::toString).collect(joining(",")) + "]";
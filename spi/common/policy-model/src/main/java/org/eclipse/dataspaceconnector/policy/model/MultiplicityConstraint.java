@@ -18,6 +18,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A collection of child constraints. Subclasses define the semantics for when this constraint is satisfied.
@@ -35,6 +36,25 @@ public abstract class MultiplicityConstraint extends Constraint {
      */
     public abstract MultiplicityConstraint create(List<Constraint> constraints);
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), constraints);
+    }
+
+    /**
+     * Constraints are equal if they are of the same type and their child constraints are equal, in the same order.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return constraints.equals(((MultiplicityConstraint) o).constraints);
+    }
+
     protected abstract static class Builder<T extends MultiplicityConstraint, B extends Builder<T, B>> {
         protected T constraint;
 
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.joining;
@@ -43,6 +44,16 @@ public class Permission extends Rule {
         return visitor.visitPermission(this);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), duties);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && duties.equals(((Permission) o).duties);
+    }
+
     @Override
     public String toString() {
         return "Permission constraints: [" + getConstraints().stream().map(Object::toString).collect(joining(",")) + "]";
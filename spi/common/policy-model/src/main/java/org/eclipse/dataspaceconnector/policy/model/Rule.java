@@ -18,6 +18,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A permission, prohibition, or duty contained in a {@link Policy}.
@@ -61,6 +62,27 @@ public abstract class Rule extends Identifiable {
         return assignee;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(uid, target, action, assignee, assigner, constraints);
+    }
+
+    /**
+     * Rules are compared by value. Subclasses holding further properties compare them as well.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Rule rule = (Rule) o;
+        return Objects.equals(uid, rule.uid) && Objects.equals(target, rule.target) && Objects.equals(action, rule.action) &&
+                Objects.equals(assignee, rule.assignee) && Objects.equals(assigner, rule.assigner) && constraints.equals(rule.constraints);
+    }
+
     public abstract <R> R accept(Visitor<R> visitor);
 
     @SuppressWarnings("unchecked")
@@ -67,4 +67,29 @@ class PolicyTest {
         assertThat(copy.getTarget()).isEqualTo(target);
     }
 
+    @Test
+    void equals_shouldCompareRulesAndConstraintsByValue() {
+        var policy = createPolicy("EU");
+
+        var copy = createPolicy("EU");
+
+        assertThat(copy).isNotSameAs(policy).isEqualTo(policy).hasSameHashCodeAs(policy);
+        assertThat(createPolicy("US")).isNotEqualTo(policy);
+    }
+
+    private Policy createPolicy(String region) {
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("region"))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(region))
+                .build();
+        var duty = Duty.Builder.newInstance().action(Action.Builder.newInstance().type("LOG").build()).build();
+        var permission = Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type("USE").build())
+                .constraint(AndConstraint.Builder.newInstance().constraint(constraint).build())
+                .duty(duty)
+                .build();
+        return Policy.Builder.newInstance().permission(permission).build();
+    }
+
 }
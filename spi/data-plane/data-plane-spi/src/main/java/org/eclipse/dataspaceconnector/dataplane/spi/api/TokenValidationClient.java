@@ -17,6 +17,8 @@ package org.eclipse.dataspaceconnector.dataplane.spi.api;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Client used by the data plane to hit the validation server (that can be hosted by the Control Plane for example).
  * The validation server will assert the validity of the token following a set of rules, and if successful, it will
@@ -32,4 +34,14 @@ public interface TokenValidationClient {
      * @return Decrypted {@link DataAddress} contained in the input claim token.
      */
     Result<DataAddress> call(String token);
+
+    /**
+     * Verifies the provided token without blocking the calling thread, if the implementation supports it.
+     *
+     * @param token Token received in input of the data plane.
+     * @return Future completed with the decrypted {@link DataAddress} contained in the input claim token.
+     */
+    default CompletableFuture<Result<DataAddress>> callAsync(String token) {
+        return CompletableFuture.completedFuture(call(token));
+    }
 }
@@ -36,9 +36,10 @@ public interface DataPlaneManager {
     Result<Boolean> validate(DataFlowRequest dataRequest);
 
     /**
-     * Initiates a transfer for the data flow request. This method is non-blocking with respect to processing the request.
+     * Initiates a transfer for the data flow request. This method is non-blocking with respect to processing the request, it returns a failed result
+     * if the request cannot be accepted, e.g. because too many requests are pending.
      */
-    void initiateTransfer(DataFlowRequest dataRequest);
+    StatusResult<Void> initiateTransfer(DataFlowRequest dataRequest);
 
     /**
      * Performs a data transfer using the supplied data source.
@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.dataplane.spi.pipeline;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 /**
@@ -47,6 +48,13 @@ public interface DataSource {
             return SIZE_UNKNOWN;
         }
 
+        /**
+         * The media type of the part content, or null if it cannot be determined.
+         */
+        default String mediaType() {
+            return null;
+        }
+
         /**
          * Opens stream to sequentially read the underlying part content.
          */
@@ -66,6 +74,15 @@ public interface DataSource {
             throw new UnsupportedOperationException("Random access not supported");
         }
 
+        /**
+         * Reads a segment of the underlying data starting at the offset into the remaining bytes of the buffer, so that callers can reuse buffers.
+         * Implementations may override it to avoid allocating an intermediate array. Implementations must throw {@link UnsupportedOperationException}
+         * if random access is not supported.
+         */
+        default void read(long offset, ByteBuffer buffer) {
+            buffer.put(read(offset, buffer.remaining()));
+        }
+
         @Override
         default void close() throws Exception {
             // no-op
@@ -15,31 +15,34 @@
 package org.eclipse.dataspaceconnector.dataplane.spi.pipeline;
 
 import io.opentelemetry.extension.annotations.WithSpan;
-import org.eclipse.dataspaceconnector.common.stream.PartitionIterator;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
-import org.eclipse.dataspaceconnector.spi.result.AbstractResult;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.telemetry.TraceCarrier;
-import org.jetbrains.annotations.NotNull;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static java.util.stream.Collectors.toList;
-import static org.eclipse.dataspaceconnector.common.async.AsyncUtils.asyncAllOf;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
 
 /**
  * Writes data in parallel.
+ * <p>
+ * Parts are pulled lazily from the source and transferred one by one: up to {@code maxPartsInFlight} parts are in flight at the same time, and each time
+ * a part is done the next one is dispatched to the executor, so that idle threads pick up pending work regardless of the size of the parts already
+ * in progress. Sources with a very large number of parts are never enumerated upfront. Each part is closed once transferred, releasing the resources it
+ * holds, e.g. an open connection to the source.
  */
 public abstract class ParallelSink implements DataSink {
     protected String requestId;
-    protected int partitionSize = 5;
+    protected int maxPartsInFlight = 5;
     protected ExecutorService executorService;
     protected Monitor monitor;
     protected Telemetry telemetry;
@@ -47,31 +50,16 @@ public abstract class ParallelSink implements DataSink {
     @WithSpan
     @Override
     public CompletableFuture<StatusResult<Void>> transfer(DataSource source) {
-        try (var partStream = source.openPartStream()) {
-            var partitioned = PartitionIterator.streamOf(partStream, partitionSize);
+        try {
+            var partStream = source.openPartStream();
             var traceCarrier = telemetry.getTraceCarrierWithCurrentContext();
-
-            var futures = partitioned.map(parts -> processPartsAsync(parts, traceCarrier)).collect(toList());
-            return futures.stream()
-                    .collect(asyncAllOf())
-                    .thenApply(results -> results.stream()
-                            .filter(AbstractResult::failed)
-                            .findFirst()
-                            .map(r -> StatusResult.<Void>failure(ERROR_RETRY, String.join(",", r.getFailureMessages())))
-                            .orElseGet(this::complete))
-                    .exceptionally(throwable -> StatusResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + throwable.getMessage()));
+            return new PartDispatcher(partStream, traceCarrier).start();
         } catch (Exception e) {
             monitor.severe("Error processing data transfer request: " + requestId, e);
             return CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "Error processing data transfer request"));
         }
     }
 
-    @NotNull
-    private CompletableFuture<StatusResult<Void>> processPartsAsync(List<DataSource.Part> parts, TraceCarrier traceCarrier) {
-        Supplier<StatusResult<Void>> supplier = () -> transferParts(parts);
-        return supplyAsync(telemetry.contextPropagationMiddleware(supplier, traceCarrier), executorService);
-    }
-
     protected abstract StatusResult<Void> transferParts(List<DataSource.Part> parts);
 
     /**
@@ -98,8 +86,11 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
-        public B partitionSize(int partitionSize) {
-            sink.partitionSize = partitionSize;
+        /**
+         * Maximum number of parts transferred concurrently.
+         */
+        public B maxPartsInFlight(int maxPartsInFlight) {
+            sink.maxPartsInFlight = maxPartsInFlight;
             return self();
         }
 
@@ -132,4 +123,110 @@ public abstract class ParallelSink implements DataSink {
             return (B) this;
         }
     }
+
+    /**
+     * Pulls the parts from the stream and dispatches them to the executor, keeping at most {@code maxPartsInFlight} of them in flight.
+     */
+    private class PartDispatcher {
+        private final Stream<DataSource.Part> partStream;
+        private final Iterator<DataSource.Part> parts;
+        private final Supplier<Boolean> transferNextPart;
+        private final AtomicInteger activeWorkers = new AtomicInteger();
+        private final CompletableFuture<StatusResult<Void>> result = new CompletableFuture<>();
+        private volatile StatusResult<Void> failure;
+
+        PartDispatcher(Stream<DataSource.Part> partStream, TraceCarrier traceCarrier) {
+            this.partStream = partStream;
+            this.parts = partStream.iterator();
+            this.transferNextPart = telemetry.contextPropagationMiddleware(this::transferNextPart, traceCarrier);
+        }
+
+        CompletableFuture<StatusResult<Void>> start() {
+            var workers = Math.max(1, maxPartsInFlight);
+            activeWorkers.set(workers);
+            for (var i = 0; i < workers; i++) {
+                dispatch();
+            }
+            return result;
+        }
+
+        private void dispatch() {
+            try {
+                executorService.execute(() -> {
+                    if (transferNextPart.get()) {
+                        dispatch();
+                    } else {
+                        workerDone();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                fail(StatusResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + e));
+                workerDone();
+            }
+        }
+
+        /**
+         * Transfers the next part, returns false if there is no part left to transfer.
+         */
+        private boolean transferNextPart() {
+            var part = nextPart();
+            if (part == null) {
+                return false;
+            }
+            try {
+                var partResult = transferParts(List.of(part));
+                if (partResult.failed()) {
+                    fail(StatusResult.failure(ERROR_RETRY, String.join(",", partResult.getFailureMessages())));
+                }
+            } catch (Exception e) {
+                fail(StatusResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + e));
+            } finally {
+                closePart(part);
+            }
+            return true;
+        }
+
+        private void closePart(DataSource.Part part) {
+            try {
+                part.close();
+            } catch (Exception e) {
+                monitor.warning("Error closing part: " + part.name(), e);
+            }
+        }
+
+        private synchronized DataSource.Part nextPart() {
+            if (failure != null) {
+                return null;
+            }
+            try {
+                return parts.hasNext() ? parts.next() : null;
+            } catch (Exception e) {
+                monitor.severe("Error reading parts for data transfer request: " + requestId, e);
+                fail(StatusResult.failure(ERROR_RETRY, "Error processing data transfer request"));
+                return null;
+            }
+        }
+
+        private synchronized void fail(StatusResult<Void> statusResult) {
+            if (failure == null) {
+                failure = statusResult;
+            }
+        }
+
+        private void workerDone() {
+            if (activeWorkers.decrementAndGet() > 0) {
+                return;
+            }
+            partStream.close();
+            if (failure != null) {
+                result.complete(failure);
+                return;
+            }
+            try {
+                result.complete(complete());
+            } catch (Exception e) {
+                result.complete(StatusResult.failure(ERROR_RETRY, "Unhandled exception raised when transferring data: " + e));
+            }
+        }
+    }
 }
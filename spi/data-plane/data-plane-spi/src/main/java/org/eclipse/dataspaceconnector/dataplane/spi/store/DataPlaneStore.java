@@ -14,8 +14,13 @@
 
 package org.eclipse.dataspaceconnector.dataplane.spi.store;
 
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
+
 /**
  * Stores states of data flow requests.
+ *
+ * @see PersistentDataPlaneStore
  */
 public interface DataPlaneStore {
 
@@ -54,4 +59,41 @@ public interface DataPlaneStore {
      */
     State getState(String processId);
 
+    /**
+     * Mark the process of the request as received.
+     */
+    default void received(DataFlowRequest request) {
+        received(request.getProcessId());
+    }
+
+    /**
+     * Mark the process as completed, recording the error detail if the transfer failed.
+     */
+    default void completed(String processId, @Nullable String errorDetail) {
+        completed(processId);
+    }
+
+    /**
+     * A received request along with the time at which it was received.
+     */
+    class ReceivedRequest {
+        private final DataFlowRequest request;
+        private final long receivedAt;
+
+        public ReceivedRequest(DataFlowRequest request, long receivedAt) {
+            this.request = request;
+            this.receivedAt = receivedAt;
+        }
+
+        public DataFlowRequest getRequest() {
+            return request;
+        }
+
+        /**
+         * Epoch millis at which the request was received.
+         */
+        public long getReceivedAt() {
+            return receivedAt;
+        }
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.spi.store;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Store that persists the received requests themselves, and thus acts as a durable work queue: received requests survive restarts and are claimed
+ * for processing through {@link #nextReceived(int)}, so that several data plane runtimes can share the work.
+ */
+public interface PersistentDataPlaneStore extends DataPlaneStore {
+
+    /**
+     * Mark the process of the request as received, unless {@code capacity} received requests are already pending. The capacity is checked against
+     * the requests pending when the request is inserted, so concurrent runtimes may slightly exceed it.
+     *
+     * @return false if the request was not received because the capacity is reached.
+     */
+    boolean received(DataFlowRequest request, long capacity);
+
+    /**
+     * Leases and returns at most {@code max} received requests that are not leased by another runtime, oldest first. The lease is released when the
+     * process is completed, and must be {@link #renewLeases(Collection) renewed} while the request is processed.
+     */
+    List<ReceivedRequest> nextReceived(int max);
+
+    /**
+     * Renews the leases held by this runtime on the given processes, so that they do not expire while the processes are in flight. Leases held by
+     * another runtime are left untouched.
+     */
+    void renewLeases(Collection<String> processIds);
+
+    /**
+     * Returns the number of received requests that are not completed yet.
+     */
+    long countReceived();
+}
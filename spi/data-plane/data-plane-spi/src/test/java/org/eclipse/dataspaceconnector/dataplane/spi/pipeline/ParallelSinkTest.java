@@ -24,10 +24,14 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -111,16 +115,96 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
+    @Test
+    void transfer_shouldPullPartsLazily_andBoundPartsInFlight() {
+        var window = 3;
+        var pulled = new AtomicInteger();
+        var transferred = new AtomicInteger();
+        var maxPulledAhead = new AtomicInteger();
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var windowFilled = new CountDownLatch(window);
+        // more threads than the window, so that only the window bounds the parts in flight
+        var wideExecutor = Executors.newFixedThreadPool(window * 3);
+        fakeSink.executorService = wideExecutor;
+        fakeSink.maxPartsInFlight = window;
+        fakeSink.transferResultSupplier = () -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            windowFilled.countDown();
+            try {
+                // the first parts only complete once the whole window is in flight
+                windowFilled.await(5, TimeUnit.SECONDS);
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            transferred.incrementAndGet();
+            return StatusResult.success();
+        };
+        DataSource source = () -> IntStream.range(0, 50)
+                .peek(i -> maxPulledAhead.accumulateAndGet(pulled.incrementAndGet() - transferred.get(), Math::max))
+                .mapToObj(i -> new InputStreamDataSource("part-" + i, new ByteArrayInputStream(new byte[0])));
+
+        try {
+            assertThat(fakeSink.transfer(source)).succeedsWithin(5, TimeUnit.SECONDS)
+                    .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        } finally {
+            wideExecutor.shutdownNow();
+        }
+
+        assertThat(fakeSink.parts).hasSize(50);
+        assertThat(pulled).hasValue(50);
+        assertThat(maxInFlight).hasValue(window);
+        assertThat(maxPulledAhead).hasValue(window);
+        assertThat(fakeSink.complete).isEqualTo(1);
+    }
+
+    @Test
+    void transfer_shouldStopPullingParts_whenPartFails() {
+        var pulled = new AtomicInteger();
+        fakeSink.maxPartsInFlight = 1;
+        fakeSink.transferResultSupplier = () -> StatusResult.failure(ResponseStatus.ERROR_RETRY, errorMessage);
+        DataSource source = () -> IntStream.range(0, 50)
+                .peek(i -> pulled.incrementAndGet())
+                .mapToObj(i -> new InputStreamDataSource("part-" + i, new ByteArrayInputStream(new byte[0])));
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.getFailureMessages()).containsExactly(errorMessage));
+
+        assertThat(fakeSink.parts).hasSize(1);
+        assertThat(pulled).hasValue(1);
+        assertThat(fakeSink.complete).isEqualTo(0);
+    }
+
+    @Test
+    void transfer_shouldCloseParts_whenTransferred() {
+        var closed = new AtomicInteger();
+        fakeSink.transferResultSupplier = () -> StatusResult.failure(ResponseStatus.ERROR_RETRY, errorMessage);
+        DataSource source = () -> IntStream.range(0, 3)
+                .mapToObj(i -> new InputStreamDataSource("part-" + i, new ByteArrayInputStream(new byte[0])) {
+                    @Override
+                    public void close() {
+                        closed.incrementAndGet();
+                    }
+                });
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+
+        assertThat(closed.get()).isEqualTo(fakeSink.parts.size()).isPositive();
+    }
+
     private static class FakeParallelSink extends ParallelSink {
 
-        List<DataSource.Part> parts;
+        List<DataSource.Part> parts = new CopyOnWriteArrayList<>();
         Supplier<StatusResult<Void>> transferResultSupplier = StatusResult::success;
         private int complete;
         private StatusResult<Void> completeResponse = StatusResult.success();
 
         @Override
         protected StatusResult<Void> transferParts(List<DataSource.Part> parts) {
-            this.parts = parts;
+            this.parts.addAll(parts);
             return transferResultSupplier.get();
         }
 
@@ -33,13 +33,34 @@ public class CacheConfiguration {
 
     @EdcSetting("The time to elapse between two crawl runs")
     static final String EXECUTION_PLAN_PERIOD_SECONDS = "edc.catalog.cache.execution.period.seconds";
-    @EdcSetting("The number of crawlers (execution threads) that should be used. The engine will re-use crawlers when necessary.")
+    @EdcSetting("The number of crawlers, i.e. the maximum number of nodes that are crawled concurrently. The engine will re-use crawlers when necessary.")
     static final String NUM_CRAWLER_SETTING = "edc.catalog.cache.partition.num.crawlers";
     @EdcSetting("The initial delay for the cache crawler engine")
     static final String EXECUTION_PLAN_DELAY_SECONDS = "edc.catalog.cache.execution.delay.seconds";
+    @EdcSetting("How many times the crawl of a node is retried within a crawl run before the node is given up until its backoff expires")
+    static final String CRAWLER_RETRIES_SETTING = "edc.catalog.cache.crawler.retries";
+    @EdcSetting("The delay in milliseconds before the first retry of a failed crawl, doubled with every further failure of the node")
+    static final String CRAWLER_BACKOFF_BASE_MILLIS_SETTING = "edc.catalog.cache.crawler.backoff.base.millis";
+    @EdcSetting("The longest delay in seconds a node that keeps failing is not crawled for")
+    static final String CRAWLER_BACKOFF_MAX_SECONDS_SETTING = "edc.catalog.cache.crawler.backoff.max.seconds";
+    @EdcSetting("The time in seconds after which the crawl of a single node is considered failed")
+    static final String CRAWLER_TIMEOUT_SECONDS_SETTING = "edc.catalog.cache.crawler.timeout.seconds";
+    @EdcSetting("The number of catalog pages requested concurrently from a node, once its first page shows that it has more offers")
+    static final String CRAWLER_PAGES_IN_FLIGHT_SETTING = "edc.catalog.cache.crawler.pages.inflight";
+    @EdcSetting("The largest number of offers requested in a single catalog page. Nodes that return shorter pages get the rest of the page requested, and smaller pages from then on")
+    static final String CRAWLER_BATCH_SIZE_MAX_SETTING = "edc.catalog.cache.crawler.batch.size.max";
+    @EdcSetting("The latency in milliseconds of a catalog page the batch size is adapted to: it is doubled while pages are faster than half of it, and halved while they are slower")
+    static final String CRAWLER_BATCH_LATENCY_TARGET_MILLIS_SETTING = "edc.catalog.cache.crawler.batch.latency.target.millis";
     private static final int DEFAULT_EXECUTION_PERIOD_SECONDS = 60;
     private static final int LOW_EXECUTION_PERIOD_SECONDS_THRESHOLD = 10;
     private static final int DEFAULT_NUMBER_OF_CRAWLERS = 2;
+    private static final int DEFAULT_CRAWLER_RETRIES = 2;
+    private static final long DEFAULT_CRAWLER_BACKOFF_BASE_MILLIS = 2_000;
+    private static final long DEFAULT_CRAWLER_BACKOFF_MAX_SECONDS = 600;
+    private static final long DEFAULT_CRAWLER_TIMEOUT_SECONDS = 120;
+    private static final int DEFAULT_CRAWLER_PAGES_IN_FLIGHT = 4;
+    private static final int DEFAULT_CRAWLER_BATCH_SIZE_MAX = 1000;
+    private static final long DEFAULT_CRAWLER_BATCH_LATENCY_TARGET_MILLIS = 1_000;
 
     private final ServiceExtensionContext context;
 
@@ -51,6 +72,34 @@ public class CacheConfiguration {
         return context.getSetting(NUM_CRAWLER_SETTING, DEFAULT_NUMBER_OF_CRAWLERS);
     }
 
+    public int getCrawlerRetries() {
+        return context.getSetting(CRAWLER_RETRIES_SETTING, DEFAULT_CRAWLER_RETRIES);
+    }
+
+    public Duration getCrawlerBackoffBase() {
+        return Duration.ofMillis(context.getSetting(CRAWLER_BACKOFF_BASE_MILLIS_SETTING, DEFAULT_CRAWLER_BACKOFF_BASE_MILLIS));
+    }
+
+    public Duration getCrawlerBackoffMax() {
+        return Duration.ofSeconds(context.getSetting(CRAWLER_BACKOFF_MAX_SECONDS_SETTING, DEFAULT_CRAWLER_BACKOFF_MAX_SECONDS));
+    }
+
+    public Duration getCrawlerTimeout() {
+        return Duration.ofSeconds(context.getSetting(CRAWLER_TIMEOUT_SECONDS_SETTING, DEFAULT_CRAWLER_TIMEOUT_SECONDS));
+    }
+
+    public int getCrawlerPagesInFlight() {
+        return context.getSetting(CRAWLER_PAGES_IN_FLIGHT_SETTING, DEFAULT_CRAWLER_PAGES_IN_FLIGHT);
+    }
+
+    public int getCrawlerBatchSizeMax() {
+        return context.getSetting(CRAWLER_BATCH_SIZE_MAX_SETTING, DEFAULT_CRAWLER_BATCH_SIZE_MAX);
+    }
+
+    public Duration getCrawlerBatchLatencyTarget() {
+        return Duration.ofMillis(context.getSetting(CRAWLER_BATCH_LATENCY_TARGET_MILLIS_SETTING, DEFAULT_CRAWLER_BATCH_LATENCY_TARGET_MILLIS));
+    }
+
     public ExecutionPlan getExecutionPlan() {
         var periodSeconds = context.getSetting(EXECUTION_PLAN_PERIOD_SECONDS, DEFAULT_EXECUTION_PERIOD_SECONDS);
         var setting = context.getSetting(EXECUTION_PLAN_DELAY_SECONDS, null);
@@ -16,18 +16,44 @@ package org.eclipse.dataspaceconnector.catalog.spi.model;
 
 
 import org.eclipse.dataspaceconnector.catalog.spi.NodeQueryAdapter;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
 
 /**
  * {@link NodeQueryAdapter}s accept {@code UpdateRequests} to send out catalog queries
  */
 public class UpdateRequest {
     private final String nodeUrl;
+    private final Instant lastSuccessfulCrawl;
 
     public UpdateRequest(String nodeUrl) {
+        this(nodeUrl, null);
+    }
+
+    /**
+     * Creates the request.
+     *
+     * @param nodeUrl             the URL of the node to query
+     * @param lastSuccessfulCrawl when the catalog of the node was last obtained successfully, null if it never was
+     */
+    public UpdateRequest(String nodeUrl, @Nullable Instant lastSuccessfulCrawl) {
         this.nodeUrl = nodeUrl;
+        this.lastSuccessfulCrawl = lastSuccessfulCrawl;
     }
 
     public String getNodeUrl() {
         return nodeUrl;
     }
+
+    /**
+     * When the catalog of the node was last obtained successfully, which adapters supporting conditional requests can use
+     * to only fetch what changed since then.
+     *
+     * @return the time of the last successful crawl, null if there was none
+     */
+    @Nullable
+    public Instant getLastSuccessfulCrawl() {
+        return lastSuccessfulCrawl;
+    }
 }
@@ -29,13 +29,13 @@ class FileTransferDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final Telemetry telemetry;
     private final ExecutorService executorService;
-    private final int partitionSize;
+    private final int maxPartsInFlight;
 
-    FileTransferDataSinkFactory(Monitor monitor, Telemetry telemetry, ExecutorService executorService, int partitionSize) {
+    FileTransferDataSinkFactory(Monitor monitor, Telemetry telemetry, ExecutorService executorService, int maxPartsInFlight) {
         this.monitor = monitor;
         this.telemetry = telemetry;
         this.executorService = executorService;
-        this.partitionSize = partitionSize;
+        this.maxPartsInFlight = maxPartsInFlight;
     }
 
     @Override
@@ -60,7 +60,7 @@ class FileTransferDataSinkFactory implements DataSinkFactory {
         return FileTransferDataSink.Builder.newInstance()
                 .file(destinationFile)
                 .requestId(request.getId())
-                .partitionSize(partitionSize)
+                .maxPartsInFlight(maxPartsInFlight)
                 .executorService(executorService)
                 .monitor(monitor)
                 .telemetry(telemetry)